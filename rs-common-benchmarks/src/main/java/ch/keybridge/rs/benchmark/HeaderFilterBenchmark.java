@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark;
+
+import ch.keybridge.rs.benchmark.stub.StubContainerRequestContext;
+import ch.keybridge.rs.benchmark.stub.StubContainerResponseContext;
+import ch.keybridge.rs.benchmark.stub.StubUriInfo;
+import ch.keybridge.rs.filter.impl.CacheControlFilter;
+import ch.keybridge.rs.filter.impl.CorsResponseFilter;
+import ch.keybridge.rs.filter.impl.EtagFilter;
+import ch.keybridge.rs.filter.impl.MessageAddressingFilter;
+import ch.keybridge.rs.filter.impl.MetricsFilter;
+import ch.keybridge.rs.metrics.ResourceMetrics;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.MultivaluedMap;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Hot path benchmarks of the response header decorating filters and the
+ * metrics filter. Each operation resets the stub response headers and then
+ * runs one filter; the reset is a constant cost common to every benchmark.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeaderFilterBenchmark {
+
+  private StubContainerRequestContext request;
+  private StubContainerResponseContext response;
+
+  private EtagFilter etagFilter;
+  private CacheControlFilter cacheControlFilter;
+  private CorsResponseFilter corsResponseFilter;
+  private MessageAddressingFilter messageAddressingFilter;
+  private MetricsFilter metricsFilter;
+
+  @Setup
+  public void setup() {
+    URI base = URI.create("http://localhost:8080/api/");
+    request = new StubContainerRequestContext(new StubUriInfo(base, base.resolve("customers/12345?expand=orders")));
+    request.getHeaders().putSingle("MessageID", "urn:uuid:5b9a2c51-3b8f-4b5e-9f0c-1d2e3f405162");
+    response = new StubContainerResponseContext("{\"id\":12345,\"name\":\"Key Bridge\"}");
+
+    CacheControl cacheControl = new CacheControl();
+    cacheControl.setMaxAge(86400);
+    etagFilter = new EtagFilter();
+    cacheControlFilter = new CacheControlFilter(cacheControl);
+    corsResponseFilter = new CorsResponseFilter();
+    messageAddressingFilter = new MessageAddressingFilter();
+    metricsFilter = new MetricsFilter(new ResourceMetrics("HeaderFilterBenchmark#metrics"));
+  }
+
+  /**
+   * The cost of resetting the stub response, for subtraction from the other
+   * results.
+   */
+  @Benchmark
+  public MultivaluedMap<String, Object> baseline() {
+    response.reset();
+    return response.getHeaders();
+  }
+
+  @Benchmark
+  public MultivaluedMap<String, Object> etag() throws IOException {
+    response.reset();
+    etagFilter.filter(request, response);
+    return response.getHeaders();
+  }
+
+  @Benchmark
+  public MultivaluedMap<String, Object> cacheControl() throws IOException {
+    response.reset();
+    cacheControlFilter.filter(request, response);
+    return response.getHeaders();
+  }
+
+  @Benchmark
+  public MultivaluedMap<String, Object> cors() throws IOException {
+    response.reset();
+    corsResponseFilter.filter(request, response);
+    return response.getHeaders();
+  }
+
+  @Benchmark
+  public MultivaluedMap<String, Object> messageAddressing() throws IOException {
+    response.reset();
+    messageAddressingFilter.filter(request);
+    messageAddressingFilter.filter(request, response);
+    return response.getHeaders();
+  }
+
+  @Benchmark
+  public MultivaluedMap<String, Object> metrics() throws IOException {
+    response.reset();
+    metricsFilter.filter(request);
+    metricsFilter.filter(request, response);
+    return response.getHeaders();
+  }
+
+  /**
+   * All four header decorators in sequence, as applied to a resource method
+   * carrying every annotation.
+   */
+  @Benchmark
+  public MultivaluedMap<String, Object> allHeaderDecorators() throws IOException {
+    response.reset();
+    cacheControlFilter.filter(request, response);
+    corsResponseFilter.filter(request, response);
+    etagFilter.filter(request, response);
+    messageAddressingFilter.filter(request, response);
+    return response.getHeaders();
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark;
+
+import ch.keybridge.rs.benchmark.stub.StubContainerRequestContext;
+import ch.keybridge.rs.benchmark.stub.StubUriInfo;
+import ch.keybridge.rs.filter.impl.AbstractContainerFilter;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.ContainerRequestContext;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark of {@code AbstractContainerFilter.readRawData}, which buffers the
+ * request entity and replaces the entity stream, at several body sizes.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadRawDataBenchmark {
+
+  /**
+   * The request body size in bytes.
+   */
+  @Param({"0", "1024", "65536", "1048576"})
+  public int bodySize;
+
+  private byte[] body;
+  private StubContainerRequestContext request;
+  private RawDataFilter filter;
+
+  /**
+   * Exposes the protected readRawData method.
+   */
+  public static class RawDataFilter extends AbstractContainerFilter {
+
+    public String read(ContainerRequestContext requestContext) {
+      return readRawData(requestContext);
+    }
+  }
+
+  @Setup
+  public void setup() {
+    body = new byte[bodySize];
+    Arrays.fill(body, (byte) 'x');
+    URI base = URI.create("http://localhost:8080/api/");
+    request = new StubContainerRequestContext(new StubUriInfo(base, base.resolve("upload")));
+    filter = new RawDataFilter();
+  }
+
+  @Benchmark
+  public String readRawData() {
+    request.setEntityStream(new ByteArrayInputStream(body));
+    return filter.read(request);
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark;
+
+import ch.keybridge.rs.uri.PathTemplate;
+import ch.keybridge.rs.uri.RequestTemplate;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark of building a client request for a path with one variable: from
+ * the parsed base URI per request, from a cached root target, and from a
+ * precompiled {@code RequestTemplate}. No request is sent.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestTemplateBenchmark {
+
+  private static final String BASE_URI = "http://localhost:8080/api";
+
+  private Client client;
+  private WebTarget root;
+  private RequestTemplate template;
+  private String id;
+
+  @Setup
+  public void setup() {
+    client = ClientBuilder.newClient();
+    root = client.target(BASE_URI);
+    template = new RequestTemplate(root, PathTemplate.compile("customers/{id}/orders"), MediaType.APPLICATION_JSON);
+    id = "c-1234567";
+  }
+
+  @TearDown
+  public void tearDown() {
+    client.close();
+  }
+
+  @Benchmark
+  public Invocation.Builder parsedBaseUri() throws URISyntaxException {
+    return client.target(new URI(BASE_URI)).path("customers").path(id).path("orders").request(MediaType.APPLICATION_JSON);
+  }
+
+  @Benchmark
+  public Invocation.Builder cachedTarget() {
+    return root.path("customers").path(id).path("orders").request(MediaType.APPLICATION_JSON);
+  }
+
+  @Benchmark
+  public Invocation.Builder requestTemplate() {
+    return template.request(id);
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark.load;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load benchmark. Starts an embedded server on localhost, drives
+ * it with an AbstractRestClient subclass using an open-loop load generator
+ * and reports throughput and corrected latency percentiles. Everything runs
+ * in a single process on the loopback interface.
+ * <p>
+ * Options (all optional):
+ * <pre>
+ *   --resource=all      sample resource: plain, etag, cached, cors, addressed, all
+ *   --rate=1000         target request rate, requests per second
+ *   --concurrency=16    client worker threads
+ *   --serverThreads=16  server request processing threads
+ *   --warmup=10         warmup duration, seconds
+ *   --duration=30       measurement duration, seconds
+ * </pre>
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class LoadBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = parse(args);
+    if (options.containsKey("help")) {
+      System.out.println("Options: --resource=all --rate=1000 --concurrency=16 --serverThreads=16 --warmup=10 --duration=30");
+      return;
+    }
+    String resource = options.getOrDefault("resource", "all");
+    double rate = Double.parseDouble(options.getOrDefault("rate", "1000"));
+    int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "16"));
+    int serverThreads = Integer.parseInt(options.getOrDefault("serverThreads", "16"));
+    int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+    int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+    /**
+     * The JDK HttpURLConnection keeps at most 5 idle connections per host by
+     * default; allow one per worker so connections are reused.
+     */
+    System.setProperty("http.maxConnections", String.valueOf(concurrency));
+
+    try (LoadServer server = new LoadServer(serverThreads);
+         LoadClient client = new LoadClient(server.getBaseUri().toString())) {
+      Runnable request = () -> client.get(resource, String.valueOf(ThreadLocalRandom.current().nextInt(1000)));
+      LoadGenerator generator = new LoadGenerator(concurrency, rate);
+      System.out.printf("Server %s  resource %s  rate %.0f/s  concurrency %d%n", server.getBaseUri(), resource, rate, concurrency);
+      if (warmup > 0) {
+        System.out.println("Warmup " + warmup + " s");
+        generator.run(request, warmup, TimeUnit.SECONDS);
+      }
+      System.out.println("Measurement " + duration + " s");
+      System.out.print(generator.run(request, duration, TimeUnit.SECONDS));
+    }
+  }
+
+  /**
+   * Parse {@code --key=value} arguments.
+   */
+  private static Map<String, String> parse(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      String option = arg.startsWith("--") ? arg.substring(2) : arg;
+      int eq = option.indexOf('=');
+      if (eq < 0) {
+        options.put(option, "true");
+      } else {
+        options.put(option.substring(0, eq), option.substring(eq + 1));
+      }
+    }
+    return options;
+  }
+
+}
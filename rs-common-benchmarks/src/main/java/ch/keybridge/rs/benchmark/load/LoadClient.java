@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark.load;
+
+import ch.keybridge.rs.AbstractRestClient;
+import ch.keybridge.rs.uri.RequestTemplate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.ws.rs.client.Client;
+
+/**
+ * The load benchmark REST client. A single Jersey client is built on
+ * construction and shared by all load generator threads.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class LoadClient extends AbstractRestClient implements AutoCloseable {
+
+  private final Client client;
+  /**
+   * The request templates by sample resource name.
+   */
+  private final Map<String, RequestTemplate> templates;
+
+  /**
+   * Construct a new load client.
+   *
+   * @param baseURI the server base URI
+   */
+  public LoadClient(String baseURI) {
+    super(baseURI);
+    setClientLogging(false);
+    this.client = buildClient();
+    this.templates = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * GET a sample resource.
+   *
+   * @param resource the sample resource name, e.g. {@code all}
+   * @param id       the resource identifier
+   * @return the response entity
+   */
+  public String get(String resource, String id) {
+    RequestTemplate template = templates.computeIfAbsent(resource, r -> template(client, "sample/" + r + "/{id}"));
+    return invoke(template.getPath(), template.request(id).buildGet(), String.class);
+  }
+
+  @Override
+  public void close() {
+    client.close();
+  }
+
+}
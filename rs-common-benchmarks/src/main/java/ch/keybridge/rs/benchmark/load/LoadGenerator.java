@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark.load;
+
+import ch.keybridge.rs.metrics.LatencyHistogram;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An open-loop load generator. Requests are scheduled at a fixed rate,
+ * independent of how quickly earlier requests complete, and executed by a
+ * fixed number of worker threads.
+ * <p>
+ * Latency is measured from each request's intended start time, not from the
+ * time a worker picked it up. When the system under test (or the worker pool)
+ * falls behind, queued requests therefore accrue the waiting time a real user
+ * would have experienced. This corrects for coordinated omission, which
+ * otherwise hides stalls in closed-loop benchmarks. The uncorrected service
+ * time is reported alongside for comparison.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class LoadGenerator {
+
+  private final int concurrency;
+  private final double rate;
+
+  /**
+   * Construct a new load generator.
+   *
+   * @param concurrency the number of worker threads (maximum requests in
+   *                    flight)
+   * @param rate        the target request rate, in requests per second
+   */
+  public LoadGenerator(int concurrency, double rate) {
+    if (concurrency < 1 || rate <= 0) {
+      throw new IllegalArgumentException("Concurrency and rate must be positive.");
+    }
+    this.concurrency = concurrency;
+    this.rate = rate;
+  }
+
+  /**
+   * Run the load for a fixed duration and wait for all scheduled requests to
+   * complete.
+   *
+   * @param request  the request to execute; an exception counts as an error
+   * @param duration the scheduling duration
+   * @param unit     the duration unit
+   * @return the load report
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public Report run(Runnable request, long duration, TimeUnit unit) throws InterruptedException {
+    ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+    LatencyHistogram latency = new LatencyHistogram();
+    LatencyHistogram serviceTime = new LatencyHistogram();
+    LongAdder errors = new LongAdder();
+    long interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+    long start = System.nanoTime();
+    long end = start + unit.toNanos(duration);
+    long scheduled = 0;
+    for (long intended = start; intended < end; intended += interval) {
+      long wait;
+      while ((wait = intended - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      final long intendedStart = intended;
+      workers.execute(() -> {
+        long actualStart = System.nanoTime();
+        try {
+          request.run();
+        } catch (RuntimeException e) {
+          errors.increment();
+        }
+        long done = System.nanoTime();
+        latency.record(done - intendedStart);
+        serviceTime.record(done - actualStart);
+      });
+      scheduled++;
+    }
+    workers.shutdown();
+    workers.awaitTermination(unit.toSeconds(duration) + 60, TimeUnit.SECONDS);
+    long elapsed = System.nanoTime() - start;
+    return new Report(scheduled, errors.sum(), elapsed, latency.snapshot(), serviceTime.snapshot());
+  }
+
+  /**
+   * The outcome of a load run.
+   */
+  public static class Report {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final long requests;
+    private final long errors;
+    private final long elapsedNanos;
+    private final LatencyHistogram.Snapshot latency;
+    private final LatencyHistogram.Snapshot serviceTime;
+
+    Report(long requests, long errors, long elapsedNanos, LatencyHistogram.Snapshot latency, LatencyHistogram.Snapshot serviceTime) {
+      this.requests = requests;
+      this.errors = errors;
+      this.elapsedNanos = elapsedNanos;
+      this.latency = latency;
+      this.serviceTime = serviceTime;
+    }
+
+    /**
+     * @return the achieved throughput in completed requests per second
+     */
+    public double getThroughput() {
+      return latency.getCount() / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * @return the corrected latency, measured from the intended start time
+     */
+    public LatencyHistogram.Snapshot getLatency() {
+      return latency;
+    }
+
+    /**
+     * @return the uncorrected service time, measured from the actual start
+     */
+    public LatencyHistogram.Snapshot getServiceTime() {
+      return serviceTime;
+    }
+
+    /**
+     * @return the number of failed requests
+     */
+    public long getErrors() {
+      return errors;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder();
+      sb.append(String.format(Locale.ROOT, "requests %d  errors %d  elapsed %.1f s  throughput %.1f req/s%n",
+                              requests, errors, elapsedNanos / 1e9, getThroughput()));
+      sb.append(String.format(Locale.ROOT, "%-10s %14s %14s%n", "percentile", "latency (ms)", "service (ms)"));
+      for (double p : PERCENTILES) {
+        sb.append(String.format(Locale.ROOT, "%-10s %14.3f %14.3f%n", p,
+                                latency.getValueAtQuantile(p / 100) / 1e6,
+                                serviceTime.getValueAtQuantile(p / 100) / 1e6));
+      }
+      sb.append(String.format(Locale.ROOT, "%-10s %14.3f %14.3f%n", "max", latency.getMax() / 1e6, serviceTime.getMax() / 1e6));
+      sb.append(String.format(Locale.ROOT, "%-10s %14.3f %14.3f%n", "mean", latency.getMean() / 1e6, serviceTime.getMean() / 1e6));
+      return sb.toString();
+    }
+  }
+
+}
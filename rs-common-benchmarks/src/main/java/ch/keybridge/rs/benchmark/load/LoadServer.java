@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark.load;
+
+import ch.keybridge.rs.feature.CacheControlDynamicFeature;
+import ch.keybridge.rs.feature.MetricsDynamicFeature;
+import ch.keybridge.rs.filter.impl.CorsResponseFilter;
+import ch.keybridge.rs.filter.impl.EtagFilter;
+import ch.keybridge.rs.filter.impl.MessageAddressingFilter;
+import com.sun.net.httpserver.HttpServer;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.glassfish.jersey.jdkhttp.JdkHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+
+/**
+ * An embedded, in-process Jersey server bound to the loopback interface,
+ * serving the {@link SampleResource} with the library filters and features
+ * registered.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class LoadServer implements AutoCloseable {
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final URI baseUri;
+
+  /**
+   * Start a new server on an ephemeral localhost port.
+   *
+   * @param threads the number of request processing threads
+   */
+  public LoadServer(int threads) {
+    /**
+     * The JDK server writes the response headers and body separately; without
+     * TCP_NODELAY each response waits on the client's delayed ACK (~40 ms).
+     */
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    ResourceConfig config = new ResourceConfig()
+      .register(SampleResource.class)
+      .register(EtagFilter.class)
+      .register(CorsResponseFilter.class)
+      .register(MessageAddressingFilter.class)
+      .register(CacheControlDynamicFeature.class)
+      .register(MetricsDynamicFeature.class);
+    this.server = JdkHttpServerFactory.createHttpServer(URI.create("http://127.0.0.1:0/"), config, false);
+    this.executor = Executors.newFixedThreadPool(threads);
+    server.setExecutor(executor);
+    server.start();
+    this.baseUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+  }
+
+  /**
+   * Get the server base URI.
+   *
+   * @return the base URI, including the bound port
+   */
+  public URI getBaseUri() {
+    return baseUri;
+  }
+
+  /**
+   * Stop the server and its request processing threads.
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+    try {
+      executor.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark.load;
+
+import ch.keybridge.rs.filter.CacheControlling;
+import ch.keybridge.rs.filter.CrossOrigin;
+import ch.keybridge.rs.filter.Etag;
+import ch.keybridge.rs.filter.MessageAddressing;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Sample resources for the end-to-end load benchmark. Each method returns a
+ * small JSON document and carries a different combination of the library
+ * annotations.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@Path("sample")
+@Produces(MediaType.APPLICATION_JSON)
+public class SampleResource {
+
+  /**
+   * No library annotations; the baseline.
+   */
+  @GET
+  @Path("plain/{id}")
+  public String plain(@PathParam("id") String id) {
+    return document(id);
+  }
+
+  @GET
+  @Path("etag/{id}")
+  @Etag
+  public String etag(@PathParam("id") String id) {
+    return document(id);
+  }
+
+  @GET
+  @Path("cached/{id}")
+  @CacheControlling(maxAge = 60)
+  public String cached(@PathParam("id") String id) {
+    return document(id);
+  }
+
+  @GET
+  @Path("cors/{id}")
+  @CrossOrigin
+  public String cors(@PathParam("id") String id) {
+    return document(id);
+  }
+
+  @GET
+  @Path("addressed/{id}")
+  @MessageAddressing
+  public String addressed(@PathParam("id") String id) {
+    return document(id);
+  }
+
+  /**
+   * All library annotations.
+   */
+  @GET
+  @Path("all/{id}")
+  @Etag
+  @CacheControlling(maxAge = 60)
+  @CrossOrigin
+  @MessageAddressing
+  public String all(@PathParam("id") String id) {
+    return document(id);
+  }
+
+  private static String document(String id) {
+    return "{\"id\":\"" + id + "\",\"name\":\"Key Bridge\",\"active\":true}";
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark.load;
+
+import ch.keybridge.rs.lifecycle.Checkpoints;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Startup time benchmark. Measures the wall clock time from process launch to
+ * the first response of the embedded server, through an AbstractRestClient.
+ * Run it as a JVM, as a native image and restored from a CRaC checkpoint to
+ * compare the three; the {@code startup.sh} script in this module runs all
+ * that are available.
+ * <p>
+ * Options (all optional):
+ * <pre>
+ *   --mode=jvm            label printed with the result
+ *   --since=millis        launch time, epoch milliseconds; default JVM start time
+ *   --checkpoint=file     warm up, checkpoint, and after the restore read the
+ *                         launch time from the file
+ *   --warmup=1000         requests before the checkpoint
+ * </pre>
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class StartupBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = parse(args);
+    if (options.containsKey("help")) {
+      System.out.println("Options: --mode=jvm --since=millis --checkpoint=file --warmup=1000");
+      return;
+    }
+    String mode = options.getOrDefault("mode", "jvm");
+    long since = options.containsKey("since")
+                 ? Long.parseLong(options.get("since"))
+                 : ManagementFactory.getRuntimeMXBean().getStartTime();
+    if (options.containsKey("checkpoint")) {
+      /**
+       * Warm up, then close the server and client: open sockets cannot be
+       * checkpointed. The restored process reads its launch time from the file
+       * written by the restore command.
+       */
+      int warmup = Integer.parseInt(options.getOrDefault("warmup", "1000"));
+      firstResponse(warmup);
+      Checkpoints.getInstance().checkpointRestore();
+      since = Long.parseLong(new String(Files.readAllBytes(Paths.get(options.get("checkpoint"))), StandardCharsets.US_ASCII).trim());
+      mode = "restored";
+    }
+    firstResponse(1);
+    System.out.printf("Startup %s: %d ms to first response%n", mode, System.currentTimeMillis() - since);
+    System.exit(0);
+  }
+
+  /**
+   * Start the server and send requests to it, then stop both.
+   */
+  private static void firstResponse(int requests) {
+    try (LoadServer server = new LoadServer(2);
+         LoadClient client = new LoadClient(server.getBaseUri().toString())) {
+      for (int i = 0; i < requests; i++) {
+        client.get("all", String.valueOf(i));
+      }
+    }
+  }
+
+  /**
+   * Parse {@code --key=value} arguments.
+   */
+  private static Map<String, String> parse(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      String option = arg.startsWith("--") ? arg.substring(2) : arg;
+      int eq = option.indexOf('=');
+      if (eq < 0) {
+        options.put(option, "true");
+      } else {
+        options.put(option.substring(0, eq), option.substring(eq + 1));
+      }
+    }
+    return options;
+  }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark.stub;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.*;
+import javax.ws.rs.core.*;
+import javax.ws.rs.container.ContainerRequestContext;
+
+/**
+ * A lightweight ContainerRequestContext for benchmarks: headers, properties,
+ * entity stream, URI and security context are plain fields. The abort response
+ * is recorded rather than acted upon.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class StubContainerRequestContext implements ContainerRequestContext {
+
+  private final Map<String, Object> properties = new HashMap<>();
+  private final MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+  private UriInfo uriInfo;
+  private String method = "GET";
+  private InputStream entityStream;
+  private SecurityContext securityContext = new StubSecurityContext(null);
+  private Response abortResponse;
+
+  /**
+   * Construct a new request context.
+   *
+   * @param uriInfo the request URI information
+   */
+  public StubContainerRequestContext(UriInfo uriInfo) {
+    this.uriInfo = uriInfo;
+  }
+
+  /**
+   * Clear the properties and abort response between benchmark invocations.
+   */
+  public void reset() {
+    properties.clear();
+    abortResponse = null;
+  }
+
+  /**
+   * @return the response passed to {@link #abortWith(Response)}, if any
+   */
+  public Response getAbortResponse() {
+    return abortResponse;
+  }
+
+  @Override
+  public Object getProperty(String name) {
+    return properties.get(name);
+  }
+
+  @Override
+  public Collection<String> getPropertyNames() {
+    return properties.keySet();
+  }
+
+  @Override
+  public void setProperty(String name, Object object) {
+    if (object == null) {
+      properties.remove(name);
+    } else {
+      properties.put(name, object);
+    }
+  }
+
+  @Override
+  public void removeProperty(String name) {
+    properties.remove(name);
+  }
+
+  @Override
+  public UriInfo getUriInfo() {
+    return uriInfo;
+  }
+
+  @Override
+  public void setRequestUri(URI requestUri) {
+    this.uriInfo = new StubUriInfo(uriInfo.getBaseUri(), requestUri);
+  }
+
+  @Override
+  public void setRequestUri(URI baseUri, URI requestUri) {
+    this.uriInfo = new StubUriInfo(baseUri, requestUri);
+  }
+
+  @Override
+  public Request getRequest() {
+    throw new UnsupportedOperationException("Not supported.");
+  }
+
+  @Override
+  public String getMethod() {
+    return method;
+  }
+
+  @Override
+  public void setMethod(String method) {
+    this.method = method;
+  }
+
+  @Override
+  public MultivaluedMap<String, String> getHeaders() {
+    return headers;
+  }
+
+  @Override
+  public String getHeaderString(String name) {
+    List<String> values = headers.get(name);
+    if (values == null || values.isEmpty()) {
+      return null;
+    }
+    return values.size() == 1 ? values.get(0) : String.join(",", values);
+  }
+
+  @Override
+  public Date getDate() {
+    return null;
+  }
+
+  @Override
+  public Locale getLanguage() {
+    return null;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public MediaType getMediaType() {
+    return null;
+  }
+
+  @Override
+  public List<MediaType> getAcceptableMediaTypes() {
+    return Collections.singletonList(MediaType.WILDCARD_TYPE);
+  }
+
+  @Override
+  public List<Locale> getAcceptableLanguages() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public Map<String, Cookie> getCookies() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public boolean hasEntity() {
+    return entityStream != null;
+  }
+
+  @Override
+  public InputStream getEntityStream() {
+    return entityStream;
+  }
+
+  @Override
+  public void setEntityStream(InputStream input) {
+    this.entityStream = input;
+  }
+
+  @Override
+  public SecurityContext getSecurityContext() {
+    return securityContext;
+  }
+
+  @Override
+  public void setSecurityContext(SecurityContext context) {
+    this.securityContext = context;
+  }
+
+  @Override
+  public void abortWith(Response response) {
+    this.abortResponse = response;
+  }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark.stub;
+
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.*;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.*;
+
+/**
+ * A lightweight ContainerResponseContext for benchmarks. Headers are a plain
+ * MultivaluedHashMap; typed header accessors that would need a JAX-RS
+ * RuntimeDelegate to parse string values only return values of the typed
+ * class.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class StubContainerResponseContext implements ContainerResponseContext {
+
+  private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+  private int status = 200;
+  private Object entity;
+  private OutputStream entityStream;
+
+  /**
+   * Construct a new 200 OK response context.
+   *
+   * @param entity the response entity; may be null
+   */
+  public StubContainerResponseContext(Object entity) {
+    this.entity = entity;
+  }
+
+  /**
+   * Clear the headers and restore the 200 OK status between benchmark
+   * invocations.
+   */
+  public void reset() {
+    headers.clear();
+    status = 200;
+  }
+
+  @Override
+  public int getStatus() {
+    return status;
+  }
+
+  @Override
+  public void setStatus(int code) {
+    this.status = code;
+  }
+
+  @Override
+  public Response.StatusType getStatusInfo() {
+    return Response.Status.fromStatusCode(status);
+  }
+
+  @Override
+  public void setStatusInfo(Response.StatusType statusInfo) {
+    this.status = statusInfo.getStatusCode();
+  }
+
+  @Override
+  public MultivaluedMap<String, Object> getHeaders() {
+    return headers;
+  }
+
+  @Override
+  public MultivaluedMap<String, String> getStringHeaders() {
+    MultivaluedMap<String, String> strings = new MultivaluedHashMap<>();
+    for (Map.Entry<String, List<Object>> entry : headers.entrySet()) {
+      for (Object value : entry.getValue()) {
+        strings.add(entry.getKey(), String.valueOf(value));
+      }
+    }
+    return strings;
+  }
+
+  @Override
+  public String getHeaderString(String name) {
+    List<Object> values = headers.get(name);
+    if (values == null || values.isEmpty()) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder();
+    for (Object value : values) {
+      sb.append(sb.length() > 0 ? "," : "").append(value);
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public Set<String> getAllowedMethods() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public Date getDate() {
+    return null;
+  }
+
+  @Override
+  public Locale getLanguage() {
+    return null;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public MediaType getMediaType() {
+    return null;
+  }
+
+  @Override
+  public Map<String, NewCookie> getCookies() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public EntityTag getEntityTag() {
+    Object value = headers.getFirst(HttpHeaders.ETAG);
+    return value instanceof EntityTag ? (EntityTag) value : null;
+  }
+
+  @Override
+  public Date getLastModified() {
+    return null;
+  }
+
+  @Override
+  public URI getLocation() {
+    return null;
+  }
+
+  @Override
+  public Set<Link> getLinks() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public boolean hasLink(String relation) {
+    return false;
+  }
+
+  @Override
+  public Link getLink(String relation) {
+    return null;
+  }
+
+  @Override
+  public Link.Builder getLinkBuilder(String relation) {
+    return null;
+  }
+
+  @Override
+  public boolean hasEntity() {
+    return entity != null;
+  }
+
+  @Override
+  public Object getEntity() {
+    return entity;
+  }
+
+  @Override
+  public Class<?> getEntityClass() {
+    return entity == null ? null : entity.getClass();
+  }
+
+  @Override
+  public Type getEntityType() {
+    return getEntityClass();
+  }
+
+  @Override
+  public void setEntity(Object entity) {
+    this.entity = entity;
+  }
+
+  @Override
+  public void setEntity(Object entity, Annotation[] annotations, MediaType mediaType) {
+    this.entity = entity;
+  }
+
+  @Override
+  public Annotation[] getEntityAnnotations() {
+    return new Annotation[0];
+  }
+
+  @Override
+  public OutputStream getEntityStream() {
+    return entityStream;
+  }
+
+  @Override
+  public void setEntityStream(OutputStream outputStream) {
+    this.entityStream = outputStream;
+  }
+
+}
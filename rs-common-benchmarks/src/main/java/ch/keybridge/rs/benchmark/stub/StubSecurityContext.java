@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark.stub;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import javax.ws.rs.core.SecurityContext;
+
+/**
+ * A fixed SecurityContext for benchmarks.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class StubSecurityContext implements SecurityContext {
+
+  private final Principal principal;
+  private final Set<String> roles;
+
+  /**
+   * Construct a new security context.
+   *
+   * @param name  the user principal name; null for an anonymous user
+   * @param roles the user roles
+   */
+  public StubSecurityContext(String name, String... roles) {
+    this.principal = name == null ? null : () -> name;
+    this.roles = new HashSet<>(Arrays.asList(roles));
+  }
+
+  @Override
+  public Principal getUserPrincipal() {
+    return principal;
+  }
+
+  @Override
+  public boolean isUserInRole(String role) {
+    return roles.contains(role);
+  }
+
+  @Override
+  public boolean isSecure() {
+    return true;
+  }
+
+  @Override
+  public String getAuthenticationScheme() {
+    return SecurityContext.BASIC_AUTH;
+  }
+
+}
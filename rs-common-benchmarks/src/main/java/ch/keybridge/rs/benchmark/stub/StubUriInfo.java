@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.benchmark.stub;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.PathSegment;
+import javax.ws.rs.core.UriBuilder;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * A fixed UriInfo for benchmarks. Only the URI accessors and path parameters
+ * are implemented; builder methods require a JAX-RS runtime and throw
+ * UnsupportedOperationException.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class StubUriInfo implements UriInfo {
+
+  private final URI baseUri;
+  private final URI requestUri;
+  private final MultivaluedMap<String, String> pathParameters;
+
+  /**
+   * Construct a new UriInfo.
+   *
+   * @param baseUri    the application base URI
+   * @param requestUri the absolute request URI
+   */
+  public StubUriInfo(URI baseUri, URI requestUri) {
+    this.baseUri = baseUri;
+    this.requestUri = requestUri;
+    this.pathParameters = new MultivaluedHashMap<>();
+  }
+
+  @Override
+  public String getPath() {
+    return getPath(true);
+  }
+
+  @Override
+  public String getPath(boolean decode) {
+    return baseUri.relativize(requestUri).getPath();
+  }
+
+  @Override
+  public List<PathSegment> getPathSegments() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public List<PathSegment> getPathSegments(boolean decode) {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public URI getRequestUri() {
+    return requestUri;
+  }
+
+  @Override
+  public UriBuilder getRequestUriBuilder() {
+    throw new UnsupportedOperationException("Not supported.");
+  }
+
+  @Override
+  public URI getAbsolutePath() {
+    return requestUri;
+  }
+
+  @Override
+  public UriBuilder getAbsolutePathBuilder() {
+    throw new UnsupportedOperationException("Not supported.");
+  }
+
+  @Override
+  public URI getBaseUri() {
+    return baseUri;
+  }
+
+  @Override
+  public UriBuilder getBaseUriBuilder() {
+    throw new UnsupportedOperationException("Not supported.");
+  }
+
+  @Override
+  public MultivaluedMap<String, String> getPathParameters() {
+    return pathParameters;
+  }
+
+  @Override
+  public MultivaluedMap<String, String> getPathParameters(boolean decode) {
+    return pathParameters;
+  }
+
+  @Override
+  public MultivaluedMap<String, String> getQueryParameters() {
+    return new MultivaluedHashMap<>();
+  }
+
+  @Override
+  public MultivaluedMap<String, String> getQueryParameters(boolean decode) {
+    return new MultivaluedHashMap<>();
+  }
+
+  @Override
+  public List<String> getMatchedURIs() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public List<String> getMatchedURIs(boolean decode) {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public List<Object> getMatchedResources() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public URI resolve(URI uri) {
+    return baseUri.resolve(uri);
+  }
+
+  @Override
+  public URI relativize(URI uri) {
+    return requestUri.relativize(uri);
+  }
+
+}
@@ -0,0 +1,33 @@
+#!/bin/sh
+#
+# Compare the time to first response of the StartupBenchmark run as a JVM,
+# as a GraalVM native image and restored from a CRaC checkpoint. The native
+# and CRaC runs are skipped unless native-image, or a CRaC JDK, is on the
+# PATH. Build the module first: mvn package
+#
+set -e
+cd "$(dirname "$0")"
+JAR=target/benchmarks.jar
+MAIN=ch.keybridge.rs.benchmark.load.StartupBenchmark
+now() { date +%s%3N; }
+
+java -cp $JAR $MAIN --mode=jvm --since="$(now)"
+
+if command -v native-image > /dev/null; then
+  # trace the Jersey reflection used by the benchmark, then build the image
+  java -agentlib:native-image-agent=config-output-dir=target/native-config -cp $JAR $MAIN --mode=agent > /dev/null
+  native-image --no-fallback -H:ConfigurationFileDirectories=target/native-config -cp $JAR -o target/startup $MAIN > target/native-image.log
+  ./target/startup -Dch.keybridge.rs.binding.reflection=false --mode=native --since="$(now)"
+else
+  echo "Startup native: skipped, native-image not found"
+fi
+
+if java -XX:CRaCCheckpointTo=target/crac -version > /dev/null 2>&1; then
+  rm -rf target/crac
+  # the JVM exits once the checkpoint is written
+  java -XX:CRaCCheckpointTo=target/crac -cp $JAR $MAIN --checkpoint=target/crac.since || true
+  now > target/crac.since
+  java -XX:CRaCRestoreFrom=target/crac
+else
+  echo "Startup restored: skipped, the JVM does not support CRaC"
+fi
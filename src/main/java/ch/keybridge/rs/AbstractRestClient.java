@@ -18,15 +18,71 @@
  */
 package ch.keybridge.rs;
 
+import ch.keybridge.rs.auth.TokenCache;
+import ch.keybridge.rs.auth.TokenProvider;
+import ch.keybridge.rs.balance.EndpointResolver;
+import ch.keybridge.rs.balance.LoadBalancer;
+import ch.keybridge.rs.batch.BulkLoader;
+import ch.keybridge.rs.batch.RequestBatcher;
+import ch.keybridge.rs.filter.impl.AdaptiveTimeoutFilter;
+import ch.keybridge.rs.filter.impl.BearerTokenFilter;
 import ch.keybridge.rs.filter.impl.ClientLoggingFilter;
+import ch.keybridge.rs.filter.impl.ClientMetricsFilter;
+import ch.keybridge.rs.filter.impl.DeadlineClientFilter;
+import ch.keybridge.rs.filter.impl.KeepAliveFilter;
+import ch.keybridge.rs.filter.impl.LoadBalancerFilter;
+import ch.keybridge.rs.filter.impl.RequestExpiryFilter;
+import ch.keybridge.rs.lifecycle.CheckpointResource;
+import ch.keybridge.rs.lifecycle.Checkpoints;
+import ch.keybridge.rs.lifecycle.ClientWarmup;
+import ch.keybridge.rs.limit.Bulkhead;
+import ch.keybridge.rs.metrics.AbstractMetrics;
+import ch.keybridge.rs.metrics.BatchMetrics;
+import ch.keybridge.rs.metrics.MetricsRegistry;
+import ch.keybridge.rs.outbox.Outbox;
+import ch.keybridge.rs.stream.RecordIterator;
+import ch.keybridge.rs.stream.RecordReader;
+import ch.keybridge.rs.stream.ResponseInputStream;
+import ch.keybridge.rs.tls.TlsConfig;
+import ch.keybridge.rs.tls.TlsContexts;
+import ch.keybridge.rs.type.ConnectorType;
+import ch.keybridge.rs.uri.PathTemplate;
+import ch.keybridge.rs.uri.RequestTemplate;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
 import java.net.URI;
-import java.security.cert.X509Certificate;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import javax.net.ssl.*;
+import javax.net.ssl.HostnameVerifier;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Response;
 
 /**
  * An abstract REST client, implementing all the basics to build a useful REST
@@ -75,6 +131,25 @@ public abstract class AbstractRestClient {
    * infinity. The default value is infinity (0).
    */
   protected static final int TIMEOUT_READ = 5000;
+  /**
+   * The load balancing filter priority. Request filters run in ascending
+   * priority order, so the request URI is rewritten after the other filters.
+   */
+  private static final int LOAD_BALANCER_PRIORITY = Priorities.USER + 1000;
+  /**
+   * The adaptive timeout filter priority: after the load balancing filter, so
+   * that timeouts are learned per endpoint.
+   */
+  private static final int ADAPTIVE_TIMEOUT_PRIORITY = Priorities.USER + 2000;
+  /**
+   * The request expiry filter priority: last, once the timeouts of the request
+   * are final.
+   */
+  private static final int REQUEST_EXPIRY_PRIORITY = Priorities.USER + 3000;
+  /**
+   * Serializes the outbox lookup and creation of all clients.
+   */
+  private static final Object OUTBOXES = new Object();
 
   /**
    * The Connect timeout interval, in milliseconds. Default is 1,000
@@ -86,17 +161,116 @@ public abstract class AbstractRestClient {
    * 5 seconds.
    */
   protected int timoutRead;
+  /**
+   * The adaptive read timeout multiple of the observed 99.9th percentile
+   * latency. Default (zero) is disabled: the read timeout is fixed.
+   */
+  protected double adaptiveTimeoutMultiplier;
+  /**
+   * The adaptive read timeout bounds, in milliseconds.
+   */
+  protected int adaptiveTimeoutMinimum, adaptiveTimeoutMaximum;
 
   /**
    * Enable or disable client logging. Default is enabled.
    */
   protected boolean clientLogging = true;
 
+  /**
+   * Enable or disable client metrics. Default is enabled.
+   */
+  protected boolean clientMetrics = true;
+
+  /**
+   * Enable or disable deadline propagation. Default is enabled.
+   */
+  protected boolean deadlinePropagation = true;
+
+  /**
+   * The bulkhead limiting concurrent calls to the base URI. Default is none.
+   */
+  protected Bulkhead bulkhead;
+
+  /**
+   * The Jersey ConnectorProvider class name. Default (null) is the Jersey
+   * default HttpURLConnection connector.
+   */
+  protected String connectorProvider;
+
+  /**
+   * The TLS configuration. Default (null) is the JVM default SSLContext.
+   */
+  protected TlsConfig tlsConfig;
+
+  /**
+   * The read buffer size for streamed responses, in bytes. Default is 64 KiB.
+   */
+  protected int streamBufferSize = 64 * 1024;
+
   /**
    * The web service base URI pattern.
    */
   protected String baseURI;
 
+  /**
+   * The load balancer over the endpoints of the base URI. Default is none.
+   */
+  protected LoadBalancer loadBalancer;
+
+  /**
+   * The access token cache for outbound bearer tokens. Default is none.
+   */
+  protected TokenCache tokenCache;
+  /**
+   * The access token audience.
+   */
+  protected String tokenAudience;
+
+  /**
+   * The number of connections to open to each endpoint when a client is built.
+   * Default (zero) is no warmup.
+   */
+  protected int warmupConnections;
+  /**
+   * The warmup probe path, relative to each endpoint. Default (null) sends HEAD
+   * requests to the endpoint base URI.
+   */
+  protected String warmupProbePath;
+  /**
+   * The keep-alive period of warmed up connections, in milliseconds. Default
+   * (zero) is no keep-alive requests.
+   */
+  protected long keepAlivePeriod;
+  /**
+   * The warmup of the last client built. Replaced while holding the instance
+   * lock.
+   */
+  private volatile ClientWarmup warmup;
+
+  /**
+   * The cached root targets of the base URI, by client. Both are held weakly:
+   * a target references its client, so a strongly held target would keep a
+   * closed client reachable. A target lives as long as the client and its
+   * users, e.g. request templates.
+   */
+  private final Map<Client, WeakReference<WebTarget>> targets = Collections.synchronizedMap(new WeakHashMap<>());
+  /**
+   * The availability probe, rebuilt when the configuration changes. Guarded by
+   * this.
+   */
+  private Probe availability;
+  /**
+   * The clients built by this instance, held weakly. Closed before a JVM
+   * checkpoint.
+   */
+  private final Set<Client> clients = Collections.newSetFromMap(new WeakHashMap<>());
+  /**
+   * Closes the clients of this instance before a JVM checkpoint. Registered
+   * when the first client is built and held here, as the registry holds it
+   * weakly.
+   */
+  private CheckpointResource checkpoint;
+
   /**
    * Default no-arg constructor. Sets the connect timeout to 1 second and read
    * timeout to 5 seconds.
@@ -142,6 +316,397 @@ public abstract class AbstractRestClient {
     return this;
   }
 
+  /**
+   * Enable or disable client metrics. Default is enabled. Metrics are recorded
+   * per base URI and request path template and published via JMX.
+   *
+   * @param clientMetrics TRUE to enable, false to disable.
+   */
+  public void setClientMetrics(boolean clientMetrics) {
+    this.clientMetrics = clientMetrics;
+  }
+
+  /**
+   * Enable or disable client metrics. Default is enabled.
+   *
+   * @param clientMetrics TRUE to enable, false to disable.
+   * @return the current client instance
+   */
+  public AbstractRestClient withClientMetrics(boolean clientMetrics) {
+    this.clientMetrics = clientMetrics;
+    return this;
+  }
+
+  /**
+   * Enable or disable deadline propagation. Default is enabled. The remaining
+   * time budget of the current {@link Deadline} (or the read timeout) is sent
+   * in the {@value Deadline#HEADER} request header and the request timeouts are
+   * shortened to fit within it.
+   *
+   * @param deadlinePropagation TRUE to enable, false to disable.
+   */
+  public void setDeadlinePropagation(boolean deadlinePropagation) {
+    this.deadlinePropagation = deadlinePropagation;
+  }
+
+  /**
+   * Enable or disable deadline propagation. Default is enabled.
+   *
+   * @param deadlinePropagation TRUE to enable, false to disable.
+   * @return the current client instance
+   */
+  public AbstractRestClient withDeadlinePropagation(boolean deadlinePropagation) {
+    this.deadlinePropagation = deadlinePropagation;
+    return this;
+  }
+
+  /**
+   * Limit the number of concurrent calls to the base URI. Calls beyond the
+   * limit wait in a bounded queue for at most the maximum wait time (or the
+   * time remaining to the current {@link Deadline}); calls beyond the queue
+   * are rejected immediately with a {@code BulkheadFullException}.
+   * <p>
+   * The bulkhead is registered with the {@link MetricsRegistry} by base URI
+   * and is shared by all clients of the same base URI. The first configuration
+   * registered applies.
+   *
+   * @param maxConcurrent the maximum number of concurrent calls
+   * @param maxQueue      the maximum number of waiting calls
+   * @param maxWait       the maximum wait time for a permit, in milliseconds
+   */
+  public void setBulkhead(int maxConcurrent, int maxQueue, long maxWait) {
+    this.bulkhead = MetricsRegistry.getInstance().register(new Bulkhead(baseURI, maxConcurrent, maxQueue, maxWait));
+  }
+
+  /**
+   * Limit the number of concurrent calls to the base URI.
+   *
+   * @param maxConcurrent the maximum number of concurrent calls
+   * @param maxQueue      the maximum number of waiting calls
+   * @param maxWait       the maximum wait time for a permit, in milliseconds
+   * @return the current client instance
+   * @see #setBulkhead(int, int, long)
+   */
+  public AbstractRestClient withBulkhead(int maxConcurrent, int maxQueue, long maxWait) {
+    setBulkhead(maxConcurrent, maxQueue, maxWait);
+    return this;
+  }
+
+  /**
+   * Enable adaptive read timeouts. The read timeout of each request is set to
+   * a multiple of the 99.9th percentile latency recently observed for its
+   * endpoint and path template, bounded by a minimum and maximum. The
+   * configured read timeout applies until enough latency samples are recorded.
+   * Current timeouts are published as {@code AdaptiveTimeout} metrics. Set
+   * before building clients.
+   *
+   * @param multiplier the multiple of the 99.9th percentile latency, e.g. 2
+   * @param minimum    the minimum read timeout in milliseconds
+   * @param maximum    the maximum read timeout in milliseconds
+   */
+  public void setAdaptiveTimeout(double multiplier, int minimum, int maximum) {
+    if (multiplier <= 0 || minimum <= 0 || maximum < minimum) {
+      throw new IllegalArgumentException("Require multiplier > 0 and 0 < minimum <= maximum.");
+    }
+    this.adaptiveTimeoutMultiplier = multiplier;
+    this.adaptiveTimeoutMinimum = minimum;
+    this.adaptiveTimeoutMaximum = maximum;
+  }
+
+  /**
+   * Enable adaptive read timeouts.
+   *
+   * @param multiplier the multiple of the 99.9th percentile latency, e.g. 2
+   * @param minimum    the minimum read timeout in milliseconds
+   * @param maximum    the maximum read timeout in milliseconds
+   * @return the current client instance
+   * @see #setAdaptiveTimeout(double, int, int)
+   */
+  public AbstractRestClient withAdaptiveTimeout(double multiplier, int minimum, int maximum) {
+    setAdaptiveTimeout(multiplier, minimum, maximum);
+    return this;
+  }
+
+  /**
+   * Spread requests over several endpoints of the service. Requests built from
+   * the base URI, which becomes a logical name, are sent to the endpoint with
+   * the lower latency-weighted outstanding requests of two chosen at random.
+   * Endpoints that fail consecutive requests are ejected for a time. Set before
+   * building clients.
+   * <p>
+   * The load balancer is registered with the {@link MetricsRegistry} by base
+   * URI and is shared by all clients of the same base URI. The first
+   * configuration registered applies.
+   *
+   * @param endpoints the endpoint base URIs, e.g.
+   *                  {@code http://10.0.0.1:8080/api}
+   */
+  public void setEndpoints(List<String> endpoints) {
+    List<URI> uris = new ArrayList<>(endpoints.size());
+    for (String endpoint : endpoints) {
+      uris.add(URI.create(endpoint));
+    }
+    this.loadBalancer = MetricsRegistry.getInstance().register(new LoadBalancer(baseURI, uris));
+  }
+
+  /**
+   * Spread requests over several endpoints of the service.
+   *
+   * @param endpoints the endpoint base URIs
+   * @return the current client instance
+   * @see #setEndpoints(List)
+   */
+  public AbstractRestClient withEndpoints(String... endpoints) {
+    setEndpoints(Arrays.asList(endpoints));
+    return this;
+  }
+
+  /**
+   * Spread requests over the endpoints returned by a resolver, which is called
+   * periodically to refresh them.
+   *
+   * @param resolver the endpoint resolver
+   * @param period   the refresh period
+   * @param unit     the refresh period unit
+   * @see #setEndpoints(List)
+   */
+  public void setEndpointResolver(EndpointResolver resolver, long period, TimeUnit unit) {
+    LoadBalancer candidate = new LoadBalancer(baseURI, resolver, period, unit);
+    this.loadBalancer = MetricsRegistry.getInstance().register(candidate);
+    if (loadBalancer != candidate) {
+      candidate.close();
+    }
+  }
+
+  /**
+   * Spread requests over the endpoints returned by a resolver.
+   *
+   * @param resolver the endpoint resolver
+   * @param period   the refresh period
+   * @param unit     the refresh period unit
+   * @return the current client instance
+   * @see #setEndpointResolver(EndpointResolver, long, TimeUnit)
+   */
+  public AbstractRestClient withEndpointResolver(EndpointResolver resolver, long period, TimeUnit unit) {
+    setEndpointResolver(resolver, period, unit);
+    return this;
+  }
+
+  /**
+   * Get the load balancer over the endpoints of the base URI.
+   *
+   * @return the load balancer, or null if none is configured
+   */
+  public LoadBalancer getLoadBalancer() {
+    return loadBalancer;
+  }
+
+  /**
+   * Send an OAuth 2.0 bearer access token with each request. Tokens are cached
+   * per audience and refreshed in the background before they expire; a
+   * request rejected with {@code 401 Unauthorized} forces one refresh and is
+   * repeated once. Requests that set their own {@code Authorization} header
+   * are sent unchanged. Set before building clients.
+   * <p>
+   * The token cache is registered with the {@link MetricsRegistry} by provider
+   * name and is shared by all clients of the same provider.
+   *
+   * @param provider the token provider, e.g. a
+   *                 {@code ClientCredentialsTokenProvider}
+   * @param audience the token audience; may be null
+   */
+  public void setTokenProvider(TokenProvider provider, String audience) {
+    this.tokenCache = MetricsRegistry.getInstance().register(new TokenCache(provider));
+    this.tokenAudience = audience;
+  }
+
+  /**
+   * Send an OAuth 2.0 bearer access token with each request.
+   *
+   * @param provider the token provider
+   * @param audience the token audience; may be null
+   * @return the current client instance
+   * @see #setTokenProvider(TokenProvider, String)
+   */
+  public AbstractRestClient withTokenProvider(TokenProvider provider, String audience) {
+    setTokenProvider(provider, audience);
+    return this;
+  }
+
+  /**
+   * Get the access token cache.
+   *
+   * @return the token cache, or null if no token provider is configured
+   */
+  public TokenCache getTokenCache() {
+    return tokenCache;
+  }
+
+  /**
+   * Warm up each client when it is built: open a number of pooled connections
+   * to each endpoint, completing DNS resolution and TLS handshakes, and
+   * optionally send probe requests. The warmup runs in the background; delay
+   * readiness of the service on {@code getWarmup().getCompletion()}. Set
+   * before building clients.
+   *
+   * @param connections the number of connections to open per endpoint
+   * @param probePath   the probe path relative to each endpoint, e.g.
+   *                    {@code health}; null to send HEAD requests to the
+   *                    endpoint base URI
+   */
+  public void setWarmup(int connections, String probePath) {
+    if (connections < 1) {
+      throw new IllegalArgumentException("Require connections >= 1.");
+    }
+    this.warmupConnections = connections;
+    this.warmupProbePath = probePath;
+  }
+
+  /**
+   * Warm up each client when it is built.
+   *
+   * @param connections the number of connections to open per endpoint
+   * @param probePath   the probe path relative to each endpoint; may be null
+   * @return the current client instance
+   * @see #setWarmup(int, String)
+   */
+  public AbstractRestClient withWarmup(int connections, String probePath) {
+    setWarmup(connections, probePath);
+    return this;
+  }
+
+  /**
+   * Keep warmed up connections open during quiet periods. When a client has
+   * sent no request for the period the warmup requests are repeated. Requires
+   * {@link #setWarmup(int, String)}. The period should be shorter than the
+   * idle connection timeout of the service and the connector, which is 5
+   * seconds for {@code HttpURLConnection} unless the service sends a
+   * {@code Keep-Alive} header. Set before building clients.
+   *
+   * @param period the keep-alive period
+   * @param unit   the keep-alive period unit
+   */
+  public void setKeepAlive(long period, TimeUnit unit) {
+    this.keepAlivePeriod = unit.toMillis(period);
+  }
+
+  /**
+   * Keep warmed up connections open during quiet periods.
+   *
+   * @param period the keep-alive period
+   * @param unit   the keep-alive period unit
+   * @return the current client instance
+   * @see #setKeepAlive(long, TimeUnit)
+   */
+  public AbstractRestClient withKeepAlive(long period, TimeUnit unit) {
+    setKeepAlive(period, unit);
+    return this;
+  }
+
+  /**
+   * Get the warmup of the last client built by {@link #buildClient()}.
+   *
+   * @return the client warmup, or null if warmup is not configured
+   */
+  public ClientWarmup getWarmup() {
+    return warmup;
+  }
+
+  /**
+   * Set the HTTP connector used by clients built by this instance. The
+   * connector module must be on the class path, otherwise the default connector
+   * is used. Use {@link ConnectorType#JETTY_HTTP2} to multiplex requests over
+   * HTTP/2 connections.
+   * <p>
+   * The connect and read timeouts and the other
+   * {@link JerseyClientProperties} are passed to the connector, which applies
+   * those it supports.
+   *
+   * @param connector the connector type
+   */
+  public void setConnector(ConnectorType connector) {
+    this.connectorProvider = connector.getProviderClassName();
+  }
+
+  /**
+   * Set the HTTP connector used by clients built by this instance.
+   *
+   * @param connector the connector type
+   * @return the current client instance
+   * @see #setConnector(ConnectorType)
+   */
+  public AbstractRestClient withConnector(ConnectorType connector) {
+    setConnector(connector);
+    return this;
+  }
+
+  /**
+   * Set a custom Jersey ConnectorProvider used by clients built by this
+   * instance.
+   *
+   * @param connectorProvider the fully qualified ConnectorProvider class name;
+   *                          null for the Jersey default
+   */
+  public void setConnectorProvider(String connectorProvider) {
+    this.connectorProvider = connectorProvider;
+  }
+
+  /**
+   * Set the TLS configuration used by clients built by this instance. Clients
+   * with an equal configuration share one SSLContext and its session cache, so
+   * that new connections resume TLS sessions instead of repeating the full
+   * handshake.
+   *
+   * @param tlsConfig the TLS configuration; null for the JVM default
+   */
+  public void setTls(TlsConfig tlsConfig) {
+    this.tlsConfig = tlsConfig;
+  }
+
+  /**
+   * Set the TLS configuration used by clients built by this instance.
+   *
+   * @param tlsConfig the TLS configuration
+   * @return the current client instance
+   * @see #setTls(TlsConfig)
+   */
+  public AbstractRestClient withTls(TlsConfig tlsConfig) {
+    setTls(tlsConfig);
+    return this;
+  }
+
+  /**
+   * Set the read buffer size for streamed responses.
+   *
+   * @param streamBufferSize the buffer size in bytes
+   */
+  public void setStreamBufferSize(int streamBufferSize) {
+    if (streamBufferSize < 1) {
+      throw new IllegalArgumentException("Require streamBufferSize > 0.");
+    }
+    this.streamBufferSize = streamBufferSize;
+  }
+
+  /**
+   * Set the read buffer size for streamed responses.
+   *
+   * @param streamBufferSize the buffer size in bytes
+   * @return the current client instance
+   */
+  public AbstractRestClient withStreamBufferSize(int streamBufferSize) {
+    setStreamBufferSize(streamBufferSize);
+    return this;
+  }
+
+  /**
+   * Get the bulkhead limiting concurrent calls to the base URI.
+   *
+   * @return the bulkhead, or null if none is configured
+   */
+  public Bulkhead getBulkhead() {
+    return bulkhead;
+  }
+
   /**
    * Set the Connect timeout interval, in milliseconds. Default is 1,000
    * milliseconds = 1 seconds.
@@ -203,13 +768,161 @@ public abstract class AbstractRestClient {
      *
      * @return a WebTarget instance ready to use.
      */
-    Client client = ClientBuilder.newClient();
+    Client client = configureTls(configureConnector(ClientBuilder.newBuilder()), tlsConfig).build();
+    return warmup(configure(track(client), true));
+  }
+
+  /**
+   * Create a Client with a relaxed X509 certificate and hostname verification
+   * while using the SSL over the HTTP protocol.
+   * <p>
+   * Unless otherwise specified in the constructor, the default TCP connect
+   * timeout is 1 second (down from the default of 60) and the read timeout is 5
+   * seconds (also down from 60).
+   *
+   * @return a Jersey HTTP client
+   * @throws Exception if the TLS context cannot be initialized
+   */
+  protected final Client buildTrustingClient() throws Exception {
+    /**
+     * Use the shared insecure TLS context, which trusts all certificates, even
+     * the self-signed ones, and any host name.
+     */
+    Client client = configureTls(configureConnector(ClientBuilder.newBuilder()), TlsConfig.insecure()).build();
+    /**
+     * The trusting client is not warmed up: it is used for probes such as
+     * {@link #isAvailable()} and must not replace the warmup of the client
+     * built by {@link #buildClient()}.
+     */
+    return configure(track(client), false);
+  }
+
+  /**
+   * Track a newly built client so that it is closed before a JVM checkpoint
+   * (CRaC), releasing its pooled connections. Clients must not be held across
+   * a checkpoint: after a restore build new clients, e.g. in
+   * {@link #afterRestore()}.
+   *
+   * @param client the client
+   * @return the client
+   */
+  private Client track(Client client) {
+    synchronized (clients) {
+      clients.add(client);
+      if (checkpoint == null) {
+        checkpoint = new CheckpointResource() {
+          @Override
+          public void beforeCheckpoint() {
+            AbstractRestClient.this.beforeCheckpoint();
+          }
+
+          @Override
+          public void afterRestore() {
+            AbstractRestClient.this.afterRestore();
+          }
+        };
+        Checkpoints.getInstance().register(checkpoint);
+      }
+    }
+    return client;
+  }
+
+  /**
+   * Invoked before a JVM checkpoint (CRaC). Stops the keep-alive requests,
+   * discards the cached targets and availability probe and closes every client
+   * built by this instance, so that no pooled connection is checkpointed.
+   * Subclasses that release other resources must call this method.
+   */
+  protected void beforeCheckpoint() {
+    ClientWarmup current = warmup;
+    if (current != null) {
+      current.close();
+    }
+    synchronized (this) {
+      availability = null;
+    }
+    targets.clear();
+    List<Client> closing;
+    synchronized (clients) {
+      closing = new ArrayList<>(clients);
+      clients.clear();
+    }
+    for (Client client : closing) {
+      try {
+        client.close();
+      } catch (RuntimeException e) {
+        LOG.log(Level.FINE, "Client of {0} not closed: {1}", new Object[]{baseURI, e.getMessage()});
+      }
+    }
+    LOG.log(Level.FINE, "Closed {0} clients of {1} before checkpoint", new Object[]{closing.size(), baseURI});
+  }
+
+  /**
+   * Invoked after a JVM restore (CRaC), or after an aborted checkpoint. The
+   * clients built before the checkpoint are closed; subclasses that hold a
+   * client should build a new one here. The default does nothing.
+   */
+  protected void afterRestore() {
+  }
+
+  /**
+   * Register the configured client filters and set the timeouts on a newly
+   * built client. Shared by {@link #buildClient()} and
+   * {@link #buildTrustingClient()} so that both get the same filters, except
+   * that a client which does not verify the server never gets credentials.
+   *
+   * @param client  the client
+   * @param trusted true if the client verifies the server certificate and host
+   *                name
+   * @return the client
+   */
+  private Client configure(Client client, boolean trusted) {
     /**
      * If transaction logging is enabled the register the client logging filter.
      */
     if (clientLogging) {
       client.register(ClientLoggingFilter.class, ClientResponseFilter.class);
     }
+    /**
+     * If client metrics are enabled then register the client metrics filter.
+     */
+    if (clientMetrics) {
+      client.register(new ClientMetricsFilter(baseURI, timoutConnect, timoutRead));
+    }
+    /**
+     * If deadline propagation is enabled then register the deadline filter.
+     */
+    if (deadlinePropagation) {
+      client.register(new DeadlineClientFilter(timoutConnect, timoutRead));
+    }
+    /**
+     * If a token provider is configured then register the bearer token filter.
+     * Credentials are never sent over a client that does not verify the
+     * server.
+     */
+    if (trusted && tokenCache != null) {
+      client.register(new BearerTokenFilter(tokenCache, tokenAudience, this::getServiceURIs), Priorities.AUTHENTICATION);
+    }
+    /**
+     * If endpoints are configured then register the load balancing filter.
+     */
+    if (loadBalancer != null) {
+      client.register(new LoadBalancerFilter(baseURI, loadBalancer, timoutConnect, timoutRead), LOAD_BALANCER_PRIORITY);
+    }
+    /**
+     * If adaptive timeouts are enabled then register the adaptive timeout
+     * filter.
+     */
+    if (adaptiveTimeoutMultiplier > 0) {
+      client.register(new AdaptiveTimeoutFilter(baseURI, adaptiveTimeoutMultiplier, adaptiveTimeoutMinimum, adaptiveTimeoutMaximum, timoutRead), ADAPTIVE_TIMEOUT_PRIORITY);
+    }
+    /**
+     * If requests are tracked then expire them after the timeouts applied to
+     * each request, rather than the configured ones.
+     */
+    if (clientMetrics || loadBalancer != null) {
+      client.register(new RequestExpiryFilter(timoutConnect, timoutRead), REQUEST_EXPIRY_PRIORITY);
+    }
     /**
      * Connect timeout interval, in milliseconds. The value MUST be an instance
      * convertible to Integer. A value of zero (0) is equivalent to an interval
@@ -226,99 +939,521 @@ public abstract class AbstractRestClient {
   }
 
   /**
-   * Create a Client with a relaxed X509 certificate and hostname verification
-   * while using the SSL over the HTTP protocol.
-   * <p>
-   * Unless otherwise specified in the constructor, the default TCP connect
-   * timeout is 1 second (down from the default of 60) and the read timeout is 5
-   * seconds (also down from 60).
+   * Get the service base URI and the URIs of the load balanced endpoints, if
+   * any. These are the URIs to which credentials are sent.
    *
-   * @return a Jersey HTTP client
-   * @throws Exception if TLSv1 is not supported
+   * @return the service URIs
    */
-  protected final Client buildTrustingClient() throws Exception {
-    /**
-     * Set the default X509 Trust Manager to an instance of a fake class that
-     * trust all certificates, even the self-signed ones.
-     */
-    SSLContext sc = SSLContext.getInstance("TLSv1.2"); //Java 8   // NoSuchAlgorithmException
-    System.setProperty("https.protocols", "TLSv1.2");  //Java 8
-    TrustManager[] trustAllCerts = {new InsecureTrustManager()};
-    sc.init(null, trustAllCerts, new java.security.SecureRandom()); // KeyManagementException
-    /**
-     * A fake hostname verifier, trusting any host name. Always return true,
-     * indicating that the host name is an acceptable match with the server's
-     * authentication scheme.
-     */
-    HostnameVerifier allHostsValid = (String string, SSLSession ssls) -> true;
-    Client client = ClientBuilder.newBuilder().sslContext(sc).hostnameVerifier(allHostsValid).build();
-    client.property(CONNECT_TIMEOUT, timoutConnect); // should immediately connect
-    client.property(READ_TIMEOUT, timoutRead); // wait for processing
+  private List<String> getServiceURIs() {
+    List<String> uris = new ArrayList<>();
+    uris.add(baseURI);
+    LoadBalancer balancer = loadBalancer;
+    if (balancer != null) {
+      balancer.getEndpointList().forEach(endpoint -> uris.add(endpoint.getUri()));
+    }
+    return uris;
+  }
+
+  /**
+   * Start the warmup of a newly built client, if configured. Only clients from
+   * {@link #buildClient()} are warmed up, each once. The warmup of the
+   * previously built client, if any, is closed and replaced.
+   *
+   * @param client the client
+   * @return the client
+   */
+  private Client warmup(Client client) {
+    if (warmupConnections <= 0) {
+      return client;
+    }
+    LoadBalancer balancer = loadBalancer;
+    ClientWarmup candidate = new ClientWarmup(baseURI, client, () -> {
+      if (balancer == null) {
+        return Collections.singletonList(baseURI);
+      }
+      List<String> endpoints = new ArrayList<>();
+      balancer.getEndpointList().forEach(endpoint -> endpoints.add(endpoint.getUri()));
+      return endpoints;
+    }, warmupConnections, warmupProbePath);
+    if (keepAlivePeriod > 0) {
+      client.register(new KeepAliveFilter(candidate));
+      candidate.keepAlive(keepAlivePeriod, TimeUnit.MILLISECONDS);
+    }
     /**
-     * If transaction logging is enabled the register the client logging filter.
+     * Swap and register under the lock so that concurrent builds each close
+     * the warmup they replace and the registered warmup is the current one.
+     * The keep-alive is scheduled first so that a replaced warmup stays closed.
      */
-    if (clientLogging) {
-      client.register(ClientLoggingFilter.class, ClientResponseFilter.class);
+    ClientWarmup previous;
+    synchronized (this) {
+      previous = warmup;
+      if (previous != null) {
+        MetricsRegistry.getInstance().unregister(previous);
+      }
+      warmup = candidate;
+      MetricsRegistry.getInstance().register(candidate);
+    }
+    if (previous != null) {
+      previous.close();
     }
+    candidate.start();
     return client;
   }
 
   /**
-   * Manage which X509 certificates may be used to authenticate the remote side
-   * of a secure socket. This class allow any X509 certificates to be used to
-   * authenticate the remote side of a secure socket, including self-signed
-   * certificates.
+   * Configure the connector provider, if set and available, on a client
+   * builder.
+   * <p>
+   * The provider is installed with {@code ClientConfig.connectorProvider},
+   * which every Jersey 2.5+ runtime honors; the
+   * {@link JerseyClientProperties#CONNECTOR_PROVIDER} property alone is ignored
+   * before Jersey 2.40, e.g. by the Jersey bundled with older Payara and
+   * GlassFish releases. Jersey is not a compile dependency, so the
+   * configuration is built by reflection with the class loader of the client
+   * builder implementation. The builder must be new: its configuration is
+   * replaced.
+   *
+   * @param builder the client builder
+   * @return the client builder
    */
-  private class InsecureTrustManager implements X509TrustManager {
+  private ClientBuilder configureConnector(ClientBuilder builder) {
+    if (connectorProvider == null) {
+      return builder;
+    }
+    ClassLoader context = Thread.currentThread().getContextClassLoader();
+    Object provider;
+    try {
+      provider = Class.forName(connectorProvider, true, context != null ? context : AbstractRestClient.class.getClassLoader())
+        .getConstructor().newInstance();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      LOG.log(Level.WARNING, "Connector provider {0} is not available. Using the default connector.", connectorProvider);
+      return builder;
+    }
+    try {
+      Class<?> type = Class.forName("org.glassfish.jersey.client.ClientConfig", true, builder.getClass().getClassLoader());
+      Object config = type.getConstructor().newInstance();
+      Method method = type.getMethod("connectorProvider", Class.forName("org.glassfish.jersey.client.spi.ConnectorProvider", true, type.getClassLoader()));
+      method.invoke(config, provider);
+      builder.withConfig((Configuration) config);
+    } catch (ReflectiveOperationException | LinkageError | IllegalArgumentException | ClassCastException e) {
+      LOG.log(Level.WARNING, "Connector provider {0} cannot be installed on {1}: {2}. Using the default connector.",
+              new Object[]{connectorProvider, builder.getClass().getName(), e});
+    }
+    return builder;
+  }
 
-    /**
-     * {@inheritDoc}
-     * <p>
-     * Always trust for client SSL chain peer certificate chain with any
-     * authType authentication types.
-     */
-    @Override
-    public void checkClientTrusted(final X509Certificate[] chain, final String authType) {
-      // Everyone is trusted!
+  /**
+   * Configure the cached TLS context and host name verifier, if a TLS
+   * configuration is set, on a client builder.
+   *
+   * @param builder the client builder
+   * @param config  the TLS configuration; may be null
+   * @return the client builder
+   */
+  private ClientBuilder configureTls(ClientBuilder builder, TlsConfig config) {
+    if (config == null) {
+      return builder;
+    }
+    try {
+      builder.sslContext(TlsContexts.get(config));
+    } catch (GeneralSecurityException | IOException e) {
+      throw new ProcessingException("Failed to initialize the TLS context " + config.getName(), e);
+    }
+    HostnameVerifier verifier = TlsContexts.getHostnameVerifier(config);
+    if (verifier != null) {
+      builder.hostnameVerifier(verifier);
     }
+    return builder;
+  }
 
-    /**
-     * {@inheritDoc}
-     * <p>
-     * Always trust for server SSL chain peer certificate chain with any
-     * authType exchange algorithm types.
-     */
-    @Override
-    public void checkServerTrusted(final X509Certificate[] chain, final String authType) {
-      // Everyone is trusted!
+  /**
+   * Synchronously invoke a request, recording client metrics under a request
+   * path template. Transport failures (timeouts, refused connections) are
+   * recorded before the exception is re-thrown.
+   * <p>
+   * Example: <br>
+   * {@code invoke("customers/{id}", client.target(baseURI).path("customers").path(id).request().buildGet(), Customer.class)}
+   *
+   * @param <T>          the response entity type
+   * @param pathTemplate the request path template, e.g. {@code customers/{id}}
+   * @param invocation   the request invocation
+   * @param responseType the response entity type
+   * @return the response entity
+   * @throws ProcessingException in case the invocation processing has failed,
+   *                             including a {@code BulkheadFullException} if
+   *                             the call was rejected by the bulkhead.
+   */
+  protected <T> T invoke(String pathTemplate, Invocation invocation, Class<T> responseType) {
+    final Bulkhead permits = bulkhead;
+    if (permits != null) {
+      Deadline deadline = Deadline.current();
+      permits.acquire(deadline == null ? -1 : Math.max(0, deadline.remaining(TimeUnit.MILLISECONDS)), TimeUnit.MILLISECONDS);
+    }
+    ClientMetricsFilter.Exchange exchange = ClientMetricsFilter.prepare(invocation, pathTemplate);
+    LoadBalancerFilter.Selection selection = loadBalancer == null ? null : LoadBalancerFilter.prepare(invocation);
+    AdaptiveTimeoutFilter.Timing timing = adaptiveTimeoutMultiplier > 0 ? AdaptiveTimeoutFilter.prepare(invocation) : null;
+    try {
+      return invocation.invoke(responseType);
+    } catch (ProcessingException e) {
+      exchange.failed(e);
+      if (selection != null) {
+        selection.failed();
+      }
+      if (timing != null) {
+        timing.failed(e);
+      }
+      throw e;
+    } finally {
+      if (permits != null) {
+        permits.release();
+      }
     }
+  }
 
-    /**
-     * {@inheritDoc}
-     * <p>
-     * Returns an empty array of certificate authority certificates which are
-     * trusted for authenticating peers.
-     *
-     * @return a empty array of issuer certificates.
-     */
-    @Override
-    public X509Certificate[] getAcceptedIssuers() {
-      return new X509Certificate[]{};
+  /**
+   * Asynchronously invoke a request, recording client metrics under a request
+   * path template. If a bulkhead is configured the request is submitted once a
+   * permit is granted, waiting no longer than the current {@link Deadline}
+   * allows. The deadline, if any, is carried to the request.
+   * <p>
+   * The returned future completes exceptionally with a
+   * {@code ProcessingException} on transport failure or bulkhead rejection,
+   * and with a {@code WebApplicationException} if the response status is not
+   * successful.
+   * <p>
+   * Cancelling the returned future withdraws the call from the bulkhead queue
+   * if it is still waiting for a permit, or else cancels the submitted request
+   * and releases its permit.
+   *
+   * @param <T>          the response entity type
+   * @param pathTemplate the request path template, e.g. {@code customers/{id}}
+   * @param invocation   the request invocation
+   * @param responseType the response entity type
+   * @return the response entity future
+   */
+  protected <T> CompletableFuture<T> invokeAsync(String pathTemplate, Invocation invocation, Class<T> responseType) {
+    final Bulkhead permits = bulkhead;
+    Deadline deadline = Deadline.current();
+    if (deadline != null) {
+      invocation.property(Deadline.PROPERTY, deadline);
+    }
+    ClientMetricsFilter.Exchange exchange = ClientMetricsFilter.prepare(invocation, pathTemplate);
+    LoadBalancerFilter.Selection selection = loadBalancer == null ? null : LoadBalancerFilter.prepare(invocation);
+    AdaptiveTimeoutFilter.Timing timing = adaptiveTimeoutMultiplier > 0 ? AdaptiveTimeoutFilter.prepare(invocation) : null;
+    long maxWait = deadline == null ? -1 : Math.max(0, deadline.remaining(TimeUnit.MILLISECONDS));
+    CompletableFuture<Void> permit = permits == null ? CompletableFuture.completedFuture(null) : permits.acquireAsync(maxWait, TimeUnit.MILLISECONDS);
+    CompletableFuture<T> result = new CompletableFuture<>();
+    AtomicReference<Future<Response>> submitted = new AtomicReference<>();
+    result.whenComplete((entity, failure) -> {
+      if (result.isCancelled()) {
+        /**
+         * Withdraw the permit wait, or cancel the request.
+         */
+        permit.cancel(false);
+        Future<Response> request = submitted.get();
+        if (request != null) {
+          request.cancel(true);
+        }
+      }
+    });
+    permit.whenComplete((granted, rejection) -> {
+      if (rejection != null) {
+        result.completeExceptionally(rejection);
+        return;
+      }
+      if (permits != null) {
+        result.whenComplete((entity, failure) -> permits.release());
+      }
+      if (result.isDone()) {
+        return;
+      }
+      try {
+        /**
+         * Use a Response callback: Jersey cannot resolve the entity type of a
+         * generic InvocationCallback.
+         */
+        submitted.set(invocation.submit(new InvocationCallback<Response>() {
+          @Override
+          public void completed(Response response) {
+            try {
+              if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+                response.bufferEntity();
+                result.completeExceptionally(new WebApplicationException(response));
+              } else {
+                result.complete(response.readEntity(responseType));
+              }
+            } catch (RuntimeException e) {
+              result.completeExceptionally(e);
+            }
+          }
+
+          @Override
+          public void failed(Throwable throwable) {
+            exchange.failed(throwable);
+            if (selection != null) {
+              selection.failed();
+            }
+            if (timing != null) {
+              timing.failed(throwable);
+            }
+            result.completeExceptionally(throwable);
+          }
+        }));
+        if (result.isCancelled()) {
+          submitted.get().cancel(true);
+        }
+      } catch (RuntimeException e) {
+        result.completeExceptionally(e);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Invoke a request and stream the response entity. The entity is read from
+   * the connection as the stream is read, in chunks of the stream buffer size,
+   * and is never held in memory as a whole.
+   * <p>
+   * The caller MUST close the stream, which releases the connection and the
+   * bulkhead permit. Closing before the end of the entity is allowed. The
+   * client metrics total time is recorded when the stream is opened.
+   * <p>
+   * Example: <br>
+   * {@code try (InputStream in = invokeStream("export", client.target(baseURI).path("export").request().buildGet())) { ... }}
+   *
+   * @param pathTemplate the request path template
+   * @param invocation   the request invocation
+   * @return the response entity stream
+   * @throws ProcessingException     in case the invocation processing has
+   *                                 failed, including a
+   *                                 {@code BulkheadFullException} if the call
+   *                                 was rejected by the bulkhead.
+   * @throws WebApplicationException if the response status is not successful
+   */
+  protected ResponseInputStream invokeStream(String pathTemplate, Invocation invocation) {
+    final Bulkhead permits = bulkhead;
+    if (permits != null) {
+      Deadline deadline = Deadline.current();
+      permits.acquire(deadline == null ? -1 : Math.max(0, deadline.remaining(TimeUnit.MILLISECONDS)), TimeUnit.MILLISECONDS);
+    }
+    ClientMetricsFilter.Exchange exchange = ClientMetricsFilter.prepare(invocation, pathTemplate);
+    LoadBalancerFilter.Selection selection = loadBalancer == null ? null : LoadBalancerFilter.prepare(invocation);
+    AdaptiveTimeoutFilter.Timing timing = adaptiveTimeoutMultiplier > 0 ? AdaptiveTimeoutFilter.prepare(invocation) : null;
+    Response response = null;
+    try {
+      response = invocation.invoke();
+      if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+        response.bufferEntity();
+        throw new WebApplicationException(response);
+      }
+      return new ResponseInputStream(response, streamBufferSize, permits == null ? null : permits::release);
+    } catch (RuntimeException e) {
+      if (e instanceof ProcessingException) {
+        exchange.failed(e);
+        if (selection != null) {
+          selection.failed();
+        }
+        if (timing != null) {
+          timing.failed(e);
+        }
+      }
+      if (response != null) {
+        response.close();
+      }
+      if (permits != null) {
+        permits.release();
+      }
+      throw e;
     }
   }
 
+  /**
+   * Invoke a request and stream the response entity as a byte channel. The
+   * caller MUST close the channel.
+   *
+   * @param pathTemplate the request path template
+   * @param invocation   the request invocation
+   * @return the response entity channel
+   * @see #invokeStream(String, Invocation)
+   */
+  protected ReadableByteChannel invokeChannel(String pathTemplate, Invocation invocation) {
+    return Channels.newChannel(invokeStream(pathTemplate, invocation));
+  }
+
+  /**
+   * Invoke a request and lazily parse the response entity into records, e.g.
+   * CSV rows or newline delimited JSON documents. Records are read from the
+   * connection only as the iterator advances. The entity character set is read
+   * from the response content type, and defaults to UTF-8.
+   * <p>
+   * The caller MUST close the iterator, or the stream from
+   * {@link RecordIterator#stream()}, unless all records are read.
+   * <p>
+   * Example: <br>
+   * {@code try (Stream<Row> rows = invokeRecords("export", invocation, RecordReader.lines(Row::parse)).stream()) { ... }}
+   *
+   * @param <T>          the record type
+   * @param pathTemplate the request path template
+   * @param invocation   the request invocation
+   * @param reader       the record reader
+   * @return a record iterator
+   * @see #invokeStream(String, Invocation)
+   */
+  protected <T> RecordIterator<T> invokeRecords(String pathTemplate, Invocation invocation, RecordReader<T> reader) {
+    ResponseInputStream in = invokeStream(pathTemplate, invocation);
+    try {
+      return new RecordIterator<>(in, streamBufferSize, reader);
+    } catch (RuntimeException | Error e) {
+      /**
+       * Nothing owns the stream yet: close it to release the connection and
+       * the bulkhead permit.
+       */
+      try {
+        in.close();
+      } catch (IOException closeException) {
+        e.addSuppressed(closeException);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Create a request batcher that merges single key lookups into bulk requests
+   * to this service. The loader sends each batch of keys to the bulk endpoint,
+   * typically through {@link #invoke(String, Invocation, Class)}, and maps the
+   * response back to values by key.
+   * <p>
+   * The batch metrics are registered with the {@link MetricsRegistry} by base
+   * URI and bulk path template.
+   *
+   * @param <K>          the key type
+   * @param <V>          the value type
+   * @param pathTemplate the bulk request path template
+   * @param maxBatchSize the maximum number of keys per bulk request
+   * @param window       the maximum time a key waits for its batch to fill, in
+   *                     milliseconds
+   * @param loader       the bulk request
+   * @return a new request batcher
+   */
+  protected <K, V> RequestBatcher<K, V> buildBatcher(String pathTemplate, int maxBatchSize, long window, BulkLoader<K, V> loader) {
+    BatchMetrics metrics = MetricsRegistry.getInstance().register(new BatchMetrics(baseURI, pathTemplate));
+    return new RequestBatcher<>(metrics, maxBatchSize, window, loader);
+  }
+
+  /**
+   * Create a durable write-behind outbox for fire-and-forget requests to this
+   * service, e.g. notifications. Enqueuing a message appends it to a local
+   * memory-mapped segment file and returns immediately; the outbox sends it in
+   * the background through {@link #invokeAsync(String, Invocation, Class)} on
+   * the client, with retries and in order per message key. Pending messages
+   * survive a restart and are sent by the next outbox on the directory.
+   * <p>
+   * The outbox is registered with the {@link MetricsRegistry} by base URI. If
+   * an open outbox is already registered for the base URI on the same directory
+   * it is returned instead; a closed one is replaced. The directory is locked
+   * by the outbox, so it cannot be shared with the outbox of another base URI
+   * or process.
+   * <p>
+   * Example: <br>
+   * {@code outbox.enqueue(OutboxMessage.post(customerId, "customers/{id}/events", events.getPathTemplate().expand(customerId), MediaType.APPLICATION_JSON, json));}
+   *
+   * @param client    the client, once configured
+   * @param directory the outbox directory, used by one outbox at a time
+   * @param maxBytes  the disk limit in bytes; messages are rejected with an
+   *                  {@code OutboxFullException} beyond it
+   * @return the started outbox
+   * @throws IOException           if the outbox directory cannot be read or is
+   *                               used by another outbox
+   * @throws IllegalStateException if the open outbox of the base URI uses
+   *                               another directory
+   */
+  protected final Outbox buildOutbox(Client client, Path directory, long maxBytes) throws IOException {
+    synchronized (OUTBOXES) {
+      for (AbstractMetrics metrics : MetricsRegistry.getInstance().getMetrics()) {
+        if (!(metrics instanceof Outbox) || !metrics.getName().equals(baseURI)) {
+          continue;
+        }
+        Outbox registered = (Outbox) metrics;
+        if (registered.isClosed()) {
+          MetricsRegistry.getInstance().unregister(registered);
+        } else if (Paths.get(registered.getDirectory()).toAbsolutePath().normalize().equals(directory.toAbsolutePath().normalize())) {
+          return registered;
+        } else {
+          throw new IllegalStateException("The outbox of " + baseURI + " already uses the directory " + registered.getDirectory() + ".");
+        }
+      }
+      /**
+       * Open the outbox only once no live outbox owns the base URI: opening
+       * recovers the directory.
+       */
+      int segmentSize = (int) Math.min(Outbox.DEFAULT_SEGMENT_SIZE, maxBytes / 4);
+      Outbox candidate = new Outbox(baseURI, directory, segmentSize, maxBytes, message -> invokeAsync(
+                                    message.getPathTemplate(),
+                                    target(client).path(message.getPath()).request()
+                                      .build(message.getMethod(), message.getBody() == null ? null : Entity.entity(message.getBody(), message.getMediaType())),
+                                    String.class));
+      MetricsRegistry.getInstance().register(candidate);
+      return candidate.start();
+    }
+  }
+
+  /**
+   * Get the root target of the base URI for a client. The target is created
+   * on first use and cached: {@code WebTarget} is immutable and thread-safe,
+   * and each {@code path} call returns a new target. Call this once the client
+   * is configured, since the target takes a snapshot of the client
+   * configuration.
+   * <p>
+   * Example: <br>
+   * {@code target(client).path("customers").path(id).request().buildGet()}
+   *
+   * @param client the client
+   * @return the cached root target
+   */
+  protected final WebTarget target(Client client) {
+    WeakReference<WebTarget> reference = targets.get(client);
+    WebTarget target = reference != null ? reference.get() : null;
+    if (target == null) {
+      target = client.target(baseURI);
+      targets.put(client, new WeakReference<>(target));
+    }
+    return target;
+  }
+
+  /**
+   * Create a reusable request builder for a request path template of this
+   * service. Keep the template in a field; building a request from it only
+   * expands the path variables and appends them to the cached root target.
+   * <p>
+   * Example: <br>
+   * {@code RequestTemplate customer = template(client, "customers/{id}", MediaType.APPLICATION_JSON);}
+   * <br>
+   * {@code invoke(customer.getPath(), customer.request(id).buildGet(), Customer.class)}
+   *
+   * @param client       the client, once configured
+   * @param pathTemplate the request path template, e.g. {@code customers/{id}}
+   * @param accept       the accepted media types, if any
+   * @return a new request template
+   */
+  protected final RequestTemplate template(Client client, String pathTemplate, String... accept) {
+    return new RequestTemplate(target(client), PathTemplate.compile(pathTemplate), accept);
+  }
+
   /**
    * Helper method to determine if the REST service is available or not. This
    * method tries to retrieve the `application.wadl` file.
+   * <p>
+   * The probe uses a plain trusting client with the connector and timeouts of
+   * this instance but none of its filters, and is sent directly rather than
+   * through {@code invoke}: it is neither limited by the bulkhead nor counted
+   * in the client metrics. The probe client is reused, and rebuilt when the
+   * base URI, connector or timeouts change.
    *
    * @return if the `application.wadl` file can be downloaded
    */
   public final boolean isAvailable() {
     try {
-      buildTrustingClient().target(new URI(baseURI))
-        .path("application.wadl")
-        .request()
-        .get(String.class);
+      probe().get(String.class);
       return true;
     } catch (Exception e) {
       LOG.log(Level.WARNING, "{0}/application.wadl is not available.  {1}", new Object[]{baseURI, e.getMessage()});
@@ -326,4 +1461,52 @@ public abstract class AbstractRestClient {
     }
   }
 
+  /**
+   * Get the availability probe request, rebuilding the probe if the
+   * configuration changed since it was built.
+   *
+   * @return a new probe request
+   * @throws Exception if the TLS context cannot be initialized
+   */
+  private Invocation.Builder probe() throws Exception {
+    List<Object> configuration = Arrays.asList(baseURI, connectorProvider, timoutConnect, timoutRead);
+    Client stale = null;
+    Probe probe;
+    synchronized (this) {
+      if (availability == null || !availability.configuration.equals(configuration)) {
+        if (availability != null) {
+          stale = availability.client;
+        }
+        Client client = configureTls(configureConnector(ClientBuilder.newBuilder()), TlsConfig.insecure()).build();
+        client.property(CONNECT_TIMEOUT, timoutConnect);
+        client.property(READ_TIMEOUT, timoutRead);
+        availability = new Probe(configuration, track(client));
+      }
+      probe = availability;
+    }
+    if (stale != null) {
+      stale.close();
+    }
+    return probe.target.request();
+  }
+
+  /**
+   * The availability probe: a plain trusting client and its target.
+   */
+  private static final class Probe {
+
+    /**
+     * The configuration the probe was built with.
+     */
+    private final List<Object> configuration;
+    private final Client client;
+    private final WebTarget target;
+
+    private Probe(List<Object> configuration, Client client) {
+      this.configuration = configuration;
+      this.client = client;
+      this.target = client.target(configuration.get(0).toString()).path("application.wadl");
+    }
+  }
+
 }
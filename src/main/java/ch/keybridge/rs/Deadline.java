@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A request deadline: the point in time after which the caller is no longer
+ * waiting for a response. Deadlines are propagated between services as the
+ * remaining time budget, in milliseconds, in the {@value #HEADER} request
+ * header. A relative budget is used, rather than an absolute time, so that
+ * clock skew between hosts does not matter.
+ * <p>
+ * The deadline of the current request is held in a thread local. On the server
+ * it is set by the DeadlineFilter for resources annotated with
+ * {@code @DeadlinePropagating}; resources read it with {@link #current()}. The
+ * filter binds the deadline to the request thread and replaces, rather than
+ * narrows, anything left on a pooled thread by an earlier request; in a servlet
+ * container the RequestCompletionListener also clears it when each request
+ * starts and ends. The deadline is always available as the {@value #PROPERTY}
+ * request property, which is also the only way to read it from asynchronous
+ * resources. On
+ * the client the DeadlineClientFilter registered by the AbstractRestClient
+ * sends the remaining budget of the current deadline, so that outbound calls
+ * made while handling a request inherit its shrinking budget.
+ * <p>
+ * To set an explicit deadline for a block of outbound calls:
+ * <pre>
+ * try (Deadline.Scope scope = Deadline.after(2, TimeUnit.SECONDS).attach()) {
+ *   client.getCustomer(id);
+ * }
+ * </pre>
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public final class Deadline {
+
+  /**
+   * The request header carrying the remaining time budget in milliseconds.
+   */
+  public static final String HEADER = "X-Request-Timeout";
+  /**
+   * The request property holding the request deadline. On the client this may
+   * be set on an invocation to override the current deadline.
+   */
+  public static final String PROPERTY = Deadline.class.getName();
+  /**
+   * The maximum time budget accepted in a {@value #HEADER} header, in
+   * milliseconds (one hour). Larger values are clamped.
+   */
+  public static final long MAX_TIMEOUT = 3_600_000;
+
+  /**
+   * The deadline of the current thread.
+   */
+  private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+  /**
+   * The deadline as a {@link System#nanoTime()} value.
+   */
+  private final long expiry;
+
+  private Deadline(long expiry) {
+    this.expiry = expiry;
+  }
+
+  /**
+   * Create a deadline a duration from now.
+   *
+   * @param duration the duration
+   * @param unit     the duration unit
+   * @return the deadline
+   */
+  public static Deadline after(long duration, TimeUnit unit) {
+    return new Deadline(System.nanoTime() + unit.toNanos(duration));
+  }
+
+  /**
+   * Parse a {@value #HEADER} header value. A budget above
+   * {@link #MAX_TIMEOUT} is clamped, so that a huge value cannot overflow the
+   * expiry into the past.
+   *
+   * @param value the remaining time budget in milliseconds
+   * @return the deadline, or null if the value is null or not a number
+   */
+  public static Deadline parse(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return after(Math.min(Long.parseLong(value.trim()), MAX_TIMEOUT), TimeUnit.MILLISECONDS);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Get the deadline of the current thread.
+   *
+   * @return the deadline, or null if none is set
+   */
+  public static Deadline current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Remove the deadline of the current thread. This is for request boundaries,
+   * where any deadline still on a pooled thread is a leftover of an earlier
+   * request that did not close its scope.
+   */
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Get the remaining time.
+   *
+   * @param unit the time unit
+   * @return the remaining time; zero or negative if expired
+   */
+  public long remaining(TimeUnit unit) {
+    return unit.convert(expiry - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Determine whether the deadline has passed.
+   *
+   * @return true if expired
+   */
+  public boolean isExpired() {
+    return expiry - System.nanoTime() <= 0;
+  }
+
+  /**
+   * Get the earlier of this and another deadline.
+   *
+   * @param other the other deadline; may be null
+   * @return the earlier deadline
+   */
+  public Deadline min(Deadline other) {
+    return other == null || expiry - other.expiry <= 0 ? this : other;
+  }
+
+  /**
+   * Make this the deadline of the current thread until the returned scope is
+   * closed. A deadline never extends an enclosing deadline: if the current
+   * deadline is earlier it remains in effect.
+   *
+   * @return the scope, which restores the previous deadline when closed
+   */
+  public Scope attach() {
+    Deadline previous = CURRENT.get();
+    CURRENT.set(min(previous));
+    return new Scope(previous);
+  }
+
+  /**
+   * Make this the deadline of the current thread until the returned scope is
+   * closed, replacing any current deadline. Unlike {@link #attach()} the
+   * current deadline is discarded rather than narrowed: this is for request
+   * boundaries, where a deadline already on the thread belongs to an earlier
+   * request.
+   *
+   * @return the scope, which clears the thread deadline when closed
+   */
+  public Scope bind() {
+    CURRENT.set(this);
+    return new Scope(null);
+  }
+
+  @Override
+  public String toString() {
+    return "Deadline{remaining=" + remaining(TimeUnit.MILLISECONDS) + "ms}";
+  }
+
+  /**
+   * A deadline scope on the current thread.
+   */
+  public static final class Scope implements AutoCloseable {
+
+    private final Thread thread;
+    private final Deadline previous;
+
+    private Scope(Deadline previous) {
+      this.thread = Thread.currentThread();
+      this.previous = previous;
+    }
+
+    /**
+     * Restore the previous deadline. Ignored if called on a different thread
+     * than the one the scope was attached on.
+     */
+    @Override
+    public void close() {
+      if (Thread.currentThread() != thread) {
+        return;
+      }
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+}
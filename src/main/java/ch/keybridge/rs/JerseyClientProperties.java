@@ -213,5 +213,18 @@ public class JerseyClientProperties {
    * @since 2.5
    */
   public static final String REQUEST_ENTITY_PROCESSING = "jersey.config.client.request.entity.processing";
+  /**
+   * Sets the {@code ConnectorProvider} class, overriding the default
+   * {@code HttpUrlConnectorProvider} and any provider found in
+   * {@code META-INF/services}.
+   * <p>
+   * The value MUST be an instance of {@code String}: the fully qualified class
+   * name of a {@code ConnectorProvider} with a public no-arg constructor.
+   * <p>
+   * The name of the configuration property is <tt>{@value}</tt>.
+   *
+   * @since 2.40
+   */
+  public static final String CONNECTOR_PROVIDER = "jersey.config.client.connector.provider";
 
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.auth;
+
+/**
+ * An OAuth 2.0 access token issued for an audience, with its expiry time.
+ * Tokens are compared by identity: a refreshed token is a new instance.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class AccessToken {
+
+  /**
+   * The token value, sent in the {@code Authorization: Bearer} header.
+   */
+  private final String value;
+  /**
+   * The time the token was issued and expires, in milliseconds since the
+   * epoch.
+   */
+  private final long issuedAt, expiresAt;
+
+  /**
+   * Create an access token issued now.
+   *
+   * @param value     the token value
+   * @param expiresAt the expiry time, in milliseconds since the epoch
+   */
+  public AccessToken(String value, long expiresAt) {
+    this.value = value;
+    this.issuedAt = System.currentTimeMillis();
+    this.expiresAt = expiresAt;
+  }
+
+  /**
+   * Get the token value.
+   *
+   * @return the token value
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Get the time the token was issued (received).
+   *
+   * @return the issue time in milliseconds since the epoch
+   */
+  public long getIssuedAt() {
+    return issuedAt;
+  }
+
+  /**
+   * Get the token expiry time.
+   *
+   * @return the expiry time in milliseconds since the epoch
+   */
+  public long getExpiresAt() {
+    return expiresAt;
+  }
+
+  /**
+   * Get the token lifetime.
+   *
+   * @return the lifetime in milliseconds
+   */
+  public long getLifetime() {
+    return expiresAt - issuedAt;
+  }
+
+  /**
+   * Determine if the token has expired or will expire within a margin.
+   *
+   * @param marginMillis the margin in milliseconds
+   * @return true if the token expires within the margin
+   */
+  public boolean isExpired(long marginMillis) {
+    return System.currentTimeMillis() + marginMillis >= expiresAt;
+  }
+
+  /**
+   * The token value is not included.
+   *
+   * @return a description of the token
+   */
+  @Override
+  public String toString() {
+    return "AccessToken{expiresAt=" + expiresAt + "}";
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.auth;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Form;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+/**
+ * An OAuth 2.0 client credentials grant token provider (RFC 6749 section 4.4).
+ * Posts the grant, with the audience as the {@code audience} parameter, to a
+ * token endpoint, authenticating with HTTP Basic client credentials. The JSON
+ * token response is read with JSON-P.
+ * <p>
+ * The token endpoint web target should be built from a client without the
+ * bearer token filter, with short timeouts.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class ClientCredentialsTokenProvider implements TokenProvider {
+
+  /**
+   * The token lifetime assumed if the response has no {@code expires_in}
+   * member, in seconds.
+   */
+  private static final int DEFAULT_LIFETIME = 3600;
+
+  /**
+   * The token endpoint.
+   */
+  private final WebTarget tokenEndpoint;
+  /**
+   * The client identifier.
+   */
+  private final String clientId;
+  /**
+   * The Basic authorization header value.
+   */
+  private final String authorization;
+
+  /**
+   * Create a client credentials token provider.
+   *
+   * @param tokenEndpoint the token endpoint web target
+   * @param clientId      the client identifier
+   * @param clientSecret  the client secret
+   */
+  public ClientCredentialsTokenProvider(WebTarget tokenEndpoint, String clientId, String clientSecret) {
+    this.tokenEndpoint = tokenEndpoint;
+    this.clientId = clientId;
+    String credentials = encode(clientId) + ":" + encode(clientSecret);
+    this.authorization = "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Post a client credentials grant to the token endpoint.
+   */
+  @Override
+  public AccessToken fetch(String audience) throws IOException {
+    Form form = new Form().param("grant_type", "client_credentials");
+    if (audience != null) {
+      form.param("audience", audience);
+    }
+    Response response = tokenEndpoint.request(MediaType.APPLICATION_JSON_TYPE)
+      .header(HttpHeaders.AUTHORIZATION, authorization)
+      .post(Entity.form(form));
+    try {
+      String body = response.hasEntity() ? response.readEntity(String.class) : "";
+      if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+        throw new IOException("Token endpoint " + tokenEndpoint.getUri() + " returned " + response.getStatus() + " " + body);
+      }
+      JsonObject json;
+      try (JsonReader reader = Json.createReader(new StringReader(body))) {
+        json = reader.readObject();
+      } catch (JsonException e) {
+        throw new IOException("Invalid token response from " + tokenEndpoint.getUri(), e);
+      }
+      String value = json.getString("access_token", null);
+      if (value == null) {
+        throw new IOException("No access token in the token response from " + tokenEndpoint.getUri());
+      }
+      return new AccessToken(value, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(json.getInt("expires_in", DEFAULT_LIFETIME)));
+    } finally {
+      response.close();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The token endpoint URI and client identifier.
+   */
+  @Override
+  public String getName() {
+    return tokenEndpoint.getUri() + " " + clientId;
+  }
+
+  /**
+   * Form-urlencode a client credential, as required for HTTP Basic client
+   * authentication.
+   */
+  private static String encode(String value) {
+    try {
+      return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.auth;
+
+import ch.keybridge.rs.lifecycle.CheckpointResource;
+import ch.keybridge.rs.lifecycle.Checkpoints;
+import ch.keybridge.rs.metrics.AbstractMetrics;
+import ch.keybridge.rs.metrics.PrometheusWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A cache of access tokens per audience, backed by a {@link TokenProvider}.
+ * <p>
+ * A cached token is used until shortly before it expires: 10% of its lifetime
+ * or 10 seconds, whichever is less. A token in use is refreshed in the
+ * background once 80% of its lifetime has passed, so requests rarely wait for
+ * the provider; a token not used since its last refresh is left to lapse.
+ * Concurrent refreshes of an audience collapse into a single provider call
+ * that all callers wait for, at most for the wait timeout. When a service
+ * rejects a token,
+ * {@link #invalidate(String, AccessToken)} forces one refresh, however many
+ * requests were rejected with the same token.
+ * <p>
+ * Background refreshes are scheduled on a shared timer but call the provider
+ * on a pool of worker threads, so that a slow token endpoint delays only its
+ * own refreshes and not those of other caches.
+ * <p>
+ * Before a JVM checkpoint (CRaC) the cached tokens are discarded and their
+ * background refreshes stopped, so that restored instances fetch their own
+ * tokens and no refresh runs across the checkpoint.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class TokenCache extends AbstractMetrics implements TokenCacheMBean, CheckpointResource {
+
+  private static final Logger LOG = Logger.getLogger(TokenCache.class.getName());
+
+  /**
+   * The maximum margin before expiry at which a token is no longer used, in
+   * milliseconds.
+   */
+  private static final long MAX_MARGIN = TimeUnit.SECONDS.toMillis(10);
+  /**
+   * The delay before retrying a failed background refresh, in milliseconds.
+   */
+  private static final long RETRY = TimeUnit.SECONDS.toMillis(5);
+
+  /**
+   * Schedules the background refreshes.
+   */
+  private static final ScheduledExecutorService REFRESH = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "rs-token-refresh");
+    thread.setDaemon(true);
+    return thread;
+  });
+  /**
+   * Runs the background refreshes.
+   */
+  private static final ExecutorService WORKERS = Executors.newCachedThreadPool(r -> {
+    Thread thread = new Thread(r, "rs-token-fetch");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * The token provider.
+   */
+  private final TokenProvider provider;
+  /**
+   * The cached tokens by audience.
+   */
+  private final ConcurrentMap<String, Entry> entries;
+  /**
+   * Cache counters.
+   */
+  private final LongAdder hits, fetches, failures, invalidations;
+  /**
+   * The maximum time to wait for a refresh started by another caller, in
+   * milliseconds.
+   */
+  private volatile long waitTimeout;
+
+  /**
+   * Create a token cache. Register it with the MetricsRegistry to share it
+   * between clients of the same provider.
+   *
+   * @param provider the token provider
+   */
+  public TokenCache(TokenProvider provider) {
+    super(provider.getName());
+    this.provider = provider;
+    this.entries = new ConcurrentHashMap<>();
+    this.hits = new LongAdder();
+    this.fetches = new LongAdder();
+    this.failures = new LongAdder();
+    this.invalidations = new LongAdder();
+    this.waitTimeout = TimeUnit.SECONDS.toMillis(30);
+    Checkpoints.getInstance().register(this);
+  }
+
+  /**
+   * Set the maximum time a caller waits for a token refresh started by another
+   * caller. Default is 30 seconds. Set it above the provider timeouts.
+   *
+   * @param waitTimeout the wait timeout, in milliseconds
+   */
+  public void setWaitTimeout(long waitTimeout) {
+    if (waitTimeout < 1) {
+      throw new IllegalArgumentException("Require waitTimeout > 0.");
+    }
+    this.waitTimeout = waitTimeout;
+  }
+
+  /**
+   * Get a valid access token for an audience, fetching one from the provider
+   * if none is cached or the cached token is about to expire.
+   *
+   * @param audience the audience; may be null
+   * @return the access token
+   * @throws IOException if a token cannot be obtained
+   */
+  public AccessToken getToken(String audience) throws IOException {
+    Entry entry = entries.computeIfAbsent(String.valueOf(audience), a -> new Entry(audience));
+    AccessToken token = entry.token;
+    if (token != null && entry.isUsable(token)) {
+      hits.increment();
+    } else {
+      token = entry.refresh(token);
+    }
+    entry.used = true;
+    return token;
+  }
+
+  /**
+   * Invalidate a token rejected by a service and get a new one. If the token
+   * was already replaced the current token is returned without a refresh.
+   *
+   * @param audience the audience; may be null
+   * @param rejected the rejected token
+   * @return the new access token
+   * @throws IOException if a token cannot be obtained
+   */
+  public AccessToken invalidate(String audience, AccessToken rejected) throws IOException {
+    Entry entry = entries.computeIfAbsent(String.valueOf(audience), a -> new Entry(audience));
+    if (entry.token == rejected) {
+      invalidations.increment();
+    }
+    AccessToken token = entry.refresh(rejected);
+    entry.used = true;
+    return token;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Discard the cached tokens and stop their background refreshes.
+   */
+  @Override
+  public void beforeCheckpoint() {
+    for (String audience : entries.keySet()) {
+      Entry entry = entries.remove(audience);
+      if (entry != null) {
+        entry.retired = true;
+      }
+    }
+  }
+
+  @Override
+  public void afterRestore() {
+  }
+
+  @Override
+  public String[] getAudiences() {
+    return entries.keySet().toArray(new String[0]);
+  }
+
+  @Override
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getFetchCount() {
+    return fetches.sum();
+  }
+
+  @Override
+  public long getFailureCount() {
+    return failures.sum();
+  }
+
+  @Override
+  public long getInvalidationCount() {
+    return invalidations.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes {@code rs_client_token_requests_total} by outcome and
+   * {@code rs_client_token_expiry_seconds} per audience.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    String help = "Access token requests by provider and outcome.";
+    writer.counter("rs_client_token_requests_total", help, hits.sum(), "provider", name, "outcome", "hit")
+      .counter("rs_client_token_requests_total", help, fetches.sum(), "provider", name, "outcome", "fetch")
+      .counter("rs_client_token_requests_total", help, failures.sum(), "provider", name, "outcome", "failure")
+      .counter("rs_client_token_requests_total", help, invalidations.sum(), "provider", name, "outcome", "invalidated");
+    for (Entry entry : entries.values()) {
+      AccessToken token = entry.token;
+      if (token != null) {
+        writer.gauge("rs_client_token_expiry_seconds", "Time until the cached access token expires.",
+                     Math.max(0, token.getExpiresAt() - System.currentTimeMillis()) / 1e3, "provider", name, "audience", String.valueOf(entry.audience));
+      }
+    }
+  }
+
+  /**
+   * The cached token of a single audience.
+   */
+  private class Entry {
+
+    /**
+     * The audience; may be null.
+     */
+    private final String audience;
+    /**
+     * The current token.
+     */
+    private volatile AccessToken token;
+    /**
+     * True if the token was used since it was fetched.
+     */
+    private volatile boolean used;
+    /**
+     * True if the entry was discarded; its background refreshes stop.
+     */
+    private volatile boolean retired;
+    /**
+     * The refresh in progress, if any. Guarded by this.
+     */
+    private CompletableFuture<AccessToken> inFlight;
+
+    Entry(String audience) {
+      this.audience = audience;
+    }
+
+    /**
+     * Determine if a token may still be sent: it does not expire within 10%
+     * of its lifetime or 10 seconds.
+     */
+    boolean isUsable(AccessToken token) {
+      return !token.isExpired(Math.min(MAX_MARGIN, token.getLifetime() / 10));
+    }
+
+    /**
+     * Replace a stale token. If the current token is no longer the stale one
+     * and is usable it is returned; otherwise the caller joins the refresh in
+     * progress, or starts one and calls the provider itself.
+     *
+     * @param stale the stale token; may be null
+     * @return the new token
+     * @throws IOException if a token cannot be obtained
+     */
+    AccessToken refresh(AccessToken stale) throws IOException {
+      CompletableFuture<AccessToken> future;
+      boolean fetch = false;
+      synchronized (this) {
+        AccessToken current = token;
+        if (current != null && current != stale && isUsable(current)) {
+          return current;
+        }
+        future = inFlight;
+        if (future == null) {
+          future = inFlight = new CompletableFuture<>();
+          fetch = true;
+        }
+      }
+      if (fetch) {
+        try {
+          AccessToken fetched = provider.fetch(audience);
+          fetches.increment();
+          used = false;
+          token = fetched;
+          schedule(fetched, fetched.getLifetime() * 4 / 5);
+          future.complete(fetched);
+        } catch (Exception e) {
+          failures.increment();
+          future.completeExceptionally(e);
+        } finally {
+          synchronized (this) {
+            inFlight = null;
+          }
+          /**
+           * Release the waiters if the provider threw an Error.
+           */
+          if (!future.isDone()) {
+            failures.increment();
+            future.completeExceptionally(new IOException("Access token request aborted."));
+          }
+        }
+      }
+      try {
+        return future.get(waitTimeout, TimeUnit.MILLISECONDS);
+      } catch (ExecutionException e) {
+        throw new IOException("Unable to obtain an access token for " + audience + " from " + name, e.getCause());
+      } catch (TimeoutException e) {
+        throw new InterruptedIOException("Timed out after " + waitTimeout + " ms waiting for an access token for " + audience + " from " + name);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while obtaining an access token for " + audience);
+      }
+    }
+
+    /**
+     * Schedule a background refresh of a token, if it is still current and was
+     * used by then. The timer hands the refresh to a worker thread.
+     */
+    void schedule(AccessToken scheduled, long delayMillis) {
+      REFRESH.schedule(() -> {
+        if (retired || token != scheduled || !used) {
+          return;
+        }
+        try {
+          WORKERS.execute(() -> backgroundRefresh(scheduled));
+        } catch (RejectedExecutionException e) {
+          LOG.log(Level.WARNING, "Background refresh of the {0} access token not started: {1}", new Object[]{audience, e.getMessage()});
+        }
+      }, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Refresh a token in the background, retrying while it is usable.
+     */
+    private void backgroundRefresh(AccessToken scheduled) {
+      try {
+        refresh(scheduled);
+      } catch (IOException e) {
+        LOG.log(Level.WARNING, "Background refresh of the {0} access token failed: {1}", new Object[]{audience, e.getMessage()});
+        if (isUsable(scheduled)) {
+          schedule(scheduled, RETRY);
+        }
+      }
+    }
+  }
+
+}
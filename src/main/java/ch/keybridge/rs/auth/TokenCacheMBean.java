@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.auth;
+
+/**
+ * JMX management interface for an access token cache.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface TokenCacheMBean {
+
+  /**
+   * @return the cache name: the token provider name
+   */
+  String getName();
+
+  /**
+   * @return the cached audiences
+   */
+  String[] getAudiences();
+
+  /**
+   * @return the number of requests served from the cache
+   */
+  long getHitCount();
+
+  /**
+   * @return the number of tokens fetched from the provider
+   */
+  long getFetchCount();
+
+  /**
+   * @return the number of failed fetches
+   */
+  long getFailureCount();
+
+  /**
+   * @return the number of requests rejected by a service with a cached token
+   */
+  long getInvalidationCount();
+
+}
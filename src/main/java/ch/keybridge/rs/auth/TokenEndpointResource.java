@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.auth;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.json.Json;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A stub OAuth 2.0 token endpoint for tests and local development. Issues
+ * random opaque bearer tokens for the client credentials grant, to any client,
+ * and validates them. Return it from a sub-resource locator, e.g.
+ * <pre>
+ * {@code @Path("token")}
+ * public TokenEndpointResource token() {
+ *   return tokenEndpoint;
+ * }
+ * </pre> and check tokens in the stubbed service with
+ * {@link #isValid(String, String)}. Expired and revoked tokens are invalid.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class TokenEndpointResource {
+
+  /**
+   * The token lifetime in seconds.
+   */
+  private final int lifetime;
+  /**
+   * The issued tokens: audience and expiry time by token value.
+   */
+  private final Map<String, Issued> tokens;
+  /**
+   * The number of tokens issued.
+   */
+  private final LongAdder issued;
+
+  /**
+   * Create a stub token endpoint.
+   *
+   * @param lifetime the token lifetime in seconds
+   */
+  public TokenEndpointResource(int lifetime) {
+    this.lifetime = lifetime;
+    this.tokens = new ConcurrentHashMap<>();
+    this.issued = new LongAdder();
+  }
+
+  /**
+   * Issue a token.
+   *
+   * @param grantType the grant type; must be {@code client_credentials}
+   * @param audience  the token audience; may be null
+   * @return the token response
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+  @Produces(MediaType.APPLICATION_JSON)
+  public String token(@FormParam("grant_type") String grantType, @FormParam("audience") String audience) {
+    if (!"client_credentials".equals(grantType)) {
+      throw new BadRequestException("Unsupported grant type " + grantType);
+    }
+    long now = System.currentTimeMillis();
+    tokens.values().removeIf(token -> token.expiresAt <= now);
+    String value = UUID.randomUUID().toString();
+    tokens.put(value, new Issued(audience, now + TimeUnit.SECONDS.toMillis(lifetime)));
+    issued.increment();
+    return Json.createObjectBuilder()
+      .add("access_token", value)
+      .add("token_type", "Bearer")
+      .add("expires_in", lifetime)
+      .build()
+      .toString();
+  }
+
+  /**
+   * Determine if a token was issued for an audience and has not expired or
+   * been revoked.
+   *
+   * @param token    the token value, or an {@code Authorization} header value
+   * @param audience the audience; may be null
+   * @return true if the token is valid
+   */
+  public boolean isValid(String token, String audience) {
+    if (token == null) {
+      return false;
+    }
+    Issued entry = tokens.get(token.startsWith("Bearer ") ? token.substring(7) : token);
+    return entry != null
+           && entry.expiresAt > System.currentTimeMillis()
+           && (audience == null ? entry.audience == null : audience.equals(entry.audience));
+  }
+
+  /**
+   * Revoke all issued tokens, e.g. to simulate a key rotation.
+   */
+  public void revokeAll() {
+    tokens.clear();
+  }
+
+  /**
+   * Get the number of tokens issued.
+   *
+   * @return the issued token count
+   */
+  public long getIssuedCount() {
+    return issued.sum();
+  }
+
+  /**
+   * An issued token.
+   */
+  private static class Issued {
+
+    private final String audience;
+    private final long expiresAt;
+
+    Issued(String audience, long expiresAt) {
+      this.audience = audience;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.auth;
+
+/**
+ * A source of OAuth 2.0 access tokens, e.g. an identity service token
+ * endpoint. Providers are called by a {@link TokenCache}, which caches the
+ * tokens per audience and refreshes them before they expire; a provider need
+ * not cache.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@FunctionalInterface
+public interface TokenProvider {
+
+  /**
+   * Obtain a new access token.
+   *
+   * @param audience the audience (resource server) of the token; may be null
+   * @return a new access token
+   * @throws Exception if a token cannot be obtained
+   */
+  AccessToken fetch(String audience) throws Exception;
+
+  /**
+   * Get the provider name. Token caches registered for providers of the same
+   * name are shared, so the name must identify the provider credentials. The
+   * default is the provider class name.
+   *
+   * @return the provider name
+   */
+  default String getName() {
+    return getClass().getName();
+  }
+
+}
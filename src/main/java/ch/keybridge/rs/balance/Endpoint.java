@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.balance;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One endpoint of a {@link LoadBalancer}: its base URI and the state used to
+ * choose it. All state is updated without locks.
+ * <p>
+ * The latency is an exponentially weighted moving average (EWMA) of the time
+ * to response. After a number of consecutive failures the endpoint is ejected
+ * for a time that grows with each ejection, and is reinstated automatically
+ * when the time has passed.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class Endpoint {
+
+  /**
+   * The weight of each new latency sample in the moving average.
+   */
+  private static final double ALPHA = 0.2;
+  /**
+   * Added to the latency in the cost so that endpoints without latency samples
+   * are compared by outstanding requests.
+   */
+  private static final double MIN_LATENCY = 1000;
+
+  /**
+   * The endpoint base URI, without a trailing slash.
+   */
+  private final String uri;
+  /**
+   * The number of requests in flight.
+   */
+  private final AtomicInteger outstanding;
+  /**
+   * The latency moving average in nanoseconds, as double bits. Zero until the
+   * first sample.
+   */
+  private final AtomicLong latency;
+  /**
+   * The consecutive failure count and the ejection count.
+   */
+  private final AtomicInteger consecutiveFailures, ejections;
+  /**
+   * The number of times the endpoint was chosen, failed and ejected.
+   */
+  private final LongAdder choices, failures, ejectionCount;
+  /**
+   * The time until which the endpoint is ejected, in nanoseconds.
+   */
+  private volatile long ejectedUntil;
+  /**
+   * True while the endpoint is ejected. Cleared by the first request after the
+   * ejection time.
+   */
+  private volatile boolean ejected;
+
+  /**
+   * Create a new endpoint.
+   *
+   * @param uri            the endpoint base URI
+   * @param initialLatency the initial latency moving average, in nanoseconds;
+   *                       zero if unknown
+   */
+  Endpoint(URI uri, double initialLatency) {
+    String s = uri.toString();
+    this.uri = s.endsWith("/") ? s.substring(0, s.length() - 1) : s;
+    this.outstanding = new AtomicInteger();
+    this.latency = new AtomicLong(Double.doubleToLongBits(initialLatency));
+    this.consecutiveFailures = new AtomicInteger();
+    this.ejections = new AtomicInteger();
+    this.choices = new LongAdder();
+    this.failures = new LongAdder();
+    this.ejectionCount = new LongAdder();
+  }
+
+  /**
+   * Get the endpoint base URI.
+   *
+   * @return the base URI, without a trailing slash
+   */
+  public String getUri() {
+    return uri;
+  }
+
+  /**
+   * Get the number of requests in flight.
+   *
+   * @return the outstanding request count
+   */
+  public int getOutstanding() {
+    return outstanding.get();
+  }
+
+  /**
+   * Get the latency moving average.
+   *
+   * @return the latency in nanoseconds; zero until the first response
+   */
+  public double getLatency() {
+    return Double.longBitsToDouble(latency.get());
+  }
+
+  /**
+   * Get the number of times the endpoint was chosen.
+   *
+   * @return the choice count
+   */
+  public long getChoiceCount() {
+    return choices.sum();
+  }
+
+  /**
+   * Get the number of failed requests.
+   *
+   * @return the failure count
+   */
+  public long getFailureCount() {
+    return failures.sum();
+  }
+
+  /**
+   * Get the number of times the endpoint was ejected.
+   *
+   * @return the ejection count
+   */
+  public long getEjectionCount() {
+    return ejectionCount.sum();
+  }
+
+  /**
+   * Determine if the endpoint is ejected at the given time.
+   *
+   * @param now the current time in nanoseconds
+   * @return true if ejected
+   */
+  boolean isEjected(long now) {
+    return ejected && now - ejectedUntil < 0;
+  }
+
+  /**
+   * Determine if the endpoint is ejected now.
+   *
+   * @return true if ejected
+   */
+  public boolean isEjected() {
+    return isEjected(System.nanoTime());
+  }
+
+  /**
+   * The cost of sending a request to the endpoint: the latency moving average
+   * weighted by the requests in flight, including the new request.
+   */
+  double cost() {
+    return (getLatency() + MIN_LATENCY) * (outstanding.get() + 1);
+  }
+
+  /**
+   * Record that the endpoint was chosen for a request.
+   */
+  void chosen() {
+    outstanding.incrementAndGet();
+    choices.increment();
+  }
+
+  /**
+   * Record a successful response.
+   *
+   * @param nanos the time to response
+   */
+  void succeeded(long nanos) {
+    outstanding.decrementAndGet();
+    consecutiveFailures.set(0);
+    if (ejected && !isEjected(System.nanoTime())) {
+      ejected = false;
+      ejections.set(0);
+    }
+    long current, next;
+    do {
+      current = latency.get();
+      double average = Double.longBitsToDouble(current);
+      next = Double.doubleToLongBits(average == 0 ? nanos : average + ALPHA * (nanos - average));
+    } while (!latency.compareAndSet(current, next));
+  }
+
+  /**
+   * Record a failed request.
+   *
+   * @return the number of consecutive failures
+   */
+  int failed() {
+    outstanding.decrementAndGet();
+    failures.increment();
+    return consecutiveFailures.incrementAndGet();
+  }
+
+  /**
+   * Eject the endpoint. The ejection time is the base time multiplied by the
+   * number of consecutive ejections, up to the maximum.
+   *
+   * @param baseNanos the base ejection time
+   * @param maxNanos  the maximum ejection time
+   */
+  void eject(long baseNanos, long maxNanos) {
+    long duration = Math.min(baseNanos * ejections.incrementAndGet(), maxNanos);
+    consecutiveFailures.set(0);
+    ejectedUntil = System.nanoTime() + duration;
+    ejected = true;
+    ejectionCount.increment();
+  }
+
+  @Override
+  public String toString() {
+    return uri;
+  }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.balance;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Resolves the current endpoints of a service, e.g. from DNS or a service
+ * registry. Called periodically by a {@link LoadBalancer}.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@FunctionalInterface
+public interface EndpointResolver {
+
+  /**
+   * Resolve the service endpoints.
+   *
+   * @return the endpoint base URIs; an empty list keeps the current endpoints
+   * @throws Exception if the endpoints cannot be resolved; the current
+   *                   endpoints are kept
+   */
+  List<URI> resolve() throws Exception;
+
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.balance;
+
+import ch.keybridge.rs.metrics.AbstractMetrics;
+import ch.keybridge.rs.metrics.PrometheusWriter;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Client-side load balancer over the endpoints of a service. Each request is
+ * sent to the better of two endpoints picked at random (power of two
+ * choices), where the cost of an endpoint is its latency moving average
+ * weighted by its outstanding requests. Choosing an endpoint takes no locks:
+ * the endpoint list is an immutable array replaced on refresh.
+ * <p>
+ * Endpoints that fail a number of consecutive requests (transport failures or
+ * 5xx responses) are ejected as outliers for a time that grows with each
+ * ejection, and are then tried again. At most half of the endpoints (by
+ * default) are ejected at once; if every endpoint is ejected the choice is
+ * made among all of them.
+ * <p>
+ * The endpoints are either fixed or resolved periodically by an
+ * {@link EndpointResolver}. Endpoints kept by a refresh keep their state.
+ * Close the load balancer to stop the refresh.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class LoadBalancer extends AbstractMetrics implements LoadBalancerMBean, AutoCloseable {
+
+  private static final Logger LOG = Logger.getLogger(LoadBalancer.class.getName());
+
+  /**
+   * Runs the endpoint resolvers.
+   */
+  private static final ScheduledExecutorService REFRESH = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "rs-endpoint-resolver");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * The current endpoints. Replaced, never modified.
+   */
+  private volatile Endpoint[] endpoints;
+  /**
+   * The endpoint resolver; null for fixed endpoints.
+   */
+  private final EndpointResolver resolver;
+  /**
+   * The scheduled refresh; null for fixed endpoints.
+   */
+  private final ScheduledFuture<?> refresh;
+  /**
+   * The consecutive failures that eject an endpoint.
+   */
+  private volatile int consecutiveFailures = 5;
+  /**
+   * The base and maximum ejection time, in nanoseconds.
+   */
+  private volatile long baseEjection = TimeUnit.SECONDS.toNanos(30), maxEjection = TimeUnit.MINUTES.toNanos(5);
+  /**
+   * The maximum percentage of endpoints ejected at once.
+   */
+  private volatile int maxEjectedPercent = 50;
+
+  /**
+   * Create a load balancer over fixed endpoints.
+   *
+   * @param name      the load balancer name, e.g. the logical base URI
+   * @param endpoints the endpoint base URIs
+   */
+  public LoadBalancer(String name, List<URI> endpoints) {
+    super(name);
+    if (endpoints.isEmpty()) {
+      throw new IllegalArgumentException("At least one endpoint is required.");
+    }
+    this.endpoints = merge(new Endpoint[0], endpoints);
+    this.resolver = null;
+    this.refresh = null;
+  }
+
+  /**
+   * Create a load balancer over resolved endpoints. The endpoints are resolved
+   * once immediately, then periodically.
+   *
+   * @param name     the load balancer name, e.g. the logical base URI
+   * @param resolver the endpoint resolver
+   * @param period   the refresh period
+   * @param unit     the refresh period unit
+   * @throws IllegalStateException if no endpoints are resolved
+   */
+  public LoadBalancer(String name, EndpointResolver resolver, long period, TimeUnit unit) {
+    super(name);
+    this.resolver = resolver;
+    this.endpoints = new Endpoint[0];
+    refresh();
+    if (endpoints.length == 0) {
+      throw new IllegalStateException("No endpoints resolved for " + name);
+    }
+    this.refresh = REFRESH.scheduleWithFixedDelay(this::refresh, period, period, unit);
+  }
+
+  /**
+   * Configure outlier ejection.
+   *
+   * @param consecutiveFailures the consecutive failures that eject an
+   *                            endpoint
+   * @param baseEjection        the ejection time, multiplied by the number of
+   *                            consecutive ejections
+   * @param maxEjection         the maximum ejection time
+   * @param unit                the ejection time unit
+   * @param maxEjectedPercent   the maximum percentage of endpoints ejected at
+   *                            once
+   * @return this load balancer
+   */
+  public LoadBalancer withOutlierEjection(int consecutiveFailures, long baseEjection, long maxEjection, TimeUnit unit, int maxEjectedPercent) {
+    this.consecutiveFailures = consecutiveFailures;
+    this.baseEjection = unit.toNanos(baseEjection);
+    this.maxEjection = unit.toNanos(maxEjection);
+    this.maxEjectedPercent = maxEjectedPercent;
+    return this;
+  }
+
+  /**
+   * Choose an endpoint for a request and count it as outstanding. The caller
+   * must report the outcome with {@link #succeeded(Endpoint, long)} or
+   * {@link #failed(Endpoint)}. The LoadBalancerFilter does so on every path:
+   * a request whose outcome is never seen by the client is reported as failed
+   * once it outlives the client timeouts.
+   *
+   * @return the chosen endpoint
+   */
+  public Endpoint choose() {
+    Endpoint[] current = endpoints;
+    Endpoint chosen;
+    if (current.length == 1) {
+      chosen = current[0];
+    } else {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      long now = System.nanoTime();
+      int i = random.nextInt(current.length);
+      int j = random.nextInt(current.length - 1);
+      if (j >= i) {
+        j++;
+      }
+      Endpoint a = current[i], b = current[j];
+      boolean aEjected = a.isEjected(now), bEjected = b.isEjected(now);
+      if (aEjected && bEjected) {
+        /**
+         * Both picks are ejected: take the available endpoint of least cost,
+         * or the better pick if all are ejected.
+         */
+        chosen = a.cost() <= b.cost() ? a : b;
+        double least = Double.MAX_VALUE;
+        for (Endpoint candidate : current) {
+          if (!candidate.isEjected(now) && candidate.cost() < least) {
+            chosen = candidate;
+            least = candidate.cost();
+          }
+        }
+      } else if (aEjected || bEjected) {
+        chosen = aEjected ? b : a;
+      } else {
+        chosen = a.cost() <= b.cost() ? a : b;
+      }
+    }
+    chosen.chosen();
+    return chosen;
+  }
+
+  /**
+   * Report a successful response from an endpoint.
+   *
+   * @param endpoint the endpoint
+   * @param nanos    the time to response, in nanoseconds
+   */
+  public void succeeded(Endpoint endpoint, long nanos) {
+    endpoint.succeeded(nanos);
+  }
+
+  /**
+   * Report a failed request to an endpoint: a transport failure or a server
+   * error response. Ejects the endpoint after consecutive failures.
+   *
+   * @param endpoint the endpoint
+   */
+  public void failed(Endpoint endpoint) {
+    if (endpoint.failed() >= consecutiveFailures && !endpoint.isEjected()) {
+      Endpoint[] current = endpoints;
+      int ejected = 0;
+      for (Endpoint e : current) {
+        if (e.isEjected()) {
+          ejected++;
+        }
+      }
+      if ((ejected + 1) * 100 <= maxEjectedPercent * current.length) {
+        endpoint.eject(baseEjection, maxEjection);
+        LOG.log(Level.WARNING, "Ejected endpoint {0} of {1} after {2} consecutive failures", new Object[]{endpoint, name, consecutiveFailures});
+      }
+    }
+  }
+
+  /**
+   * Resolve the endpoints now. Ignored for fixed endpoints. If the resolver
+   * fails or returns no endpoints the current endpoints are kept.
+   */
+  public final void refresh() {
+    if (resolver == null) {
+      return;
+    }
+    try {
+      List<URI> resolved = resolver.resolve();
+      if (resolved == null || resolved.isEmpty()) {
+        LOG.log(Level.WARNING, "No endpoints resolved for {0}; keeping {1}", new Object[]{name, Arrays.toString(endpoints)});
+        return;
+      }
+      endpoints = merge(endpoints, resolved);
+    } catch (Exception e) {
+      LOG.log(Level.WARNING, "Failed to resolve the endpoints of {0}; keeping {1}: {2}", new Object[]{name, Arrays.toString(endpoints), e.getMessage()});
+    }
+  }
+
+  /**
+   * Build the endpoint array for a set of URIs, keeping existing endpoints.
+   * New endpoints start with the mean latency of the existing endpoints.
+   */
+  private static Endpoint[] merge(Endpoint[] current, List<URI> uris) {
+    Map<String, Endpoint> existing = new HashMap<>();
+    double latency = 0;
+    for (Endpoint endpoint : current) {
+      existing.put(endpoint.getUri(), endpoint);
+      latency += endpoint.getLatency() / current.length;
+    }
+    List<Endpoint> merged = new ArrayList<>();
+    for (URI uri : new LinkedHashSet<>(uris)) {
+      Endpoint endpoint = new Endpoint(uri, latency);
+      merged.add(existing.getOrDefault(endpoint.getUri(), endpoint));
+    }
+    return merged.toArray(new Endpoint[merged.size()]);
+  }
+
+  /**
+   * Get the current endpoints.
+   *
+   * @return an unmodifiable list of the endpoints
+   */
+  public List<Endpoint> getEndpointList() {
+    return Collections.unmodifiableList(Arrays.asList(endpoints));
+  }
+
+  /**
+   * Stop the periodic endpoint refresh.
+   */
+  @Override
+  public void close() {
+    if (refresh != null) {
+      refresh.cancel(false);
+    }
+  }
+
+  @Override
+  public String[] getEndpoints() {
+    Endpoint[] current = endpoints;
+    String[] uris = new String[current.length];
+    for (int i = 0; i < current.length; i++) {
+      uris[i] = current[i].getUri();
+    }
+    return uris;
+  }
+
+  @Override
+  public long[] getChoiceCounts() {
+    Endpoint[] current = endpoints;
+    long[] counts = new long[current.length];
+    for (int i = 0; i < current.length; i++) {
+      counts[i] = current[i].getChoiceCount();
+    }
+    return counts;
+  }
+
+  @Override
+  public int[] getOutstandingCounts() {
+    Endpoint[] current = endpoints;
+    int[] counts = new int[current.length];
+    for (int i = 0; i < current.length; i++) {
+      counts[i] = current[i].getOutstanding();
+    }
+    return counts;
+  }
+
+  @Override
+  public double[] getLatencies() {
+    Endpoint[] current = endpoints;
+    double[] latencies = new double[current.length];
+    for (int i = 0; i < current.length; i++) {
+      latencies[i] = current[i].getLatency() / 1e6;
+    }
+    return latencies;
+  }
+
+  @Override
+  public int getEjectedCount() {
+    int ejected = 0;
+    for (Endpoint endpoint : endpoints) {
+      if (endpoint.isEjected()) {
+        ejected++;
+      }
+    }
+    return ejected;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes, per endpoint, {@code rs_lb_choices_total},
+   * {@code rs_lb_failures_total}, {@code rs_lb_ejections_total},
+   * {@code rs_lb_outstanding}, {@code rs_lb_latency_ewma_seconds} and
+   * {@code rs_lb_ejected}.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    for (Endpoint endpoint : endpoints) {
+      String uri = endpoint.getUri();
+      writer.counter("rs_lb_choices_total", "Requests sent to each endpoint.", endpoint.getChoiceCount(), "balancer", name, "endpoint", uri)
+        .counter("rs_lb_failures_total", "Failed requests to each endpoint.", endpoint.getFailureCount(), "balancer", name, "endpoint", uri)
+        .counter("rs_lb_ejections_total", "Outlier ejections of each endpoint.", endpoint.getEjectionCount(), "balancer", name, "endpoint", uri)
+        .gauge("rs_lb_outstanding", "Requests in flight to each endpoint.", endpoint.getOutstanding(), "balancer", name, "endpoint", uri)
+        .gauge("rs_lb_latency_ewma_seconds", "Latency moving average of each endpoint.", endpoint.getLatency() / 1e9, "balancer", name, "endpoint", uri)
+        .gauge("rs_lb_ejected", "1 if the endpoint is ejected.", endpoint.isEjected() ? 1 : 0, "balancer", name, "endpoint", uri);
+    }
+  }
+
+}
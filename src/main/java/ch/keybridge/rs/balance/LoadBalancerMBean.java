@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.balance;
+
+/**
+ * JMX management interface for a client load balancer. The array attributes
+ * are indexed by endpoint, in the order of {@link #getEndpoints()}. Latency
+ * values are in milliseconds.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface LoadBalancerMBean {
+
+  /**
+   * @return the load balancer name: the logical base URI
+   */
+  String getName();
+
+  /**
+   * @return the endpoint base URIs
+   */
+  String[] getEndpoints();
+
+  /**
+   * @return the number of times each endpoint was chosen
+   */
+  long[] getChoiceCounts();
+
+  /**
+   * @return the requests in flight to each endpoint
+   */
+  int[] getOutstandingCounts();
+
+  /**
+   * @return the latency moving average of each endpoint
+   */
+  double[] getLatencies();
+
+  /**
+   * @return the number of endpoints currently ejected
+   */
+  int getEjectedCount();
+
+}
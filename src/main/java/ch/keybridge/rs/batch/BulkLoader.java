@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.batch;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps a batch of keys to a single bulk request and splits the response back
+ * into values by key. Implemented by the client, typically as a call to a bulk
+ * endpoint through {@code AbstractRestClient.invoke}.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@FunctionalInterface
+public interface BulkLoader<K, V> {
+
+  /**
+   * Load the values for a batch of keys.
+   *
+   * @param keys the distinct keys, in submission order
+   * @return the values by key; keys without a value are completed with null
+   * @throws Exception if the bulk request fails
+   */
+  Map<K, V> load(List<K> keys) throws Exception;
+
+}
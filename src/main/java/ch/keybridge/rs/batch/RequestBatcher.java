@@ -0,0 +1,324 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.batch;
+
+import ch.keybridge.rs.metrics.BatchMetrics;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.ws.rs.WebApplicationException;
+
+/**
+ * Merges individual key lookups into bulk requests. Callers submit single keys
+ * and receive futures. Keys are collected until the batch window elapses or the
+ * batch is full, then sent as one bulk request through a {@link BulkLoader},
+ * and the response is split back to the individual futures. A key submitted
+ * more than once within a batch shares one future.
+ * <p>
+ * Partial failures: keys missing from the bulk response complete with null. If
+ * the bulk request fails, every future in the batch completes exceptionally
+ * with the failure; with split on failure enabled a batch rejected by the
+ * service because of its content (a 4xx status other than 408 and 429) is
+ * instead split in half and each half retried, so that a single bad key fails
+ * only its own future. Transport failures, timeouts and server errors fail the
+ * whole batch without retry, since splitting would only multiply the load. If
+ * the loader throws an {@code Error} the futures still complete
+ * exceptionally.
+ * <p>
+ * Bulk requests run on the batcher executor. The default is a shared cached
+ * pool of daemon threads.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class RequestBatcher<K, V> {
+
+  private static final Logger LOG = Logger.getLogger(RequestBatcher.class.getName());
+
+  /**
+   * Closes batches when the window elapses.
+   */
+  private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "rs-batch-timer");
+    thread.setDaemon(true);
+    return thread;
+  });
+  /**
+   * The default executor for bulk requests.
+   */
+  private static final ExecutorService WORKERS = Executors.newCachedThreadPool(r -> {
+    Thread thread = new Thread(r, "rs-batch-worker");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * The batch metrics.
+   */
+  private final BatchMetrics metrics;
+  /**
+   * The maximum number of keys per batch.
+   */
+  private final int maxBatchSize;
+  /**
+   * The batch window, in milliseconds.
+   */
+  private final long window;
+  /**
+   * The bulk request.
+   */
+  private final BulkLoader<K, V> loader;
+  /**
+   * The bulk request executor.
+   */
+  private volatile Executor executor = WORKERS;
+  /**
+   * Split and retry failed batches. Default is disabled.
+   */
+  private volatile boolean splitOnFailure;
+  /**
+   * The open batch. Guarded by this.
+   */
+  private Map<K, CompletableFuture<V>> pending;
+  /**
+   * Closes the open batch. Guarded by this.
+   */
+  private ScheduledFuture<?> timer;
+
+  /**
+   * Construct a new request batcher.
+   *
+   * @param metrics      the batch metrics
+   * @param maxBatchSize the maximum number of keys per bulk request
+   * @param window       the maximum time a key waits for its batch to fill, in
+   *                     milliseconds
+   * @param loader       the bulk request
+   */
+  public RequestBatcher(BatchMetrics metrics, int maxBatchSize, long window, BulkLoader<K, V> loader) {
+    if (maxBatchSize < 1 || window < 0) {
+      throw new IllegalArgumentException("Require maxBatchSize > 0 and window >= 0.");
+    }
+    this.metrics = metrics;
+    this.maxBatchSize = maxBatchSize;
+    this.window = window;
+    this.loader = loader;
+    this.pending = new LinkedHashMap<>();
+  }
+
+  /**
+   * Set the executor that runs bulk requests.
+   *
+   * @param executor the executor
+   * @return the current batcher instance
+   */
+  public RequestBatcher<K, V> withExecutor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  /**
+   * Split failed batches in half and retry each half, isolating the keys that
+   * cause a bulk request to fail. Only batches rejected for their content are
+   * split; see {@link #isItemFailure(Throwable)}.
+   *
+   * @param splitOnFailure true to split and retry failed batches
+   * @return the current batcher instance
+   */
+  public RequestBatcher<K, V> withSplitOnFailure(boolean splitOnFailure) {
+    this.splitOnFailure = splitOnFailure;
+    return this;
+  }
+
+  /**
+   * Submit a key to the open batch. The first key of a batch starts the batch
+   * window; a full batch is sent immediately.
+   *
+   * @param key the key
+   * @return a future value, which is null if the key was not found
+   */
+  public CompletableFuture<V> submit(K key) {
+    CompletableFuture<V> future;
+    Map<K, CompletableFuture<V>> batch = null;
+    synchronized (this) {
+      future = pending.get(key);
+      if (future == null) {
+        future = new CompletableFuture<>();
+        pending.put(key, future);
+        if (pending.size() >= maxBatchSize) {
+          batch = drain();
+        } else if (pending.size() == 1) {
+          timer = TIMER.schedule(this::flush, window, TimeUnit.MILLISECONDS);
+        }
+      }
+    }
+    if (batch != null) {
+      dispatch(batch);
+    }
+    return future;
+  }
+
+  /**
+   * Send the open batch now, without waiting for the batch window.
+   */
+  public void flush() {
+    Map<K, CompletableFuture<V>> batch;
+    synchronized (this) {
+      batch = drain();
+    }
+    if (!batch.isEmpty()) {
+      dispatch(batch);
+    }
+  }
+
+  /**
+   * Close the open batch and start a new one. Must hold the lock.
+   */
+  private Map<K, CompletableFuture<V>> drain() {
+    if (timer != null) {
+      timer.cancel(false);
+      timer = null;
+    }
+    Map<K, CompletableFuture<V>> batch = pending;
+    pending = new LinkedHashMap<>();
+    return batch;
+  }
+
+  /**
+   * Run the bulk request for a batch on the executor.
+   */
+  private void dispatch(Map<K, CompletableFuture<V>> batch) {
+    try {
+      executor.execute(() -> load(batch));
+    } catch (RejectedExecutionException e) {
+      fail(batch, e);
+    }
+  }
+
+  /**
+   * Run the bulk request and complete the futures.
+   */
+  private void load(Map<K, CompletableFuture<V>> batch) {
+    List<K> keys = new ArrayList<>(batch.keySet());
+    long start = System.nanoTime();
+    boolean completed = false;
+    Error error = null;
+    try {
+      Map<K, V> values;
+      try {
+        values = loader.load(keys);
+      } catch (Exception e) {
+        completed = true;
+        if (splitOnFailure && keys.size() > 1 && isItemFailure(e)) {
+          LOG.log(Level.FINE, "Bulk request of {0} keys rejected. Splitting: {1}", new Object[]{keys.size(), e.getMessage()});
+          metrics.split(start);
+          int half = keys.size() / 2;
+          Map<K, CompletableFuture<V>> second = subBatch(batch, keys.subList(half, keys.size()));
+          try {
+            load(subBatch(batch, keys.subList(0, half)));
+          } catch (Error halfError) {
+            /**
+             * The first half failed its own futures. Fail the second half too
+             * rather than leave its callers waiting forever.
+             */
+            metrics.failed(start, second.size());
+            fail(second, halfError);
+            throw halfError;
+          }
+          load(second);
+        } else {
+          metrics.failed(start, keys.size());
+          fail(batch, e);
+        }
+        return;
+      } catch (Error e) {
+        error = e;
+        throw e;
+      }
+      completed = true;
+      metrics.completed(start, keys.size());
+      for (Map.Entry<K, CompletableFuture<V>> entry : batch.entrySet()) {
+        entry.getValue().complete(values != null ? values.get(entry.getKey()) : null);
+      }
+    } finally {
+      if (!completed) {
+        /**
+         * The loader threw an Error. Do not leave the callers waiting forever.
+         */
+        metrics.failed(start, keys.size());
+        fail(batch, error != null ? error : new CompletionException("Bulk request of " + keys.size() + " keys aborted.", null));
+      }
+    }
+  }
+
+  /**
+   * Determine whether a bulk request failed because the service rejected its
+   * content, i.e. one or more of its keys, rather than because of the
+   * transport or the service. Only such failures are split and retried: a 4xx
+   * response status other than 408 (request timeout) and 429 (too many
+   * requests), e.g. 400, 404, 413 or 422. Connection failures, timeouts and 5xx
+   * statuses would fail every half as well.
+   *
+   * @param failure the bulk request failure, possibly wrapped
+   * @return true if splitting the batch may isolate the failing keys
+   */
+  static boolean isItemFailure(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof WebApplicationException) {
+        int status = ((WebApplicationException) cause).getResponse().getStatus();
+        return status >= 400 && status < 500 && status != 408 && status != 429;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Copy the futures for a subset of keys.
+   */
+  private Map<K, CompletableFuture<V>> subBatch(Map<K, CompletableFuture<V>> batch, List<K> keys) {
+    Map<K, CompletableFuture<V>> sub = new LinkedHashMap<>();
+    for (K key : keys) {
+      sub.put(key, batch.get(key));
+    }
+    return sub;
+  }
+
+  /**
+   * Complete every future in a batch exceptionally.
+   */
+  private void fail(Map<K, CompletableFuture<V>> batch, Throwable cause) {
+    for (CompletableFuture<V> future : batch.values()) {
+      future.completeExceptionally(cause);
+    }
+  }
+
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.binding;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that records the filter binding annotations of resource
+ * classes and methods at build time. Each compilation generates a
+ * {@link FilterBindingRegistry} class holding compiled instances of the
+ * annotations, and lists it in
+ * {@code META-INF/services/ch.keybridge.rs.binding.FilterBindingRegistry} so
+ * that {@link FilterBindings} reads the annotations without reflection.
+ * <p>
+ * The processor is registered in the library jar and runs automatically when
+ * the library is on the compiler class path. From JDK 22 implicit annotation
+ * processing must be enabled with {@code -proc:full}, or the library added to
+ * the compiler {@code annotationProcessorPaths}.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class FilterBindingProcessor extends AbstractProcessor {
+
+  /**
+   * The generated registry class simple name.
+   */
+  private static final String REGISTRY_NAME = "GeneratedFilterBindings";
+
+  /**
+   * The qualified names of the registry classes generated so far.
+   */
+  private final List<String> generated = new ArrayList<>();
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The recorded annotation types.
+   */
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return FilterBindingRegistry.ANNOTATIONS;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The processor only reads annotations, which are the same in all versions.
+   */
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Generate one registry class for the resource classes of each round, and
+   * the service file in the last round.
+   */
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeServiceFile();
+      return false;
+    }
+    /**
+     * Collect the classes that declare, or whose methods declare, a recorded
+     * annotation.
+     */
+    Map<String, TypeElement> classes = new LinkedHashMap<>();
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        TypeElement type = element instanceof TypeElement
+                           ? (TypeElement) element
+                           : element.getEnclosingElement() instanceof TypeElement ? (TypeElement) element.getEnclosingElement() : null;
+        if (type != null) {
+          classes.put(processingEnv.getElementUtils().getBinaryName(type).toString(), type);
+        }
+      }
+    }
+    if (!classes.isEmpty()) {
+      try {
+        writeRegistry(classes);
+      } catch (IOException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write the filter binding registry: " + e.getMessage());
+      }
+    }
+    /**
+     * Do not claim the annotations; other processors may read them.
+     */
+    return false;
+  }
+
+  /**
+   * Write a registry class for the collected classes, in the package of the
+   * first class. Each class is bound in its own method so that large
+   * applications do not exceed the method size limit.
+   */
+  private void writeRegistry(Map<String, TypeElement> classes) throws IOException {
+    Elements elements = processingEnv.getElementUtils();
+    PackageElement pkg = elements.getPackageOf(classes.values().iterator().next());
+    String simpleName = REGISTRY_NAME + (generated.isEmpty() ? "" : String.valueOf(generated.size()));
+    String qualifiedName = pkg.isUnnamed() ? simpleName : pkg.getQualifiedName() + "." + simpleName;
+    Filer filer = processingEnv.getFiler();
+    try (PrintWriter out = new PrintWriter(filer.createSourceFile(qualifiedName, classes.values().toArray(new Element[0])).openWriter())) {
+      if (!pkg.isUnnamed()) {
+        out.println("package " + pkg.getQualifiedName() + ";");
+        out.println();
+      }
+      out.println("/**");
+      out.println(" * Filter binding annotations generated by " + FilterBindingProcessor.class.getName() + ".");
+      out.println(" */");
+      out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+      out.println("public final class " + simpleName + " implements " + FilterBindingRegistry.class.getName() + " {");
+      out.println();
+      out.println("  @Override");
+      out.println("  public void bind(java.util.Map<String, java.lang.annotation.Annotation[]> bindings) {");
+      for (int i = 0; i < classes.size(); i++) {
+        out.println("    bind" + i + "(bindings);");
+      }
+      out.println("  }");
+      int i = 0;
+      for (Map.Entry<String, TypeElement> entry : classes.entrySet()) {
+        TypeElement type = entry.getValue();
+        out.println();
+        out.println("  private static void bind" + i++ + "(java.util.Map<String, java.lang.annotation.Annotation[]> bindings) {");
+        /**
+         * Every recorded class has an entry, so that its absent annotations
+         * are not looked up by reflection.
+         */
+        String classAnnotations = annotations(elements.getAllAnnotationMirrors(type));
+        out.println("    bindings.put(" + elements.getConstantExpression(entry.getKey()) + ", "
+                    + (classAnnotations == null ? "new java.lang.annotation.Annotation[0]" : classAnnotations) + ");");
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+          String annotations = annotations(method.getAnnotationMirrors());
+          if (annotations != null) {
+            out.println("    bindings.put(" + elements.getConstantExpression(key(entry.getKey(), method)) + ", " + annotations + ");");
+          }
+        }
+        out.println("  }");
+      }
+      out.println();
+      out.println("}");
+    }
+    generated.add(qualifiedName);
+  }
+
+  /**
+   * Add the generated registry classes to the service file.
+   */
+  private void writeServiceFile() {
+    if (generated.isEmpty()) {
+      return;
+    }
+    String resource = "META-INF/services/" + FilterBindingRegistry.class.getName();
+    try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resource).openWriter()) {
+      for (String name : generated) {
+        writer.write(name);
+        writer.write('\n');
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + resource + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Build an annotation array expression of the recorded annotations.
+   * Returns null if none are recorded.
+   */
+  private String annotations(List<? extends AnnotationMirror> mirrors) {
+    StringBuilder sb = new StringBuilder();
+    for (AnnotationMirror mirror : mirrors) {
+      TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+      if (FilterBindingRegistry.ANNOTATIONS.contains(annotationType.getQualifiedName().toString())) {
+        sb.append(sb.length() == 0 ? "" : ", ").append(annotation(mirror));
+      }
+    }
+    return sb.length() == 0 ? null : "new java.lang.annotation.Annotation[]{" + sb + "}";
+  }
+
+  /**
+   * Build an expression that creates an instance of the annotation: an
+   * anonymous class returning the annotation values, including defaults, with
+   * {@code equals} and {@code hashCode} as specified by
+   * {@link java.lang.annotation.Annotation}, so that generated instances are
+   * interchangeable with those read by reflection.
+   */
+  private String annotation(AnnotationMirror mirror) {
+    Elements elements = processingEnv.getElementUtils();
+    String typeName = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    StringBuilder sb = new StringBuilder("new ").append(typeName).append("() {");
+    sb.append(" public Class<? extends java.lang.annotation.Annotation> annotationType() { return ").append(typeName).append(".class; }");
+    StringBuilder equals = new StringBuilder("o instanceof ").append(typeName);
+    StringBuilder hashCode = new StringBuilder("0");
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+      TypeMirror returnType = entry.getKey().getReturnType();
+      String member = entry.getKey().getSimpleName().toString();
+      sb.append(" public ").append(returnType).append(' ').append(member)
+        .append("() { return ").append(value(returnType, entry.getValue())).append("; }");
+      /**
+       * Members are compared as by reflection: arrays by content, primitives
+       * boxed, e.g. floats as by Float.equals.
+       */
+      equals.append(" && java.util.Objects.deepEquals(").append(member).append("(), ((").append(typeName).append(") o).").append(member).append("())");
+      hashCode.append(" + ((127 * ").append(elements.getConstantExpression(member)).append(".hashCode()) ^ ")
+        .append(returnType.getKind() == TypeKind.ARRAY ? "java.util.Arrays.hashCode(" + member + "())" : "((Object) " + member + "()).hashCode()")
+        .append(')');
+    }
+    sb.append(" public boolean equals(Object o) { return o == this || ").append(equals).append("; }");
+    sb.append(" public int hashCode() { return ").append(hashCode).append("; }");
+    sb.append(" public String toString() { return ").append(elements.getConstantExpression(mirror.toString())).append("; }");
+    return sb.append(" }").toString();
+  }
+
+  /**
+   * Build an expression of an annotation member value.
+   */
+  private String value(TypeMirror type, AnnotationValue value) {
+    Object v = value.getValue();
+    if (v instanceof List) {
+      TypeMirror componentType = ((ArrayType) type).getComponentType();
+      StringBuilder sb = new StringBuilder("new ").append(processingEnv.getTypeUtils().erasure(componentType)).append("[]{");
+      for (Object element : (List<?>) v) {
+        sb.append(sb.charAt(sb.length() - 1) == '{' ? "" : ", ").append(value(componentType, (AnnotationValue) element));
+      }
+      return sb.append('}').toString();
+    } else if (v instanceof TypeMirror) {
+      return processingEnv.getTypeUtils().erasure((TypeMirror) v) + ".class";
+    } else if (v instanceof VariableElement) {
+      VariableElement constant = (VariableElement) v;
+      return ((TypeElement) constant.getEnclosingElement()).getQualifiedName() + "." + constant.getSimpleName();
+    } else if (v instanceof AnnotationMirror) {
+      return annotation((AnnotationMirror) v);
+    }
+    return processingEnv.getElementUtils().getConstantExpression(v);
+  }
+
+  /**
+   * Build the method key, matching {@link FilterBindings#key(java.lang.reflect.Method)}.
+   */
+  private String key(String className, ExecutableElement method) {
+    StringBuilder sb = new StringBuilder(className).append('#').append(method.getSimpleName()).append('(');
+    List<? extends VariableElement> parameters = method.getParameters();
+    for (int i = 0; i < parameters.size(); i++) {
+      sb.append(i > 0 ? "," : "").append(typeName(processingEnv.getTypeUtils().erasure(parameters.get(i).asType())));
+    }
+    return sb.append(')').toString();
+  }
+
+  /**
+   * Get the runtime type name of an erased type: the binary name of a class
+   * and the component type name followed by brackets for an array.
+   */
+  private String typeName(TypeMirror type) {
+    Types types = processingEnv.getTypeUtils();
+    if (type.getKind() == TypeKind.ARRAY) {
+      return typeName(((ArrayType) type).getComponentType()) + "[]";
+    } else if (type.getKind() == TypeKind.DECLARED) {
+      return processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) type).asElement()).toString();
+    }
+    return types.erasure(type).toString();
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.binding;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A static registry of the filter binding annotations declared on resource
+ * classes and methods. Implementations are generated at build time by the
+ * {@link FilterBindingProcessor} and discovered with the
+ * {@code java.util.ServiceLoader}.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface FilterBindingRegistry {
+
+  /**
+   * The names of the annotation types recorded in the registry. The JAX-RS
+   * Path annotation is included so that every resource class is recorded,
+   * even if it declares no filter binding annotations. The JSR-250 security
+   * annotations are not recorded: the HttpAuthorizationFilter always reads
+   * them by reflection, so that a missing or stale registry cannot grant
+   * access.
+   */
+  static final Set<String> ANNOTATIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+    "ch.keybridge.rs.filter.CacheControlling",
+    "ch.keybridge.rs.filter.ConcurrencyLimited",
+    "ch.keybridge.rs.filter.CrossOrigin",
+    "ch.keybridge.rs.filter.Etag",
+    "ch.keybridge.rs.filter.HttpAuthorization",
+    "ch.keybridge.rs.filter.MessageAddressing",
+    "ch.keybridge.rs.filter.RateLimited",
+    "javax.ws.rs.GET",
+    "javax.ws.rs.Path")));
+
+  /**
+   * Add the recorded annotations to the bindings map. Class annotations are
+   * keyed by the class binary name, and include inherited annotations. Method
+   * annotations are keyed by {@link FilterBindings#key(java.lang.reflect.Method)}.
+   * Every recorded class has an entry, which may be empty.
+   *
+   * @param bindings the bindings map
+   */
+  void bind(Map<String, Annotation[]> bindings);
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.binding;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Looks up the filter binding annotations of resource classes and methods.
+ * Annotations are read from the registries generated at build time by the
+ * {@link FilterBindingProcessor}; classes that were not compiled with the
+ * processor, and annotation types that it does not record, fall back to
+ * reflection.
+ * <p>
+ * In reflection-free mode, enabled with the system property
+ * {@code ch.keybridge.rs.binding.reflection=false} (e.g. in a native image),
+ * recorded annotation types are only read from the registries: classes that
+ * were not recorded are treated as not annotated, and a warning is logged once
+ * per class.
+ * <p>
+ * Method and class annotations are looked up separately. As with reflection,
+ * the caller decides whether a method annotation takes priority over a class
+ * annotation.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class FilterBindings {
+
+  private static final Logger LOG = Logger.getLogger(FilterBindings.class.getName());
+
+  /**
+   * The system property that disables the reflection fallback when set to
+   * {@code false}.
+   */
+  public static final String REFLECTION = "ch.keybridge.rs.binding.reflection";
+
+  /**
+   * The singleton instance.
+   */
+  private static final FilterBindings INSTANCE = new FilterBindings();
+
+  /**
+   * The generated bindings, keyed by class name or method key.
+   */
+  private final Map<String, Annotation[]> bindings;
+  /**
+   * The bindings of each method looked up so far. Methods of recorded classes
+   * that declare no recorded annotations map to an empty array.
+   */
+  private final ConcurrentMap<Method, Annotation[]> methods;
+  /**
+   * Fall back to reflection for classes that were not recorded.
+   */
+  private final boolean reflection;
+  /**
+   * The unrecorded classes already warned about in reflection-free mode.
+   */
+  private final Set<String> unrecorded;
+
+  private FilterBindings() {
+    this.bindings = new HashMap<>();
+    this.methods = new ConcurrentHashMap<>();
+    this.reflection = !"false".equalsIgnoreCase(System.getProperty(REFLECTION));
+    this.unrecorded = ConcurrentHashMap.newKeySet();
+    try {
+      for (FilterBindingRegistry registry : ServiceLoader.load(FilterBindingRegistry.class)) {
+        registry.bind(bindings);
+        LOG.log(Level.FINE, "Loaded filter bindings from {0}", registry.getClass().getName());
+      }
+    } catch (ServiceConfigurationError | LinkageError e) {
+      LOG.log(Level.WARNING, "Failed to load the generated filter bindings; using reflection. {0}", e.getMessage());
+    }
+  }
+
+  /**
+   * Get the singleton instance.
+   *
+   * @return the filter bindings
+   */
+  public static FilterBindings getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Determine if the class was recorded by a generated registry.
+   *
+   * @param type the resource class
+   * @return true if the class annotations are read from a registry
+   */
+  public boolean isRecorded(Class<?> type) {
+    return bindings.containsKey(type.getName());
+  }
+
+  /**
+   * Get a class annotation, including inherited annotations.
+   *
+   * @param <A>            the annotation type
+   * @param type           the resource class
+   * @param annotationType the annotation class
+   * @return the annotation, null if not present
+   */
+  public <A extends Annotation> A getAnnotation(Class<?> type, Class<A> annotationType) {
+    if (!FilterBindingRegistry.ANNOTATIONS.contains(annotationType.getName())) {
+      return type.getAnnotation(annotationType);
+    }
+    Annotation[] annotations = bindings.get(type.getName());
+    if (annotations == null) {
+      return isReflective(type) ? type.getAnnotation(annotationType) : null;
+    }
+    return find(annotations, annotationType);
+  }
+
+  /**
+   * Get a method annotation.
+   *
+   * @param <A>            the annotation type
+   * @param method         the resource method
+   * @param annotationType the annotation class
+   * @return the annotation, null if not present
+   */
+  public <A extends Annotation> A getAnnotation(Method method, Class<A> annotationType) {
+    if (!FilterBindingRegistry.ANNOTATIONS.contains(annotationType.getName())) {
+      return method.getAnnotation(annotationType);
+    }
+    if (!isRecorded(method.getDeclaringClass())) {
+      return isReflective(method.getDeclaringClass()) ? method.getAnnotation(annotationType) : null;
+    }
+    Annotation[] annotations = methods.get(method);
+    if (annotations == null) {
+      annotations = bindings.getOrDefault(key(method), new Annotation[0]);
+      methods.putIfAbsent(method, annotations);
+    }
+    return find(annotations, annotationType);
+  }
+
+  /**
+   * Determine if a class annotation is present.
+   *
+   * @param type           the resource class
+   * @param annotationType the annotation class
+   * @return true if present
+   */
+  public boolean isAnnotationPresent(Class<?> type, Class<? extends Annotation> annotationType) {
+    return getAnnotation(type, annotationType) != null;
+  }
+
+  /**
+   * Determine if a method annotation is present.
+   *
+   * @param method         the resource method
+   * @param annotationType the annotation class
+   * @return true if present
+   */
+  public boolean isAnnotationPresent(Method method, Class<? extends Annotation> annotationType) {
+    return getAnnotation(method, annotationType) != null;
+  }
+
+  /**
+   * Build the registry key of a method: the declaring class binary name, the
+   * method name and the erased parameter types, e.g.
+   * {@code com.example.Resource#get(java.lang.String,int[])}.
+   *
+   * @param method the method
+   * @return the method key
+   */
+  public static String key(Method method) {
+    StringBuilder sb = new StringBuilder(method.getDeclaringClass().getName()).append('#').append(method.getName()).append('(');
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    for (int i = 0; i < parameterTypes.length; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(parameterTypes[i].getTypeName());
+    }
+    return sb.append(')').toString();
+  }
+
+  /**
+   * Determine if the annotations of an unrecorded class are read by
+   * reflection. In reflection-free mode log a warning the first time.
+   */
+  private boolean isReflective(Class<?> type) {
+    if (!reflection && unrecorded.add(type.getName())) {
+      LOG.log(Level.WARNING, "{0} was not compiled with the FilterBindingProcessor; its filter annotations are ignored", type.getName());
+    }
+    return reflection;
+  }
+
+  /**
+   * Find an annotation of the given type.
+   */
+  private static <A extends Annotation> A find(Annotation[] annotations, Class<A> annotationType) {
+    for (Annotation annotation : annotations) {
+      if (annotation.annotationType() == annotationType) {
+        return annotationType.cast(annotation);
+      }
+    }
+    return null;
+  }
+
+}
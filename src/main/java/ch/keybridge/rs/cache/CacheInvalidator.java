@@ -0,0 +1,349 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.cache;
+
+import ch.keybridge.rs.etag.EtagStore;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The library-wide cache invalidator. Cached responses are indexed by cache tag
+ * when they are sent (see {@code CacheControlling#tags()}); invalidating a tag
+ * purges every response key carrying it from each registered
+ * {@link Listener}, such as an {@link EtagStore} or a CDN purge call.
+ * <p>
+ * Purges use an inverted index from tag to keys, so an invalidation takes time
+ * proportional to the number of affected keys. The index is bounded: when it
+ * is full the oldest key is purged, so that a key is never cached without
+ * being indexed.
+ * <p>
+ * The index is built on concurrent maps and sets without a global lock.
+ * Updates of one key are serialized by the key map, and those of one tag by
+ * the tag map. Indexing a key again with the same tags, the common case for
+ * every tagged response, only reads the index.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public final class CacheInvalidator {
+
+  private static final Logger LOG = Logger.getLogger(CacheInvalidator.class.getName());
+
+  /**
+   * The response header listing the cache tags of a response, for shared
+   * caches and CDNs that purge by tag.
+   */
+  public static final String HEADER = "Cache-Tag";
+
+  /**
+   * The singleton instance.
+   */
+  private static final CacheInvalidator INSTANCE = new CacheInvalidator();
+
+  /**
+   * The purge listeners.
+   */
+  private final List<Listener> listeners;
+  /**
+   * The tags of each key.
+   */
+  private final Map<String, Indexed> keys;
+  /**
+   * The keys of each tag.
+   */
+  private final Map<String, Set<String>> tags;
+  /**
+   * The indexed keys in indexing order, for eviction. Contains stale entries
+   * for keys that were indexed again or removed; they are skipped on eviction
+   * and compacted when they outnumber the maximum number of keys.
+   */
+  private final ConcurrentLinkedQueue<Indexed> order;
+  /**
+   * The number of indexed keys.
+   */
+  private final AtomicInteger size;
+  /**
+   * The approximate number of entries in the order queue.
+   */
+  private final AtomicInteger queued;
+  /**
+   * Whether the order queue is being compacted.
+   */
+  private final AtomicBoolean compacting;
+  /**
+   * The maximum number of indexed keys.
+   */
+  private volatile int maxKeys;
+
+  private CacheInvalidator() {
+    this.listeners = new CopyOnWriteArrayList<>();
+    this.keys = new ConcurrentHashMap<>();
+    this.tags = new ConcurrentHashMap<>();
+    this.order = new ConcurrentLinkedQueue<>();
+    this.size = new AtomicInteger();
+    this.queued = new AtomicInteger();
+    this.compacting = new AtomicBoolean();
+    this.maxKeys = 100_000;
+  }
+
+  /**
+   * Get the invalidator instance.
+   *
+   * @return the invalidator
+   */
+  public static CacheInvalidator getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Add a purge listener.
+   *
+   * @param listener the listener
+   */
+  public void addListener(Listener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Remove a purge listener.
+   *
+   * @param listener the listener
+   */
+  public void removeListener(Listener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Purge invalidated keys from an ETag store.
+   *
+   * @param store the ETag store
+   */
+  public void addStore(EtagStore store) {
+    addListener((tag, purged) -> purged.forEach(store::remove));
+  }
+
+  /**
+   * Set the maximum number of indexed keys. Default is 100,000.
+   *
+   * @param maxKeys the maximum number of keys
+   */
+  public void setMaxKeys(int maxKeys) {
+    if (maxKeys < 1) {
+      throw new IllegalArgumentException("Require maxKeys > 0.");
+    }
+    this.maxKeys = maxKeys;
+  }
+
+  /**
+   * Index a cached response key by its tags, replacing its previous tags.
+   *
+   * @param key     the response key, see {@link EtagStore#key(java.net.URI)}
+   * @param keyTags the cache tags
+   */
+  public void index(String key, Collection<String> keyTags) {
+    Indexed current = keys.get(key);
+    if (current != null && current.tags.size() == keyTags.size() && current.tags.containsAll(keyTags)) {
+      return;
+    }
+    Indexed entry = new Indexed(key, new HashSet<>(keyTags));
+    keys.compute(key, (k, previous) -> {
+      for (String tag : entry.tags) {
+        tags.compute(tag, (t, tagged) -> {
+          Set<String> set = tagged != null ? tagged : ConcurrentHashMap.newKeySet();
+          set.add(k);
+          return set;
+        });
+      }
+      if (previous == null) {
+        size.incrementAndGet();
+      } else {
+        for (String tag : previous.tags) {
+          if (!entry.tags.contains(tag)) {
+            unindexTag(tag, k);
+          }
+        }
+      }
+      return entry;
+    });
+    order.add(entry);
+    queued.incrementAndGet();
+    List<String> evicted = new ArrayList<>();
+    while (size.get() > maxKeys) {
+      Indexed eldest = order.poll();
+      if (eldest == null) {
+        break;
+      }
+      queued.decrementAndGet();
+      if (remove(eldest)) {
+        evicted.add(eldest.key);
+      }
+    }
+    compact();
+    if (!evicted.isEmpty()) {
+      notify(null, evicted);
+    }
+  }
+
+  /**
+   * Invalidate a tag: purge every key carrying it and remove the keys from the
+   * index.
+   *
+   * @param tag the cache tag
+   * @return the number of purged keys
+   */
+  public int invalidate(String tag) {
+    Set<String> tagged = tags.remove(tag);
+    List<String> purged;
+    if (tagged == null) {
+      purged = Collections.emptyList();
+    } else {
+      purged = new ArrayList<>(tagged);
+      for (String key : purged) {
+        keys.computeIfPresent(key, (k, live) -> live.tags.contains(tag) ? unindex(k, live) : live);
+      }
+    }
+    LOG.log(Level.FINE, "Invalidated cache tag {0}: {1} keys", new Object[]{tag, purged.size()});
+    notify(tag, purged);
+    return purged.size();
+  }
+
+  /**
+   * Get the keys carrying a tag.
+   *
+   * @param tag the cache tag
+   * @return a copy of the tagged keys
+   */
+  public Set<String> getKeys(String tag) {
+    Set<String> tagged = tags.get(tag);
+    return tagged == null ? Collections.emptySet() : new HashSet<>(tagged);
+  }
+
+  /**
+   * Remove an entry from the index, unless its key was indexed again.
+   *
+   * @return true if the entry was removed
+   */
+  private boolean remove(Indexed entry) {
+    keys.computeIfPresent(entry.key, (k, live) -> live == entry ? unindex(k, live) : live);
+    return entry.removed;
+  }
+
+  /**
+   * Remove a key from the key set of each of its tags. Must be called while
+   * computing the key in the key map.
+   *
+   * @return null, to remove the key from the key map
+   */
+  private Indexed unindex(String key, Indexed live) {
+    for (String tag : live.tags) {
+      unindexTag(tag, key);
+    }
+    live.removed = true;
+    size.decrementAndGet();
+    return null;
+  }
+
+  /**
+   * Remove a key from the key set of a tag, and the tag when it has no more
+   * keys.
+   */
+  private void unindexTag(String tag, String key) {
+    tags.computeIfPresent(tag, (t, tagged) -> tagged.remove(key) && tagged.isEmpty() ? null : tagged);
+  }
+
+  /**
+   * Drop the stale entries from the order queue when they outnumber the
+   * maximum number of keys. Runs on one thread at a time.
+   */
+  private void compact() {
+    if (queued.get() - size.get() <= maxKeys || !compacting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      order.removeIf(entry -> keys.get(entry.key) != entry);
+      queued.set(order.size());
+    } finally {
+      compacting.set(false);
+    }
+  }
+
+  /**
+   * Notify the listeners of purged keys.
+   */
+  private void notify(String tag, Collection<String> purged) {
+    if (purged.isEmpty()) {
+      return;
+    }
+    for (Listener listener : listeners) {
+      try {
+        listener.purge(tag, purged);
+      } catch (RuntimeException e) {
+        LOG.log(Level.WARNING, "Cache purge listener failed: {0}", e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * An indexed key and its tags.
+   */
+  private static final class Indexed {
+
+    private final String key;
+    private final Set<String> tags;
+    /**
+     * Whether the entry was removed from the index. Set while computing the
+     * key in the key map.
+     */
+    private volatile boolean removed;
+
+    private Indexed(String key, Set<String> tags) {
+      this.key = key;
+      this.tags = tags;
+    }
+  }
+
+  /**
+   * Receives purged cache keys.
+   */
+  @FunctionalInterface
+  public interface Listener {
+
+    /**
+     * Purge cached responses.
+     *
+     * @param tag  the invalidated tag, or null if the keys were evicted from
+     *             the index
+     * @param keys the purged response keys
+     */
+    void purge(String tag, Collection<String> keys);
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.etag;
+
+import java.net.URI;
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * A store of current entity tags (validators) by request. The
+ * {@code EtagFilter} answers conditional GET and HEAD requests from the store
+ * with 304 Not Modified, without invoking the resource method.
+ * <p>
+ * The filter does not record the entity tags of the responses it sends: only
+ * the application knows when data changes. Applications push validators
+ * explicitly with {@link #put(String, EntityTag)} when data changes and
+ * withdraw them with {@link #remove(String)} (or through the
+ * {@code CacheInvalidator}), so that the store is never stale. A pushed tag
+ * should be the tag the resource sends, e.g. a manual ETag derived from a
+ * record version.
+ * <p>
+ * The store is provided to the filter by a JAX-RS
+ * {@code ContextResolver<EtagStore>}, for example an
+ * {@link EtagStoreResolver}. Implementations MUST be thread safe.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface EtagStore extends AutoCloseable {
+
+  /**
+   * Get the stored entity tag.
+   *
+   * @param key the request key
+   * @return the entity tag, or null if none is stored
+   */
+  EntityTag get(String key);
+
+  /**
+   * Store an entity tag, replacing any previous tag.
+   *
+   * @param key  the request key
+   * @param etag the entity tag
+   */
+  void put(String key, EntityTag etag);
+
+  /**
+   * Remove an entity tag.
+   *
+   * @param key the request key
+   */
+  void remove(String key);
+
+  /**
+   * Release the store resources. The default implementation does nothing.
+   */
+  @Override
+  default void close() {
+  }
+
+  /**
+   * Get the store key of a request: the raw request path and query. The host
+   * is excluded so that all nodes behind a load balancer share keys.
+   *
+   * @param requestUri the request URI
+   * @return the request key
+   */
+  static String key(URI requestUri) {
+    String query = requestUri.getRawQuery();
+    return query == null ? requestUri.getRawPath() : requestUri.getRawPath() + "?" + query;
+  }
+
+}
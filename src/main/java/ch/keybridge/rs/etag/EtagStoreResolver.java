@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.etag;
+
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Provides an {@link EtagStore} to the {@code EtagFilter}. Register an
+ * instance with the application, e.g.
+ * {@code register(new EtagStoreResolver(new MemoryEtagStore(10000, 0)))}.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@Provider
+public class EtagStoreResolver implements ContextResolver<EtagStore> {
+
+  /**
+   * The store.
+   */
+  private final EtagStore store;
+
+  /**
+   * Construct a new resolver.
+   *
+   * @param store the store provided to all resource classes
+   */
+  public EtagStoreResolver(EtagStore store) {
+    this.store = store;
+  }
+
+  @Override
+  public EtagStore getContext(Class<?> type) {
+    return store;
+  }
+
+}
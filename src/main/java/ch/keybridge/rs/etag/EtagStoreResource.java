@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.etag;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.PUT;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A REST sub-resource exposing an entity tag store to {@link RemoteEtagStore}
+ * clients on other nodes. Return it from a sub-resource locator, e.g.
+ * <pre>
+ * {@code @Path("etags")}
+ * public EtagStoreResource etags() {
+ *   return new EtagStoreResource(store);
+ * }
+ * </pre> Entity tags are exchanged as text in ETag header format; the request
+ * key is the {@value #KEY} query parameter.
+ * <p>
+ * The resource itself performs no access control, and PUT and DELETE change
+ * the validators from which the EtagFilter answers 304 Not Modified. It MUST
+ * be secured: serve it only on an internal interface, or subclass it and
+ * annotate the methods, e.g. with {@code @RolesAllowed}, under an
+ * authentication and authorization filter.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class EtagStoreResource {
+
+  /**
+   * The request key query parameter name.
+   */
+  public static final String KEY = "key";
+
+  /**
+   * The exposed store.
+   */
+  private final EtagStore store;
+
+  /**
+   * Construct a new store resource.
+   *
+   * @param store the exposed store
+   */
+  public EtagStoreResource(EtagStore store) {
+    this.store = store;
+  }
+
+  /**
+   * Get an entity tag.
+   *
+   * @param key the request key
+   * @return the entity tag in ETag header format
+   */
+  @GET
+  @Produces(MediaType.TEXT_PLAIN)
+  public String get(@QueryParam(KEY) String key) {
+    EntityTag etag = store.get(requireKey(key));
+    if (etag == null) {
+      throw new NotFoundException();
+    }
+    return etag.toString();
+  }
+
+  /**
+   * Store an entity tag.
+   *
+   * @param key  the request key
+   * @param etag the entity tag in ETag header format
+   */
+  @PUT
+  @Consumes(MediaType.TEXT_PLAIN)
+  public void put(@QueryParam(KEY) String key, String etag) {
+    try {
+      store.put(requireKey(key), EntityTag.valueOf(etag));
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("Invalid entity tag " + etag);
+    }
+  }
+
+  /**
+   * Remove an entity tag.
+   *
+   * @param key the request key
+   */
+  @DELETE
+  public void remove(@QueryParam(KEY) String key) {
+    store.remove(requireKey(key));
+  }
+
+  private String requireKey(String key) {
+    if (key == null || key.isEmpty()) {
+      throw new BadRequestException("Missing query parameter " + KEY);
+    }
+    return key;
+  }
+
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.etag;
+
+import ch.keybridge.rs.lifecycle.CheckpointResource;
+import ch.keybridge.rs.lifecycle.Checkpoints;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * A persistent entity tag store in a memory-mapped local file. The file is a
+ * fixed size open addressing hash table, so opening an existing store after a
+ * restart only maps the file: entries are read on demand by the operating
+ * system, with nothing to parse or load. Writes go to the page cache and
+ * survive a process restart; {@link #close()} forces them to disk.
+ * <p>
+ * Each slot holds a key of up to {@value #MAX_KEY} UTF-8 bytes and an entity
+ * tag value of up to {@value #MAX_TAG} bytes; larger entries are not stored.
+ * A key is found within {@value #PROBE} slots of its hash; when all are in use
+ * the first is overwritten, so the store behaves as a cache with a capacity of
+ * the slot count.
+ * <p>
+ * A file is used by one store instance (one process) at a time. A file with a
+ * different slot count or format is reinitialized. The file is closed once
+ * mapped, so the store holds no open file descriptor; before a CRaC
+ * checkpoint the entries are forced to disk.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class MappedFileEtagStore implements EtagStore, CheckpointResource {
+
+  private static final Logger LOG = Logger.getLogger(MappedFileEtagStore.class.getName());
+
+  /**
+   * The file header: magic, version, slot count.
+   */
+  private static final int MAGIC = 0x45544147, VERSION = 1, HEADER = 16;
+  /**
+   * The slot size and layout: hash (8), flags (1), tag length (1), key length
+   * (2), key, tag.
+   */
+  private static final int SLOT = 256, MAX_KEY = 180, MAX_TAG = 64;
+  private static final int FLAGS = 8, TAG_LENGTH = 9, KEY_LENGTH = 10, DATA = 12;
+  private static final byte USED = 1, WEAK = 2;
+  /**
+   * The maximum number of slots searched for a key.
+   */
+  private static final int PROBE = 16;
+
+  private final MappedByteBuffer buffer;
+  private final int slots;
+  private final ReadWriteLock lock;
+  private volatile boolean closed;
+
+  /**
+   * Open or create a store.
+   *
+   * @param file  the store file
+   * @param slots the number of slots; the file size is 256 bytes per slot
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public MappedFileEtagStore(Path file, int slots) throws IOException {
+    if (slots < PROBE || slots > (Integer.MAX_VALUE - HEADER) / SLOT) {
+      throw new IllegalArgumentException("Require " + PROBE + " <= slots <= " + (Integer.MAX_VALUE - HEADER) / SLOT + ".");
+    }
+    this.slots = slots;
+    this.lock = new ReentrantReadWriteLock();
+    long size = HEADER + (long) slots * SLOT;
+    boolean valid;
+    /**
+     * The mapping remains valid after the channel is closed.
+     */
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      valid = channel.size() == size;
+      if (valid) {
+        ByteBuffer header = ByteBuffer.allocate(12);
+        channel.read(header, 0);
+        valid = header.getInt(0) == MAGIC && header.getInt(4) == VERSION && header.getInt(8) == slots;
+      }
+      if (!valid) {
+        LOG.log(Level.INFO, "Initializing ETag store {0} with {1} slots", new Object[]{file, String.valueOf(slots)});
+        channel.truncate(0);
+      }
+      this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+    if (!valid) {
+      buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, slots);
+    }
+    Checkpoints.getInstance().register(this);
+  }
+
+  @Override
+  public EntityTag get(String key) {
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    if (keyBytes.length > MAX_KEY || closed) {
+      return null;
+    }
+    lock.readLock().lock();
+    try {
+      int offset = find(keyBytes, hash(keyBytes));
+      if (offset < 0) {
+        return null;
+      }
+      ByteBuffer slot = slice(offset);
+      byte[] tag = new byte[slot.get(TAG_LENGTH)];
+      slot.position(DATA + keyBytes.length);
+      slot.get(tag);
+      return new EntityTag(new String(tag, StandardCharsets.UTF_8), (slot.get(FLAGS) & WEAK) != 0);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void put(String key, EntityTag etag) {
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    byte[] tag = etag.getValue().getBytes(StandardCharsets.UTF_8);
+    if (keyBytes.length > MAX_KEY || tag.length > MAX_TAG || closed) {
+      LOG.log(Level.FINE, "ETag store entry too large: {0}", key);
+      return;
+    }
+    long hash = hash(keyBytes);
+    lock.writeLock().lock();
+    try {
+      int offset = find(keyBytes, hash);
+      if (offset < 0) {
+        offset = findFree(hash);
+      }
+      ByteBuffer slot = slice(offset);
+      slot.put(FLAGS, (byte) 0);
+      slot.putLong(0, hash)
+        .put(TAG_LENGTH, (byte) tag.length)
+        .putShort(KEY_LENGTH, (short) keyBytes.length);
+      slot.position(DATA);
+      slot.put(keyBytes).put(tag);
+      slot.put(FLAGS, etag.isWeak() ? USED | WEAK : USED);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(String key) {
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    if (keyBytes.length > MAX_KEY || closed) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      int offset = find(keyBytes, hash(keyBytes));
+      if (offset >= 0) {
+        buffer.put(offset + FLAGS, (byte) 0);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Force the entries to disk. The store must not be used afterwards.
+   */
+  @Override
+  public void close() {
+    lock.writeLock().lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      buffer.force();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Force the entries to disk.
+   */
+  @Override
+  public void beforeCheckpoint() {
+    lock.readLock().lock();
+    try {
+      if (!closed) {
+        buffer.force();
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The file mapping is restored with the process.
+   */
+  @Override
+  public void afterRestore() {
+  }
+
+  /**
+   * Find the slot holding a key.
+   *
+   * @return the slot offset, or -1 if not found
+   */
+  private int find(byte[] key, long hash) {
+    int home = home(hash);
+    for (int i = 0; i < PROBE; i++) {
+      int offset = offset((home + i) % slots);
+      if ((buffer.get(offset + FLAGS) & USED) != 0
+          && buffer.getLong(offset) == hash
+          && buffer.getShort(offset + KEY_LENGTH) == key.length
+          && matches(offset, key)) {
+        return offset;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Find a free slot for a new key, or else the first slot searched.
+   */
+  private int findFree(long hash) {
+    int home = home(hash);
+    for (int i = 0; i < PROBE; i++) {
+      int offset = offset((home + i) % slots);
+      if ((buffer.get(offset + FLAGS) & USED) == 0) {
+        return offset;
+      }
+    }
+    return offset(home);
+  }
+
+  private boolean matches(int offset, byte[] key) {
+    for (int i = 0; i < key.length; i++) {
+      if (buffer.get(offset + DATA + i) != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private ByteBuffer slice(int offset) {
+    ByteBuffer slot = buffer.duplicate();
+    slot.position(offset).limit(offset + SLOT);
+    return slot.slice();
+  }
+
+  private int home(long hash) {
+    return (int) ((hash >>> 1) % slots);
+  }
+
+  private int offset(int slot) {
+    return HEADER + slot * SLOT;
+  }
+
+  /**
+   * The 64-bit FNV-1a hash of the key bytes.
+   */
+  private static long hash(byte[] key) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : key) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+
+}
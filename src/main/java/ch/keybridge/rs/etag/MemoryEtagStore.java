@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.etag;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * A bounded in-memory entity tag store. The least recently used entry is
+ * evicted when the store is full. Entries may optionally expire, which is
+ * required when the store is the near tier of a {@link TieredEtagStore} shared
+ * by several nodes.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class MemoryEtagStore implements EtagStore {
+
+  /**
+   * The time to live in nanoseconds; zero for none.
+   */
+  private final long timeToLive;
+  /**
+   * The entries in access order. Guarded by this.
+   */
+  private final LinkedHashMap<String, Entry> entries;
+
+  /**
+   * Construct a new in-memory store.
+   *
+   * @param maxEntries the maximum number of entries
+   * @param timeToLive the entry time to live in milliseconds; zero for none
+   */
+  public MemoryEtagStore(int maxEntries, long timeToLive) {
+    if (maxEntries < 1 || timeToLive < 0) {
+      throw new IllegalArgumentException("Require maxEntries > 0 and timeToLive >= 0.");
+    }
+    this.timeToLive = timeToLive * 1_000_000;
+    this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  @Override
+  public synchronized EntityTag get(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (timeToLive > 0 && System.nanoTime() - entry.created > timeToLive) {
+      entries.remove(key);
+      return null;
+    }
+    return entry.etag;
+  }
+
+  @Override
+  public synchronized void put(String key, EntityTag etag) {
+    entries.put(key, new Entry(etag));
+  }
+
+  @Override
+  public synchronized void remove(String key) {
+    entries.remove(key);
+  }
+
+  /**
+   * Get the number of entries, including expired entries not yet removed.
+   *
+   * @return the number of entries
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * A stored entity tag.
+   */
+  private static class Entry {
+
+    private final EntityTag etag;
+    private final long created;
+
+    Entry(EntityTag etag) {
+      this.etag = etag;
+      this.created = System.nanoTime();
+    }
+  }
+
+}
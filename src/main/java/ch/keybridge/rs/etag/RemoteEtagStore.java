@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.etag;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+/**
+ * An entity tag store shared over the network, backed by an
+ * {@link EtagStoreResource} hosted by one node or a dedicated service. Use it
+ * as the far tier of a {@link TieredEtagStore} to share validators between all
+ * nodes behind a load balancer.
+ * <p>
+ * The store fails open: if the remote store is unavailable a lookup returns
+ * null, so requests are served normally, and writes are logged and dropped.
+ * Set short timeouts on the client of the web target.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class RemoteEtagStore implements EtagStore {
+
+  private static final Logger LOG = Logger.getLogger(RemoteEtagStore.class.getName());
+
+  /**
+   * The remote store resource.
+   */
+  private final WebTarget target;
+
+  /**
+   * Construct a new remote store.
+   *
+   * @param target the web target of the remote {@link EtagStoreResource}
+   */
+  public RemoteEtagStore(WebTarget target) {
+    this.target = target;
+  }
+
+  @Override
+  public EntityTag get(String key) {
+    try {
+      Response response = keyed(key).request(MediaType.TEXT_PLAIN_TYPE).get();
+      try {
+        if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+          return null;
+        }
+        return EntityTag.valueOf(response.readEntity(String.class));
+      } finally {
+        response.close();
+      }
+    } catch (ProcessingException | WebApplicationException | IllegalArgumentException e) {
+      LOG.log(Level.FINE, "Remote ETag store get failed: {0}", e.getMessage());
+      return null;
+    }
+  }
+
+  @Override
+  public void put(String key, EntityTag etag) {
+    try {
+      keyed(key).request().put(Entity.text(etag.toString())).close();
+    } catch (ProcessingException | WebApplicationException e) {
+      LOG.log(Level.WARNING, "Remote ETag store put failed: {0}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void remove(String key) {
+    try {
+      keyed(key).request().delete().close();
+    } catch (ProcessingException | WebApplicationException e) {
+      LOG.log(Level.WARNING, "Remote ETag store remove failed: {0}", e.getMessage());
+    }
+  }
+
+  /**
+   * Get the web target of a key. The key is resolved as a template value so
+   * that it is encoded in full, including any {@code %} and {@code +}: a key
+   * passed to {@code queryParam} directly keeps its percent escapes, which the
+   * resource would then decode into a different key.
+   *
+   * @param key the key
+   * @return the web target of the key
+   */
+  private WebTarget keyed(String key) {
+    return target.queryParam(EtagStoreResource.KEY, "{key}").resolveTemplate("key", key);
+  }
+
+}
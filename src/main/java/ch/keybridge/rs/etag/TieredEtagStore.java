@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.etag;
+
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * A two tier entity tag store: a fast near tier, typically a
+ * {@link MemoryEtagStore} with a short time to live, in front of a shared or
+ * persistent far tier. Reads fall through to the far tier and fill the near
+ * tier; writes go to both.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class TieredEtagStore implements EtagStore {
+
+  private final EtagStore near, far;
+
+  /**
+   * Construct a new tiered store.
+   *
+   * @param near the near tier
+   * @param far  the far tier
+   */
+  public TieredEtagStore(EtagStore near, EtagStore far) {
+    this.near = near;
+    this.far = far;
+  }
+
+  @Override
+  public EntityTag get(String key) {
+    EntityTag etag = near.get(key);
+    if (etag == null) {
+      etag = far.get(key);
+      if (etag != null) {
+        near.put(key, etag);
+      }
+    }
+    return etag;
+  }
+
+  @Override
+  public void put(String key, EntityTag etag) {
+    far.put(key, etag);
+    near.put(key, etag);
+  }
+
+  @Override
+  public void remove(String key) {
+    far.remove(key);
+    near.remove(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Closes both tiers.
+   */
+  @Override
+  public void close() {
+    try {
+      near.close();
+    } finally {
+      far.close();
+    }
+  }
+
+}
@@ -18,6 +18,7 @@
  */
 package ch.keybridge.rs.feature;
 
+import ch.keybridge.rs.binding.FilterBindings;
 import ch.keybridge.rs.filter.CacheControlling;
 import ch.keybridge.rs.filter.impl.CacheControlFilter;
 import java.lang.reflect.Method;
@@ -64,29 +65,25 @@ public class CacheControlDynamicFeature implements DynamicFeature {
     /**
      * Only apply cache control to GET methods.
      */
-    if (!method.isAnnotationPresent(GET.class)) {
+    FilterBindings bindings = FilterBindings.getInstance();
+    if (!bindings.isAnnotationPresent(method, GET.class)) {
       return;
     }
     /**
      * Get the declaring anotation instances.
      */
-    CacheControlling classCache = declaring.getAnnotation(CacheControlling.class);
-    CacheControlling methodCache = method.getAnnotation(CacheControlling.class);
+    CacheControlling classCache = bindings.getAnnotation(declaring, CacheControlling.class);
+    CacheControlling methodCache = bindings.getAnnotation(method, CacheControlling.class);
     /**
-     * Build a CacheControl instance based on the method or class annotation,
-     * prioritizing the method annotation if both are present.
+     * Configure the filter from the method or class annotation, prioritizing
+     * the method annotation if both are present.
      */
-    CacheControl cacheControl = null;
-    if (methodCache != null) {
-      cacheControl = buildCacheControl(methodCache);
-    } else if (classCache != null) {
-      cacheControl = buildCacheControl(classCache);
-    }
+    CacheControlling cache = methodCache != null ? methodCache : classCache;
     /**
      * Fail gracefully.
      */
-    if (cacheControl != null) {
-      context.register(new CacheControlFilter(cacheControl));
+    if (cache != null) {
+      context.register(new CacheControlFilter(buildCacheControl(cache), cache.maxEntitySize(), cache.chunkSize(), cache.tags()));
     }
 
   }
@@ -98,7 +95,7 @@ public class CacheControlDynamicFeature implements DynamicFeature {
    * @param cache The cache annotation instance
    * @return A CacheControl configuration
    */
-  private CacheControl buildCacheControl(CacheControlling cache) {
+  static CacheControl buildCacheControl(CacheControlling cache) {
     CacheControl cacheControl = new CacheControl();
     /**
      * If no-cache is set then simply declare no-cache and return.
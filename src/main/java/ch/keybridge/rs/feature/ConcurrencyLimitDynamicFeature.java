@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.feature;
+
+import ch.keybridge.rs.binding.FilterBindings;
+import ch.keybridge.rs.filter.ConcurrencyLimited;
+import ch.keybridge.rs.filter.impl.ConcurrencyLimitFilter;
+import ch.keybridge.rs.limit.AdaptiveLimiter;
+import ch.keybridge.rs.metrics.MetricsRegistry;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * DynamicFeature implementation to apply the ConcurrencyLimitFilter to REST
+ * classes or methods annotated with the @ConcurrencyLimited interface.
+ * Limiters are registered with the {@link MetricsRegistry} by name, so methods
+ * naming the same limiter share it.
+ * <p>
+ * The filter is registered before authentication so that excess requests are
+ * shed before any other work is done.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@Provider
+public class ConcurrencyLimitDynamicFeature implements DynamicFeature {
+
+  /**
+   * The concurrency limit filter priority.
+   */
+  public static final int PRIORITY = Priorities.AUTHENTICATION - 100;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Register a concurrency limit filter for annotated resource methods,
+   * prioritizing the method annotation if both are present.
+   */
+  @Override
+  public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+    /**
+     * Get the declaring class or method. Abort if either is null.
+     */
+    final Class<?> declaring = resourceInfo.getResourceClass();
+    final Method method = resourceInfo.getResourceMethod();
+    if (declaring == null || method == null) {
+      return;
+    }
+    ConcurrencyLimited limit = FilterBindings.getInstance().getAnnotation(method, ConcurrencyLimited.class);
+    if (limit == null) {
+      limit = FilterBindings.getInstance().getAnnotation(declaring, ConcurrencyLimited.class);
+    }
+    if (limit == null) {
+      return;
+    }
+    String name = limit.name().isEmpty() ? declaring.getSimpleName() + "#" + method.getName() : limit.name();
+    AdaptiveLimiter limiter = MetricsRegistry.getInstance().register(new AdaptiveLimiter(name,
+                                                                                         limit.algorithm(),
+                                                                                         limit.initialLimit(),
+                                                                                         limit.minLimit(),
+                                                                                         limit.maxLimit(),
+                                                                                         limit.timeout(),
+                                                                                         TimeUnit.MILLISECONDS));
+    context.register(new ConcurrencyLimitFilter(limiter, limit.priority()), PRIORITY);
+  }
+
+}
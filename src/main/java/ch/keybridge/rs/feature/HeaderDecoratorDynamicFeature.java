@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.feature;
+
+import ch.keybridge.rs.binding.FilterBindings;
+import ch.keybridge.rs.filter.CacheControlling;
+import ch.keybridge.rs.filter.CrossOrigin;
+import ch.keybridge.rs.filter.Etag;
+import ch.keybridge.rs.filter.MessageAddressing;
+import ch.keybridge.rs.filter.impl.CacheControlFilter;
+import ch.keybridge.rs.filter.impl.HeaderDecoratorFilter;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.ws.rs.GET;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Providers;
+
+/**
+ * DynamicFeature implementation to apply a single fused
+ * {@link HeaderDecoratorFilter} to each resource method annotated with any of
+ * the header decorator annotations: {@code @CacheControlling},
+ * {@code @CrossOrigin}, {@code @Etag} and {@code @MessageAddressing}. The
+ * annotations are read once, at deployment time, and the fused filter writes
+ * the headers of all four in one pass.
+ * <p>
+ * This feature is opt-in: register it explicitly with the application. The
+ * individual header filters may remain registered; they do nothing for
+ * responses decorated by the fused filter. Methods with a
+ * {@code @CacheControlling} maximum entity size are not fused.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class HeaderDecoratorDynamicFeature implements DynamicFeature {
+
+  private static final Logger LOG = Logger.getLogger(HeaderDecoratorDynamicFeature.class.getName());
+
+  /**
+   * The fused filter priority. Response filters run in descending priority
+   * order, so the fused filter runs before the individual header filters.
+   */
+  private static final int PRIORITY = Priorities.HEADER_DECORATOR + 1;
+
+  /**
+   * The application providers. Filter instances registered by this feature
+   * are not injected, so the providers are handed to each fused filter.
+   */
+  @Context
+  private Providers providers;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Register a fused header filter for the resource method if it or its class
+   * is annotated with any header decorator annotation.
+   */
+  @Override
+  public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+    /**
+     * Get the declaring class or method. Abort if either is null.
+     */
+    final Class<?> declaring = resourceInfo.getResourceClass();
+    final Method method = resourceInfo.getResourceMethod();
+    if (declaring == null || method == null) {
+      return;
+    }
+    /**
+     * Cache control only applies to GET methods. Prioritize the method
+     * annotation if both are present.
+     */
+    FilterBindings bindings = FilterBindings.getInstance();
+    CacheControlling cache = null;
+    if (bindings.isAnnotationPresent(method, GET.class)) {
+      cache = bindings.isAnnotationPresent(method, CacheControlling.class)
+              ? bindings.getAnnotation(method, CacheControlling.class)
+              : bindings.getAnnotation(declaring, CacheControlling.class);
+    }
+    boolean crossOrigin = isPresent(CrossOrigin.class, declaring, method);
+    boolean etag = isPresent(Etag.class, declaring, method);
+    boolean messageAddressing = isPresent(MessageAddressing.class, declaring, method);
+    if (cache == null && !crossOrigin && !etag && !messageAddressing) {
+      return;
+    }
+    /**
+     * An entity size limit requires the cache control writer interceptor.
+     * Leave the method to the individual filters.
+     */
+    if (cache != null && cache.maxEntitySize() >= 0) {
+      LOG.log(Level.FINE, "Not fusing headers of {0}: cache control limits the entity size", method);
+      return;
+    }
+    CacheControlFilter cacheControl = cache == null
+                                      ? null
+                                      : new CacheControlFilter(CacheControlDynamicFeature.buildCacheControl(cache), -1, cache.chunkSize(), cache.tags());
+    context.register(new HeaderDecoratorFilter(cacheControl, crossOrigin, etag, messageAddressing, resourceInfo, providers), PRIORITY);
+  }
+
+  /**
+   * Determine if an annotation is present on the method or its class.
+   */
+  private static boolean isPresent(Class<? extends Annotation> annotation, Class<?> declaring, Method method) {
+    return FilterBindings.getInstance().isAnnotationPresent(method, annotation)
+           || FilterBindings.getInstance().isAnnotationPresent(declaring, annotation);
+  }
+
+}
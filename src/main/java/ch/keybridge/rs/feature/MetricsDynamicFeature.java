@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.feature;
+
+import ch.keybridge.rs.binding.FilterBindings;
+import ch.keybridge.rs.filter.impl.MetricsFilter;
+import ch.keybridge.rs.metrics.MetricsRegistry;
+import ch.keybridge.rs.metrics.ResourceMetrics;
+import java.lang.reflect.Method;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * DynamicFeature implementation to apply the MetricsFilter to every resource
+ * method. Each resource method receives its own filter instance bound to a
+ * {@link ResourceMetrics} set, which is registered with the
+ * {@link MetricsRegistry} and published via JMX. The metric set is named after
+ * the resource class binary name, the method name and the erased parameter
+ * types, e.g. {@code com.example.CustomerResource#get(java.lang.String)}, so
+ * that overloaded methods and same-named classes are counted apart.
+ * <p>
+ * The filter is registered with a priority lower than authentication so that
+ * its request filter runs first and its response filter runs last, capturing
+ * the time spent in all other filters and in the resource method.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@Provider
+public class MetricsDynamicFeature implements DynamicFeature {
+
+  /**
+   * The metrics filter priority. Request filters are sorted ascending and
+   * response filters descending, so this wraps all other filters.
+   */
+  public static final int PRIORITY = Priorities.AUTHENTICATION - 500;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Register a metrics filter for the resource method.
+   */
+  @Override
+  public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+    /**
+     * Get the declaring class or method. Abort if either is null.
+     */
+    final Class<?> declaring = resourceInfo.getResourceClass();
+    final Method method = resourceInfo.getResourceMethod();
+    if (declaring == null || method == null) {
+      return;
+    }
+    /**
+     * Name the metrics after the resource class, which may inherit the method.
+     */
+    String key = FilterBindings.key(method);
+    String name = declaring.getName() + key.substring(key.indexOf('#'));
+    ResourceMetrics metrics = MetricsRegistry.getInstance().register(new ResourceMetrics(name));
+    context.register(new MetricsFilter(metrics), PRIORITY);
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.feature;
+
+import ch.keybridge.rs.binding.FilterBindings;
+import ch.keybridge.rs.filter.RateLimited;
+import ch.keybridge.rs.filter.impl.RateLimitFilter;
+import ch.keybridge.rs.limit.RateLimiter;
+import java.lang.reflect.Method;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * DynamicFeature implementation to apply the RateLimitFilter to REST classes or
+ * methods annotated with the @RateLimited interface. The limit is resolved once
+ * per resource method at deployment time and each method receives its own
+ * {@link RateLimiter}.
+ * <p>
+ * The filter is registered after authentication, so that requests may be
+ * limited per user principal, and before authorization.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@Provider
+public class RateLimitDynamicFeature implements DynamicFeature {
+
+  private static final Logger LOG = Logger.getLogger(RateLimitDynamicFeature.class.getName());
+
+  /**
+   * The rate limit filter priority.
+   */
+  public static final int PRIORITY = Priorities.AUTHORIZATION - 100;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Register a rate limit filter for annotated resource methods, prioritizing
+   * the method annotation if both are present.
+   */
+  @Override
+  public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+    /**
+     * Get the declaring class or method. Abort if either is null.
+     */
+    final Class<?> declaring = resourceInfo.getResourceClass();
+    final Method method = resourceInfo.getResourceMethod();
+    if (declaring == null || method == null) {
+      return;
+    }
+    RateLimited limit = FilterBindings.getInstance().getAnnotation(method, RateLimited.class);
+    if (limit == null) {
+      limit = FilterBindings.getInstance().getAnnotation(declaring, RateLimited.class);
+    }
+    if (limit == null) {
+      return;
+    }
+    RateLimiter limiter = new RateLimiter(limit.permits(), limit.period(), limit.unit(), limit.burst(), limit.maxKeys());
+    LOG.log(Level.FINE, "Rate limit {0}#{1} {2} per {3} {4} by {5}", new Object[]{declaring.getSimpleName(), method.getName(), limit.permits(), limit.period(), limit.unit(), limit.key()});
+    context.register(new RateLimitFilter(limiter, limit.key(), limit.header(), limit.trustedProxies()), PRIORITY);
+  }
+
+}
@@ -5,6 +5,7 @@
  */
 package ch.keybridge.rs.filter;
 
+import ch.keybridge.rs.JerseyClientProperties;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -120,4 +121,34 @@ public @interface CacheControlling {
    */
   boolean isPrivate() default false;
 
+  /**
+   * The maximum cacheable entity size, in bytes. The entity, including a
+   * {@code StreamingOutput}, is held back while it is written; if it exceeds
+   * this size the cache directives are replaced with no-store and the entity
+   * is streamed in chunks. Negative (the default) for no limit.
+   *
+   * @return the maximum cacheable entity size
+   */
+  int maxEntitySize() default -1;
+
+  /**
+   * Cache tags of the response, used to purge it with the
+   * {@code CacheInvalidator} when the underlying entity changes. A tag is
+   * static (e.g. {@code customers}) or contains path parameter templates
+   * (e.g. {@code customer:{id}}), which are replaced with the request path
+   * parameter values. The tags are also sent in the {@code Cache-Tag} response
+   * header.
+   *
+   * @return the cache tags
+   */
+  String[] tags() default {};
+
+  /**
+   * The chunk size, in bytes, for entities that exceed the maximum cacheable
+   * entity size. Matches the Jersey client chunked encoding default.
+   *
+   * @return the chunk size
+   */
+  int chunkSize() default JerseyClientProperties.DEFAULT_CHUNK_SIZE;
+
 }
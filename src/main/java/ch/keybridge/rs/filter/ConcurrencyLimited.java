@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter;
+
+import ch.keybridge.rs.type.LimitAlgorithm;
+import ch.keybridge.rs.type.SheddingPriority;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import javax.ws.rs.NameBinding;
+
+/**
+ * Apply an adaptive concurrency limit to a resource method. The number of
+ * requests in flight is limited to a value that is continuously adjusted from
+ * the observed latency. Requests over the limit are shed immediately with HTTP
+ * 503 (Service Unavailable) rather than queued.
+ * <p>
+ * Resource methods that share a limiter {@link #name()} share one limit: use
+ * this to protect a common downstream resource (e.g. a database) and to shed
+ * low priority methods before high priority ones. The limiter configuration is
+ * taken from the first method registered with the name.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@NameBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+
+  /**
+   * The limiter name. Default (empty) is a limiter per resource method.
+   *
+   * @return the limiter name
+   */
+  String name() default "";
+
+  /**
+   * The limit algorithm. Default is gradient.
+   *
+   * @return the algorithm
+   */
+  LimitAlgorithm algorithm() default LimitAlgorithm.GRADIENT;
+
+  /**
+   * The shedding priority of this method's requests. Default is normal.
+   *
+   * @return the priority
+   */
+  SheddingPriority priority() default SheddingPriority.NORMAL;
+
+  /**
+   * The initial concurrency limit.
+   *
+   * @return the initial limit
+   */
+  int initialLimit() default 20;
+
+  /**
+   * The minimum concurrency limit.
+   *
+   * @return the minimum limit
+   */
+  int minLimit() default 4;
+
+  /**
+   * The maximum concurrency limit.
+   *
+   * @return the maximum limit
+   */
+  int maxLimit() default 200;
+
+  /**
+   * The latency in milliseconds above which a request counts as dropped by the
+   * AIMD algorithm.
+   *
+   * @return the timeout in milliseconds
+   */
+  long timeout() default 5000;
+
+}
@@ -18,6 +18,7 @@
  */
 package ch.keybridge.rs.filter;
 
+import ch.keybridge.rs.JerseyClientProperties;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -51,7 +52,8 @@ import javax.ws.rs.NameBinding;
  * You can manually set the ETag by setting a response header "ETAG", which will
  * be picked up by the filter and set. A manual ETag should ALWAYS be used for
  * large message body content. Otherwise, an ETag is calculated as the MD5 hash
- * of the message body content.
+ * of the request URI and date or, if {@link #maxBufferSize()} is set, of the
+ * message body content.
  *
  * @see
  * <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/ETag">ETag</a>
@@ -83,4 +85,24 @@ public @interface Etag {
    */
   boolean weak() default false;
 
+  /**
+   * The maximum entity size, in bytes, for which the ETag is computed from the
+   * entity content. The entity, including a {@code StreamingOutput}, is held
+   * back while it is written and digested incrementally; if it completes
+   * within this size the ETag is set to its MD5 digest. Larger entities are
+   * streamed in chunks with the request ETag. Zero (the default) disables
+   * content ETags.
+   *
+   * @return the maximum entity size held for a content ETag
+   */
+  int maxBufferSize() default 0;
+
+  /**
+   * The chunk size, in bytes, for entities that exceed the maximum buffer
+   * size. Matches the Jersey client chunked encoding default.
+   *
+   * @return the chunk size
+   */
+  int chunkSize() default JerseyClientProperties.DEFAULT_CHUNK_SIZE;
+
 }
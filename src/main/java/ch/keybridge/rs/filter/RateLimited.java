@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter;
+
+import ch.keybridge.rs.type.RateLimitKey;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.NameBinding;
+
+/**
+ * Limit the request rate of a resource method. Each client, identified by the
+ * {@link #key()}, may make {@link #permits()} requests per {@link #period()}
+ * and may burst up to {@link #burst()} requests. Requests over the limit are
+ * rejected with HTTP 429 (Too Many Requests) and a Retry-After header.
+ * <p>
+ * Limits apply per resource method: when the annotation is placed on a class
+ * each method receives its own buckets. A method annotation takes precedence
+ * over the class annotation.
+ * <p>
+ * Responses carry the RateLimit-Limit, RateLimit-Remaining and RateLimit-Reset
+ * headers.
+ *
+ * @see <a href="https://tools.ietf.org/html/rfc6585#section-4">RFC 6585,
+ * section 4: 429 Too Many Requests</a>
+ * @see
+ * <a href="https://datatracker.ietf.org/doc/draft-ietf-httpapi-ratelimit-headers/">RateLimit
+ * header fields for HTTP</a>
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@NameBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+  /**
+   * The number of requests permitted per period.
+   *
+   * @return the number of permits
+   */
+  int permits();
+
+  /**
+   * The period length, in {@link #unit()}. Default is 1.
+   *
+   * @return the period
+   */
+  long period() default 1;
+
+  /**
+   * The period time unit. Default is seconds.
+   *
+   * @return the time unit
+   */
+  TimeUnit unit() default TimeUnit.SECONDS;
+
+  /**
+   * The maximum number of requests that may be made at once by an idle client.
+   * Default (-1) is the number of permits.
+   *
+   * @return the burst size
+   */
+  int burst() default -1;
+
+  /**
+   * How requests are assigned to buckets. Default is by remote address.
+   *
+   * @return the rate limit key
+   */
+  RateLimitKey key() default RateLimitKey.ADDRESS;
+
+  /**
+   * The API key request header name, used when the key is
+   * {@link RateLimitKey#API_KEY}.
+   *
+   * @return the header name
+   */
+  String header() default "X-API-Key";
+
+  /**
+   * The number of trusted proxies in front of the service that append to the
+   * X-Forwarded-For request header, used when the key is
+   * {@link RateLimitKey#FORWARDED}. The client address is the entry this many
+   * places from the right of the header. Default is 1.
+   *
+   * @return the number of trusted proxies
+   */
+  int trustedProxies() default 1;
+
+  /**
+   * The maximum number of client buckets held. Idle (full) buckets are evicted
+   * first; if all buckets are in use arbitrary buckets are discarded.
+   *
+   * @return the maximum number of buckets
+   */
+  int maxKeys() default 10000;
+
+}
@@ -32,11 +32,22 @@ import javax.ws.rs.container.ContainerResponseContext;
  */
 public abstract class AbstractContainerFilter {
 
+  /**
+   * The logger of each filter class, looked up once per class rather than on
+   * each filter instantiation.
+   */
+  private static final ClassValue<Logger> LOGGERS = new ClassValue<Logger>() {
+    @Override
+    protected Logger computeValue(Class<?> type) {
+      return Logger.getLogger(type.getName());
+    }
+  };
+
   @SuppressWarnings("NonConstantLogger")
   protected final Logger LOG;
 
   public AbstractContainerFilter() {
-    LOG = Logger.getLogger(this.getClass().getName());
+    LOG = LOGGERS.get(this.getClass());
   }
 
   /**
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.Deadline;
+import ch.keybridge.rs.JerseyClientProperties;
+import ch.keybridge.rs.metrics.MetricsRegistry;
+import ch.keybridge.rs.timeout.AdaptiveTimeout;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.client.Invocation;
+
+/**
+ * Client adaptive timeout filter. Sets the read timeout of each request from
+ * the {@link AdaptiveTimeout} of its endpoint and path template, and records
+ * the time to response. Registered by the AbstractRestClient after the load
+ * balancing filter, so that the timeout is learned per chosen endpoint.
+ * <p>
+ * The read timeout is shortened to the remaining time of the request deadline,
+ * if any, and replaces the configured read timeout in the
+ * {@value ch.keybridge.rs.Deadline#HEADER} header otherwise.
+ * <p>
+ * Timed out requests are not visible to client filters. They are recorded when
+ * the request is sent through {@link #prepare(Invocation)} and the caller
+ * reports the failure to the returned {@link Timing}, as
+ * {@code AbstractRestClient.invoke} does.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class AdaptiveTimeoutFilter implements ClientRequestFilter, ClientResponseFilter {
+
+  /**
+   * Request property holding the request {@link Timing}.
+   */
+  public static final String TIMING = AdaptiveTimeoutFilter.class.getName() + ".timing";
+  /**
+   * The maximum number of endpoint and path template timeouts per filter.
+   * Further paths share the {@code {other}} path template.
+   */
+  private static final int MAX_TIMEOUTS = 256;
+
+  /**
+   * The target base URI.
+   */
+  private final String target;
+  /**
+   * The multiple of the 99.9th percentile latency.
+   */
+  private final double multiplier;
+  /**
+   * The timeout bounds and the configured read timeout, in milliseconds.
+   */
+  private final int minimum, maximum, readTimeout;
+  /**
+   * The timeouts by endpoint and path template.
+   */
+  private final ConcurrentMap<String, AdaptiveTimeout> timeouts;
+
+  /**
+   * Create a new adaptive timeout filter.
+   *
+   * @param target      the target base URI
+   * @param multiplier  the multiple of the 99.9th percentile latency
+   * @param minimum     the minimum read timeout in milliseconds
+   * @param maximum     the maximum read timeout in milliseconds
+   * @param readTimeout the configured read timeout in milliseconds, used until
+   *                    enough latency samples are recorded
+   */
+  public AdaptiveTimeoutFilter(String target, double multiplier, int minimum, int maximum, int readTimeout) {
+    this.target = target.endsWith("/") ? target.substring(0, target.length() - 1) : target;
+    this.multiplier = multiplier;
+    this.minimum = minimum;
+    this.maximum = maximum;
+    this.readTimeout = readTimeout;
+    this.timeouts = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Prepare an invocation for timeout recording. The caller should report
+   * transport failures to the returned timing.
+   *
+   * @param invocation the invocation
+   * @return the timing
+   */
+  public static Timing prepare(Invocation invocation) {
+    Timing timing = new Timing();
+    invocation.property(TIMING, timing);
+    return timing;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Set the read timeout and start the timer.
+   */
+  @Override
+  public void filter(ClientRequestContext request) throws IOException {
+    AdaptiveTimeout timeout = getTimeout(request);
+    int millis = timeout.getReadTimeout();
+    Object property = request.getProperty(Deadline.PROPERTY);
+    Deadline deadline = property instanceof Deadline ? (Deadline) property : Deadline.current();
+    if (deadline != null) {
+      millis = (int) Math.max(1, Math.min(millis, deadline.remaining(TimeUnit.MILLISECONDS)));
+    } else if (request.getHeaders().containsKey(Deadline.HEADER)) {
+      request.getHeaders().putSingle(Deadline.HEADER, millis);
+    }
+    request.setProperty(JerseyClientProperties.READ_TIMEOUT, millis);
+    Object timing = request.getProperty(TIMING);
+    if (!(timing instanceof Timing)) {
+      timing = new Timing();
+      request.setProperty(TIMING, timing);
+    }
+    ((Timing) timing).start(timeout, millis);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Record the time to response.
+   */
+  @Override
+  public void filter(ClientRequestContext request, ClientResponseContext response) throws IOException {
+    Object timing = request.getProperty(TIMING);
+    if (timing instanceof Timing) {
+      ((Timing) timing).responded();
+    }
+  }
+
+  /**
+   * Get or create the timeout for the endpoint and path template of a request.
+   * The endpoint is the one chosen by the load balancing filter, if any.
+   */
+  private AdaptiveTimeout getTimeout(ClientRequestContext request) {
+    Object selection = request.getProperty(LoadBalancerFilter.SELECTION);
+    String endpoint = selection instanceof LoadBalancerFilter.Selection && ((LoadBalancerFilter.Selection) selection).getEndpoint() != null
+                      ? ((LoadBalancerFilter.Selection) selection).getEndpoint().getUri()
+                      : target;
+    Object template = request.getProperty(ClientMetricsFilter.PATH_TEMPLATE);
+    String path = template != null
+                  ? template.toString()
+                  : ClientMetricsFilter.derivePathTemplate(String.valueOf(URI.create(endpoint).getRawPath()), request.getUri());
+    String key = endpoint + " " + path;
+    AdaptiveTimeout timeout = timeouts.get(key);
+    if (timeout == null) {
+      if (timeouts.size() >= MAX_TIMEOUTS) {
+        path = ClientMetricsFilter.OTHER_PATH;
+        key = endpoint + " " + path;
+      }
+      String p = path;
+      timeout = timeouts.computeIfAbsent(key, k -> MetricsRegistry.getInstance().register(new AdaptiveTimeout(endpoint, p, multiplier, minimum, maximum, readTimeout)));
+    }
+    return timeout;
+  }
+
+  /**
+   * The timing of a single request. The outcome is recorded at most once.
+   */
+  public static class Timing {
+
+    private final AtomicBoolean done = new AtomicBoolean();
+    private volatile AdaptiveTimeout timeout;
+    private volatile int readTimeout;
+    private volatile long startNanos;
+
+    void start(AdaptiveTimeout timeout, int readTimeout) {
+      this.timeout = timeout;
+      this.readTimeout = readTimeout;
+      this.startNanos = System.nanoTime();
+    }
+
+    void responded() {
+      if (timeout != null && done.compareAndSet(false, true)) {
+        timeout.record(System.nanoTime() - startNanos);
+      }
+    }
+
+    /**
+     * Report a transport failure. A socket timeout after at least the read
+     * timeout is recorded as a timed out request; connect timeouts and other
+     * failures are ignored.
+     *
+     * @param cause the failure
+     */
+    public void failed(Throwable cause) {
+      if (timeout == null || !done.compareAndSet(false, true)) {
+        return;
+      }
+      long elapsed = System.nanoTime() - startNanos;
+      for (Throwable t = cause; t != null; t = t.getCause()) {
+        if (t instanceof SocketTimeoutException) {
+          if (elapsed >= TimeUnit.MILLISECONDS.toNanos(readTimeout)) {
+            timeout.timedOut(elapsed);
+          }
+          return;
+        }
+      }
+    }
+
+    /**
+     * Get the read timeout applied to the request.
+     *
+     * @return the read timeout in milliseconds, or zero if not started
+     */
+    public int getReadTimeout() {
+      return readTimeout;
+    }
+  }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.Deadline;
+import ch.keybridge.rs.auth.AccessToken;
+import ch.keybridge.rs.auth.TokenCache;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.Supplier;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+/**
+ * Client bearer token filter. Sends an access token for the configured
+ * audience from a {@link TokenCache} in the {@code Authorization} header of
+ * each request that does not already carry one. Registered by the
+ * AbstractRestClient.
+ * <p>
+ * Tokens are only sent to URIs under one of the configured base URIs, i.e.
+ * with the same scheme, host and port and a path at or below the base path, so
+ * that a request built from an absolute URI elsewhere, or a redirect to another
+ * host, never carries the credential.
+ * <p>
+ * If the service responds {@code 401 Unauthorized} the token is invalidated,
+ * forcing a single refresh however many requests were rejected with it, and
+ * the request is repeated once with the new token. The repeated response
+ * replaces the original. Requests with a stream entity cannot be repeated.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class BearerTokenFilter implements ClientRequestFilter, ClientResponseFilter {
+
+  /**
+   * Request property holding the {@link AccessToken} sent.
+   */
+  public static final String TOKEN = BearerTokenFilter.class.getName() + ".token";
+  /**
+   * Request property marking a repeated request.
+   */
+  private static final String REPEATED = BearerTokenFilter.class.getName() + ".repeated";
+
+  /**
+   * The token cache.
+   */
+  private final TokenCache tokens;
+  /**
+   * The token audience; may be null.
+   */
+  private final String audience;
+  /**
+   * The base URIs to which tokens are sent.
+   */
+  private final Supplier<? extends Collection<String>> bases;
+
+  /**
+   * Create a new bearer token filter.
+   *
+   * @param tokens   the token cache
+   * @param audience the token audience; may be null
+   * @param bases    the base URIs to which tokens are sent, e.g. the service
+   *                 base URI and its load balanced endpoints
+   */
+  public BearerTokenFilter(TokenCache tokens, String audience, Supplier<? extends Collection<String>> bases) {
+    if (tokens == null || bases == null) {
+      throw new IllegalArgumentException("Require a token cache and base URIs.");
+    }
+    this.tokens = tokens;
+    this.audience = audience;
+    this.bases = bases;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Set the Authorization header.
+   */
+  @Override
+  public void filter(ClientRequestContext request) throws IOException {
+    if (request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION) || !isInScope(request.getUri())) {
+      return;
+    }
+    AccessToken token = tokens.getToken(audience);
+    request.setProperty(TOKEN, token);
+    request.getHeaders().putSingle(HttpHeaders.AUTHORIZATION, "Bearer " + token.getValue());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Refresh the token and repeat the request once if it was rejected.
+   */
+  @Override
+  public void filter(ClientRequestContext request, ClientResponseContext response) throws IOException {
+    Object sent = request.getProperty(TOKEN);
+    if (response.getStatus() != Response.Status.UNAUTHORIZED.getStatusCode()
+        || !(sent instanceof AccessToken)
+        || request.getProperty(REPEATED) != null
+        || request.getEntity() instanceof InputStream) {
+      return;
+    }
+    AccessToken token = tokens.invalidate(audience, (AccessToken) sent);
+    /**
+     * Repeat the request through the same client, without the per-request
+     * state of the other filters.
+     */
+    MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+    request.getHeaders().forEach((header, values) -> headers.put(header, new ArrayList<>(values)));
+    headers.remove(HttpHeaders.CONTENT_TYPE);
+    headers.remove(HttpHeaders.CONTENT_LENGTH);
+    headers.putSingle(HttpHeaders.AUTHORIZATION, "Bearer " + token.getValue());
+    Invocation.Builder builder = request.getClient().target(request.getUri()).request()
+      .headers(headers)
+      .property(REPEATED, Boolean.TRUE)
+      .property(TOKEN, token);
+    for (String property : new String[]{ClientMetricsFilter.PATH_TEMPLATE, Deadline.PROPERTY}) {
+      if (request.getProperty(property) != null) {
+        builder.property(property, request.getProperty(property));
+      }
+    }
+    Response repeated = request.hasEntity()
+                        ? builder.method(request.getMethod(), Entity.entity(request.getEntity(), request.getMediaType()))
+                        : builder.method(request.getMethod());
+    if (response.hasEntity()) {
+      response.getEntityStream().close();
+    }
+    response.setStatus(repeated.getStatus());
+    response.getHeaders().clear();
+    response.getHeaders().putAll(repeated.getStringHeaders());
+    response.setEntityStream(repeated.readEntity(InputStream.class));
+  }
+
+  /**
+   * Determine whether a request URI is under one of the base URIs.
+   *
+   * @param uri the request URI
+   * @return true if a token may be sent
+   */
+  private boolean isInScope(URI uri) {
+    Collection<String> candidates = bases.get();
+    if (uri == null || candidates == null) {
+      return false;
+    }
+    for (String candidate : candidates) {
+      if (candidate != null && isUnder(uri, URI.create(candidate))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Determine whether a URI is under a base URI: the same scheme, host and
+   * port, and a path equal to or below the base path.
+   *
+   * @param uri  the URI
+   * @param base the base URI
+   * @return true if the URI is under the base URI
+   */
+  static boolean isUnder(URI uri, URI base) {
+    if (uri.getScheme() == null || !uri.getScheme().equalsIgnoreCase(base.getScheme())
+        || uri.getHost() == null || !uri.getHost().equalsIgnoreCase(base.getHost())
+        || port(uri) != port(base)) {
+      return false;
+    }
+    String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+    String basePath = base.getRawPath() == null ? "" : base.getRawPath();
+    if (basePath.endsWith("/")) {
+      basePath = basePath.substring(0, basePath.length() - 1);
+    }
+    return path.equals(basePath) || path.startsWith(basePath + "/");
+  }
+
+  /**
+   * Get the port of a URI, or the scheme default if none is set.
+   *
+   * @param uri the URI
+   * @return the port
+   */
+  private static int port(URI uri) {
+    if (uri.getPort() != -1) {
+      return uri.getPort();
+    }
+    return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+  }
+
+}
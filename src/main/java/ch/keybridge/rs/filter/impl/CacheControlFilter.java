@@ -18,7 +18,12 @@
  */
 package ch.keybridge.rs.filter.impl;
 
+import ch.keybridge.rs.cache.CacheInvalidator;
+import ch.keybridge.rs.etag.EtagStore;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.Priority;
 import javax.ws.rs.Priorities;
 import javax.ws.rs.container.ContainerRequestContext;
@@ -26,23 +31,52 @@ import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
 
 /**
  * A response filter to add cache control to the header. This is a dynamically
  * assigned filter and is instantiated by the CacheControlDynamicFeature
  * (provider).
+ * <p>
+ * If a maximum cacheable entity size is set then the filter also intercepts
+ * the entity: entities larger than the maximum, including streamed entities,
+ * are sent with {@code no-store} instead of the configured directives.
+ * <p>
+ * If cache tags are set then each cached response is indexed by its tags in
+ * the {@link CacheInvalidator} and the tags are sent in the
+ * {@value CacheInvalidator#HEADER} response header.
  *
  * @author Key Bridge
  * @since v0.4.0 created 12/21/19
  */
 @Priority(Priorities.HEADER_DECORATOR) // Header decorator filter/interceptor
-public class CacheControlFilter implements ContainerResponseFilter {
+public class CacheControlFilter implements ContainerResponseFilter, WriterInterceptor {
 
   /**
-   * A CacheControl instance
+   * The Cache-Control header value for entities over the maximum size.
    */
-  private final CacheControl cacheControl;
+  private static final String NO_STORE = "no-store";
+
+  /**
+   * The Cache-Control header value, serialized once from the CacheControl
+   * instance.
+   */
+  final String cacheControl;
+  /**
+   * The maximum cacheable entity size in bytes; negative for no limit.
+   */
+  private final int maxEntitySize;
+  /**
+   * The chunk size of entities that exceed the maximum size.
+   */
+  private final int chunkSize;
+  /**
+   * The cache tag templates.
+   */
+  private final String[] tags;
 
   /**
    * Create a new CacheControlFilter with a configured cache control instance.
@@ -50,7 +84,38 @@ public class CacheControlFilter implements ContainerResponseFilter {
    * @param cacheControl the CacheControl instance
    */
   public CacheControlFilter(CacheControl cacheControl) {
-    this.cacheControl = cacheControl;
+    this(cacheControl, -1, 0);
+  }
+
+  /**
+   * Create a new CacheControlFilter with a configured cache control instance
+   * and a maximum cacheable entity size.
+   *
+   * @param cacheControl  the CacheControl instance
+   * @param maxEntitySize the maximum cacheable entity size in bytes; negative
+   *                      for no limit
+   * @param chunkSize     the chunk size of entities that exceed the maximum
+   */
+  public CacheControlFilter(CacheControl cacheControl, int maxEntitySize, int chunkSize) {
+    this(cacheControl, maxEntitySize, chunkSize, new String[0]);
+  }
+
+  /**
+   * Create a new CacheControlFilter with a configured cache control instance,
+   * a maximum cacheable entity size and cache tags.
+   *
+   * @param cacheControl  the CacheControl instance
+   * @param maxEntitySize the maximum cacheable entity size in bytes; negative
+   *                      for no limit
+   * @param chunkSize     the chunk size of entities that exceed the maximum
+   * @param tags          the cache tag templates, which may contain path
+   *                      parameter names in braces
+   */
+  public CacheControlFilter(CacheControl cacheControl, int maxEntitySize, int chunkSize, String[] tags) {
+    this.cacheControl = cacheControl.toString();
+    this.maxEntitySize = maxEntitySize;
+    this.chunkSize = chunkSize;
+    this.tags = tags.clone();
   }
 
   /**
@@ -60,9 +125,89 @@ public class CacheControlFilter implements ContainerResponseFilter {
    */
   @Override
   public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+    if (requestContext.getProperty(HeaderDecoratorFilter.DECORATED) != null) {
+      return;
+    }
     if (responseContext.getStatus() == Response.Status.OK.getStatusCode()) {
       responseContext.getHeaders().putSingle(HttpHeaders.CACHE_CONTROL, cacheControl);
+      tag(requestContext, responseContext);
+    }
+  }
+
+  /**
+   * Index a successful response by its cache tags and set the cache tag
+   * header, if cache tags are configured.
+   *
+   * @param requestContext  the request
+   * @param responseContext the response
+   */
+  void tag(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    if (tags.length > 0) {
+      List<String> resolved = resolveTags(requestContext.getUriInfo().getPathParameters());
+      responseContext.getHeaders().putSingle(CacheInvalidator.HEADER, String.join(",", resolved));
+      CacheInvalidator.getInstance().index(EtagStore.key(requestContext.getUriInfo().getRequestUri()), resolved);
+    }
+  }
+
+  /**
+   * @return the maximum cacheable entity size in bytes; negative for no limit
+   */
+  int getMaxEntitySize() {
+    return maxEntitySize;
+  }
+
+  /**
+   * Replace the path parameter templates in the cache tags with the request
+   * path parameter values. Unknown parameters are left as is.
+   */
+  private List<String> resolveTags(MultivaluedMap<String, String> parameters) {
+    List<String> resolved = new ArrayList<>(tags.length);
+    for (String tag : tags) {
+      int open = tag.indexOf('{');
+      if (open < 0) {
+        resolved.add(tag);
+        continue;
+      }
+      StringBuilder sb = new StringBuilder(tag.length() + 16);
+      int start = 0;
+      while (open >= 0) {
+        int close = tag.indexOf('}', open);
+        if (close < 0) {
+          break;
+        }
+        String value = parameters.getFirst(tag.substring(open + 1, close));
+        sb.append(tag, start, open).append(value != null ? value : tag.substring(open, close + 1));
+        start = close + 1;
+        open = tag.indexOf('{', start);
+      }
+      resolved.add(sb.append(tag, start, tag.length()).toString());
+    }
+    return resolved;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * If the cache directives were applied and a maximum entity size is set,
+   * hold back the entity and replace the directives with no-store if it
+   * exceeds the maximum.
+   */
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+    if (maxEntitySize < 0 || !context.getHeaders().containsKey(HttpHeaders.CACHE_CONTROL)) {
+      context.proceed();
+      return;
+    }
+    OutputStream original = context.getOutputStream();
+    EntityBufferOutputStream buffer = new EntityBufferOutputStream(original, maxEntitySize, chunkSize, null,
+                                                                   () -> context.getHeaders().putSingle(HttpHeaders.CACHE_CONTROL, NO_STORE));
+    context.setOutputStream(buffer);
+    try {
+      context.proceed();
+    } finally {
+      context.setOutputStream(original);
     }
+    buffer.finish();
   }
 
 }
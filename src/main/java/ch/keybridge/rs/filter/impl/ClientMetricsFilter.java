@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.metrics.ClientMetrics;
+import ch.keybridge.rs.metrics.MetricsRegistry;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+
+/**
+ * Client metrics filter. Records time to first byte, total time and outcome
+ * counts for each outbound request, per target base URI and request path
+ * template. Registered by the AbstractRestClient.
+ * <p>
+ * The path template is read from the {@value #PATH_TEMPLATE} request property
+ * if present. Otherwise it is derived from the request path relative to the
+ * base URI, replacing path segments that contain a digit with {@code {}}. The
+ * number of distinct path templates per filter is bounded.
+ * <p>
+ * Transport failures (timeouts, refused connections) are not visible to client
+ * filters. They are recorded when the request is sent through
+ * {@link #prepare(Invocation, String)} and the caller reports the failure to
+ * the returned {@link Exchange}, as {@code AbstractRestClient.invoke} does.
+ * Requests sent directly through the client that get no response within the
+ * connect and read timeouts (plus a second's grace) are expired: they leave the
+ * in-flight count and are counted as timeouts. The timeouts are those applied
+ * to the request, set by the {@link RequestExpiryFilter}, e.g. an adaptive read
+ * timeout; without it the configured timeouts are used.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class ClientMetricsFilter implements ClientRequestFilter, ClientResponseFilter, ReaderInterceptor {
+
+  /**
+   * Request property naming the request path template, e.g.
+   * {@code customers/{id}}.
+   */
+  public static final String PATH_TEMPLATE = "ch.keybridge.rs.pathTemplate";
+  /**
+   * Request property holding the request {@link Exchange}.
+   */
+  public static final String EXCHANGE = ClientMetricsFilter.class.getName() + ".exchange";
+  /**
+   * The maximum number of distinct path templates recorded per filter. Further
+   * paths are recorded under {@value #OTHER_PATH}.
+   */
+  private static final int MAX_PATHS = 256;
+  /**
+   * The path template for paths beyond the limit.
+   */
+  static final String OTHER_PATH = "{other}";
+
+  /**
+   * The target base URI.
+   */
+  private final String target;
+  /**
+   * The raw base URI path, which is removed from request paths.
+   */
+  private final String basePath;
+  /**
+   * The configured timeouts, in milliseconds.
+   */
+  private final int connectTimeout, readTimeout;
+  /**
+   * The time to live of a request without a response, in nanoseconds, until
+   * the {@link RequestExpiryFilter} sets it from the applied timeouts; zero if
+   * requests do not expire.
+   */
+  private final long timeToLive;
+  /**
+   * The metrics for each path template.
+   */
+  private final ConcurrentMap<String, ClientMetrics> paths;
+
+  /**
+   * Create a new client metrics filter.
+   *
+   * @param target         the target base URI
+   * @param connectTimeout the configured connect timeout in milliseconds
+   * @param readTimeout    the configured read timeout in milliseconds
+   */
+  public ClientMetricsFilter(String target, int connectTimeout, int readTimeout) {
+    this.target = target;
+    String path = URI.create(target).getRawPath();
+    this.basePath = path == null ? "" : path;
+    this.connectTimeout = connectTimeout;
+    this.readTimeout = readTimeout;
+    this.timeToLive = ExchangeExpiry.timeToLive(connectTimeout, readTimeout);
+    this.paths = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Prepare an invocation for metrics recording. Sets the path template and
+   * exchange properties. The caller should report transport failures to the
+   * returned exchange.
+   *
+   * @param invocation   the invocation
+   * @param pathTemplate the request path template; may be null
+   * @return the exchange
+   */
+  public static Exchange prepare(Invocation invocation, String pathTemplate) {
+    Exchange exchange = new Exchange();
+    invocation.property(EXCHANGE, exchange);
+    if (pathTemplate != null) {
+      invocation.property(PATH_TEMPLATE, pathTemplate);
+    }
+    return exchange;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Start the exchange timer.
+   */
+  @Override
+  public void filter(ClientRequestContext request) throws IOException {
+    Object property = request.getProperty(EXCHANGE);
+    Exchange exchange;
+    if (property instanceof Exchange) {
+      exchange = (Exchange) property;
+    } else {
+      exchange = new Exchange();
+      request.setProperty(EXCHANGE, exchange);
+    }
+    exchange.start(getMetrics(request), timeToLive);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Record the time to first byte and the response status. If there is no
+   * response entity then the exchange is also complete.
+   */
+  @Override
+  public void filter(ClientRequestContext request, ClientResponseContext response) throws IOException {
+    Object exchange = request.getProperty(EXCHANGE);
+    if (exchange instanceof Exchange) {
+      ((Exchange) exchange).responded(response.getStatus());
+      if (!response.hasEntity()) {
+        ((Exchange) exchange).completed();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Record the total time once the response entity is read.
+   */
+  @Override
+  public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+    try {
+      return context.proceed();
+    } finally {
+      Object exchange = context.getProperty(EXCHANGE);
+      if (exchange instanceof Exchange) {
+        ((Exchange) exchange).completed();
+      }
+    }
+  }
+
+  /**
+   * Get or create the metrics for a request path template.
+   */
+  private ClientMetrics getMetrics(ClientRequestContext request) {
+    Object template = request.getProperty(PATH_TEMPLATE);
+    String path = template != null ? template.toString() : derivePathTemplate(basePath, request.getUri());
+    ClientMetrics metrics = paths.get(path);
+    if (metrics == null) {
+      if (paths.size() >= MAX_PATHS) {
+        path = OTHER_PATH;
+      }
+      metrics = paths.computeIfAbsent(path, p -> {
+        ClientMetrics m = MetricsRegistry.getInstance().register(new ClientMetrics(target, p));
+        m.setTimeouts(connectTimeout, readTimeout);
+        return m;
+      });
+    }
+    return metrics;
+  }
+
+  /**
+   * Derive a path template from a request URI: the raw path relative to the
+   * base URI, with segments containing a digit replaced by {@code {}}.
+   */
+  static String derivePathTemplate(String basePath, URI uri) {
+    String path = uri.getRawPath();
+    if (path == null) {
+      return "";
+    }
+    if (path.startsWith(basePath)) {
+      path = path.substring(basePath.length());
+    }
+    StringBuilder sb = new StringBuilder(path.length());
+    int start = 0;
+    while (start < path.length() && path.charAt(start) == '/') {
+      start++;
+    }
+    while (start < path.length()) {
+      int end = path.indexOf('/', start);
+      if (end < 0) {
+        end = path.length();
+      }
+      if (sb.length() > 0) {
+        sb.append('/');
+      }
+      boolean variable = false;
+      for (int i = start; i < end && !variable; i++) {
+        variable = Character.isDigit(path.charAt(i));
+      }
+      if (variable) {
+        sb.append("{}");
+      } else {
+        sb.append(path, start, end);
+      }
+      start = end + 1;
+    }
+    return sb.toString();
+  }
+
+  /**
+   * The state of a single outbound request: started, responded and completed
+   * or failed. Each transition is recorded at most once. A started request
+   * without a response or reported failure expires after its time to live.
+   */
+  public static class Exchange implements ExchangeExpiry.Expiring {
+
+    private static final int NEW = 0, STARTED = 1, RESPONDED = 2, DONE = 3;
+
+    private final AtomicInteger state = new AtomicInteger(NEW);
+    private volatile ClientMetrics metrics;
+    private volatile long startNanos, expiry;
+
+    void start(ClientMetrics metrics, long timeToLive) {
+      this.metrics = metrics;
+      this.startNanos = metrics.begin();
+      state.set(STARTED);
+      expireAfter(timeToLive);
+    }
+
+    /**
+     * Set the time to live of the request, from its start.
+     *
+     * @param timeToLive the time to live in nanoseconds; zero if the request
+     *                   does not expire
+     */
+    void expireAfter(long timeToLive) {
+      if (timeToLive > 0 && state.get() == STARTED) {
+        this.expiry = startNanos + timeToLive;
+        ExchangeExpiry.track(this);
+      } else {
+        ExchangeExpiry.resolved(this);
+      }
+    }
+
+    void responded(int status) {
+      if (state.compareAndSet(STARTED, RESPONDED)) {
+        ExchangeExpiry.resolved(this);
+        metrics.responded(startNanos, status);
+      }
+    }
+
+    void completed() {
+      if (state.compareAndSet(RESPONDED, DONE)) {
+        metrics.completed(startNanos);
+      }
+    }
+
+    /**
+     * Report a transport failure. This is ignored unless the request was
+     * started and has not received a response.
+     *
+     * @param cause the failure
+     */
+    public void failed(Throwable cause) {
+      if (state.compareAndSet(STARTED, DONE)) {
+        ExchangeExpiry.resolved(this);
+        metrics.failed(cause);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getExpiry() {
+      return expiry;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Count the request as a timeout.
+     */
+    @Override
+    public void expire() {
+      failed(new SocketTimeoutException("No response within the request time to live"));
+    }
+
+    /**
+     * Get the request metrics.
+     *
+     * @return the metrics, or null if the request was not started
+     */
+    public ClientMetrics getMetrics() {
+      return metrics;
+    }
+  }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.limit.AdaptiveLimiter;
+import ch.keybridge.rs.type.SheddingPriority;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+/**
+ * Adaptive concurrency limit filter. The request filter admits the request
+ * under the limiter or sheds it with HTTP 503; the response filter releases
+ * the admitted request and reports its latency to the limiter.
+ * <p>
+ * The admission is kept as a permit in a request property. The permit is
+ * released at most once: by the response filter or, when the response filter
+ * does not run (an unmapped exception, an abort by a later filter), by the
+ * RequestCompletionListener when the servlet request ends, in which case it
+ * counts as a drop. Outside a servlet container the response filter is the
+ * only release path.
+ * <p>
+ * This is a dynamically assigned filter and is instantiated by the
+ * ConcurrencyLimitDynamicFeature (provider).
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class ConcurrencyLimitFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final Logger LOG = Logger.getLogger(ConcurrencyLimitFilter.class.getName());
+
+  /**
+   * Request property holding the admission permit.
+   */
+  private static final String ADMITTED = ConcurrencyLimitFilter.class.getName() + ".admitted";
+
+  /**
+   * The limiter.
+   */
+  private final AdaptiveLimiter limiter;
+  /**
+   * The shedding priority of requests to this resource method.
+   */
+  private final SheddingPriority priority;
+
+  /**
+   * Create a new concurrency limit filter.
+   *
+   * @param limiter  the limiter
+   * @param priority the shedding priority
+   */
+  public ConcurrencyLimitFilter(AdaptiveLimiter limiter, SheddingPriority priority) {
+    this.limiter = limiter;
+    this.priority = priority;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Admit the request or abort it with HTTP 503.
+   */
+  @Override
+  public void filter(ContainerRequestContext requestContext) throws IOException {
+    if (limiter.tryAcquire(priority)) {
+      requestContext.setProperty(ADMITTED, new Permit(limiter));
+      return;
+    }
+    LOG.log(Level.FINE, "Shed request '{'limiter={0}, limit={1}, priority={2}'}'", new Object[]{limiter.getName(), limiter.getLimit(), priority});
+    requestContext.abortWith(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, 1)
+      .build());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Release the admitted request. Server errors count as drops.
+   */
+  @Override
+  public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+    Object admitted = requestContext.getProperty(ADMITTED);
+    if (admitted instanceof Permit) {
+      requestContext.removeProperty(ADMITTED);
+      ((Permit) admitted).release(responseContext.getStatus() >= 500);
+    }
+  }
+
+  /**
+   * An admitted request, released at most once.
+   */
+  static final class Permit implements RequestCompletionListener.Completion {
+
+    private final AdaptiveLimiter limiter;
+    private final long admitted;
+    private final AtomicBoolean released;
+
+    Permit(AdaptiveLimiter limiter) {
+      this.limiter = limiter;
+      this.admitted = System.nanoTime();
+      this.released = new AtomicBoolean();
+    }
+
+    /**
+     * Release the admitted request.
+     *
+     * @param dropped true if the request failed with a server error
+     */
+    void release(boolean dropped) {
+      if (released.compareAndSet(false, true)) {
+        limiter.release(System.nanoTime() - admitted, dropped);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The request ended without a response filter: count it as a drop.
+     */
+    @Override
+    public void complete() {
+      release(true);
+    }
+  }
+
+}
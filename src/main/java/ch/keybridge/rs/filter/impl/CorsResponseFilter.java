@@ -62,6 +62,13 @@ import javax.ws.rs.ext.Provider;
 @Priority(Priorities.HEADER_DECORATOR) // Header decorator filter/interceptor
 public class CorsResponseFilter implements ContainerResponseFilter {
 
+  /**
+   * The CORS response header names and values.
+   */
+  static final String ALLOW_ORIGIN = "Access-Control-Allow-Origin", ALLOW_ORIGIN_VALUE = "*";
+  static final String ALLOW_METHODS = "Access-Control-Allow-Methods", ALLOW_METHODS_VALUE = "GET, HEAD, OPTIONS";
+  static final String ALLOW_HEADERS = "Access-Control-Allow-Headers", ALLOW_HEADERS_VALUE = "X-Requested-With, User-Agent, X-KeyBridge";
+
   /**
    * {@inheritDoc}
    * <p>
@@ -71,6 +78,9 @@ public class CorsResponseFilter implements ContainerResponseFilter {
    */
   @Override
   public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+    if (requestContext.getProperty(HeaderDecoratorFilter.DECORATED) != null) {
+      return;
+    }
     /**
      * Access-Control-Allow-Origin specifies either a single origin, which tells
      * browsers to allow that origin to access the resource; or else — for
@@ -81,7 +91,7 @@ public class CorsResponseFilter implements ContainerResponseFilter {
      * set this header if you want to make your REST API public where everyone
      * can access it
      */
-    responseContext.getHeaders().add("Access-Control-Allow-Origin", "*");
+    responseContext.getHeaders().add(ALLOW_ORIGIN, ALLOW_ORIGIN_VALUE);
     //  headers.add("Access-Control-Allow-Origin", "http://keybridgewireless.com"); //allows CORS requests only coming from keybridgewireless.com
 //  headers.add("Access-Control-Allow-Methods", "GET, POST, DELETE, PUT");
     /**
@@ -91,7 +101,7 @@ public class CorsResponseFilter implements ContainerResponseFilter {
      * <p>
      * See: https://developer.mozilla.org/en-US/docs/Web/HTTP/Methods
      */
-    responseContext.getHeaders().add("Access-Control-Allow-Methods", "GET, HEAD, OPTIONS");
+    responseContext.getHeaders().add(ALLOW_METHODS, ALLOW_METHODS_VALUE);
     /**
      * The Access-Control-Allow-Headers header is used in response to a
      * preflight request to indicate which HTTP headers can be used when making
@@ -106,7 +116,7 @@ public class CorsResponseFilter implements ContainerResponseFilter {
      * triggered by clicking a regular hyperlink or form submit button.
      */
 //    responseContext.getHeaders().add("Access-Control-Allow-Headers", "Accept, Accept-Language, Content-Language, Content-Type, X-Requested-With, User-Agent, X-KeyBridge");
-    responseContext.getHeaders().add("Access-Control-Allow-Headers", "X-Requested-With, User-Agent, X-KeyBridge");
+    responseContext.getHeaders().add(ALLOW_HEADERS, ALLOW_HEADERS_VALUE);
   }
 
 }
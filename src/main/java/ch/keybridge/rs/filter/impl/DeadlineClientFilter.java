@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.Deadline;
+import ch.keybridge.rs.JerseyClientProperties;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+
+/**
+ * Client deadline filter. Sends the remaining time budget of the request in the
+ * {@value ch.keybridge.rs.Deadline#HEADER} header and shortens the connect and
+ * read timeouts of the request to fit within it. Registered by the
+ * AbstractRestClient.
+ * <p>
+ * The deadline is read from the {@value ch.keybridge.rs.Deadline#PROPERTY}
+ * request property if set, otherwise from the current thread (e.g. the deadline
+ * of the server request being handled). Without a deadline the configured read
+ * timeout is sent as the budget. Requests whose deadline has already passed are
+ * not sent: they fail with a {@code ProcessingException} caused by a
+ * {@link SocketTimeoutException}.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class DeadlineClientFilter implements ClientRequestFilter {
+
+  /**
+   * The configured timeouts, in milliseconds. Zero is infinite.
+   */
+  private final int connectTimeout, readTimeout;
+
+  /**
+   * Create a new client deadline filter.
+   *
+   * @param connectTimeout the configured connect timeout in milliseconds
+   * @param readTimeout    the configured read timeout in milliseconds
+   */
+  public DeadlineClientFilter(int connectTimeout, int readTimeout) {
+    this.connectTimeout = connectTimeout;
+    this.readTimeout = readTimeout;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Set the deadline header and timeouts.
+   */
+  @Override
+  public void filter(ClientRequestContext requestContext) throws IOException {
+    Object property = requestContext.getProperty(Deadline.PROPERTY);
+    Deadline deadline = property instanceof Deadline ? (Deadline) property : Deadline.current();
+    if (deadline == null) {
+      if (readTimeout > 0) {
+        requestContext.getHeaders().putSingle(Deadline.HEADER, readTimeout);
+      }
+      return;
+    }
+    long remaining = deadline.remaining(TimeUnit.MILLISECONDS);
+    if (remaining <= 0) {
+      throw new SocketTimeoutException("Request deadline expired before the request was sent");
+    }
+    requestContext.getHeaders().putSingle(Deadline.HEADER, remaining);
+    requestContext.setProperty(JerseyClientProperties.CONNECT_TIMEOUT, shorten(connectTimeout, remaining));
+    requestContext.setProperty(JerseyClientProperties.READ_TIMEOUT, shorten(readTimeout, remaining));
+  }
+
+  /**
+   * Shorten a timeout to the remaining time.
+   */
+  private static int shorten(int timeout, long remaining) {
+    return (int) (timeout > 0 ? Math.min(timeout, remaining) : Math.min(Integer.MAX_VALUE, remaining));
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.Deadline;
+import ch.keybridge.rs.filter.DeadlinePropagating;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Deadline filter. Reads the caller's remaining time budget from the
+ * {@value ch.keybridge.rs.Deadline#HEADER} request header, rejects requests
+ * that have already expired with HTTP 504 and otherwise sets the deadline as a
+ * request property and as the current thread's deadline for the duration of
+ * the request.
+ * <p>
+ * The thread deadline is only available to synchronous resource methods, which
+ * run on the request filter thread. It is bound with {@link Deadline#bind()},
+ * which replaces any deadline left on a pooled thread by an earlier request
+ * whose response filter did not run (an unmapped exception, an abort by a later
+ * filter or an asynchronous response), so that such a deadline never narrows
+ * the budget of the next request. In a servlet container the
+ * RequestCompletionListener also clears the thread deadline when each request
+ * starts and ends, including requests that do not pass through this filter.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@Provider
+@DeadlinePropagating
+@Priority(Priorities.AUTHENTICATION - 200) // Before any other processing
+public class DeadlineFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final Logger LOG = Logger.getLogger(DeadlineFilter.class.getName());
+
+  /**
+   * Request property holding the deadline scope.
+   */
+  private static final String SCOPE = DeadlineFilter.class.getName() + ".scope";
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Read the deadline and reject the request if it has expired.
+   */
+  @Override
+  public void filter(ContainerRequestContext requestContext) throws IOException {
+    /**
+     * Drop any deadline left on this thread by an earlier request.
+     */
+    Deadline.clear();
+    Deadline deadline = Deadline.parse(requestContext.getHeaderString(Deadline.HEADER));
+    if (deadline == null) {
+      return;
+    }
+    if (deadline.isExpired()) {
+      LOG.log(Level.FINE, "Deadline expired on arrival '{'path={0}'}'", requestContext.getUriInfo().getPath());
+      requestContext.abortWith(Response.status(Response.Status.GATEWAY_TIMEOUT).build());
+      return;
+    }
+    requestContext.setProperty(Deadline.PROPERTY, deadline);
+    requestContext.setProperty(SCOPE, deadline.bind());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Restore the thread deadline.
+   */
+  @Override
+  public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+    Object scope = requestContext.getProperty(SCOPE);
+    if (scope instanceof Deadline.Scope) {
+      requestContext.removeProperty(SCOPE);
+      ((Deadline.Scope) scope).close();
+    }
+  }
+
+}
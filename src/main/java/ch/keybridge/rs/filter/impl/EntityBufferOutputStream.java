@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+
+/**
+ * An entity output stream that holds back the entity, up to a maximum size,
+ * so that response headers may still be set once the whole entity is known.
+ * An entity larger than the maximum overflows: the overflow action runs (while
+ * headers may still be set), then the held bytes and the remainder of the
+ * entity are written through to the target in chunks.
+ * <p>
+ * An optional digest is updated incrementally with every byte written,
+ * whether held or written through, so the entity is never materialized to
+ * compute it.
+ * <p>
+ * Close is ignored: the interceptor calls {@link #finish()} once the entity
+ * has been written, and the container closes the target stream.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+class EntityBufferOutputStream extends OutputStream {
+
+  /**
+   * The container entity stream.
+   */
+  private final OutputStream target;
+  /**
+   * The maximum number of bytes held.
+   */
+  private final int maxSize;
+  /**
+   * The write-through buffer size: the chunk size of an overflowed entity.
+   */
+  private final int chunkSize;
+  /**
+   * The entity digest. May be null.
+   */
+  private final MessageDigest digest;
+  /**
+   * Run once on overflow, before any byte is written to the target. May be
+   * null.
+   */
+  private final Runnable onOverflow;
+  /**
+   * The held bytes. Null after overflow.
+   */
+  private ByteArrayOutputStream buffer;
+  /**
+   * The write-through stream. Null until overflow.
+   */
+  private OutputStream out;
+
+  /**
+   * Construct a new entity buffer.
+   *
+   * @param target     the container entity stream
+   * @param maxSize    the maximum number of bytes held
+   * @param chunkSize  the write-through buffer size after overflow
+   * @param digest     a digest to update with the entity; may be null
+   * @param onOverflow an action to run on overflow; may be null
+   */
+  EntityBufferOutputStream(OutputStream target, int maxSize, int chunkSize, MessageDigest digest, Runnable onOverflow) {
+    this.target = target;
+    this.maxSize = maxSize;
+    this.chunkSize = chunkSize;
+    this.digest = digest;
+    this.onOverflow = onOverflow;
+    this.buffer = new ByteArrayOutputStream(Math.min(maxSize, 8192));
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[]{(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (digest != null) {
+      digest.update(b, off, len);
+    }
+    if (out == null) {
+      if (buffer.size() + len <= maxSize) {
+        buffer.write(b, off, len);
+        return;
+      }
+      overflow();
+    }
+    out.write(b, off, len);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Flushes only after overflow; held bytes are written by
+   * {@link #finish()}.
+   */
+  @Override
+  public void flush() throws IOException {
+    if (out != null) {
+      out.flush();
+    }
+  }
+
+  /**
+   * Ignored. The container closes the target stream.
+   */
+  @Override
+  public void close() {
+  }
+
+  /**
+   * Run the overflow action and switch to write-through.
+   */
+  private void overflow() throws IOException {
+    if (onOverflow != null) {
+      onOverflow.run();
+    }
+    out = new BufferedOutputStream(target, chunkSize);
+    buffer.writeTo(out);
+    buffer = null;
+  }
+
+  /**
+   * @return true if the entity exceeded the maximum size and was written
+   *         through
+   */
+  boolean isOverflowed() {
+    return out != null;
+  }
+
+  /**
+   * Complete the digest. Call once, after the entity is written.
+   *
+   * @return the digest of the entire entity, or null if no digest is computed
+   */
+  byte[] digest() {
+    return digest == null ? null : digest.digest();
+  }
+
+  /**
+   * Write the held bytes, or flush the write-through buffer, to the target.
+   *
+   * @throws IOException if the target cannot be written
+   */
+  void finish() throws IOException {
+    if (out != null) {
+      out.flush();
+    } else {
+      buffer.writeTo(target);
+      buffer = null;
+    }
+  }
+
+}
@@ -18,8 +18,12 @@
  */
 package ch.keybridge.rs.filter.impl;
 
+import ch.keybridge.rs.binding.FilterBindings;
+import ch.keybridge.rs.etag.EtagStore;
 import ch.keybridge.rs.filter.Etag;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
 import java.net.URI;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -28,12 +32,22 @@ import java.util.Objects;
 import java.util.logging.Level;
 import javax.annotation.Priority;
 import javax.ws.rs.Priorities;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ContextResolver;
 import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.Providers;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
 import javax.xml.bind.DatatypeConverter;
 
 /**
@@ -44,6 +58,22 @@ import javax.xml.bind.DatatypeConverter;
  * the generation of that entity-tag does not satisfy all of the characteristics
  * of a strong validator (Section 2.1), then the origin server MUST mark the
  * entity-tag as weak by prefixing its opaque value with "W/" (case-sensitive).
+ * <p>
+ * If the {@code Etag} annotation sets a maximum buffer size then the filter
+ * also intercepts the entity, including {@code StreamingOutput} and chunked
+ * entities, and digests it incrementally as it is written. An entity that
+ * completes within the maximum size is tagged with its content digest; a larger
+ * entity is streamed in chunks with the request ETag. The content digest of
+ * every intercepted entity is set in the {@value #CONTENT_DIGEST} request
+ * property.
+ * <p>
+ * If the application provides an {@link EtagStore} (through a
+ * {@code ContextResolver<EtagStore>}) then conditional GET and HEAD requests
+ * whose If-None-Match matches the stored entity tag are answered with 304 Not
+ * Modified before the resource method is invoked. The filter never records
+ * the tags of the responses it sends: the store only holds validators that the
+ * application pushed explicitly when the data changed, so that a 304 is never
+ * answered from a validator the application cannot invalidate.
  *
  * @author Key Bridge
  * @since v0.4.0 created 12/21/19
@@ -51,7 +81,83 @@ import javax.xml.bind.DatatypeConverter;
 @Provider
 @Etag
 @Priority(Priorities.HEADER_DECORATOR) // Header decorator filter/interceptor
-public class EtagFilter extends AbstractContainerFilter implements ContainerResponseFilter {
+public class EtagFilter extends AbstractContainerFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+  /**
+   * Request property holding the hex encoded MD5 digest of the response entity,
+   * set after the entity is written if content ETags are enabled.
+   */
+  public static final String CONTENT_DIGEST = "ch.keybridge.rs.contentDigest";
+  /**
+   * Request property holding the Etag annotation when the entity is to be
+   * digested.
+   */
+  private static final String DIGEST_CONFIG = EtagFilter.class.getName() + ".config";
+  /**
+   * Request property set once the EtagStore has been checked for a
+   * conditional request.
+   */
+  private static final String STORE_CHECKED = EtagFilter.class.getName() + ".storeChecked";
+
+  /**
+   * Provides access the resource class and resource method matched by the
+   * current request.
+   */
+  @Context
+  private ResourceInfo resourceInfo;
+  /**
+   * Provides access to the application EtagStore context resolver.
+   */
+  @Context
+  private Providers providers;
+
+  /**
+   * Create a new EtagFilter. The resource information and providers are
+   * injected by the container.
+   */
+  public EtagFilter() {
+  }
+
+  /**
+   * Create a new EtagFilter for one resource method. Filters registered by a
+   * DynamicFeature are not injected by the container, so the resource
+   * information and providers must be supplied.
+   *
+   * @param resourceInfo the resource class and method
+   * @param providers    the application providers; null for no EtagStore
+   */
+  protected EtagFilter(ResourceInfo resourceInfo, Providers providers) {
+    this.resourceInfo = resourceInfo;
+    this.providers = providers;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Answer a conditional GET or HEAD request with 304 Not Modified if its
+   * If-None-Match matches the stored entity tag.
+   */
+  @Override
+  public void filter(ContainerRequestContext requestContext) throws IOException {
+    if (requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH) == null
+        || !(HttpMethod.GET.equals(requestContext.getMethod()) || HttpMethod.HEAD.equals(requestContext.getMethod()))
+        || requestContext.getProperty(STORE_CHECKED) != null) {
+      return;
+    }
+    requestContext.setProperty(STORE_CHECKED, Boolean.TRUE);
+    EtagStore store = findStore();
+    if (store == null) {
+      return;
+    }
+    EntityTag etag = store.get(EtagStore.key(requestContext.getUriInfo().getRequestUri()));
+    if (etag == null) {
+      return;
+    }
+    Response.ResponseBuilder notModified = requestContext.getRequest().evaluatePreconditions(etag);
+    if (notModified != null) {
+      requestContext.abortWith(notModified.tag(etag).build());
+    }
+  }
 
   /**
    * {@inheritDoc}
@@ -62,9 +168,10 @@ public class EtagFilter extends AbstractContainerFilter implements ContainerResp
   @Override
   public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
     /**
-     * Short circuit if the ETag is already set.
+     * Short circuit if the ETag is already set or the response was decorated
+     * by the fused header filter.
      */
-    if (responseContext.getEntityTag() != null) {
+    if (responseContext.getEntityTag() != null || requestContext.getProperty(HeaderDecoratorFilter.DECORATED) != null) {
       return;
     }
     /**
@@ -93,6 +200,13 @@ public class EtagFilter extends AbstractContainerFilter implements ContainerResp
         LOG.log(Level.WARNING, "MD5 hash error:  {0}", noSuchAlgorithmException.getMessage());
         etag = new EntityTag(String.valueOf(Objects.hash(requestUri, LocalDate.now())), true);
       }
+      /**
+       * If content ETags are enabled then mark the entity to be digested.
+       */
+      Etag annotation = findAnnotation();
+      if (annotation != null && annotation.maxBufferSize() > 0) {
+        requestContext.setProperty(DIGEST_CONFIG, annotation);
+      }
     } else {
       /**
        * The response content is null. Do not set an entity tag.
@@ -107,6 +221,78 @@ public class EtagFilter extends AbstractContainerFilter implements ContainerResp
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * If the entity is marked to be digested then hold it back, up to the
+   * maximum buffer size, while digesting it. Replace the ETag with the content
+   * digest if the entity completes within the maximum size.
+   */
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+    Object config = context.getProperty(DIGEST_CONFIG);
+    if (!(config instanceof Etag)) {
+      context.proceed();
+      return;
+    }
+    Etag annotation = (Etag) config;
+    /**
+     * Claim the entity so that it is digested once.
+     */
+    context.removeProperty(DIGEST_CONFIG);
+    MessageDigest md;
+    try {
+      md = MessageDigest.getInstance("MD5");
+    } catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+      LOG.log(Level.WARNING, "MD5 hash error:  {0}", noSuchAlgorithmException.getMessage());
+      context.proceed();
+      return;
+    }
+    OutputStream original = context.getOutputStream();
+    EntityBufferOutputStream buffer = new EntityBufferOutputStream(original, annotation.maxBufferSize(), annotation.chunkSize(), md, null);
+    context.setOutputStream(buffer);
+    try {
+      context.proceed();
+    } finally {
+      context.setOutputStream(original);
+    }
+    String digest = DatatypeConverter.printHexBinary(buffer.digest()).toUpperCase();
+    context.setProperty(CONTENT_DIGEST, digest);
+    if (!buffer.isOverflowed()) {
+      EntityTag etag = new EntityTag(digest, annotation.weak());
+      context.getHeaders().putSingle(HttpHeaders.ETAG, etag);
+    }
+    buffer.finish();
+  }
+
+  /**
+   * Get the Etag annotation of the matched resource method, or else of the
+   * resource class.
+   *
+   * @return the annotation, or null if not available
+   */
+  private Etag findAnnotation() {
+    Method method = resourceInfo == null ? null : resourceInfo.getResourceMethod();
+    if (method == null) {
+      return null;
+    }
+    Etag annotation = FilterBindings.getInstance().getAnnotation(method, Etag.class);
+    return annotation != null ? annotation : FilterBindings.getInstance().getAnnotation(resourceInfo.getResourceClass(), Etag.class);
+  }
+
+  /**
+   * Get the application EtagStore for the matched resource class.
+   *
+   * @return the store, or null if none is provided
+   */
+  private EtagStore findStore() {
+    if (providers == null) {
+      return null;
+    }
+    ContextResolver<EtagStore> resolver = providers.getContextResolver(EtagStore.class, MediaType.WILDCARD_TYPE);
+    return resolver == null ? null : resolver.getContext(resourceInfo.getResourceClass());
+  }
+
   /**
    * Evaluate an MD5 hash.
    *
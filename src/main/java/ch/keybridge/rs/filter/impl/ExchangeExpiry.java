@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Expiry of outbound requests whose outcome is never reported. Client filters
+ * see responses but not transport failures: a request sent directly through a
+ * {@code Client}, rather than through {@code AbstractRestClient.invoke}, that
+ * fails with a timeout or refused connection never reaches the response
+ * filters. Per-request state that counts the request as in flight is therefore
+ * also tracked here, with a time to live a little longer than the connect and
+ * read timeouts applied to the request (see {@link RequestExpiryFilter}), and
+ * expired if it has not been resolved by then. The connector
+ * has certainly given up on the request at that point.
+ * <p>
+ * Tracked requests are swept once a second by a shared daemon thread. Tracking
+ * costs one concurrent set insertion and removal per request.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+final class ExchangeExpiry {
+
+  private static final Logger LOG = Logger.getLogger(ExchangeExpiry.class.getName());
+
+  /**
+   * The time allowed beyond the connect and read timeouts for the connector to
+   * report the outcome, in milliseconds.
+   */
+  private static final long GRACE_MILLIS = 1000;
+
+  /**
+   * The tracked requests.
+   */
+  private static final Set<Expiring> TRACKED = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Sweeps the tracked requests.
+   */
+  private static final ScheduledExecutorService SWEEPER = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "rs-client-expiry");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  static {
+    SWEEPER.scheduleWithFixedDelay(ExchangeExpiry::sweep, 1, 1, TimeUnit.SECONDS);
+  }
+
+  private ExchangeExpiry() {
+  }
+
+  /**
+   * Get the time to live of a request.
+   *
+   * @param connectTimeout the connect timeout in milliseconds; zero if none
+   * @param readTimeout    the read timeout in milliseconds; zero if none
+   * @return the time to live in nanoseconds, or zero if either timeout is
+   *         infinite, in which case requests are not tracked
+   */
+  static long timeToLive(int connectTimeout, int readTimeout) {
+    if (connectTimeout <= 0 || readTimeout <= 0) {
+      return 0;
+    }
+    return TimeUnit.MILLISECONDS.toNanos((long) connectTimeout + readTimeout + GRACE_MILLIS);
+  }
+
+  /**
+   * Track a request until it is resolved.
+   *
+   * @param request the request
+   */
+  static void track(Expiring request) {
+    TRACKED.add(request);
+  }
+
+  /**
+   * Stop tracking a resolved request.
+   *
+   * @param request the request
+   */
+  static void resolved(Expiring request) {
+    TRACKED.remove(request);
+  }
+
+  /**
+   * Expire every tracked request past its time to live.
+   */
+  private static void sweep() {
+    long now = System.nanoTime();
+    for (Expiring request : TRACKED) {
+      if (now - request.getExpiry() >= 0 && TRACKED.remove(request)) {
+        try {
+          request.expire();
+        } catch (RuntimeException e) {
+          LOG.log(Level.WARNING, "Request expiry failed: {0}", e.getMessage());
+        }
+      }
+    }
+  }
+
+  /**
+   * Per-request state that is resolved by a response or a reported failure,
+   * or else expired.
+   */
+  interface Expiring {
+
+    /**
+     * Get the expiry time.
+     *
+     * @return the expiry time as a {@link System#nanoTime()} value
+     */
+    long getExpiry();
+
+    /**
+     * Resolve the request as failed, unless already resolved.
+     */
+    void expire();
+  }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import java.io.IOException;
+import java.util.UUID;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Providers;
+
+/**
+ * A fused header decorator for one resource method. Applies the response
+ * headers of the {@link CacheControlFilter}, {@link CorsResponseFilter},
+ * {@link EtagFilter} and {@link MessageAddressingFilter} in a single pass:
+ * the static headers are serialized once, when the filter is created, and
+ * only the ETag, MessageID and RelatesTo values are computed per response.
+ * <p>
+ * This filter is instantiated by the HeaderDecoratorDynamicFeature and runs
+ * before the individual header filters, which do nothing for a response
+ * decorated by this filter.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class HeaderDecoratorFilter extends EtagFilter {
+
+  /**
+   * Request property set once the response headers are decorated.
+   */
+  public static final String DECORATED = "ch.keybridge.rs.headersDecorated";
+
+  /**
+   * The serialized headers added to every response, as name and value pairs.
+   */
+  private final String[] headers;
+  /**
+   * The cache control filter for successful responses. May be null.
+   */
+  private final CacheControlFilter cacheControl;
+  /**
+   * Apply the ETag and MessageID headers.
+   */
+  private final boolean etag, messageAddressing;
+
+  /**
+   * Create a new fused header filter.
+   *
+   * @param cacheControl      the cache control filter, which must not limit
+   *                          the entity size; null for none
+   * @param crossOrigin       add the CORS headers
+   * @param etag              add the ETag header
+   * @param messageAddressing add the MessageID and RelatesTo headers
+   * @param resourceInfo      the resource class and method
+   * @param providers         the application providers, used to find the
+   *                          EtagStore
+   */
+  public HeaderDecoratorFilter(CacheControlFilter cacheControl, boolean crossOrigin, boolean etag, boolean messageAddressing,
+                               ResourceInfo resourceInfo, Providers providers) {
+    super(resourceInfo, providers);
+    if (cacheControl != null && cacheControl.getMaxEntitySize() >= 0) {
+      throw new IllegalArgumentException("A cache control filter with a maximum entity size cannot be fused.");
+    }
+    this.headers = crossOrigin
+                   ? new String[]{CorsResponseFilter.ALLOW_ORIGIN, CorsResponseFilter.ALLOW_ORIGIN_VALUE,
+                                  CorsResponseFilter.ALLOW_METHODS, CorsResponseFilter.ALLOW_METHODS_VALUE,
+                                  CorsResponseFilter.ALLOW_HEADERS, CorsResponseFilter.ALLOW_HEADERS_VALUE}
+                   : new String[0];
+    this.cacheControl = cacheControl;
+    this.etag = etag;
+    this.messageAddressing = messageAddressing;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Answer conditional requests from the ETag store if ETags are enabled.
+   */
+  @Override
+  public void filter(ContainerRequestContext requestContext) throws IOException {
+    if (etag) {
+      super.filter(requestContext);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Write the static headers, then the ETag and message addressing headers.
+   */
+  @Override
+  public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+    MultivaluedMap<String, Object> responseHeaders = responseContext.getHeaders();
+    for (int i = 0; i < headers.length; i += 2) {
+      responseHeaders.add(headers[i], headers[i + 1]);
+    }
+    if (cacheControl != null && responseContext.getStatus() == Response.Status.OK.getStatusCode()) {
+      responseHeaders.putSingle(HttpHeaders.CACHE_CONTROL, cacheControl.cacheControl);
+      cacheControl.tag(requestContext, responseContext);
+    }
+    if (messageAddressing) {
+      responseHeaders.add(MessageAddressingFilter.MESSAGE_ID, UUID.randomUUID().toString());
+      String messageId = requestContext.getHeaderString(MessageAddressingFilter.MESSAGE_ID);
+      if (messageId != null) {
+        responseHeaders.add(MessageAddressingFilter.RELATES_TO, messageId);
+      }
+    }
+    if (etag) {
+      super.filter(requestContext, responseContext);
+    }
+    requestContext.setProperty(DECORATED, Boolean.TRUE);
+  }
+
+}
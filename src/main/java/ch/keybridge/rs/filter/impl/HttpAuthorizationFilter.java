@@ -21,6 +21,10 @@ import javax.ws.rs.core.Response;
  * logic from the Jersey RolesAllowedDynamicFeature.
  * <p>
  * To us: Annotate your REST class with 'HttpAuthorization'.
+ * <p>
+ * The security annotations are read by reflection, never from the generated
+ * filter binding registry, so that a missing or stale registry cannot grant
+ * access.
  *
  * @see
  * <a href="https://github.com/jersey/jersey/blob/master/core-server/src/main/java/org/glassfish/jersey/server/filter/RolesAllowedDynamicFeature.java">RolesAllowedDynamicFeature</a>
@@ -130,7 +134,7 @@ public class HttpAuthorizationFilter implements ContainerRequestFilter {
      */
     for (final String role : rolesAllowed) {
       if (requestContext.getSecurityContext().isUserInRole(role)) {
-        System.out.println("debug HttpAuthorizationFilter MATCH isUserInRole " + role);
+        LOG.log(Level.FINE, "Authenticated user in role {0}", role);
         return;
       }
     }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.lifecycle.ClientWarmup;
+import java.io.IOException;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+
+/**
+ * Client keep-alive filter. Records client activity with a
+ * {@link ClientWarmup}, so that keep-alive requests are only sent while the
+ * client is idle. Registered by the AbstractRestClient when keep-alive is
+ * enabled.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class KeepAliveFilter implements ClientRequestFilter {
+
+  /**
+   * The client warmup.
+   */
+  private final ClientWarmup warmup;
+
+  /**
+   * Create a new keep-alive filter.
+   *
+   * @param warmup the client warmup
+   */
+  public KeepAliveFilter(ClientWarmup warmup) {
+    this.warmup = warmup;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Record the request unless it is a warmup or keep-alive request.
+   */
+  @Override
+  public void filter(ClientRequestContext requestContext) throws IOException {
+    if (requestContext.getProperty(ClientWarmup.WARMUP) == null) {
+      warmup.touch();
+    }
+  }
+
+}
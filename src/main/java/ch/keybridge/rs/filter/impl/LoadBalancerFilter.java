@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.balance.Endpoint;
+import ch.keybridge.rs.balance.LoadBalancer;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.client.Invocation;
+
+/**
+ * Client load balancing filter. Requests to the logical base URI are sent to
+ * an endpoint chosen by a {@link LoadBalancer}: the base URI prefix of the
+ * request URI is replaced with the endpoint base URI. Requests to other URIs
+ * are not changed. The response status is reported to the load balancer;
+ * server errors (5xx) count as failures. Registered by the
+ * AbstractRestClient.
+ * <p>
+ * Transport failures (timeouts, refused connections) are not visible to client
+ * filters. They are reported through the {@link Selection} returned by
+ * {@link #prepare(Invocation)}, as {@code AbstractRestClient.invoke} does.
+ * Requests sent directly through the client that get no response within the
+ * connect and read timeouts (plus a second's grace) are expired and reported
+ * as failures, so that the outstanding count of the endpoint is released and
+ * the failure counts toward its ejection. The timeouts are those applied to
+ * the request, set by the {@link RequestExpiryFilter}, e.g. an adaptive read
+ * timeout; without it the configured timeouts are used.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class LoadBalancerFilter implements ClientRequestFilter, ClientResponseFilter {
+
+  /**
+   * Request property holding the request {@link Selection}.
+   */
+  public static final String SELECTION = LoadBalancerFilter.class.getName() + ".selection";
+
+  /**
+   * The logical base URI, without a trailing slash.
+   */
+  private final String base;
+  /**
+   * The load balancer.
+   */
+  private final LoadBalancer balancer;
+  /**
+   * The time to live of a request without a response, in nanoseconds, until
+   * the {@link RequestExpiryFilter} sets it from the applied timeouts; zero if
+   * requests do not expire.
+   */
+  private final long timeToLive;
+
+  /**
+   * Create a new load balancing filter.
+   *
+   * @param baseURI        the logical base URI used to build requests
+   * @param balancer       the load balancer
+   * @param connectTimeout the configured connect timeout in milliseconds
+   * @param readTimeout    the configured read timeout in milliseconds
+   */
+  public LoadBalancerFilter(String baseURI, LoadBalancer balancer, int connectTimeout, int readTimeout) {
+    this.base = baseURI.endsWith("/") ? baseURI.substring(0, baseURI.length() - 1) : baseURI;
+    this.balancer = balancer;
+    this.timeToLive = ExchangeExpiry.timeToLive(connectTimeout, readTimeout);
+  }
+
+  /**
+   * Prepare an invocation for load balancing. The caller should report
+   * transport failures to the returned selection.
+   *
+   * @param invocation the invocation
+   * @return the selection
+   */
+  public static Selection prepare(Invocation invocation) {
+    Selection selection = new Selection();
+    invocation.property(SELECTION, selection);
+    return selection;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Choose an endpoint and rewrite the request URI.
+   */
+  @Override
+  public void filter(ClientRequestContext request) throws IOException {
+    String uri = request.getUri().toString();
+    if (!uri.startsWith(base) || uri.length() > base.length() && "/?#".indexOf(uri.charAt(base.length())) < 0) {
+      return;
+    }
+    Object property = request.getProperty(SELECTION);
+    Selection selection;
+    if (property instanceof Selection) {
+      selection = (Selection) property;
+    } else {
+      selection = new Selection();
+      request.setProperty(SELECTION, selection);
+    }
+    Endpoint endpoint = balancer.choose();
+    selection.start(balancer, endpoint, timeToLive);
+    request.setUri(URI.create(endpoint.getUri() + uri.substring(base.length())));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Report the response to the load balancer.
+   */
+  @Override
+  public void filter(ClientRequestContext request, ClientResponseContext response) throws IOException {
+    Object selection = request.getProperty(SELECTION);
+    if (selection instanceof Selection) {
+      ((Selection) selection).responded(response.getStatus());
+    }
+  }
+
+  /**
+   * The endpoint chosen for a single request. The outcome is reported to the
+   * load balancer at most once. A selection without a response or reported
+   * failure expires after its time to live.
+   */
+  public static class Selection implements ExchangeExpiry.Expiring {
+
+    private final AtomicBoolean done = new AtomicBoolean();
+    private volatile LoadBalancer balancer;
+    private volatile Endpoint endpoint;
+    private volatile long startNanos, expiry;
+
+    void start(LoadBalancer balancer, Endpoint endpoint, long timeToLive) {
+      this.balancer = balancer;
+      this.endpoint = endpoint;
+      this.startNanos = System.nanoTime();
+      /**
+       * A re-invoked request reuses its selection: report the new outcome.
+       */
+      done.set(false);
+      expireAfter(timeToLive);
+    }
+
+    /**
+     * Set the time to live of the request, from its start.
+     *
+     * @param timeToLive the time to live in nanoseconds; zero if the request
+     *                   does not expire
+     */
+    void expireAfter(long timeToLive) {
+      if (timeToLive > 0 && !done.get()) {
+        this.expiry = startNanos + timeToLive;
+        ExchangeExpiry.track(this);
+      } else {
+        ExchangeExpiry.resolved(this);
+      }
+    }
+
+    void responded(int status) {
+      if (endpoint != null && done.compareAndSet(false, true)) {
+        ExchangeExpiry.resolved(this);
+        if (status >= 500) {
+          balancer.failed(endpoint);
+        } else {
+          balancer.succeeded(endpoint, System.nanoTime() - startNanos);
+        }
+      }
+    }
+
+    /**
+     * Report a transport failure. This is ignored unless an endpoint was
+     * chosen and has not responded.
+     */
+    public void failed() {
+      if (endpoint != null && done.compareAndSet(false, true)) {
+        ExchangeExpiry.resolved(this);
+        balancer.failed(endpoint);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getExpiry() {
+      return expiry;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Report the request as failed.
+     */
+    @Override
+    public void expire() {
+      failed();
+    }
+
+    /**
+     * Get the chosen endpoint.
+     *
+     * @return the endpoint, or null if none was chosen
+     */
+    public Endpoint getEndpoint() {
+      return endpoint;
+    }
+  }
+
+}
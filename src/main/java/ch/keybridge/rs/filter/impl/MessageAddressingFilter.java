@@ -66,7 +66,7 @@ public class MessageAddressingFilter implements ContainerRequestFilter, Containe
    * contains the same [message id] as a previously received message is
    * unconstrained by this specification.
    */
-  private static final String MESSAGE_ID = "MessageID";
+  static final String MESSAGE_ID = "MessageID";
   /**
    * Conveys the relationship type as an IRI. When absent, the implied value of
    * this attribute is "http://www.w3.org/2005/08/addressing/reply". This
@@ -75,7 +75,7 @@ public class MessageAddressingFilter implements ContainerRequestFilter, Containe
    * content of this element (of type xs:anyURI) conveys the [message id] of the
    * related message.
    */
-  private static final String RELATES_TO = "RelatesTo";
+  static final String RELATES_TO = "RelatesTo";
   /**
    * An absolute IRI that uniquely identifies the semantics implied by this
    * message. It is RECOMMENDED that the value of the [action] property is an
@@ -112,6 +112,9 @@ public class MessageAddressingFilter implements ContainerRequestFilter, Containe
    */
   @Override
   public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+    if (requestContext.getProperty(HeaderDecoratorFilter.DECORATED) != null) {
+      return;
+    }
     /**
      * Always add a unique outbound MessageId header to the response.
      */
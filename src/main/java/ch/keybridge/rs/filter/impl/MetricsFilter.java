@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.metrics.ResourceMetrics;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+
+/**
+ * A request/response filter pair that records resource method metrics. This is
+ * a dynamically assigned filter and is instantiated by the
+ * MetricsDynamicFeature (provider) with the metrics of a single resource
+ * method.
+ * <p>
+ * The request filter marks the request in flight and keeps it as an exchange
+ * in a request property; the response filter records the status class and the
+ * elapsed time. The exchange is ended at most once: by the response filter or,
+ * when the response filter does not run (an unmapped exception, an abort by a
+ * later filter), by the RequestCompletionListener when the servlet request
+ * ends, in which case it is only taken out of flight. Outside a servlet
+ * container the response filter is the only end path.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class MetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  /**
+   * The request property holding the request exchange.
+   */
+  private static final String EXCHANGE = MetricsFilter.class.getName() + ".exchange";
+
+  /**
+   * The resource method metrics.
+   */
+  private final ResourceMetrics metrics;
+
+  /**
+   * Create a new MetricsFilter recording to a resource method metric set.
+   *
+   * @param metrics the resource method metrics
+   */
+  public MetricsFilter(ResourceMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Mark the request in flight and record the start time.
+   */
+  @Override
+  public void filter(ContainerRequestContext requestContext) throws IOException {
+    requestContext.setProperty(EXCHANGE, new Exchange(metrics));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Record the response status and latency. If the request exchange is not
+   * available (e.g. the request was aborted by an earlier filter) then only the
+   * status is counted.
+   */
+  @Override
+  public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+    Object exchange = requestContext.getProperty(EXCHANGE);
+    if (exchange instanceof Exchange) {
+      requestContext.removeProperty(EXCHANGE);
+      ((Exchange) exchange).end(responseContext.getStatus());
+    } else {
+      metrics.record(responseContext.getStatus());
+    }
+  }
+
+  /**
+   * A request in flight, ended at most once.
+   */
+  static final class Exchange implements RequestCompletionListener.Completion {
+
+    private static final AtomicIntegerFieldUpdater<Exchange> ENDED = AtomicIntegerFieldUpdater.newUpdater(Exchange.class, "ended");
+
+    private final ResourceMetrics metrics;
+    private final long startNanos;
+    private volatile int ended;
+
+    Exchange(ResourceMetrics metrics) {
+      this.metrics = metrics;
+      this.startNanos = metrics.begin();
+    }
+
+    /**
+     * End the request with a response.
+     *
+     * @param status the HTTP response status code
+     */
+    void end(int status) {
+      if (ENDED.compareAndSet(this, 0, 1)) {
+        metrics.end(startNanos, status);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The request ended without a response filter: take it out of flight.
+     */
+    @Override
+    public void complete() {
+      if (ENDED.compareAndSet(this, 0, 1)) {
+        metrics.abandon();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.limit.RateLimiter;
+import ch.keybridge.rs.limit.TokenBucket;
+import ch.keybridge.rs.type.RateLimitKey;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+/**
+ * Rate limiting filter. Takes one permit from the client's token bucket for
+ * each request and aborts the request with HTTP 429 (Too Many Requests) if
+ * none is available. Admitted responses receive the RateLimit-* headers;
+ * rejected responses additionally receive a Retry-After header.
+ * <p>
+ * This is a dynamically assigned filter and is instantiated by the
+ * RateLimitDynamicFeature (provider), one instance per resource method.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class RateLimitFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final Logger LOG = Logger.getLogger(RateLimitFilter.class.getName());
+
+  /**
+   * The request quota per period.
+   */
+  public static final String RATELIMIT_LIMIT = "RateLimit-Limit";
+  /**
+   * The number of requests remaining in the current quota.
+   */
+  public static final String RATELIMIT_REMAINING = "RateLimit-Remaining";
+  /**
+   * The number of seconds until the quota is fully restored.
+   */
+  public static final String RATELIMIT_RESET = "RateLimit-Reset";
+  /**
+   * The X-Forwarded-For request header.
+   */
+  private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+  /**
+   * HTTP 429 Too Many Requests. Not defined in the JAX-RS 2.0 status enum.
+   */
+  private static final int TOO_MANY_REQUESTS = 429;
+  /**
+   * Request property holding the client bucket.
+   */
+  private static final String BUCKET = RateLimitFilter.class.getName() + ".bucket";
+  /**
+   * The key used when the client cannot be identified.
+   */
+  private static final String UNKNOWN = "unknown";
+
+  /**
+   * The rate limiter for this resource method.
+   */
+  private final RateLimiter limiter;
+  /**
+   * How requests are assigned to buckets.
+   */
+  private final RateLimitKey key;
+  /**
+   * The API key request header name.
+   */
+  private final String header;
+  /**
+   * The number of trusted proxies appending to the X-Forwarded-For header.
+   */
+  private final int trustedProxies;
+
+  /**
+   * The servlet request, providing the remote address.
+   */
+  @Context
+  private HttpServletRequest servletRequest;
+
+  /**
+   * Create a new rate limit filter.
+   *
+   * @param limiter        the rate limiter
+   * @param key            how requests are assigned to buckets
+   * @param header         the API key request header name
+   * @param trustedProxies the number of trusted proxies appending to the
+   *                       X-Forwarded-For header
+   */
+  public RateLimitFilter(RateLimiter limiter, RateLimitKey key, String header, int trustedProxies) {
+    if (trustedProxies < 1) {
+      throw new IllegalArgumentException("Require trustedProxies > 0.");
+    }
+    this.limiter = limiter;
+    this.key = key;
+    this.header = header;
+    this.trustedProxies = trustedProxies;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Take a permit or abort the request with HTTP 429.
+   */
+  @Override
+  public void filter(ContainerRequestContext requestContext) throws IOException {
+    long now = System.nanoTime();
+    String client = getClientKey(requestContext);
+    TokenBucket bucket = limiter.getBucket(client, now);
+    if (limiter.tryAcquire(bucket, now)) {
+      requestContext.setProperty(BUCKET, bucket);
+      return;
+    }
+    LOG.log(Level.FINE, "Rate limit exceeded '{'client={0}, path={1}'}'", new Object[]{client, requestContext.getUriInfo().getPath()});
+    requestContext.abortWith(Response.status(TOO_MANY_REQUESTS)
+      .header(HttpHeaders.RETRY_AFTER, toSeconds(bucket.getWaitNanos(now)))
+      .header(RATELIMIT_LIMIT, limiter.getPermits())
+      .header(RATELIMIT_REMAINING, 0)
+      .header(RATELIMIT_RESET, toSeconds(bucket.getResetNanos(now)))
+      .build());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Add the RateLimit-* headers to admitted responses.
+   */
+  @Override
+  public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+    Object bucket = requestContext.getProperty(BUCKET);
+    if (bucket instanceof TokenBucket) {
+      long now = System.nanoTime();
+      MultivaluedMap<String, Object> headers = responseContext.getHeaders();
+      headers.putSingle(RATELIMIT_LIMIT, limiter.getPermits());
+      headers.putSingle(RATELIMIT_REMAINING, ((TokenBucket) bucket).getAvailable(now));
+      headers.putSingle(RATELIMIT_RESET, toSeconds(((TokenBucket) bucket).getResetNanos(now)));
+    }
+  }
+
+  /**
+   * Get the bucket key identifying the client of a request.
+   *
+   * @param requestContext the request
+   * @return the client key
+   */
+  private String getClientKey(ContainerRequestContext requestContext) {
+    switch (key) {
+      case GLOBAL:
+        return "";
+      case PRINCIPAL:
+        Principal principal = requestContext.getSecurityContext() == null ? null : requestContext.getSecurityContext().getUserPrincipal();
+        return principal != null ? "principal:" + principal.getName() : getRemoteAddress();
+      case API_KEY:
+        String apiKey = requestContext.getHeaderString(header);
+        return apiKey != null && !apiKey.isEmpty() ? "key:" + apiKey : getRemoteAddress();
+      case FORWARDED:
+        String forwarded = getForwardedAddress(requestContext.getHeaderString(X_FORWARDED_FOR), trustedProxies);
+        return forwarded != null ? forwarded : getRemoteAddress();
+      case ADDRESS:
+      default:
+        return getRemoteAddress();
+    }
+  }
+
+  /**
+   * Get the client address from an X-Forwarded-For header: the entry added by
+   * the outermost trusted proxy, which is the entry the number of trusted
+   * proxies from the right. If the header has fewer entries the leftmost entry
+   * is used. Repeated headers are combined by the container into one
+   * comma-separated value.
+   *
+   * @param forwarded      the header value; may be null
+   * @param trustedProxies the number of trusted proxies
+   * @return the client address, or null if the header is missing or empty
+   */
+  static String getForwardedAddress(String forwarded, int trustedProxies) {
+    if (forwarded == null) {
+      return null;
+    }
+    int end = forwarded.length();
+    for (int hop = 1;; hop++) {
+      int comma = forwarded.lastIndexOf(',', end - 1);
+      if (hop == trustedProxies || comma < 0) {
+        String entry = forwarded.substring(comma + 1, end).trim();
+        return entry.isEmpty() ? null : entry;
+      }
+      end = comma;
+    }
+  }
+
+  /**
+   * Get the remote address of the current request.
+   *
+   * @return the remote address, or {@value #UNKNOWN} if not available
+   */
+  private String getRemoteAddress() {
+    try {
+      String address = servletRequest == null ? null : servletRequest.getRemoteAddr();
+      return address != null ? address : UNKNOWN;
+    } catch (IllegalStateException e) {
+      /**
+       * The injected proxy is not bound to a request, e.g. outside a servlet
+       * container.
+       */
+      return UNKNOWN;
+    }
+  }
+
+  /**
+   * Convert nanoseconds to whole seconds, rounding up.
+   */
+  private static long toSeconds(long nanos) {
+    return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+  }
+
+}
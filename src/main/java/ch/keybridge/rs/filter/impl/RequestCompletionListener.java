@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.Deadline;
+import java.util.Enumeration;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletRequestEvent;
+import javax.servlet.ServletRequestListener;
+import javax.servlet.annotation.WebListener;
+
+/**
+ * Request completion listener. Servlet containers call this listener when each
+ * request starts and ends, whether or not the JAX-RS response filters ran, so
+ * it is the place to clean up per-request state that a filter would otherwise
+ * leave behind on a pooled container thread.
+ * <p>
+ * The listener clears the thread {@link Deadline} so that a deadline set by the
+ * DeadlineFilter for a request that never reached its response filter cannot
+ * narrow the budget of a later request on the same thread. It also completes
+ * any {@link Completion} still held in a request attribute, such as the permit
+ * of the ConcurrencyLimitFilter or the exchange of the MetricsFilter, which the
+ * JAX-RS runtime stores in the servlet request as a request property.
+ * <p>
+ * The listener is discovered by its {@code @WebListener} annotation. Web
+ * applications with a {@code metadata-complete} deployment descriptor must
+ * declare it explicitly.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@WebListener
+public class RequestCompletionListener implements ServletRequestListener {
+
+  private static final Logger LOG = Logger.getLogger(RequestCompletionListener.class.getName());
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Clear any deadline left on this thread by an earlier request.
+   */
+  @Override
+  public void requestInitialized(ServletRequestEvent sre) {
+    Deadline.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Complete outstanding request state and clear the request deadline from
+   * this thread.
+   */
+  @Override
+  public void requestDestroyed(ServletRequestEvent sre) {
+    Deadline.clear();
+    ServletRequest request = sre.getServletRequest();
+    Enumeration<String> names = request.getAttributeNames();
+    while (names != null && names.hasMoreElements()) {
+      Object value = request.getAttribute(names.nextElement());
+      if (value instanceof Completion) {
+        try {
+          ((Completion) value).complete();
+        } catch (RuntimeException e) {
+          LOG.log(Level.WARNING, "Request completion failed: {0}", e.getMessage());
+        }
+      }
+    }
+  }
+
+  /**
+   * Per-request state that must be completed when the request ends. Held in a
+   * request property by a filter that normally completes it in its response
+   * filter; implementations must tolerate being completed more than once.
+   */
+  interface Completion {
+
+    /**
+     * Complete the request state.
+     */
+    void complete();
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.filter.impl;
+
+import ch.keybridge.rs.JerseyClientProperties;
+import java.io.IOException;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+
+/**
+ * Client request expiry filter. Sets the time to live of the request
+ * {@link ClientMetricsFilter.Exchange} and
+ * {@link LoadBalancerFilter.Selection} from the connect and read timeouts
+ * actually applied to the request, i.e. after the deadline and adaptive
+ * timeout filters have set them, so that a slow but valid request is never
+ * expired before the connector gives up on it. Registered by the
+ * AbstractRestClient after every other request filter.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class RequestExpiryFilter implements ClientRequestFilter {
+
+  /**
+   * The configured timeouts, in milliseconds. Zero is infinite.
+   */
+  private final int connectTimeout, readTimeout;
+
+  /**
+   * Create a new request expiry filter.
+   *
+   * @param connectTimeout the configured connect timeout in milliseconds
+   * @param readTimeout    the configured read timeout in milliseconds
+   */
+  public RequestExpiryFilter(int connectTimeout, int readTimeout) {
+    this.connectTimeout = connectTimeout;
+    this.readTimeout = readTimeout;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Set the time to live of the request state.
+   */
+  @Override
+  public void filter(ClientRequestContext request) throws IOException {
+    Object exchange = request.getProperty(ClientMetricsFilter.EXCHANGE);
+    Object selection = request.getProperty(LoadBalancerFilter.SELECTION);
+    if (!(exchange instanceof ClientMetricsFilter.Exchange) && !(selection instanceof LoadBalancerFilter.Selection)) {
+      return;
+    }
+    long timeToLive = ExchangeExpiry.timeToLive(getTimeout(request, JerseyClientProperties.CONNECT_TIMEOUT, connectTimeout),
+                                                getTimeout(request, JerseyClientProperties.READ_TIMEOUT, readTimeout));
+    if (exchange instanceof ClientMetricsFilter.Exchange) {
+      ((ClientMetricsFilter.Exchange) exchange).expireAfter(timeToLive);
+    }
+    if (selection instanceof LoadBalancerFilter.Selection) {
+      ((LoadBalancerFilter.Selection) selection).expireAfter(timeToLive);
+    }
+  }
+
+  /**
+   * Get the timeout applied to a request: the request property, else the
+   * client property, else the configured timeout.
+   */
+  private static int getTimeout(ClientRequestContext request, String name, int configured) {
+    Object value = request.getProperty(name);
+    if (value == null) {
+      value = request.getConfiguration().getProperty(name);
+    }
+    if (value instanceof Number) {
+      return ((Number) value).intValue();
+    }
+    if (value != null) {
+      try {
+        return Integer.parseInt(value.toString().trim());
+      } catch (NumberFormatException e) {
+        return configured;
+      }
+    }
+    return configured;
+  }
+
+}
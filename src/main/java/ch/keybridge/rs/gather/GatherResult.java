@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.gather;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of a scatter-gather call: the reduced value of the successful
+ * target calls and the outcome and timing of every target call, in target
+ * order. The result is partial if any target call failed, was late or was not
+ * started before the deadline.
+ *
+ * @param <A> the reduced value type
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class GatherResult<A> {
+
+  /**
+   * The reduced value.
+   */
+  private final A value;
+  /**
+   * The target outcomes, in target order.
+   */
+  private final List<Outcome> outcomes;
+  /**
+   * The scatter-gather call time, in nanoseconds.
+   */
+  private final long elapsed;
+
+  GatherResult(A value, List<Outcome> outcomes, long elapsed) {
+    this.value = value;
+    this.outcomes = Collections.unmodifiableList(outcomes);
+    this.elapsed = elapsed;
+  }
+
+  /**
+   * Get the value reduced from the successful target calls.
+   *
+   * @return the reduced value
+   */
+  public A getValue() {
+    return value;
+  }
+
+  /**
+   * Get the outcome of every target call.
+   *
+   * @return the outcomes, in target order
+   */
+  public List<Outcome> getOutcomes() {
+    return outcomes;
+  }
+
+  /**
+   * Get the outcome of a target call.
+   *
+   * @param target the target name
+   * @return the outcome, or null if the target was not called
+   */
+  public Outcome getOutcome(String target) {
+    for (Outcome outcome : outcomes) {
+      if (outcome.target.equals(target)) {
+        return outcome;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Count the target calls with a status.
+   *
+   * @param status the status
+   * @return the number of target calls
+   */
+  public int count(Status status) {
+    int count = 0;
+    for (Outcome outcome : outcomes) {
+      if (outcome.status == status) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Determine whether every target call succeeded.
+   *
+   * @return true if the result is complete, false if it is partial
+   */
+  public boolean isComplete() {
+    return count(Status.SUCCESS) == outcomes.size();
+  }
+
+  /**
+   * Get the scatter-gather call time.
+   *
+   * @param unit the time unit
+   * @return the time from the start of the call to the result
+   */
+  public long getElapsed(TimeUnit unit) {
+    return unit.convert(elapsed, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public String toString() {
+    return "GatherResult{targets=" + outcomes.size()
+           + ", success=" + count(Status.SUCCESS)
+           + ", failed=" + count(Status.FAILED)
+           + ", late=" + count(Status.LATE)
+           + ", skipped=" + count(Status.SKIPPED)
+           + ", elapsed=" + getElapsed(TimeUnit.MILLISECONDS) + "ms}";
+  }
+
+  /**
+   * The status of a target call.
+   */
+  public enum Status {
+    /**
+     * The call completed normally before the deadline.
+     */
+    SUCCESS,
+    /**
+     * The call completed exceptionally before the deadline.
+     */
+    FAILED,
+    /**
+     * The call did not complete before the deadline and was cancelled.
+     */
+    LATE,
+    /**
+     * The call was not started before the deadline, waiting for the
+     * concurrency limit.
+     */
+    SKIPPED;
+  }
+
+  /**
+   * The outcome and timing of a target call.
+   */
+  public static class Outcome {
+
+    private final String target;
+    private final Status status;
+    private final long elapsed;
+    private final Throwable failure;
+
+    Outcome(String target, Status status, long elapsed, Throwable failure) {
+      this.target = target;
+      this.status = status;
+      this.elapsed = elapsed;
+      this.failure = failure;
+    }
+
+    /**
+     * Get the target name.
+     *
+     * @return the target name
+     */
+    public String getTarget() {
+      return target;
+    }
+
+    /**
+     * Get the call status.
+     *
+     * @return the status
+     */
+    public Status getStatus() {
+      return status;
+    }
+
+    /**
+     * Get the call time: until completion, or until the deadline if late.
+     *
+     * @param unit the time unit
+     * @return the call time; zero if the call was not started
+     */
+    public long getElapsed(TimeUnit unit) {
+      return unit.convert(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the call failure.
+     *
+     * @return the failure, or null unless the status is FAILED
+     */
+    public Throwable getFailure() {
+      return failure;
+    }
+
+    @Override
+    public String toString() {
+      return "Outcome{target=" + target + ", status=" + status + ", elapsed=" + getElapsed(TimeUnit.MILLISECONDS) + "ms}";
+    }
+  }
+
+}
@@ -0,0 +1,532 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.gather;
+
+import ch.keybridge.rs.Deadline;
+import ch.keybridge.rs.gather.GatherResult.Outcome;
+import ch.keybridge.rs.gather.GatherResult.Status;
+import ch.keybridge.rs.lifecycle.CheckpointResource;
+import ch.keybridge.rs.lifecycle.Checkpoints;
+import ch.keybridge.rs.metrics.AbstractMetrics;
+import ch.keybridge.rs.metrics.LatencyHistogram;
+import ch.keybridge.rs.metrics.PrometheusWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collector;
+
+/**
+ * Calls many targets in parallel and combines their results. Each target call
+ * is an asynchronous request, typically a client method built on
+ * {@code AbstractRestClient.invokeAsync}, so no thread is blocked per target.
+ * <p>
+ * One deadline applies to the whole scatter-gather call: the earlier of the
+ * timeout and the current {@link Deadline}, if any. The deadline is attached
+ * to the thread while each target call is started, so that the request carries
+ * it (see deadline propagation). When the deadline passes the result is
+ * returned with the calls completed so far; calls still in flight are
+ * cancelled and reported as late. Failed calls are reported and do not fail
+ * the result.
+ * <p>
+ * At most the maximum concurrent target calls are in flight; the others start,
+ * in target order, as earlier calls complete. Calls not started by the
+ * deadline are reported as skipped.
+ * <p>
+ * The results of the successful calls are combined in target order by a
+ * caller supplied {@link Collector}, e.g. {@code Collectors.toList()}. The
+ * reducer runs on the thread that completes the last call or on the deadline
+ * timer, and should be quick.
+ * <p>
+ * The scatter-gather time, and the time and outcome of each target call, are
+ * recorded. Register the instance with the {@code MetricsRegistry} to export
+ * them. Example: <br>
+ * {@code ScatterGather quotes = MetricsRegistry.getInstance().register(new ScatterGather("quotes", 8));}
+ * <br>
+ * {@code GatherResult<List<Quote>> result = quotes.gather(calls, 500, TimeUnit.MILLISECONDS, Collectors.toList());}
+ * <p>
+ * Before a JVM checkpoint (CRaC) the calls in progress are completed with the
+ * results so far, as at their deadline, so that no call spans the checkpoint.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class ScatterGather extends AbstractMetrics implements ScatterGatherMBean, CheckpointResource {
+
+  private static final Logger LOG = Logger.getLogger(ScatterGather.class.getName());
+
+  /**
+   * Completes scatter-gather calls at their deadline.
+   */
+  private static final ScheduledThreadPoolExecutor TIMER = new ScheduledThreadPoolExecutor(1, r -> {
+    Thread thread = new Thread(r, "rs-gather-timer");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  static {
+    /**
+     * Remove the deadline timers of completed calls immediately, rather than
+     * holding their results until the deadline.
+     */
+    TIMER.setRemoveOnCancelPolicy(true);
+  }
+  /**
+   * The maximum number of targets with individual metrics. Further targets are
+   * recorded under {@value #OTHER_TARGET}.
+   */
+  private static final int MAX_TARGETS = 256;
+  /**
+   * The target name for targets beyond the maximum.
+   */
+  private static final String OTHER_TARGET = "other";
+
+  /**
+   * The maximum number of target calls in flight per scatter-gather call.
+   */
+  private final int maxConcurrent;
+  /**
+   * Scatter-gather call counters.
+   */
+  private final LongAdder complete, partial, failed;
+  /**
+   * The scatter-gather call time.
+   */
+  private final LatencyHistogram duration;
+  /**
+   * The target metrics by target name.
+   */
+  private final ConcurrentMap<String, TargetMetrics> targets;
+  /**
+   * The scatter-gather calls in progress.
+   */
+  private final Set<Scatter<?, ?>> active;
+
+  /**
+   * Construct a new scatter-gather helper.
+   *
+   * @param name          the name, e.g. the aggregation resource path
+   * @param maxConcurrent the maximum number of target calls in flight per
+   *                      scatter-gather call
+   */
+  public ScatterGather(String name, int maxConcurrent) {
+    super(name);
+    if (maxConcurrent < 1) {
+      throw new IllegalArgumentException("Require maxConcurrent > 0.");
+    }
+    this.maxConcurrent = maxConcurrent;
+    this.complete = new LongAdder();
+    this.partial = new LongAdder();
+    this.failed = new LongAdder();
+    this.duration = new LatencyHistogram();
+    this.targets = new ConcurrentHashMap<>();
+    this.active = ConcurrentHashMap.newKeySet();
+    Checkpoints.getInstance().register(this);
+  }
+
+  /**
+   * Call the targets in parallel and wait for the combined result.
+   *
+   * @param <R>     the target result type
+   * @param <A>     the reduced value type
+   * @param calls   the target calls by target name, in target order (e.g. a
+   *                {@code LinkedHashMap}); each call starts an asynchronous
+   *                request
+   * @param timeout the maximum time to wait for the target calls
+   * @param unit    the timeout unit
+   * @param reducer combines the results of the successful calls
+   * @return the result
+   * @throws CompletionException if the reducer fails
+   */
+  public <R, A> GatherResult<A> gather(Map<String, ? extends Supplier<? extends CompletionStage<? extends R>>> calls,
+                                       long timeout, TimeUnit unit,
+                                       Collector<? super R, ?, A> reducer) {
+    return gatherAsync(calls, timeout, unit, reducer).join();
+  }
+
+  /**
+   * Call the targets in parallel.
+   *
+   * @param <R>     the target result type
+   * @param <A>     the reduced value type
+   * @param calls   the target calls by target name, in target order (e.g. a
+   *                {@code LinkedHashMap}); each call starts an asynchronous
+   *                request
+   * @param timeout the maximum time to wait for the target calls
+   * @param unit    the timeout unit
+   * @param reducer combines the results of the successful calls
+   * @return the result future, which completes when every call completed or
+   *         at the deadline, and completes exceptionally only if the reducer
+   *         fails
+   */
+  public <R, A> CompletableFuture<GatherResult<A>> gatherAsync(Map<String, ? extends Supplier<? extends CompletionStage<? extends R>>> calls,
+                                                               long timeout, TimeUnit unit,
+                                                               Collector<? super R, ?, A> reducer) {
+    if (timeout <= 0) {
+      throw new IllegalArgumentException("Require timeout > 0.");
+    }
+    Deadline deadline = Deadline.after(timeout, unit).min(Deadline.current());
+    return new Scatter<R, A>(calls, deadline, reducer).start();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Complete the calls in progress with the results so far and cancel their
+   * outstanding target calls.
+   */
+  @Override
+  public void beforeCheckpoint() {
+    for (Scatter<?, ?> scatter : active) {
+      scatter.finish();
+    }
+  }
+
+  @Override
+  public void afterRestore() {
+  }
+
+  /**
+   * Get the metrics of a target, creating them if required.
+   */
+  private TargetMetrics target(String target) {
+    TargetMetrics metrics = targets.get(target);
+    if (metrics == null) {
+      if (targets.size() >= MAX_TARGETS) {
+        target = OTHER_TARGET;
+      }
+      metrics = targets.computeIfAbsent(target, TargetMetrics::new);
+    }
+    return metrics;
+  }
+
+  @Override
+  public int getMaxConcurrent() {
+    return maxConcurrent;
+  }
+
+  @Override
+  public long getCompleteCount() {
+    return complete.sum();
+  }
+
+  @Override
+  public long getPartialCount() {
+    return partial.sum();
+  }
+
+  @Override
+  public long getFailedCount() {
+    return failed.sum();
+  }
+
+  @Override
+  public int getTargetCount() {
+    return targets.size();
+  }
+
+  @Override
+  public double getDurationMedian() {
+    return duration.snapshot().getValueAtQuantile(0.5) / 1e6;
+  }
+
+  @Override
+  public double getDuration99thPercentile() {
+    return duration.snapshot().getValueAtQuantile(0.99) / 1e6;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes {@code rs_gather_requests_total} by outcome, the
+   * {@code rs_gather_duration_seconds} summary,
+   * {@code rs_gather_target_calls_total} by target and outcome, and the
+   * {@code rs_gather_target_duration_seconds} summary of the successful and
+   * failed calls by target.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    String help = "Scatter-gather calls by outcome.";
+    writer.counter("rs_gather_requests_total", help, complete.sum(), "gather", name, "outcome", "complete")
+      .counter("rs_gather_requests_total", help, partial.sum(), "gather", name, "outcome", "partial")
+      .counter("rs_gather_requests_total", help, failed.sum(), "gather", name, "outcome", "failed")
+      .summary("rs_gather_duration_seconds", "Scatter-gather call time.", duration.snapshot(), "gather", name);
+    String callHelp = "Scatter-gather target calls by target and outcome.";
+    for (TargetMetrics metrics : targets.values()) {
+      for (Status status : Status.values()) {
+        writer.counter("rs_gather_target_calls_total", callHelp, metrics.counts[status.ordinal()].sum(),
+                       "gather", name, "target", metrics.target, "outcome", status.name().toLowerCase());
+      }
+      writer.summary("rs_gather_target_duration_seconds", "Scatter-gather target call time by target.", metrics.duration.snapshot(),
+                     "gather", name, "target", metrics.target);
+    }
+  }
+
+  /**
+   * The call counts and time of a target.
+   */
+  private static class TargetMetrics {
+
+    private final String target;
+    private final LongAdder[] counts;
+    private final LatencyHistogram duration;
+
+    TargetMetrics(String target) {
+      this.target = target;
+      this.counts = new LongAdder[Status.values().length];
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] = new LongAdder();
+      }
+      this.duration = new LatencyHistogram();
+    }
+
+    void record(Outcome outcome) {
+      counts[outcome.getStatus().ordinal()].increment();
+      if (outcome.getStatus() == Status.SUCCESS || outcome.getStatus() == Status.FAILED) {
+        duration.record(outcome.getElapsed(TimeUnit.NANOSECONDS));
+      }
+    }
+  }
+
+  /**
+   * The state of one scatter-gather call.
+   *
+   * @param <R> the target result type
+   * @param <A> the reduced value type
+   */
+  private class Scatter<R, A> {
+
+    private final String[] names;
+    private final List<Supplier<? extends CompletionStage<? extends R>>> calls;
+    private final Deadline deadline;
+    private final Collector<? super R, ?, A> reducer;
+    private final long start;
+    /**
+     * The call start times; zero until started.
+     */
+    private final AtomicLongArray started;
+    /**
+     * The call futures, for cancellation.
+     */
+    private final AtomicReferenceArray<CompletableFuture<?>> futures;
+    /**
+     * The call outcomes; null until settled.
+     */
+    private final AtomicReferenceArray<Outcome> outcomes;
+    /**
+     * The call results.
+     */
+    private final AtomicReferenceArray<R> results;
+    /**
+     * The number of settled calls and of calls in flight.
+     */
+    private final AtomicInteger settled, inFlight;
+    /**
+     * Serializes starting calls; the number of requests to start calls.
+     */
+    private final AtomicInteger pumping;
+    /**
+     * The index of the next call to start. Guarded by pumping.
+     */
+    private int next;
+    private final AtomicBoolean done;
+    private final CompletableFuture<GatherResult<A>> result;
+    private volatile ScheduledFuture<?> timer;
+
+    Scatter(Map<String, ? extends Supplier<? extends CompletionStage<? extends R>>> calls, Deadline deadline, Collector<? super R, ?, A> reducer) {
+      this.names = calls.keySet().toArray(new String[calls.size()]);
+      this.calls = new ArrayList<>(calls.values());
+      this.deadline = deadline;
+      this.reducer = reducer;
+      this.start = System.nanoTime();
+      this.started = new AtomicLongArray(names.length);
+      this.futures = new AtomicReferenceArray<>(names.length);
+      this.outcomes = new AtomicReferenceArray<>(names.length);
+      this.results = new AtomicReferenceArray<>(names.length);
+      this.settled = new AtomicInteger();
+      this.inFlight = new AtomicInteger();
+      this.pumping = new AtomicInteger();
+      this.done = new AtomicBoolean();
+      this.result = new CompletableFuture<>();
+    }
+
+    CompletableFuture<GatherResult<A>> start() {
+      if (names.length == 0) {
+        finish();
+        return result;
+      }
+      active.add(this);
+      timer = TIMER.schedule(this::finish, Math.max(0, deadline.remaining(TimeUnit.NANOSECONDS)), TimeUnit.NANOSECONDS);
+      pump();
+      return result;
+    }
+
+    /**
+     * Start calls up to the concurrency limit. Calls that complete while being
+     * started request another pass instead of recursing.
+     */
+    private void pump() {
+      if (pumping.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        while (!done.get() && next < names.length && inFlight.get() < maxConcurrent) {
+          int index = next++;
+          if (deadline.isExpired()) {
+            settle(index, new Outcome(names[index], Status.SKIPPED, 0, null), null);
+          } else {
+            inFlight.incrementAndGet();
+            call(index);
+          }
+        }
+        missed = pumping.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    /**
+     * Start a call with the deadline attached.
+     */
+    private void call(int index) {
+      long callStart = System.nanoTime();
+      started.set(index, callStart);
+      CompletionStage<? extends R> stage;
+      try {
+        Deadline.Scope scope = deadline.attach();
+        try {
+          stage = calls.get(index).get();
+          if (stage == null) {
+            throw new NullPointerException("The call returned no future.");
+          }
+        } finally {
+          scope.close();
+        }
+      } catch (RuntimeException e) {
+        completed(index, callStart, null, e);
+        return;
+      }
+      CompletableFuture<? extends R> future = stage.toCompletableFuture();
+      futures.set(index, future);
+      future.whenComplete((value, failure) -> completed(index, callStart, value, failure));
+      if (done.get()) {
+        future.cancel(true);
+      }
+    }
+
+    private void completed(int index, long callStart, R value, Throwable failure) {
+      long elapsed = System.nanoTime() - callStart;
+      settle(index, failure == null
+                    ? new Outcome(names[index], Status.SUCCESS, elapsed, null)
+                    : new Outcome(names[index], Status.FAILED, elapsed, unwrap(failure)), value);
+      inFlight.decrementAndGet();
+      pump();
+    }
+
+    private void settle(int index, Outcome outcome, R value) {
+      if (done.get()) {
+        return;
+      }
+      results.set(index, value);
+      if (outcomes.compareAndSet(index, null, outcome) && settled.incrementAndGet() == names.length) {
+        finish();
+      }
+    }
+
+    /**
+     * Complete the result with the calls settled so far. Unsettled calls are
+     * late if started, else skipped.
+     */
+    private void finish() {
+      if (!done.compareAndSet(false, true)) {
+        return;
+      }
+      active.remove(this);
+      ScheduledFuture<?> deadlineTimer = timer;
+      if (deadlineTimer != null) {
+        deadlineTimer.cancel(false);
+      }
+      long now = System.nanoTime();
+      List<Outcome> list = new ArrayList<>(names.length);
+      List<R> values = new ArrayList<>(names.length);
+      for (int i = 0; i < names.length; i++) {
+        long callStart = started.get(i);
+        Outcome late = callStart == 0
+                       ? new Outcome(names[i], Status.SKIPPED, 0, null)
+                       : new Outcome(names[i], Status.LATE, now - callStart, null);
+        if (outcomes.compareAndSet(i, null, late)) {
+          CompletableFuture<?> future = futures.get(i);
+          if (future != null) {
+            future.cancel(true);
+          }
+        }
+        Outcome outcome = outcomes.get(i);
+        target(names[i]).record(outcome);
+        list.add(outcome);
+        if (outcome.getStatus() == Status.SUCCESS) {
+          values.add(results.get(i));
+        }
+      }
+      long elapsed = now - start;
+      duration.record(elapsed);
+      A value;
+      try {
+        value = values.stream().collect(reducer);
+      } catch (RuntimeException e) {
+        failed.increment();
+        LOG.log(Level.WARNING, "Scatter-gather {0} reducer failed: {1}", new Object[]{name, e.getMessage()});
+        result.completeExceptionally(e);
+        return;
+      }
+      GatherResult<A> gathered = new GatherResult<>(value, list, elapsed);
+      if (gathered.isComplete()) {
+        complete.increment();
+      } else {
+        partial.increment();
+        LOG.log(Level.FINE, "Scatter-gather {0} partial result {1}", new Object[]{name, gathered});
+      }
+      result.complete(gathered);
+    }
+  }
+
+  /**
+   * Unwrap the cause of a completion exception.
+   */
+  private static Throwable unwrap(Throwable failure) {
+    return failure instanceof CompletionException && failure.getCause() != null
+           ? failure.getCause()
+           : failure;
+  }
+
+}
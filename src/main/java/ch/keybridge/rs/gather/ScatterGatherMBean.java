@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.gather;
+
+/**
+ * JMX management interface for a scatter-gather helper. Latency values are in
+ * milliseconds.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface ScatterGatherMBean {
+
+  /**
+   * @return the scatter-gather name
+   */
+  String getName();
+
+  /**
+   * @return the maximum number of target calls in flight per scatter-gather
+   *         call
+   */
+  int getMaxConcurrent();
+
+  /**
+   * @return the number of scatter-gather calls where every target succeeded
+   */
+  long getCompleteCount();
+
+  /**
+   * @return the number of scatter-gather calls with a partial result
+   */
+  long getPartialCount();
+
+  /**
+   * @return the number of scatter-gather calls where the reducer failed
+   */
+  long getFailedCount();
+
+  /**
+   * @return the number of targets with recorded metrics
+   */
+  int getTargetCount();
+
+  /**
+   * @return the median scatter-gather call time
+   */
+  double getDurationMedian();
+
+  /**
+   * @return the 99th percentile scatter-gather call time
+   */
+  double getDuration99thPercentile();
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.lifecycle;
+
+/**
+ * A resource notified before a checkpoint and after a restore of the JVM
+ * (Coordinated Restore at Checkpoint, CRaC). Mirrors the {@code org.crac}
+ * Resource interface without depending on it.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ * @see Checkpoints
+ */
+public interface CheckpointResource {
+
+  /**
+   * Invoked before a checkpoint. Close open files and connections and discard
+   * state that must not be shared by the restored instances, such as random
+   * number generator seeds.
+   *
+   * @throws Exception if the resource cannot be prepared; the checkpoint is
+   *                   aborted
+   */
+  void beforeCheckpoint() throws Exception;
+
+  /**
+   * Invoked after a restore, or after an aborted checkpoint.
+   *
+   * @throws Exception if the resource cannot be restored
+   */
+  void afterRestore() throws Exception;
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.lifecycle;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Coordinates the library {@link CheckpointResource}s with Coordinated
+ * Restore at Checkpoint (CRaC). The pools, caches and files of the library
+ * register here; the registry in turn registers with the {@code org.crac} or
+ * {@code jdk.crac} global context, if either is available, so that a
+ * checkpoint of a CRaC JVM notifies each resource. On other JVMs the hooks are
+ * never invoked unless the application calls {@link #beforeCheckpoint()} and
+ * {@link #afterRestore()} itself.
+ * <p>
+ * As with CRaC, resources are held by weak references and must be kept
+ * reachable by their owner. Resources are notified in reverse registration
+ * order before a checkpoint and in registration order after a restore.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class Checkpoints {
+
+  private static final Logger LOG = Logger.getLogger(Checkpoints.class.getName());
+
+  /**
+   * The CRaC API packages, in order of preference. The org.crac facade
+   * delegates to jdk.crac when it is present on the class path.
+   */
+  private static final String[] CRAC_PACKAGES = {"org.crac", "jdk.crac"};
+
+  /**
+   * The singleton instance.
+   */
+  private static final Checkpoints INSTANCE = new Checkpoints();
+
+  /**
+   * The registered resources.
+   */
+  private final List<WeakReference<CheckpointResource>> resources;
+  /**
+   * The list size at which collected references are next expunged.
+   */
+  private int expungeAt;
+  /**
+   * The CRaC Core class, or null if CRaC is not available.
+   */
+  private final Class<?> core;
+  /**
+   * The proxy registered with the CRaC global context. CRaC holds resources
+   * by weak reference, so the proxy is held here.
+   */
+  private final Object bridge;
+
+  private Checkpoints() {
+    this.resources = new ArrayList<>();
+    this.expungeAt = 64;
+    Class<?> crac = null;
+    Object proxy = null;
+    /**
+     * Native images do not support CRaC; skip the lookup.
+     */
+    if (System.getProperty("org.graalvm.nativeimage.imagecode") == null) {
+      for (String pkg : CRAC_PACKAGES) {
+        try {
+          crac = Class.forName(pkg + ".Core");
+          Class<?> resource = Class.forName(pkg + ".Resource");
+          proxy = Proxy.newProxyInstance(resource.getClassLoader(), new Class<?>[]{resource}, (p, method, args) -> {
+            switch (method.getName()) {
+              case "beforeCheckpoint":
+                beforeCheckpoint();
+                return null;
+              case "afterRestore":
+                afterRestore();
+                return null;
+              case "hashCode":
+                return System.identityHashCode(p);
+              case "equals":
+                return p == args[0];
+              default:
+                return "Checkpoints[" + pkg + "]";
+            }
+          });
+          Object context = crac.getMethod("getGlobalContext").invoke(null);
+          /**
+           * Look up register on the public Context type: the runtime class of
+           * the global context is not public, so its methods are not
+           * accessible by reflection.
+           */
+          Class.forName(pkg + ".Context").getMethod("register", resource).invoke(context, proxy);
+          LOG.log(Level.FINE, "Registered checkpoint resources with {0}", pkg);
+          break;
+        } catch (ClassNotFoundException e) {
+          crac = null;
+          proxy = null;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+          LOG.log(Level.WARNING, "Failed to register with the {0} global context: {1}", new Object[]{pkg, e.toString()});
+          crac = null;
+          proxy = null;
+          break;
+        }
+      }
+    }
+    this.core = crac;
+    this.bridge = proxy;
+  }
+
+  /**
+   * Get the singleton instance.
+   *
+   * @return the checkpoint registry
+   */
+  public static Checkpoints getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Determine if a CRaC API is available.
+   *
+   * @return true if checkpoints notify the registered resources
+   */
+  public boolean isAvailable() {
+    return bridge != null;
+  }
+
+  /**
+   * Register a resource. The resource is held by a weak reference. Collected
+   * references are expunged whenever the list has doubled, so that short-lived
+   * resources do not accumulate.
+   *
+   * @param resource the resource
+   */
+  public synchronized void register(CheckpointResource resource) {
+    resources.add(new WeakReference<>(resource));
+    if (resources.size() >= expungeAt) {
+      resources.removeIf(reference -> reference.get() == null);
+      expungeAt = Math.max(64, resources.size() * 2);
+    }
+  }
+
+  /**
+   * Notify the registered resources, in reverse registration order, that a
+   * checkpoint is about to be taken.
+   *
+   * @throws CheckpointException if any resource failed; the other resources
+   *                             are still notified
+   */
+  public void beforeCheckpoint() throws CheckpointException {
+    List<CheckpointResource> list = snapshot();
+    CheckpointException failure = null;
+    for (int i = list.size() - 1; i >= 0; i--) {
+      try {
+        list.get(i).beforeCheckpoint();
+      } catch (Exception e) {
+        failure = suppress(failure, e);
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Notify the registered resources, in registration order, that the JVM was
+   * restored.
+   *
+   * @throws CheckpointException if any resource failed; the other resources
+   *                             are still notified
+   */
+  public void afterRestore() throws CheckpointException {
+    CheckpointException failure = null;
+    for (CheckpointResource resource : snapshot()) {
+      try {
+        resource.afterRestore();
+      } catch (Exception e) {
+        failure = suppress(failure, e);
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Request a checkpoint of the JVM and block until it is restored. The
+   * registered resources are notified through the CRaC global context.
+   *
+   * @throws UnsupportedOperationException if CRaC is not available
+   * @throws Exception                     if the checkpoint or restore failed
+   */
+  public void checkpointRestore() throws Exception {
+    if (core == null) {
+      throw new UnsupportedOperationException("Checkpoint and restore requires a CRaC JVM.");
+    }
+    Method checkpointRestore = core.getMethod("checkpointRestore");
+    try {
+      checkpointRestore.invoke(null);
+    } catch (InvocationTargetException e) {
+      throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+    }
+  }
+
+  /**
+   * Copy the live resources and drop the collected references.
+   */
+  private synchronized List<CheckpointResource> snapshot() {
+    List<CheckpointResource> list = new ArrayList<>(resources.size());
+    for (Iterator<WeakReference<CheckpointResource>> iterator = resources.iterator(); iterator.hasNext();) {
+      CheckpointResource resource = iterator.next().get();
+      if (resource == null) {
+        iterator.remove();
+      } else {
+        list.add(resource);
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Add a resource failure to the checkpoint exception.
+   */
+  private static CheckpointException suppress(CheckpointException failure, Exception e) {
+    LOG.log(Level.WARNING, "Checkpoint resource failed: {0}", e.toString());
+    CheckpointException exception = failure != null ? failure : new CheckpointException();
+    exception.addSuppressed(e);
+    return exception;
+  }
+
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.lifecycle;
+
+import ch.keybridge.rs.filter.impl.ClientMetricsFilter;
+import ch.keybridge.rs.metrics.AbstractMetrics;
+import ch.keybridge.rs.metrics.PrometheusWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.core.Response;
+
+/**
+ * Client connection warmup. Opens a number of pooled connections to each
+ * endpoint of a client before it serves traffic, so that the first requests
+ * after a deploy do not pay for DNS resolution, TCP connection and TLS
+ * handshake.
+ * <p>
+ * For each endpoint the host name is resolved, then the configured number of
+ * requests are sent concurrently through the client: {@code HEAD} requests to
+ * the endpoint base URI, or {@code GET} requests to a probe path. Each request
+ * opens a connection, completes the TLS handshake (caching the TLS session)
+ * and, once its response is read, returns the connection to the connector
+ * keep-alive pool. The response status is not significant unless a probe path
+ * is set. Note that {@code HttpURLConnection} keeps at most
+ * {@code http.maxConnections} (default 5) idle connections per destination.
+ * <p>
+ * Warmup requests carry the {@value #WARMUP} property and are recorded by the
+ * client metrics under the {@code {warmup}} path template. Optional keep-alive
+ * requests repeat the warmup requests when the client has been idle for the
+ * keep-alive period, so that pooled connections are not closed by idle
+ * timeouts during quiet periods. The keep-alive task stops, and releases the
+ * client, when the warmup is closed or the client is found closed.
+ * <p>
+ * A warmup runs at most once and belongs to a single client.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class ClientWarmup extends AbstractMetrics implements ClientWarmupMBean {
+
+  private static final Logger LOG = Logger.getLogger(ClientWarmup.class.getName());
+
+  /**
+   * Request property marking warmup and keep-alive requests.
+   */
+  public static final String WARMUP = ClientWarmup.class.getName() + ".warmup";
+
+  /**
+   * Resolves endpoint host names and runs the keep-alive requests.
+   */
+  private static final ScheduledThreadPoolExecutor SCHEDULER = new ScheduledThreadPoolExecutor(1, r -> {
+    Thread thread = new Thread(r, "rs-client-warmup");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  static {
+    /**
+     * Remove cancelled keep-alive tasks immediately, so that they do not keep
+     * their client reachable until the next scheduled run.
+     */
+    SCHEDULER.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * The client to warm up.
+   */
+  private final Client client;
+  /**
+   * Supplies the endpoint base URIs.
+   */
+  private final Supplier<List<String>> endpoints;
+  /**
+   * The number of connections to open per endpoint.
+   */
+  private final int connections;
+  /**
+   * The probe path relative to each endpoint; null to send HEAD requests to
+   * the endpoint base URI.
+   */
+  private final String probePath;
+  /**
+   * Completed when every warmup request has completed or failed.
+   */
+  private final CompletableFuture<ClientWarmup> completion;
+  /**
+   * Set when the warmup is started.
+   */
+  private final AtomicBoolean started;
+  /**
+   * Warmup progress counters.
+   */
+  private final AtomicInteger planned, opened, failed, probeFailures;
+  /**
+   * The number of keep-alive requests sent.
+   */
+  private final LongAdder keepAlives;
+  /**
+   * The warmup start time and duration, in nanoseconds.
+   */
+  private volatile long startNanos, durationNanos;
+  /**
+   * The time of the last client request, as returned by
+   * {@link System#nanoTime()}.
+   */
+  private volatile long lastActivity;
+  /**
+   * The scheduled keep-alive task, if any.
+   */
+  private volatile ScheduledFuture<?> keepAlive;
+
+  /**
+   * Create a client warmup.
+   *
+   * @param name        the warmup name, e.g. the client base URI
+   * @param client      the client to warm up
+   * @param endpoints   supplies the endpoint base URIs
+   * @param connections the number of connections to open per endpoint
+   * @param probePath   the probe path relative to each endpoint; null to send
+   *                    HEAD requests to the endpoint base URI
+   */
+  public ClientWarmup(String name, Client client, Supplier<List<String>> endpoints, int connections, String probePath) {
+    super(name);
+    if (connections < 1) {
+      throw new IllegalArgumentException("Require connections >= 1.");
+    }
+    this.client = client;
+    this.endpoints = endpoints;
+    this.connections = connections;
+    this.probePath = probePath;
+    this.completion = new CompletableFuture<>();
+    this.started = new AtomicBoolean();
+    this.planned = new AtomicInteger();
+    this.opened = new AtomicInteger();
+    this.failed = new AtomicInteger();
+    this.probeFailures = new AtomicInteger();
+    this.keepAlives = new LongAdder();
+    this.lastActivity = System.nanoTime();
+  }
+
+  /**
+   * Start the warmup. Host names are resolved and the requests sent in the
+   * background. A warmup is only started once; later calls return the same
+   * completion.
+   *
+   * @return a future completed with this warmup when every warmup request has
+   *         completed or failed
+   */
+  public CompletableFuture<ClientWarmup> start() {
+    if (!started.compareAndSet(false, true)) {
+      return completion;
+    }
+    startNanos = System.nanoTime();
+    List<String> targets = endpoints.get();
+    planned.set(targets.size() * connections);
+    SCHEDULER.execute(() -> {
+      List<CompletableFuture<Void>> requests = new ArrayList<>();
+      for (String endpoint : targets) {
+        resolve(endpoint);
+        for (int i = 0; i < connections; i++) {
+          try {
+            requests.add(send(endpoint, false));
+          } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            LOG.log(Level.WARNING, "Warmup request to {0} not sent: {1}", new Object[]{endpoint, e.getMessage()});
+          }
+        }
+      }
+      CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0])).whenComplete((v, e) -> {
+        durationNanos = System.nanoTime() - startNanos;
+        LOG.log(Level.INFO, "Warmed up {0} of {1} connections to {2} in {3} ms", new Object[]{opened.get(), planned.get(), name, TimeUnit.NANOSECONDS.toMillis(durationNanos)});
+        completion.complete(this);
+      });
+    });
+    return completion;
+  }
+
+  /**
+   * Send keep-alive requests periodically while the client is idle. A round of
+   * keep-alive requests is sent to each endpoint when no other client request
+   * was recorded with {@link #touch()} within the period. The period should be
+   * shorter than the connection idle timeout of the server and connector.
+   *
+   * @param period the keep-alive period
+   * @param unit   the keep-alive period unit
+   */
+  public void keepAlive(long period, TimeUnit unit) {
+    long periodNanos = unit.toNanos(period);
+    close();
+    keepAlive = SCHEDULER.scheduleWithFixedDelay(() -> {
+      if (isClosed(client)) {
+        LOG.log(Level.FINE, "Client of {0} closed; keep-alive stopped", name);
+        close();
+        return;
+      }
+      if (System.nanoTime() - lastActivity < periodNanos) {
+        return;
+      }
+      try {
+        for (String endpoint : endpoints.get()) {
+          for (int i = 0; i < connections; i++) {
+            keepAlives.increment();
+            send(endpoint, true);
+          }
+        }
+      } catch (IllegalStateException e) {
+        LOG.log(Level.FINE, "Client of {0} closed; keep-alive stopped", name);
+        close();
+      }
+    }, period, period, unit);
+  }
+
+  /**
+   * Record client activity. Keep-alive requests are only sent after the
+   * client has been idle for the keep-alive period.
+   */
+  public void touch() {
+    lastActivity = System.nanoTime();
+  }
+
+  /**
+   * Stop the keep-alive requests and release the client from the keep-alive
+   * scheduler.
+   */
+  public void close() {
+    ScheduledFuture<?> task = keepAlive;
+    if (task != null) {
+      task.cancel(false);
+    }
+  }
+
+  /**
+   * Get a future completed when the warmup is complete. Use this to delay
+   * readiness of the service until the client connections are open.
+   *
+   * @return the warmup completion
+   */
+  public CompletableFuture<ClientWarmup> getCompletion() {
+    return completion;
+  }
+
+  /**
+   * Determine whether a client is closed: a closed client rejects every method
+   * with an IllegalStateException.
+   */
+  private static boolean isClosed(Client client) {
+    try {
+      client.getConfiguration();
+      return false;
+    } catch (IllegalStateException e) {
+      return true;
+    }
+  }
+
+  /**
+   * Resolve an endpoint host name, populating the JVM address cache before the
+   * concurrent warmup requests.
+   */
+  private static void resolve(String endpoint) {
+    String host = URI.create(endpoint).getHost();
+    if (host == null) {
+      return;
+    }
+    try {
+      InetAddress.getAllByName(host);
+    } catch (UnknownHostException e) {
+      LOG.log(Level.WARNING, "Unable to resolve {0}: {1}", new Object[]{host, e.getMessage()});
+    }
+  }
+
+  /**
+   * Send a single warmup or keep-alive request. The response is read fully so
+   * that the connection is returned to the keep-alive pool. Transport failures
+   * are reported to the client metrics exchange, as for any other request.
+   */
+  private CompletableFuture<Void> send(String endpoint, boolean keepAlive) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    Invocation invocation = (probePath == null ? client.target(endpoint) : client.target(endpoint).path(probePath))
+      .request()
+      .property(WARMUP, Boolean.TRUE)
+      .build(probePath == null ? HttpMethod.HEAD : HttpMethod.GET);
+    ClientMetricsFilter.Exchange exchange = ClientMetricsFilter.prepare(invocation, "{warmup}");
+    invocation.submit(new InvocationCallback<Response>() {
+      @Override
+      public void completed(Response response) {
+        try (InputStream entity = response.readEntity(InputStream.class)) {
+          /**
+           * Read the entity stream even when empty (e.g. HEAD): the connector
+           * returns the connection to its pool when the stream is exhausted.
+           */
+          if (entity != null) {
+            byte[] buffer = new byte[1024];
+            while (entity.read(buffer) >= 0) {
+            }
+          }
+        } catch (IOException | RuntimeException e) {
+          LOG.log(Level.FINE, "Warmup response from {0} not read: {1}", new Object[]{endpoint, e.getMessage()});
+        } finally {
+          response.close();
+        }
+        if (!keepAlive) {
+          opened.incrementAndGet();
+          if (probePath != null && response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+            probeFailures.incrementAndGet();
+            LOG.log(Level.WARNING, "Warmup probe of {0} returned {1}", new Object[]{endpoint, response.getStatus()});
+          }
+        }
+        done.complete(null);
+      }
+
+      @Override
+      public void failed(Throwable throwable) {
+        exchange.failed(throwable);
+        if (!keepAlive) {
+          failed.incrementAndGet();
+          LOG.log(Level.WARNING, "Warmup request to {0} failed: {1}", new Object[]{endpoint, throwable.getMessage()});
+        }
+        done.complete(null);
+      }
+    });
+    return done;
+  }
+
+  @Override
+  public boolean isComplete() {
+    return completion.isDone();
+  }
+
+  @Override
+  public int getPlannedConnections() {
+    return planned.get();
+  }
+
+  @Override
+  public int getOpenedConnections() {
+    return opened.get();
+  }
+
+  @Override
+  public int getFailedConnections() {
+    return failed.get();
+  }
+
+  @Override
+  public int getProbeFailures() {
+    return probeFailures.get();
+  }
+
+  @Override
+  public long getDuration() {
+    long start = startNanos;
+    if (start == 0) {
+      return 0;
+    }
+    return TimeUnit.NANOSECONDS.toMillis(completion.isDone() ? durationNanos : System.nanoTime() - start);
+  }
+
+  @Override
+  public long getKeepAliveCount() {
+    return keepAlives.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes {@code rs_client_warmup_connections} by outcome,
+   * {@code rs_client_warmup_complete}, {@code rs_client_warmup_duration_seconds}
+   * and {@code rs_client_keepalive_requests_total}.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    String help = "Client warmup connections by outcome.";
+    writer.gauge("rs_client_warmup_connections", help, planned.get(), "target", name, "outcome", "planned")
+      .gauge("rs_client_warmup_connections", help, opened.get(), "target", name, "outcome", "opened")
+      .gauge("rs_client_warmup_connections", help, failed.get(), "target", name, "outcome", "failed")
+      .gauge("rs_client_warmup_complete", "1 if the client warmup is complete.", completion.isDone() ? 1 : 0, "target", name)
+      .gauge("rs_client_warmup_duration_seconds", "Client warmup duration.", getDuration() / 1e3, "target", name)
+      .counter("rs_client_keepalive_requests_total", "Client keep-alive requests sent.", keepAlives.sum(), "target", name);
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.lifecycle;
+
+/**
+ * JMX management interface for a client connection warmup. Times are in
+ * milliseconds.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface ClientWarmupMBean {
+
+  /**
+   * @return the warmup name: the client base URI
+   */
+  String getName();
+
+  /**
+   * @return true once every warmup request has completed or failed
+   */
+  boolean isComplete();
+
+  /**
+   * @return the number of warmup connections to open
+   */
+  int getPlannedConnections();
+
+  /**
+   * @return the number of warmup requests that received a response
+   */
+  int getOpenedConnections();
+
+  /**
+   * @return the number of warmup requests that failed
+   */
+  int getFailedConnections();
+
+  /**
+   * @return the number of probe requests with a non-success response
+   */
+  int getProbeFailures();
+
+  /**
+   * @return the warmup duration so far, or in total once complete
+   */
+  long getDuration();
+
+  /**
+   * @return the number of keep-alive requests sent
+   */
+  long getKeepAliveCount();
+
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.limit;
+
+import ch.keybridge.rs.metrics.AbstractMetrics;
+import ch.keybridge.rs.metrics.PrometheusWriter;
+import ch.keybridge.rs.type.LimitAlgorithm;
+import ch.keybridge.rs.type.SheddingPriority;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An adaptive concurrency limiter. Admits requests while the number in flight
+ * is below a limit, and adjusts the limit from the latency observed over
+ * successive sample windows.
+ * <p>
+ * Admission is a single compare-and-set on the in-flight counter. Latency
+ * samples are accumulated in striped counters; when a window closes, the one
+ * thread that advances the window computes the new limit. No locks are taken
+ * on the request path.
+ * <p>
+ * The limiter is a metric set: register it with the {@code MetricsRegistry} to
+ * publish the limit, in-flight count and shed count.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class AdaptiveLimiter extends AbstractMetrics implements AdaptiveLimiterMBean {
+
+  /**
+   * The minimum sample window duration.
+   */
+  private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  /**
+   * The minimum number of samples in a window.
+   */
+  private static final int MIN_SAMPLES = 10;
+  /**
+   * Gradient: the latency increase over the baseline tolerated before the
+   * limit is reduced.
+   */
+  private static final double TOLERANCE = 1.5;
+  /**
+   * Gradient: the weight of each window in the long-term baseline when the
+   * latency is above it. The baseline drops immediately to a lower latency but
+   * rises slowly, so that sustained queueing is not mistaken for the baseline.
+   */
+  private static final double LONG_WEIGHT = 0.01;
+  /**
+   * Gradient: the number of queued requests allowed above the estimated limit.
+   */
+  private static final double QUEUE_SIZE = 4;
+  /**
+   * Gradient: the weight of each new estimate in the limit.
+   */
+  private static final double SMOOTHING = 0.2;
+  /**
+   * AIMD: the multiplicative decrease.
+   */
+  private static final double BACKOFF = 0.9;
+
+  private final LimitAlgorithm algorithm;
+  private final int minLimit, maxLimit;
+  /**
+   * AIMD: the latency above which a request counts as dropped.
+   */
+  private final long timeoutNanos;
+  /**
+   * The number of requests in flight.
+   */
+  private final AtomicInteger inFlight;
+  /**
+   * The end of the current sample window.
+   */
+  private final AtomicLong windowEnd;
+  /**
+   * Samples in the current window.
+   */
+  private final LongAdder rttSum, rttCount, drops;
+  /**
+   * Request outcomes.
+   */
+  private final LongAdder admitted, shed;
+  /**
+   * The current limit. Written only by the thread that closes a window.
+   */
+  private volatile double limit;
+  /**
+   * The last window and long-term average latency in nanoseconds.
+   */
+  private volatile double shortRtt, longRtt;
+
+  /**
+   * Construct a new adaptive limiter.
+   *
+   * @param name         the limiter name
+   * @param algorithm    the limit algorithm
+   * @param initialLimit the initial limit
+   * @param minLimit     the minimum limit
+   * @param maxLimit     the maximum limit
+   * @param timeout      the AIMD drop latency
+   * @param unit         the timeout unit
+   */
+  public AdaptiveLimiter(String name, LimitAlgorithm algorithm, int initialLimit, int minLimit, int maxLimit, long timeout, TimeUnit unit) {
+    super(name);
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("Require 0 < minLimit <= maxLimit.");
+    }
+    this.algorithm = algorithm;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.timeoutNanos = unit.toNanos(timeout);
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    this.inFlight = new AtomicInteger();
+    this.windowEnd = new AtomicLong(System.nanoTime() + WINDOW_NANOS);
+    this.rttSum = new LongAdder();
+    this.rttCount = new LongAdder();
+    this.drops = new LongAdder();
+    this.admitted = new LongAdder();
+    this.shed = new LongAdder();
+  }
+
+  /**
+   * Try to admit a request. An admitted request MUST be released exactly once.
+   *
+   * @param priority the request priority
+   * @return true if admitted; false if the request should be shed
+   */
+  public boolean tryAcquire(SheddingPriority priority) {
+    int max = Math.max(1, (int) (limit * priority.getShare()));
+    for (;;) {
+      int current = inFlight.get();
+      if (current >= max) {
+        shed.increment();
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        admitted.increment();
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Release an admitted request and record its latency.
+   *
+   * @param rttNanos the request latency in nanoseconds
+   * @param dropped  true if the request failed in a way that indicates
+   *                 overload (e.g. a server error)
+   */
+  public void release(long rttNanos, boolean dropped) {
+    int current = inFlight.getAndDecrement();
+    rttSum.add(rttNanos);
+    rttCount.increment();
+    if (dropped) {
+      drops.increment();
+    }
+    long now = System.nanoTime();
+    long end = windowEnd.get();
+    if (now - end >= 0 && rttCount.sum() >= MIN_SAMPLES && windowEnd.compareAndSet(end, now + WINDOW_NANOS)) {
+      update(current);
+    }
+  }
+
+  /**
+   * Close the sample window and compute the new limit.
+   *
+   * @param current the number of requests in flight
+   */
+  private void update(int current) {
+    long count = rttCount.sumThenReset();
+    long sum = rttSum.sumThenReset();
+    long dropCount = drops.sumThenReset();
+    if (count == 0) {
+      return;
+    }
+    double rtt = (double) sum / count;
+    double estimate = limit;
+    double next = estimate;
+    shortRtt = rtt;
+    switch (algorithm) {
+      case AIMD:
+        if (dropCount > 0 || rtt > timeoutNanos) {
+          next = estimate * BACKOFF;
+        } else if (current * 2 >= estimate) {
+          next = estimate + 1;
+        }
+        break;
+      case GRADIENT:
+      default:
+        double baseline = longRtt == 0 || rtt < longRtt ? rtt : longRtt * (1 - LONG_WEIGHT) + rtt * LONG_WEIGHT;
+        longRtt = baseline;
+        /**
+         * Do not grow the limit while it is not being used.
+         */
+        if (current * 2 < estimate) {
+          break;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * baseline / rtt));
+        next = estimate * (1 - SMOOTHING) + (estimate * gradient + QUEUE_SIZE) * SMOOTHING;
+        break;
+    }
+    limit = Math.max(minLimit, Math.min(maxLimit, next));
+  }
+
+  @Override
+  public String getAlgorithm() {
+    return algorithm.name();
+  }
+
+  @Override
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  @Override
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  @Override
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  @Override
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  @Override
+  public long getAdmittedCount() {
+    return admitted.sum();
+  }
+
+  @Override
+  public long getShedCount() {
+    return shed.sum();
+  }
+
+  @Override
+  public double getShortRtt() {
+    return shortRtt / 1e6;
+  }
+
+  @Override
+  public double getLongRtt() {
+    return longRtt / 1e6;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes {@code rs_limit_concurrency}, {@code rs_limit_in_flight},
+   * {@code rs_limit_requests_total} by outcome and the
+   * {@code rs_limit_rtt_seconds} short and long-term averages.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    String help = "Requests admitted or shed by the concurrency limiter.";
+    writer.gauge("rs_limit_concurrency", "Current adaptive concurrency limit.", (int) limit, "limiter", name)
+      .gauge("rs_limit_in_flight", "Requests in flight under the concurrency limit.", inFlight.get(), "limiter", name)
+      .counter("rs_limit_requests_total", help, admitted.sum(), "limiter", name, "outcome", "admitted")
+      .counter("rs_limit_requests_total", help, shed.sum(), "limiter", name, "outcome", "shed")
+      .gauge("rs_limit_rtt_seconds", "Average request latency seen by the limiter.", shortRtt / 1e9, "limiter", name, "window", "short")
+      .gauge("rs_limit_rtt_seconds", "Average request latency seen by the limiter.", longRtt / 1e9, "limiter", name, "window", "long");
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.limit;
+
+/**
+ * JMX management interface for an adaptive concurrency limiter. Latency values
+ * are in milliseconds.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface AdaptiveLimiterMBean {
+
+  /**
+   * @return the limiter name
+   */
+  String getName();
+
+  /**
+   * @return the limit algorithm
+   */
+  String getAlgorithm();
+
+  /**
+   * @return the current concurrency limit
+   */
+  int getLimit();
+
+  /**
+   * @return the minimum concurrency limit
+   */
+  int getMinLimit();
+
+  /**
+   * @return the maximum concurrency limit
+   */
+  int getMaxLimit();
+
+  /**
+   * @return the number of requests in flight
+   */
+  int getInFlight();
+
+  /**
+   * @return the number of admitted requests
+   */
+  long getAdmittedCount();
+
+  /**
+   * @return the number of shed requests
+   */
+  long getShedCount();
+
+  /**
+   * @return the average latency of the last sample window in milliseconds
+   */
+  double getShortRtt();
+
+  /**
+   * @return the long-term baseline latency in milliseconds
+   */
+  double getLongRtt();
+
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.limit;
+
+import ch.keybridge.rs.metrics.AbstractMetrics;
+import ch.keybridge.rs.metrics.LatencyHistogram;
+import ch.keybridge.rs.metrics.PrometheusWriter;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bulkhead: a bounded number of concurrent calls to one downstream service,
+ * with a bounded wait queue. Calls beyond the queue are rejected immediately
+ * so that a slow downstream cannot consume the threads and connections needed
+ * to call healthy ones.
+ * <p>
+ * Permits are granted in arrival order. A permit is acquired either
+ * synchronously, waiting at most the maximum wait time, or asynchronously as a
+ * future that completes when a permit is granted. Every granted permit MUST be
+ * released exactly once.
+ * <p>
+ * The bulkhead is a metric set: register it with the {@code MetricsRegistry}
+ * to publish its saturation, queue length and rejection counts.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class Bulkhead extends AbstractMetrics implements BulkheadMBean {
+
+  /**
+   * Times out asynchronous waiters.
+   */
+  private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "rs-bulkhead-timer");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final int maxConcurrent, maxQueue;
+  /**
+   * The maximum wait time, in milliseconds.
+   */
+  private final long maxWait;
+  /**
+   * The waiting calls. Guarded by this.
+   */
+  private final ArrayDeque<CompletableFuture<Void>> queue;
+  /**
+   * The number of granted permits. Guarded by this.
+   */
+  private int active;
+  /**
+   * Call outcomes.
+   */
+  private final LongAdder admitted, rejected, timedOut;
+  /**
+   * The time waited for a permit.
+   */
+  private final LatencyHistogram waitTime;
+
+  /**
+   * Construct a new bulkhead.
+   *
+   * @param name          the bulkhead name, typically the downstream base URI
+   * @param maxConcurrent the maximum number of concurrent calls
+   * @param maxQueue      the maximum number of waiting calls; zero to reject
+   *                      immediately when all permits are in use
+   * @param maxWait       the maximum wait time for a permit in milliseconds
+   */
+  public Bulkhead(String name, int maxConcurrent, int maxQueue, long maxWait) {
+    super(name);
+    if (maxConcurrent < 1 || maxQueue < 0 || maxWait < 0) {
+      throw new IllegalArgumentException("Require maxConcurrent > 0, maxQueue >= 0 and maxWait >= 0.");
+    }
+    this.maxConcurrent = maxConcurrent;
+    this.maxQueue = maxQueue;
+    this.maxWait = maxWait;
+    this.queue = new ArrayDeque<>();
+    this.admitted = new LongAdder();
+    this.rejected = new LongAdder();
+    this.timedOut = new LongAdder();
+    this.waitTime = new LatencyHistogram();
+  }
+
+  /**
+   * Acquire a permit, waiting at most the maximum wait time.
+   *
+   * @param timeout an additional bound on the wait, e.g. the time remaining to
+   *                a request deadline; negative for none
+   * @param unit    the timeout unit
+   * @throws BulkheadFullException if the queue is full or the wait timed out
+   */
+  public void acquire(long timeout, TimeUnit unit) {
+    long start = System.nanoTime();
+    CompletableFuture<Void> permit = enqueue();
+    if (permit.isDone()) {
+      join(permit);
+      waitTime.recordSince(start);
+      return;
+    }
+    long wait = timeout < 0 ? maxWait : Math.min(maxWait, unit.toMillis(timeout));
+    try {
+      permit.get(wait, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      expire(permit);
+      join(permit);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      if (permit.completeExceptionally(new BulkheadFullException("Interrupted waiting for bulkhead " + name))) {
+        remove(permit);
+      }
+      join(permit);
+    } catch (ExecutionException e) {
+      join(permit);
+    }
+    waitTime.recordSince(start);
+  }
+
+  /**
+   * Acquire a permit asynchronously. The returned future completes when a
+   * permit is granted, or completes exceptionally with a
+   * {@link BulkheadFullException} if the queue is full or the wait timed out.
+   * Cancelling the future withdraws the call from the queue; once the future
+   * has completed normally the permit is granted and must be released.
+   *
+   * @return the permit future
+   */
+  public CompletableFuture<Void> acquireAsync() {
+    return acquireAsync(-1, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Acquire a permit asynchronously, waiting at most the maximum wait time.
+   *
+   * @param timeout an additional bound on the wait, e.g. the time remaining to
+   *                a request deadline; negative for none
+   * @param unit    the timeout unit
+   * @return the permit future
+   * @see #acquireAsync()
+   */
+  public CompletableFuture<Void> acquireAsync(long timeout, TimeUnit unit) {
+    long start = System.nanoTime();
+    CompletableFuture<Void> permit = enqueue();
+    if (!permit.isDone()) {
+      long wait = timeout < 0 ? maxWait : Math.min(maxWait, unit.toMillis(timeout));
+      TIMER.schedule(() -> expire(permit), wait, TimeUnit.MILLISECONDS);
+    }
+    permit.whenComplete((v, e) -> {
+      if (e == null) {
+        waitTime.recordSince(start);
+      } else if (permit.isCancelled()) {
+        remove(permit);
+      }
+    });
+    return permit;
+  }
+
+  /**
+   * Release a permit, granting it to the next waiting call if any.
+   */
+  public void release() {
+    CompletableFuture<Void> next;
+    synchronized (this) {
+      do {
+        next = queue.poll();
+      } while (next != null && next.isDone());
+      if (next == null) {
+        active--;
+        return;
+      }
+    }
+    /**
+     * The permit is transferred to the waiter. If the waiter expired
+     * concurrently the permit is released again.
+     */
+    if (next.complete(null)) {
+      admitted.increment();
+    } else {
+      release();
+    }
+  }
+
+  /**
+   * Take a permit if one is free, else join the queue if it has room, else
+   * reject.
+   */
+  private CompletableFuture<Void> enqueue() {
+    CompletableFuture<Void> permit = new CompletableFuture<>();
+    synchronized (this) {
+      if (active < maxConcurrent) {
+        active++;
+        permit.complete(null);
+      } else if (queue.size() < maxQueue) {
+        queue.add(permit);
+        return permit;
+      }
+    }
+    if (permit.isDone()) {
+      admitted.increment();
+    } else {
+      rejected.increment();
+      permit.completeExceptionally(new BulkheadFullException("Bulkhead full " + name));
+    }
+    return permit;
+  }
+
+  /**
+   * Time out a waiting call, if it has not been granted a permit.
+   */
+  private void expire(CompletableFuture<Void> permit) {
+    if (permit.completeExceptionally(new BulkheadFullException("Timed out waiting for bulkhead " + name))) {
+      timedOut.increment();
+      remove(permit);
+    }
+  }
+
+  private synchronized void remove(CompletableFuture<Void> permit) {
+    queue.remove(permit);
+  }
+
+  /**
+   * Get the permit or throw the rejection.
+   */
+  private static void join(CompletableFuture<Void> permit) {
+    try {
+      permit.join();
+    } catch (RuntimeException e) {
+      if (e.getCause() instanceof BulkheadFullException) {
+        throw (BulkheadFullException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public int getMaxConcurrent() {
+    return maxConcurrent;
+  }
+
+  @Override
+  public int getMaxQueue() {
+    return maxQueue;
+  }
+
+  @Override
+  public long getMaxWait() {
+    return maxWait;
+  }
+
+  @Override
+  public synchronized int getActive() {
+    return active;
+  }
+
+  @Override
+  public synchronized int getQueued() {
+    return queue.size();
+  }
+
+  @Override
+  public double getSaturation() {
+    return (double) getActive() / maxConcurrent;
+  }
+
+  @Override
+  public long getAdmittedCount() {
+    return admitted.sum();
+  }
+
+  @Override
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+
+  @Override
+  public long getTimeoutCount() {
+    return timedOut.sum();
+  }
+
+  @Override
+  public double getWait99thPercentile() {
+    return waitTime.snapshot().getValueAtQuantile(0.99) / 1e6;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes {@code rs_bulkhead_active}, {@code rs_bulkhead_queued},
+   * {@code rs_bulkhead_max_concurrent}, {@code rs_bulkhead_calls_total} by
+   * outcome and the {@code rs_bulkhead_wait_seconds} summary.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    String help = "Calls admitted or rejected by the bulkhead.";
+    writer.gauge("rs_bulkhead_active", "Calls in progress through the bulkhead.", getActive(), "target", name)
+      .gauge("rs_bulkhead_queued", "Calls waiting for a bulkhead permit.", getQueued(), "target", name)
+      .gauge("rs_bulkhead_max_concurrent", "Maximum concurrent calls through the bulkhead.", maxConcurrent, "target", name)
+      .counter("rs_bulkhead_calls_total", help, admitted.sum(), "target", name, "outcome", "admitted")
+      .counter("rs_bulkhead_calls_total", help, rejected.sum(), "target", name, "outcome", "rejected")
+      .counter("rs_bulkhead_calls_total", help, timedOut.sum(), "target", name, "outcome", "timeout")
+      .summary("rs_bulkhead_wait_seconds", "Time waited for a bulkhead permit.", waitTime.snapshot(), "target", name);
+  }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.limit;
+
+import javax.ws.rs.ProcessingException;
+
+/**
+ * Thrown when a call is rejected by a {@link Bulkhead} because all permits are
+ * in use and the wait queue is full, or the wait timed out. The call was not
+ * sent.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class BulkheadFullException extends ProcessingException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Construct a new exception.
+   *
+   * @param message the detail message
+   */
+  public BulkheadFullException(String message) {
+    super(message);
+  }
+
+}
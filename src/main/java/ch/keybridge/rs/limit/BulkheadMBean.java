@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.limit;
+
+/**
+ * JMX management interface for a bulkhead. Wait times are in milliseconds.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface BulkheadMBean {
+
+  /**
+   * @return the bulkhead name: the downstream base URI
+   */
+  String getName();
+
+  /**
+   * @return the maximum number of concurrent calls
+   */
+  int getMaxConcurrent();
+
+  /**
+   * @return the maximum number of waiting calls
+   */
+  int getMaxQueue();
+
+  /**
+   * @return the maximum wait time in milliseconds
+   */
+  long getMaxWait();
+
+  /**
+   * @return the number of calls in progress
+   */
+  int getActive();
+
+  /**
+   * @return the number of waiting calls
+   */
+  int getQueued();
+
+  /**
+   * @return the fraction of permits in use, between zero and one
+   */
+  double getSaturation();
+
+  /**
+   * @return the number of admitted calls
+   */
+  long getAdmittedCount();
+
+  /**
+   * @return the number of calls rejected because the queue was full
+   */
+  long getRejectedCount();
+
+  /**
+   * @return the number of calls rejected because the wait timed out
+   */
+  long getTimeoutCount();
+
+  /**
+   * @return the 99th percentile wait time for a permit in milliseconds
+   */
+  double getWait99thPercentile();
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.limit;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A keyed rate limiter: one {@link TokenBucket} per client key, held in a
+ * bounded, expiring concurrent map.
+ * <p>
+ * Buckets expire once full, since a full bucket is indistinguishable from a new
+ * one. Expired buckets are swept at most once per period by whichever thread
+ * first notices the period has elapsed, and immediately when the map reaches
+ * its capacity. If the map is still at capacity after a sweep, arbitrary
+ * buckets are discarded; the affected clients receive a fresh bucket.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class RateLimiter {
+
+  /**
+   * The number of permits per period.
+   */
+  private final int permits;
+  /**
+   * The bucket capacity.
+   */
+  private final int burst;
+  /**
+   * The time to refill one permit, in nanoseconds.
+   */
+  private final long interval;
+  /**
+   * The period, in nanoseconds.
+   */
+  private final long periodNanos;
+  /**
+   * The maximum number of buckets.
+   */
+  private final int maxKeys;
+  /**
+   * The client buckets.
+   */
+  private final ConcurrentMap<String, TokenBucket> buckets;
+  /**
+   * The time of the next scheduled sweep.
+   */
+  private final AtomicLong nextSweep;
+  /**
+   * Guards against concurrent sweeps.
+   */
+  private final AtomicBoolean sweeping;
+  /**
+   * The number of admitted and rejected requests.
+   */
+  private final LongAdder admitted, rejected;
+
+  /**
+   * Construct a new rate limiter.
+   *
+   * @param permits the number of permits per period
+   * @param period  the period
+   * @param unit    the period time unit
+   * @param burst   the bucket capacity; if less than 1 the number of permits
+   * @param maxKeys the maximum number of buckets held
+   */
+  public RateLimiter(int permits, long period, TimeUnit unit, int burst, int maxKeys) {
+    if (permits < 1 || period < 1 || maxKeys < 1) {
+      throw new IllegalArgumentException("Permits, period and maxKeys must be positive.");
+    }
+    this.permits = permits;
+    this.burst = burst < 1 ? permits : burst;
+    this.periodNanos = unit.toNanos(period);
+    this.interval = Math.max(1, periodNanos / permits);
+    this.maxKeys = maxKeys;
+    this.buckets = new ConcurrentHashMap<>();
+    this.nextSweep = new AtomicLong(System.nanoTime() + periodNanos);
+    this.sweeping = new AtomicBoolean();
+    this.admitted = new LongAdder();
+    this.rejected = new LongAdder();
+  }
+
+  /**
+   * Get the bucket for a client key, creating it if required.
+   *
+   * @param key the client key
+   * @param now the current time
+   * @return the bucket
+   */
+  public TokenBucket getBucket(String key, long now) {
+    long sweep = nextSweep.get();
+    if (now - sweep > 0 && nextSweep.compareAndSet(sweep, now + periodNanos)) {
+      sweep(now);
+    }
+    TokenBucket bucket = buckets.get(key);
+    if (bucket == null) {
+      if (buckets.size() >= maxKeys) {
+        sweep(now);
+      }
+      bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(interval, burst, now));
+    }
+    return bucket;
+  }
+
+  /**
+   * Try to take one permit for a client key.
+   *
+   * @param bucket the client bucket
+   * @param now    the current time
+   * @return true if the request is admitted
+   */
+  public boolean tryAcquire(TokenBucket bucket, long now) {
+    if (bucket.tryAcquire(now)) {
+      admitted.increment();
+      return true;
+    }
+    rejected.increment();
+    return false;
+  }
+
+  /**
+   * Remove full buckets. If the map is still at capacity remove arbitrary
+   * buckets down to 90% of capacity, so that a stream of new keys does not
+   * trigger a sweep on every request.
+   */
+  private void sweep(long now) {
+    if (!sweeping.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      buckets.values().removeIf(bucket -> bucket.isFull(now));
+      if (buckets.size() < maxKeys) {
+        return;
+      }
+      int target = maxKeys - Math.max(1, maxKeys / 10);
+      Iterator<TokenBucket> iterator = buckets.values().iterator();
+      while (buckets.size() > target && iterator.hasNext()) {
+        iterator.next();
+        iterator.remove();
+      }
+    } finally {
+      sweeping.set(false);
+    }
+  }
+
+  /**
+   * @return the number of permits per period
+   */
+  public int getPermits() {
+    return permits;
+  }
+
+  /**
+   * @return the bucket capacity
+   */
+  public int getBurst() {
+    return burst;
+  }
+
+  /**
+   * @return the number of buckets currently held
+   */
+  public int getKeyCount() {
+    return buckets.size();
+  }
+
+  /**
+   * @return the number of admitted requests
+   */
+  public long getAdmittedCount() {
+    return admitted.sum();
+  }
+
+  /**
+   * @return the number of rejected requests
+   */
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket implemented as a generic cell rate algorithm
+ * (GCRA). The entire bucket state is a single theoretical arrival time (TAT),
+ * updated by compare-and-set: each permit advances the TAT by the emission
+ * interval, and a request is admitted if the advanced TAT is no further than
+ * the burst tolerance ahead of the current time.
+ * <p>
+ * This is equivalent to a token bucket refilled continuously at one token per
+ * emission interval with a capacity of {@code burst} tokens, without a refill
+ * timer or a lock. A bucket whose TAT is in the past is full.
+ * <p>
+ * Times are {@link System#nanoTime()} values.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Generic_cell_rate_algorithm">Generic
+ * cell rate algorithm</a>
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class TokenBucket {
+
+  /**
+   * The time to refill one permit, in nanoseconds.
+   */
+  private final long interval;
+  /**
+   * The burst tolerance: the bucket capacity times the interval.
+   */
+  private final long tolerance;
+  /**
+   * The theoretical arrival time.
+   */
+  private final AtomicLong tat;
+
+  /**
+   * Construct a new, full token bucket.
+   *
+   * @param interval the time to refill one permit, in nanoseconds
+   * @param burst    the bucket capacity
+   * @param now      the current time
+   */
+  public TokenBucket(long interval, int burst, long now) {
+    if (interval < 1 || burst < 1) {
+      throw new IllegalArgumentException("Interval and burst must be positive.");
+    }
+    this.interval = interval;
+    this.tolerance = interval * burst;
+    this.tat = new AtomicLong(now);
+  }
+
+  /**
+   * Try to take one permit.
+   *
+   * @param now the current time
+   * @return true if the permit was taken
+   */
+  public boolean tryAcquire(long now) {
+    for (;;) {
+      long current = tat.get();
+      long next = Math.max(current, now) + interval;
+      if (next - now > tolerance) {
+        return false;
+      }
+      if (tat.compareAndSet(current, next)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Get the number of permits currently available.
+   *
+   * @param now the current time
+   * @return the number of available permits
+   */
+  public long getAvailable(long now) {
+    long used = Math.max(0, tat.get() - now);
+    return (tolerance - used) / interval;
+  }
+
+  /**
+   * Get the time until one permit is available.
+   *
+   * @param now the current time
+   * @return the wait time in nanoseconds; zero if a permit is available
+   */
+  public long getWaitNanos(long now) {
+    return Math.max(0, tat.get() + interval - tolerance - now);
+  }
+
+  /**
+   * Get the time until the bucket is full again.
+   *
+   * @param now the current time
+   * @return the time in nanoseconds; zero if the bucket is full
+   */
+  public long getResetNanos(long now) {
+    return Math.max(0, tat.get() - now);
+  }
+
+  /**
+   * Determine whether the bucket is full, i.e. it has been idle long enough to
+   * be discarded without changing the outcome of future requests.
+   *
+   * @param now the current time
+   * @return true if the bucket is full
+   */
+  public boolean isFull(long now) {
+    return tat.get() - now <= 0;
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.metrics;
+
+/**
+ * An abstract set of named metrics that is registered with the
+ * {@link MetricsRegistry}. Implementations are exposed as JMX standard MBeans
+ * and therefore MUST implement an interface named after the implementation
+ * class with an {@code MBean} suffix (e.g. {@code ResourceMetricsMBean}).
+ * Implementations also write themselves in Prometheus text exposition format.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public abstract class AbstractMetrics {
+
+  /**
+   * The metric set name. This is unique within the metric type.
+   */
+  protected final String name;
+
+  /**
+   * Construct a new metric set.
+   *
+   * @param name the metric set name
+   */
+  protected AbstractMetrics(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Get the metric set name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Get the metric set type. This is used as the JMX {@code type} key property.
+   * The default is the simple class name.
+   *
+   * @return the type
+   */
+  public String getType() {
+    return getClass().getSimpleName();
+  }
+
+  /**
+   * Write the current metric values in Prometheus text exposition format.
+   *
+   * @param writer the writer
+   */
+  public abstract void writeTo(PrometheusWriter writer);
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.metrics;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+
+/**
+ * An optional plain-text scrape endpoint that renders all registered metrics in
+ * Prometheus text exposition format.
+ * <p>
+ * This class is deliberately not a root resource so that the endpoint is only
+ * exposed where an application chooses to. Use instructions: Extend this class
+ * and annotate the instance with: <br>
+ * Path("metrics") <br>
+ * and optionally a security annotation (e.g. RolesAllowed) to restrict access.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+//@Path("metrics")
+public abstract class AbstractMetricsResource {
+
+  /**
+   * Get all registered metrics in Prometheus text exposition format.
+   *
+   * @return the exposition text
+   */
+  @GET
+  @Produces(PrometheusWriter.CONTENT_TYPE)
+  public String getMetrics() {
+    return MetricsRegistry.getInstance().scrape();
+  }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics for the bulk requests of a request batcher: batch and key counts by
+ * outcome, the mean batch size and the bulk request time.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class BatchMetrics extends AbstractMetrics implements BatchMetricsMBean {
+
+  /**
+   * The target base URI.
+   */
+  private final String target;
+  /**
+   * The bulk request path template.
+   */
+  private final String path;
+  /**
+   * Batch and key counters.
+   */
+  private final LongAdder batches, items, failedBatches, failedItems, splits;
+  /**
+   * The bulk request time.
+   */
+  private final LatencyHistogram duration;
+
+  /**
+   * Construct a new batch metric set.
+   *
+   * @param target the target base URI
+   * @param path   the bulk request path template
+   */
+  public BatchMetrics(String target, String path) {
+    super(target + " " + path);
+    this.target = target;
+    this.path = path;
+    this.batches = new LongAdder();
+    this.items = new LongAdder();
+    this.failedBatches = new LongAdder();
+    this.failedItems = new LongAdder();
+    this.splits = new LongAdder();
+    this.duration = new LatencyHistogram();
+  }
+
+  /**
+   * Record a successful bulk request.
+   *
+   * @param startNanos the request start time in nanoseconds
+   * @param size       the number of keys
+   */
+  public void completed(long startNanos, int size) {
+    duration.recordSince(startNanos);
+    batches.increment();
+    items.add(size);
+  }
+
+  /**
+   * Record a failed bulk request.
+   *
+   * @param startNanos the request start time in nanoseconds
+   * @param size       the number of keys
+   */
+  public void failed(long startNanos, int size) {
+    duration.recordSince(startNanos);
+    failedBatches.increment();
+    failedItems.add(size);
+  }
+
+  /**
+   * Record a failed bulk request that is split and retried.
+   *
+   * @param startNanos the request start time in nanoseconds
+   */
+  public void split(long startNanos) {
+    duration.recordSince(startNanos);
+    splits.increment();
+  }
+
+  @Override
+  public long getBatchCount() {
+    return batches.sum();
+  }
+
+  @Override
+  public long getItemCount() {
+    return items.sum();
+  }
+
+  @Override
+  public long getFailedBatchCount() {
+    return failedBatches.sum();
+  }
+
+  @Override
+  public long getFailedItemCount() {
+    return failedItems.sum();
+  }
+
+  @Override
+  public long getSplitCount() {
+    return splits.sum();
+  }
+
+  @Override
+  public double getMeanBatchSize() {
+    long count = batches.sum();
+    return count == 0 ? 0 : (double) items.sum() / count;
+  }
+
+  @Override
+  public double getDurationMedian() {
+    return duration.snapshot().getValueAtQuantile(0.5) / 1e6;
+  }
+
+  @Override
+  public double getDuration99thPercentile() {
+    return duration.snapshot().getValueAtQuantile(0.99) / 1e6;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes {@code rs_batch_requests_total} and {@code rs_batch_items_total} by
+   * outcome, {@code rs_batch_size_mean} and the
+   * {@code rs_batch_duration_seconds} summary.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    String help = "Bulk requests by target, path and outcome.";
+    String itemHelp = "Keys in bulk requests by target, path and outcome.";
+    writer.counter("rs_batch_requests_total", help, batches.sum(), "target", target, "path", path, "outcome", "success")
+      .counter("rs_batch_requests_total", help, failedBatches.sum(), "target", target, "path", path, "outcome", "failed")
+      .counter("rs_batch_requests_total", help, splits.sum(), "target", target, "path", path, "outcome", "split")
+      .counter("rs_batch_items_total", itemHelp, items.sum(), "target", target, "path", path, "outcome", "success")
+      .counter("rs_batch_items_total", itemHelp, failedItems.sum(), "target", target, "path", path, "outcome", "failed")
+      .gauge("rs_batch_size_mean", "Mean keys per successful bulk request.", getMeanBatchSize(), "target", target, "path", path)
+      .summary("rs_batch_duration_seconds", "Bulk request time by target and path.", duration.snapshot(), "target", target, "path", path);
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.metrics;
+
+/**
+ * JMX management interface for request batching metrics. Latency values are in
+ * milliseconds.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface BatchMetricsMBean {
+
+  /**
+   * @return the metric set name: the target and path template
+   */
+  String getName();
+
+  /**
+   * @return the number of successful bulk requests
+   */
+  long getBatchCount();
+
+  /**
+   * @return the number of keys in successful bulk requests
+   */
+  long getItemCount();
+
+  /**
+   * @return the number of failed bulk requests
+   */
+  long getFailedBatchCount();
+
+  /**
+   * @return the number of keys in failed bulk requests
+   */
+  long getFailedItemCount();
+
+  /**
+   * @return the number of failed bulk requests that were split and retried
+   */
+  long getSplitCount();
+
+  /**
+   * @return the mean number of keys per successful bulk request
+   */
+  double getMeanBatchSize();
+
+  /**
+   * @return the median bulk request time
+   */
+  double getDurationMedian();
+
+  /**
+   * @return the 99th percentile bulk request time
+   */
+  double getDuration99thPercentile();
+
+}
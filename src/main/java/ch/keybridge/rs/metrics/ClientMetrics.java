@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.metrics;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics for outbound calls to a single target (base URI) and request path
+ * template: time to first byte and total time histograms, outcome counters and
+ * an in-flight gauge.
+ * <p>
+ * Time to first byte is measured from the client request filter to the client
+ * response filter, i.e. until the response status and headers are received.
+ * Total time additionally includes reading the response entity.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class ClientMetrics extends AbstractMetrics implements ClientMetricsMBean {
+
+  /**
+   * The target base URI.
+   */
+  private final String target;
+  /**
+   * The request path template.
+   */
+  private final String path;
+  /**
+   * Outcome counters.
+   */
+  private final LongAdder success, otherStatus, clientError, serverError, timeout, connectRefused, error;
+  /**
+   * The number of requests awaiting a response.
+   */
+  private final LongAdder inFlight;
+  /**
+   * Time until the response headers are received.
+   */
+  private final LatencyHistogram timeToFirstByte;
+  /**
+   * Time until the response entity is read.
+   */
+  private final LatencyHistogram totalTime;
+  /**
+   * The configured timeouts, in milliseconds.
+   */
+  private volatile int connectTimeout, readTimeout;
+
+  /**
+   * Construct a new client metric set.
+   *
+   * @param target the target base URI
+   * @param path   the request path template
+   */
+  public ClientMetrics(String target, String path) {
+    super(target + " " + path);
+    this.target = target;
+    this.path = path;
+    this.success = new LongAdder();
+    this.otherStatus = new LongAdder();
+    this.clientError = new LongAdder();
+    this.serverError = new LongAdder();
+    this.timeout = new LongAdder();
+    this.connectRefused = new LongAdder();
+    this.error = new LongAdder();
+    this.inFlight = new LongAdder();
+    this.timeToFirstByte = new LatencyHistogram();
+    this.totalTime = new LatencyHistogram();
+  }
+
+  /**
+   * Record the configured client timeouts, for comparison with the observed
+   * latency.
+   *
+   * @param connectTimeout the connect timeout in milliseconds
+   * @param readTimeout    the read timeout in milliseconds
+   */
+  public void setTimeouts(int connectTimeout, int readTimeout) {
+    this.connectTimeout = connectTimeout;
+    this.readTimeout = readTimeout;
+  }
+
+  /**
+   * Mark the start of a request.
+   *
+   * @return the start time in nanoseconds
+   */
+  public long begin() {
+    inFlight.increment();
+    return System.nanoTime();
+  }
+
+  /**
+   * Record the receipt of the response status and headers.
+   *
+   * @param startNanos the start time returned by {@link #begin()}
+   * @param status     the HTTP response status code
+   */
+  public void responded(long startNanos, int status) {
+    timeToFirstByte.recordSince(startNanos);
+    inFlight.decrement();
+    if (status >= 200 && status < 300) {
+      success.increment();
+    } else if (status >= 400 && status < 500) {
+      clientError.increment();
+    } else if (status >= 500) {
+      serverError.increment();
+    } else {
+      otherStatus.increment();
+    }
+  }
+
+  /**
+   * Record the completion of a request, after the response entity (if any) is
+   * read.
+   *
+   * @param startNanos the start time returned by {@link #begin()}
+   */
+  public void completed(long startNanos) {
+    totalTime.recordSince(startNanos);
+  }
+
+  /**
+   * Record a transport failure of a request that was started but did not
+   * receive a response. Socket timeouts (connect or read) and refused
+   * connections are counted separately from other errors.
+   *
+   * @param cause the failure, typically a {@code ProcessingException}
+   */
+  public void failed(Throwable cause) {
+    inFlight.decrement();
+    Throwable t = cause;
+    while (t != null) {
+      if (t instanceof SocketTimeoutException) {
+        timeout.increment();
+        return;
+      }
+      if (t instanceof ConnectException) {
+        connectRefused.increment();
+        return;
+      }
+      t = t.getCause();
+    }
+    error.increment();
+  }
+
+  /**
+   * Get the time to first byte histogram.
+   *
+   * @return the histogram
+   */
+  public LatencyHistogram getTimeToFirstByte() {
+    return timeToFirstByte;
+  }
+
+  /**
+   * Get the total time histogram.
+   *
+   * @return the histogram
+   */
+  public LatencyHistogram getTotalTime() {
+    return totalTime;
+  }
+
+  @Override
+  public String getTarget() {
+    return target;
+  }
+
+  @Override
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public long getInFlight() {
+    return inFlight.sum();
+  }
+
+  @Override
+  public long getSuccessCount() {
+    return success.sum();
+  }
+
+  @Override
+  public long getOtherStatusCount() {
+    return otherStatus.sum();
+  }
+
+  @Override
+  public long getClientErrorCount() {
+    return clientError.sum();
+  }
+
+  @Override
+  public long getServerErrorCount() {
+    return serverError.sum();
+  }
+
+  @Override
+  public long getTimeoutCount() {
+    return timeout.sum();
+  }
+
+  @Override
+  public long getConnectRefusedCount() {
+    return connectRefused.sum();
+  }
+
+  @Override
+  public long getErrorCount() {
+    return error.sum();
+  }
+
+  @Override
+  public int getConnectTimeout() {
+    return connectTimeout;
+  }
+
+  @Override
+  public int getReadTimeout() {
+    return readTimeout;
+  }
+
+  @Override
+  public double getTimeToFirstByteMedian() {
+    return timeToFirstByte.snapshot().getValueAtQuantile(0.5) / 1e6;
+  }
+
+  @Override
+  public double getTimeToFirstByte99thPercentile() {
+    return timeToFirstByte.snapshot().getValueAtQuantile(0.99) / 1e6;
+  }
+
+  @Override
+  public double getTimeToFirstByte999thPercentile() {
+    return timeToFirstByte.snapshot().getValueAtQuantile(0.999) / 1e6;
+  }
+
+  @Override
+  public double getTotalTimeMedian() {
+    return totalTime.snapshot().getValueAtQuantile(0.5) / 1e6;
+  }
+
+  @Override
+  public double getTotalTime99thPercentile() {
+    return totalTime.snapshot().getValueAtQuantile(0.99) / 1e6;
+  }
+
+  @Override
+  public double getTotalTime999thPercentile() {
+    return totalTime.snapshot().getValueAtQuantile(0.999) / 1e6;
+  }
+
+  @Override
+  public double getTotalTimeMax() {
+    return totalTime.snapshot().getMax() / 1e6;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes {@code rs_client_requests_total} by outcome,
+   * {@code rs_client_requests_in_flight}, the configured timeouts and the
+   * {@code rs_client_ttfb_seconds} and {@code rs_client_duration_seconds}
+   * summaries.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    String help = "Outbound requests by target, path and outcome.";
+    writer.counter("rs_client_requests_total", help, success.sum(), "target", target, "path", path, "outcome", "2xx")
+      .counter("rs_client_requests_total", help, clientError.sum(), "target", target, "path", path, "outcome", "4xx")
+      .counter("rs_client_requests_total", help, serverError.sum(), "target", target, "path", path, "outcome", "5xx")
+      .counter("rs_client_requests_total", help, otherStatus.sum(), "target", target, "path", path, "outcome", "other")
+      .counter("rs_client_requests_total", help, timeout.sum(), "target", target, "path", path, "outcome", "timeout")
+      .counter("rs_client_requests_total", help, connectRefused.sum(), "target", target, "path", path, "outcome", "connect_refused")
+      .counter("rs_client_requests_total", help, error.sum(), "target", target, "path", path, "outcome", "error")
+      .gauge("rs_client_requests_in_flight", "Outbound requests awaiting a response.", inFlight.sum(), "target", target, "path", path)
+      .gauge("rs_client_connect_timeout_seconds", "Configured connect timeout.", connectTimeout / 1e3, "target", target, "path", path)
+      .gauge("rs_client_read_timeout_seconds", "Configured read timeout.", readTimeout / 1e3, "target", target, "path", path)
+      .summary("rs_client_ttfb_seconds", "Time to response headers by target and path.", timeToFirstByte.snapshot(), "target", target, "path", path)
+      .summary("rs_client_duration_seconds", "Total request time by target and path.", totalTime.snapshot(), "target", target, "path", path);
+  }
+
+}
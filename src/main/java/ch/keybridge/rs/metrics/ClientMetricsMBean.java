@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.metrics;
+
+/**
+ * JMX management interface for outbound client metrics. Latency values are in
+ * milliseconds.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface ClientMetricsMBean {
+
+  /**
+   * @return the metric set name: the target and path template
+   */
+  String getName();
+
+  /**
+   * @return the target base URI
+   */
+  String getTarget();
+
+  /**
+   * @return the request path template
+   */
+  String getPath();
+
+  /**
+   * @return the number of requests awaiting a response
+   */
+  long getInFlight();
+
+  /**
+   * @return the number of 2xx responses
+   */
+  long getSuccessCount();
+
+  /**
+   * @return the number of 1xx and 3xx responses
+   */
+  long getOtherStatusCount();
+
+  /**
+   * @return the number of 4xx responses
+   */
+  long getClientErrorCount();
+
+  /**
+   * @return the number of 5xx responses
+   */
+  long getServerErrorCount();
+
+  /**
+   * @return the number of connect or read timeouts
+   */
+  long getTimeoutCount();
+
+  /**
+   * @return the number of refused connections
+   */
+  long getConnectRefusedCount();
+
+  /**
+   * @return the number of other transport errors
+   */
+  long getErrorCount();
+
+  /**
+   * @return the configured connect timeout in milliseconds
+   */
+  int getConnectTimeout();
+
+  /**
+   * @return the configured read timeout in milliseconds
+   */
+  int getReadTimeout();
+
+  /**
+   * @return the median time to the response headers in milliseconds
+   */
+  double getTimeToFirstByteMedian();
+
+  /**
+   * @return the 99th percentile time to the response headers in milliseconds
+   */
+  double getTimeToFirstByte99thPercentile();
+
+  /**
+   * @return the 99.9th percentile time to the response headers in
+   *         milliseconds
+   */
+  double getTimeToFirstByte999thPercentile();
+
+  /**
+   * @return the median total time, including reading the entity, in
+   *         milliseconds
+   */
+  double getTotalTimeMedian();
+
+  /**
+   * @return the 99th percentile total time in milliseconds
+   */
+  double getTotalTime99thPercentile();
+
+  /**
+   * @return the 99.9th percentile total time in milliseconds
+   */
+  double getTotalTime999thPercentile();
+
+  /**
+   * @return the maximum total time in milliseconds
+   */
+  double getTotalTimeMax();
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent, allocation-free latency histogram. Values are recorded in
+ * nanoseconds into log-linear buckets in the style of an HDR histogram: each
+ * power of two is divided into 16 linear sub-buckets, giving a relative error
+ * of about 6% over a range of 1 nanosecond to about 18 minutes. Larger values
+ * are clamped to the highest bucket.
+ * <p>
+ * Bucket counters are striped across several atomic arrays, selected by the
+ * recording thread, so that concurrent writers rarely touch the same cache
+ * line. Recording a value is a handful of arithmetic operations and two atomic
+ * increments; no objects are allocated. Reading the histogram sums the stripes
+ * into a {@link Snapshot}.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class LatencyHistogram {
+
+  /**
+   * The number of bits of linear precision within each power of two.
+   */
+  private static final int SUB_BUCKET_BITS = 4;
+  /**
+   * The number of linear sub-buckets within each power of two.
+   */
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  /**
+   * The highest trackable value is 2^40 - 1 nanoseconds (about 18 minutes).
+   */
+  private static final int MAX_BITS = 40;
+  /**
+   * The highest trackable value. Larger values are clamped.
+   */
+  private static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+  /**
+   * The total number of buckets.
+   */
+  static final int BUCKET_COUNT = (MAX_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+  /**
+   * The number of counter stripes; a power of two no larger than eight.
+   */
+  private static final int STRIPES = Math.min(8, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+
+  /**
+   * The striped bucket counters.
+   */
+  private final AtomicLongArray[] buckets;
+  /**
+   * The total number of recorded values.
+   */
+  private final LongAdder count;
+  /**
+   * The sum of all recorded values, in nanoseconds.
+   */
+  private final LongAdder sum;
+  /**
+   * The largest recorded value, in nanoseconds.
+   */
+  private final AtomicLong max;
+
+  /**
+   * Construct a new, empty histogram.
+   */
+  public LatencyHistogram() {
+    this.buckets = new AtomicLongArray[STRIPES];
+    for (int i = 0; i < STRIPES; i++) {
+      this.buckets[i] = new AtomicLongArray(BUCKET_COUNT);
+    }
+    this.count = new LongAdder();
+    this.sum = new LongAdder();
+    this.max = new AtomicLong();
+  }
+
+  /**
+   * Record a latency value.
+   *
+   * @param nanos the latency in nanoseconds. Negative values are recorded as
+   *              zero.
+   */
+  public void record(long nanos) {
+    long value = nanos < 0 ? 0 : Math.min(nanos, MAX_VALUE);
+    buckets[(int) Thread.currentThread().getId() & (STRIPES - 1)].incrementAndGet(bucketIndex(value));
+    count.increment();
+    sum.add(value);
+    if (value > max.get()) {
+      max.accumulateAndGet(value, Math::max);
+    }
+  }
+
+  /**
+   * Record the time elapsed since a start time.
+   *
+   * @param startNanos a start time as returned by {@link System#nanoTime()}
+   */
+  public void recordSince(long startNanos) {
+    record(System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Get the total number of recorded values.
+   *
+   * @return the number of recorded values
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Read the current histogram state. The snapshot is not atomic with respect
+   * to concurrent writers but is always internally consistent.
+   *
+   * @return a snapshot of the histogram
+   */
+  public Snapshot snapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (AtomicLongArray stripe : buckets) {
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        counts[i] += stripe.get(i);
+      }
+    }
+    return new Snapshot(counts, sum.sum(), max.get());
+  }
+
+  /**
+   * Get the bucket index for a (non-negative, clamped) value. Values below the
+   * sub-bucket count map one-to-one; larger values map to one of 16 linear
+   * sub-buckets of their power of two.
+   *
+   * @param value the value
+   * @return the bucket index
+   */
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return ((shift + 1) << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+  }
+
+  /**
+   * Get the highest value that maps to a bucket.
+   *
+   * @param index the bucket index
+   * @return the highest value recorded in the bucket
+   */
+  static long highestEquivalentValue(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = (index >>> SUB_BUCKET_BITS) - 1;
+    long lowest = (long) ((index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  /**
+   * An immutable view of the histogram at a point in time.
+   */
+  public static class Snapshot {
+
+    /**
+     * The bucket counts.
+     */
+    private final long[] counts;
+    /**
+     * The total number of values.
+     */
+    private final long count;
+    /**
+     * The sum of all values, in nanoseconds.
+     */
+    private final long sum;
+    /**
+     * The largest value, in nanoseconds.
+     */
+    private final long max;
+
+    Snapshot(long[] counts, long sum, long max) {
+      long total = 0;
+      for (long c : counts) {
+        total += c;
+      }
+      this.counts = counts;
+      this.count = total;
+      this.sum = sum;
+      this.max = max;
+    }
+
+    /**
+     * Get the number of values in the snapshot.
+     *
+     * @return the number of values
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * Get the sum of all values.
+     *
+     * @return the sum in nanoseconds
+     */
+    public long getSum() {
+      return sum;
+    }
+
+    /**
+     * Get the largest value.
+     *
+     * @return the maximum in nanoseconds
+     */
+    public long getMax() {
+      return max;
+    }
+
+    /**
+     * Get the arithmetic mean.
+     *
+     * @return the mean in nanoseconds, or zero if empty
+     */
+    public double getMean() {
+      return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Combine this snapshot with another, e.g. of an earlier time window.
+     *
+     * @param other the other snapshot
+     * @return a snapshot of the values in both
+     */
+    public Snapshot merge(Snapshot other) {
+      long[] merged = new long[counts.length];
+      for (int i = 0; i < merged.length; i++) {
+        merged[i] = counts[i] + other.counts[i];
+      }
+      return new Snapshot(merged, sum + other.sum, Math.max(max, other.max));
+    }
+
+    /**
+     * Get the value at a quantile. The result is the highest value of the
+     * bucket containing the quantile, bounded by the recorded maximum.
+     *
+     * @param quantile the quantile, between 0 and 1
+     * @return the value in nanoseconds, or zero if empty
+     */
+    public long getValueAtQuantile(double quantile) {
+      if (count == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(Math.min(1, Math.max(0, quantile)) * count));
+      long cumulative = 0;
+      for (int i = 0; i < counts.length; i++) {
+        cumulative += counts[i];
+        if (cumulative >= rank) {
+          return Math.min(highestEquivalentValue(i), max);
+        }
+      }
+      return max;
+    }
+  }
+
+}
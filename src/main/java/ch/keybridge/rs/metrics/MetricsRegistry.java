@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The library-wide registry of metric sets. Each metric set is registered once
+ * and is published as a JMX MBean under the {@value #DOMAIN} domain. The
+ * registry also renders all metric sets in Prometheus text exposition format.
+ * <p>
+ * Registration is idempotent: registering a metric set with the same type and
+ * name as an existing one returns the existing instance. This allows filters
+ * and clients that are re-created (e.g. on redeploy) to continue counting into
+ * the same metrics.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public final class MetricsRegistry {
+
+  private static final Logger LOG = Logger.getLogger(MetricsRegistry.class.getName());
+
+  /**
+   * The JMX domain under which all metric sets are registered.
+   */
+  public static final String DOMAIN = "ch.keybridge.rs";
+
+  /**
+   * The singleton instance.
+   */
+  private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+  /**
+   * The registered metric sets, indexed by their JMX object name.
+   */
+  private final ConcurrentMap<String, AbstractMetrics> metrics;
+
+  private MetricsRegistry() {
+    this.metrics = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Get the registry instance.
+   *
+   * @return the registry
+   */
+  public static MetricsRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Register a metric set. If a metric set of the same type and name is already
+   * registered then the existing instance is returned and the candidate is
+   * discarded.
+   *
+   * @param <T>       the metric set type
+   * @param candidate the metric set to register
+   * @return the registered metric set
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends AbstractMetrics> T register(T candidate) {
+    ObjectName objectName = buildObjectName(candidate);
+    AbstractMetrics existing = metrics.putIfAbsent(objectName.getCanonicalName(), candidate);
+    if (existing != null) {
+      return (T) existing;
+    }
+    /**
+     * Publish to JMX. Failure to publish is not fatal: the metrics are still
+     * recorded and available to the Prometheus scrape.
+     */
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      if (!server.isRegistered(objectName)) {
+        server.registerMBean(candidate, objectName);
+      }
+    } catch (JMException | RuntimeException e) {
+      LOG.log(Level.WARNING, "Unable to register MBean {0}: {1}", new Object[]{objectName, e.getMessage()});
+    }
+    return candidate;
+  }
+
+  /**
+   * Unregister a metric set from the registry and from JMX.
+   *
+   * @param metricSet the metric set to remove
+   */
+  public void unregister(AbstractMetrics metricSet) {
+    ObjectName objectName = buildObjectName(metricSet);
+    if (metrics.remove(objectName.getCanonicalName(), metricSet)) {
+      try {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(objectName)) {
+          server.unregisterMBean(objectName);
+        }
+      } catch (JMException | RuntimeException e) {
+        LOG.log(Level.FINE, "Unable to unregister MBean {0}: {1}", new Object[]{objectName, e.getMessage()});
+      }
+    }
+  }
+
+  /**
+   * Get all registered metric sets.
+   *
+   * @return an unmodifiable copy of the registered metric sets
+   */
+  public Collection<AbstractMetrics> getMetrics() {
+    return Collections.unmodifiableList(new ArrayList<>(metrics.values()));
+  }
+
+  /**
+   * Render all registered metric sets in Prometheus text exposition format
+   * (version 0.0.4).
+   *
+   * @return the exposition text
+   */
+  public String scrape() {
+    PrometheusWriter writer = new PrometheusWriter();
+    for (AbstractMetrics metricSet : metrics.values()) {
+      metricSet.writeTo(writer);
+    }
+    return writer.toString();
+  }
+
+  /**
+   * Build the JMX object name for a metric set. The name is
+   * {@code ch.keybridge.rs:type=<type>,name="<name>"}.
+   *
+   * @param metricSet the metric set
+   * @return the object name
+   */
+  private static ObjectName buildObjectName(AbstractMetrics metricSet) {
+    Hashtable<String, String> properties = new Hashtable<>();
+    properties.put("type", metricSet.getType());
+    properties.put("name", ObjectName.quote(metricSet.getName()));
+    try {
+      return new ObjectName(DOMAIN, properties);
+    } catch (JMException e) {
+      throw new IllegalArgumentException("Invalid metric name " + metricSet.getName(), e);
+    }
+  }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A minimal writer for the Prometheus text exposition format, version 0.0.4.
+ * Samples are grouped by metric family so that each family is written with a
+ * single {@code # HELP} and {@code # TYPE} header regardless of the order in
+ * which metric sets contribute samples.
+ * <p>
+ * Latency summaries are written in seconds, the Prometheus base unit.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ * @see
+ * <a href="https://prometheus.io/docs/instrumenting/exposition_formats/">Exposition
+ * formats</a>
+ */
+public class PrometheusWriter {
+
+  /**
+   * The content type of the exposition format.
+   */
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  /**
+   * The quantiles written for each summary.
+   */
+  private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+  /**
+   * The metric families, in order of first appearance.
+   */
+  private final Map<String, StringBuilder> families = new LinkedHashMap<>();
+
+  /**
+   * Write a counter sample.
+   *
+   * @param name   the metric family name
+   * @param help   the metric family description
+   * @param value  the counter value
+   * @param labels alternating label names and values
+   * @return this writer
+   */
+  public PrometheusWriter counter(String name, String help, double value, String... labels) {
+    sample(family(name, help, "counter"), name, labels, null, value);
+    return this;
+  }
+
+  /**
+   * Write a gauge sample.
+   *
+   * @param name   the metric family name
+   * @param help   the metric family description
+   * @param value  the gauge value
+   * @param labels alternating label names and values
+   * @return this writer
+   */
+  public PrometheusWriter gauge(String name, String help, double value, String... labels) {
+    sample(family(name, help, "gauge"), name, labels, null, value);
+    return this;
+  }
+
+  /**
+   * Write a latency summary sample: quantiles, sum and count. Values are
+   * converted from nanoseconds to seconds.
+   *
+   * @param name     the metric family name, which should end in
+   *                 {@code _seconds}
+   * @param help     the metric family description
+   * @param snapshot the latency histogram snapshot
+   * @param labels   alternating label names and values
+   * @return this writer
+   */
+  public PrometheusWriter summary(String name, String help, LatencyHistogram.Snapshot snapshot, String... labels) {
+    StringBuilder family = family(name, help, "summary");
+    for (double quantile : QUANTILES) {
+      sample(family, name, labels, String.valueOf(quantile), snapshot.getValueAtQuantile(quantile) / 1e9);
+    }
+    sample(family, name + "_sum", labels, null, snapshot.getSum() / 1e9);
+    sample(family, name + "_count", labels, null, snapshot.getCount());
+    return this;
+  }
+
+  /**
+   * Get or create a metric family buffer, writing the HELP and TYPE headers on
+   * creation.
+   */
+  private StringBuilder family(String name, String help, String type) {
+    StringBuilder family = families.get(name);
+    if (family == null) {
+      family = new StringBuilder();
+      family.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+      family.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+      families.put(name, family);
+    }
+    return family;
+  }
+
+  /**
+   * Write a single sample line.
+   */
+  private void sample(StringBuilder family, String name, String[] labels, String quantile, double value) {
+    family.append(name);
+    if (labels.length > 0 || quantile != null) {
+      family.append('{');
+      for (int i = 0; i + 1 < labels.length; i += 2) {
+        if (i > 0) {
+          family.append(',');
+        }
+        family.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+      }
+      if (quantile != null) {
+        family.append(labels.length > 0 ? "," : "").append("quantile=\"").append(quantile).append('"');
+      }
+      family.append('}');
+    }
+    family.append(' ').append(format(value)).append('\n');
+  }
+
+  /**
+   * Escape a label value: backslash, double-quote and line feed.
+   */
+  private static String escape(String value) {
+    return value == null
+           ? ""
+           : value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  /**
+   * Format a sample value, writing integral values without a decimal point.
+   */
+  private static String format(double value) {
+    if (Double.isNaN(value)) {
+      return "NaN";
+    }
+    if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+      return String.valueOf((long) value);
+    }
+    return String.valueOf(value);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns the complete exposition text.
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (StringBuilder family : families.values()) {
+      sb.append(family);
+    }
+    return sb.toString();
+  }
+
+}
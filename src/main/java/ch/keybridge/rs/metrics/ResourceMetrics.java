@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics for a single JAX-RS resource method: request count, response counts
+ * by status class, the number of requests in flight and a latency histogram.
+ * <p>
+ * All counters are {@link LongAdder} instances and the latency histogram is
+ * striped, so that recording is allocation-free and scales with concurrent
+ * request threads.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class ResourceMetrics extends AbstractMetrics implements ResourceMetricsMBean {
+
+  /**
+   * Response counters indexed by status class (0 = 1xx ... 4 = 5xx).
+   */
+  private final LongAdder[] responses;
+  /**
+   * The number of requests in flight.
+   */
+  private final LongAdder inFlight;
+  /**
+   * The request latency, measured from the start of request filtering to the
+   * end of response filtering.
+   */
+  private final LatencyHistogram latency;
+
+  /**
+   * Construct a new resource metric set.
+   *
+   * @param name the resource method name, e.g.
+   *             {@code com.example.CustomerResource#get(java.lang.String)}
+   */
+  public ResourceMetrics(String name) {
+    super(name);
+    this.responses = new LongAdder[5];
+    for (int i = 0; i < responses.length; i++) {
+      responses[i] = new LongAdder();
+    }
+    this.inFlight = new LongAdder();
+    this.latency = new LatencyHistogram();
+  }
+
+  /**
+   * Mark the start of a request.
+   *
+   * @return the start time in nanoseconds
+   */
+  public long begin() {
+    inFlight.increment();
+    return System.nanoTime();
+  }
+
+  /**
+   * Mark the end of a request that was started with {@link #begin()}.
+   *
+   * @param startNanos the start time returned by {@code begin()}
+   * @param status     the HTTP response status code
+   */
+  public void end(long startNanos, int status) {
+    latency.recordSince(startNanos);
+    inFlight.decrement();
+    record(status);
+  }
+
+  /**
+   * Mark the end of a request that was started with {@link #begin()} but
+   * produced no response, e.g. because it failed with an unmapped exception.
+   * Neither the status nor the latency is recorded.
+   */
+  public void abandon() {
+    inFlight.decrement();
+  }
+
+  /**
+   * Count a response without recording latency. This is used for responses
+   * whose request was not seen, e.g. because an earlier filter aborted it.
+   *
+   * @param status the HTTP response status code
+   */
+  public void record(int status) {
+    int statusClass = status / 100 - 1;
+    if (statusClass >= 0 && statusClass < responses.length) {
+      responses[statusClass].increment();
+    }
+  }
+
+  /**
+   * Get the latency histogram.
+   *
+   * @return the latency histogram
+   */
+  public LatencyHistogram getLatency() {
+    return latency;
+  }
+
+  @Override
+  public long getRequestCount() {
+    long total = 0;
+    for (LongAdder response : responses) {
+      total += response.sum();
+    }
+    return total;
+  }
+
+  @Override
+  public long getInFlight() {
+    return inFlight.sum();
+  }
+
+  @Override
+  public long getInformationalCount() {
+    return responses[0].sum();
+  }
+
+  @Override
+  public long getSuccessCount() {
+    return responses[1].sum();
+  }
+
+  @Override
+  public long getRedirectionCount() {
+    return responses[2].sum();
+  }
+
+  @Override
+  public long getClientErrorCount() {
+    return responses[3].sum();
+  }
+
+  @Override
+  public long getServerErrorCount() {
+    return responses[4].sum();
+  }
+
+  @Override
+  public double getLatencyMean() {
+    return latency.snapshot().getMean() / 1e6;
+  }
+
+  @Override
+  public double getLatencyMedian() {
+    return latency.snapshot().getValueAtQuantile(0.5) / 1e6;
+  }
+
+  @Override
+  public double getLatency99thPercentile() {
+    return latency.snapshot().getValueAtQuantile(0.99) / 1e6;
+  }
+
+  @Override
+  public double getLatency999thPercentile() {
+    return latency.snapshot().getValueAtQuantile(0.999) / 1e6;
+  }
+
+  @Override
+  public double getLatencyMax() {
+    return latency.snapshot().getMax() / 1e6;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes {@code rs_requests_total} by status class,
+   * {@code rs_requests_in_flight} and the
+   * {@code rs_request_duration_seconds} summary.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    for (int i = 0; i < responses.length; i++) {
+      writer.counter("rs_requests_total", "Completed requests by resource method and status class.",
+                     responses[i].sum(), "resource", name, "status", (i + 1) + "xx");
+    }
+    writer.gauge("rs_requests_in_flight", "Requests currently in process by resource method.", inFlight.sum(), "resource", name);
+    writer.summary("rs_request_duration_seconds", "Request latency by resource method.", latency.snapshot(), "resource", name);
+  }
+
+}
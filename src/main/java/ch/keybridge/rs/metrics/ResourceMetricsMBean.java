@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.metrics;
+
+/**
+ * JMX management interface for resource method metrics. Latency values are in
+ * milliseconds.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface ResourceMetricsMBean {
+
+  /**
+   * @return the resource method name
+   */
+  String getName();
+
+  /**
+   * @return the number of completed requests
+   */
+  long getRequestCount();
+
+  /**
+   * @return the number of requests currently in process
+   */
+  long getInFlight();
+
+  /**
+   * @return the number of 1xx responses
+   */
+  long getInformationalCount();
+
+  /**
+   * @return the number of 2xx responses
+   */
+  long getSuccessCount();
+
+  /**
+   * @return the number of 3xx responses
+   */
+  long getRedirectionCount();
+
+  /**
+   * @return the number of 4xx responses
+   */
+  long getClientErrorCount();
+
+  /**
+   * @return the number of 5xx responses
+   */
+  long getServerErrorCount();
+
+  /**
+   * @return the mean latency in milliseconds
+   */
+  double getLatencyMean();
+
+  /**
+   * @return the median latency in milliseconds
+   */
+  double getLatencyMedian();
+
+  /**
+   * @return the 99th percentile latency in milliseconds
+   */
+  double getLatency99thPercentile();
+
+  /**
+   * @return the 99.9th percentile latency in milliseconds
+   */
+  double getLatency999thPercentile();
+
+  /**
+   * @return the maximum latency in milliseconds
+   */
+  double getLatencyMax();
+
+}
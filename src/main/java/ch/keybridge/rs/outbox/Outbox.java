@@ -0,0 +1,854 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.outbox;
+
+import ch.keybridge.rs.lifecycle.CheckpointResource;
+import ch.keybridge.rs.lifecycle.Checkpoints;
+import ch.keybridge.rs.metrics.AbstractMetrics;
+import ch.keybridge.rs.metrics.LatencyHistogram;
+import ch.keybridge.rs.metrics.PrometheusWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.ws.rs.WebApplicationException;
+
+/**
+ * A durable write-behind outbox for fire-and-forget requests. Enqueuing a
+ * message appends it to a local memory-mapped segment file and returns at
+ * once; the caller does not wait for the request. Messages are sent in the
+ * background through an {@link OutboxSender}, at most the batch size at a
+ * time: each drain pass takes the ready messages up to the free batch slots,
+ * and a slot is refilled when its send completes.
+ * <p>
+ * Ordering: messages with the same key are sent one at a time, in enqueue
+ * order; a failed message is retried before the next message of its key is
+ * sent. Messages without a key are independent.
+ * <p>
+ * Retries: a failed send is retried with exponential backoff and jitter
+ * between the minimum and maximum retry delay, up to the maximum attempts.
+ * Client errors other than 408 and 429, and messages out of attempts, are
+ * dropped and logged. Attempts are not persisted: they restart after a
+ * restart.
+ * <p>
+ * Durability: the segment files are written through the page cache and
+ * survive a process restart; they are forced to disk every second, before a
+ * CRaC checkpoint and on close. On restart the pending messages are read from
+ * the segment files and sent again, so a message may be sent more than once
+ * (at least once delivery); receivers should be idempotent, e.g. by the
+ * message sequence or key. A segment file is deleted once all its messages
+ * are sent or dropped. When the segment files reach the disk limit new
+ * messages are rejected with an {@link OutboxFullException}.
+ * <p>
+ * A directory is used by one outbox (one process) at a time: an open outbox
+ * holds a lock on the {@value #LOCK} file in its directory, and a second
+ * outbox on the directory, in this or another process, fails to open. The lock
+ * is released on close and over a CRaC checkpoint. Messages are read back from
+ * the mapped files when sent and are not held in memory.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class Outbox extends AbstractMetrics implements OutboxMBean, CheckpointResource, AutoCloseable {
+
+  private static final Logger LOG = Logger.getLogger(Outbox.class.getName());
+
+  /**
+   * Runs the drain passes, send completions and the periodic flush.
+   */
+  private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "rs-outbox");
+    thread.setDaemon(true);
+    return thread;
+  });
+  /**
+   * The default segment file size: 16 MiB.
+   */
+  public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+  /**
+   * The directory lock file name.
+   */
+  public static final String LOCK = "outbox.lock";
+  /**
+   * The flush and drain rate period, in milliseconds.
+   */
+  private static final long FLUSH_PERIOD = 1000;
+  /**
+   * The drain rate smoothing time constant, in milliseconds.
+   */
+  private static final double RATE_WINDOW = 60_000;
+
+  /**
+   * The outbox directory.
+   */
+  private final Path directory;
+  /**
+   * The segment size and the maximum number of segments.
+   */
+  private final int segmentSize, maxSegments;
+  /**
+   * Sends the messages.
+   */
+  private final OutboxSender sender;
+  /**
+   * The maximum number of messages in flight.
+   */
+  private volatile int batchSize = 16;
+  /**
+   * The maximum number of send attempts per message.
+   */
+  private volatile int maxAttempts = 10;
+  /**
+   * The retry delay bounds, in milliseconds.
+   */
+  private volatile long minRetryDelay = 100, maxRetryDelay = 60_000;
+
+  /**
+   * The segments, oldest first. Guarded by this.
+   */
+  private final List<Segment> segments;
+  /**
+   * The segment appended to. Guarded by this.
+   */
+  private Segment current;
+  /**
+   * The lanes with pending keyed messages, by key. Guarded by this.
+   */
+  private final Map<String, Lane> lanes;
+  /**
+   * The lanes ready to send, in the order they became ready. Guarded by this.
+   */
+  private final ArrayDeque<Lane> ready;
+  /**
+   * The lanes waiting for a retry, by retry time. Guarded by this.
+   */
+  private final PriorityQueue<Lane> delayed;
+  /**
+   * The last sequence number, the pending message count and the messages in
+   * flight. Guarded by this.
+   */
+  private long sequence;
+  private int depth, inFlight;
+  private boolean started, closed;
+  /**
+   * The lock file channel, holding the directory lock; null if not locked.
+   * Guarded by this.
+   */
+  private FileChannel lock;
+  /**
+   * Whether a drain pass is submitted and not yet started. Guarded by this.
+   */
+  private boolean drainPending;
+
+  /**
+   * Message counters.
+   */
+  private final LongAdder enqueued, sent, retried, dead, rejected;
+  /**
+   * The send time.
+   */
+  private final LatencyHistogram duration;
+  /**
+   * The drain rate, messages per second, and the drained count and time at
+   * the last update. Updated by the flush task.
+   */
+  private volatile double drainRate;
+  private long lastDrained, lastUpdate;
+  private final ScheduledFuture<?> flush;
+
+  /**
+   * Open an outbox. Pending messages in the directory are recovered; call
+   * {@link #start()} to begin sending.
+   *
+   * @param name        the outbox name, e.g. the client base URI
+   * @param directory   the outbox directory; created if missing
+   * @param segmentSize the segment file size in bytes, which limits the size
+   *                    of a message
+   * @param maxBytes    the maximum size of all segment files in bytes
+   * @param sender      sends the messages
+   * @throws IOException if the directory or a segment file cannot be read, or
+   *                     the directory is used by another outbox
+   */
+  public Outbox(String name, Path directory, int segmentSize, long maxBytes, OutboxSender sender) throws IOException {
+    super(name);
+    if (segmentSize < 4096 || maxBytes < 2L * segmentSize) {
+      throw new IllegalArgumentException("Require segmentSize >= 4096 and maxBytes >= 2 * segmentSize.");
+    }
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.maxSegments = (int) Math.min(Integer.MAX_VALUE, maxBytes / segmentSize);
+    this.sender = sender;
+    this.segments = new ArrayList<>();
+    this.lanes = new HashMap<>();
+    this.ready = new ArrayDeque<>();
+    this.delayed = new PriorityQueue<>((a, b) -> Long.compare(a.notBefore, b.notBefore));
+    this.enqueued = new LongAdder();
+    this.sent = new LongAdder();
+    this.retried = new LongAdder();
+    this.dead = new LongAdder();
+    this.rejected = new LongAdder();
+    this.duration = new LatencyHistogram();
+    Files.createDirectories(directory);
+    synchronized (this) {
+      lock();
+      try {
+        recover();
+      } catch (IOException | RuntimeException e) {
+        unlock();
+        throw e;
+      }
+    }
+    this.lastUpdate = System.nanoTime();
+    this.flush = EXECUTOR.scheduleWithFixedDelay(this::flush, FLUSH_PERIOD, FLUSH_PERIOD, TimeUnit.MILLISECONDS);
+    Checkpoints.getInstance().register(this);
+  }
+
+  /**
+   * Set the maximum number of messages in flight.
+   *
+   * @param batchSize the batch size
+   * @return the current outbox instance
+   */
+  public Outbox withBatchSize(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Require batchSize > 0.");
+    }
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * Set the retry policy.
+   *
+   * @param maxAttempts the maximum send attempts per message
+   * @param minimum     the first retry delay in milliseconds
+   * @param maximum     the maximum retry delay in milliseconds
+   * @return the current outbox instance
+   */
+  public Outbox withRetry(int maxAttempts, long minimum, long maximum) {
+    if (maxAttempts < 1 || minimum < 0 || maximum < minimum) {
+      throw new IllegalArgumentException("Require maxAttempts > 0 and 0 <= minimum <= maximum.");
+    }
+    this.maxAttempts = maxAttempts;
+    this.minRetryDelay = minimum;
+    this.maxRetryDelay = maximum;
+    return this;
+  }
+
+  /**
+   * Begin sending the pending messages.
+   *
+   * @return the current outbox instance
+   */
+  public Outbox start() {
+    synchronized (this) {
+      if (started) {
+        return this;
+      }
+      started = true;
+      drainPending = true;
+    }
+    EXECUTOR.execute(this::drain);
+    return this;
+  }
+
+  /**
+   * Append a message to the outbox. The message is sent in the background.
+   *
+   * @param message the message
+   * @return the message sequence number
+   * @throws OutboxFullException      if the disk limit is reached
+   * @throws IllegalArgumentException if the message is larger than a segment
+   * @throws IllegalStateException    if the outbox is closed
+   */
+  public long enqueue(OutboxMessage message) {
+    byte[] payload = message.encode();
+    if (payload.length > Segment.maxPayload(segmentSize)) {
+      throw new IllegalArgumentException("Outbox message of " + payload.length + " bytes exceeds the segment size.");
+    }
+    long number;
+    boolean wake;
+    Segment rolled = null;
+    synchronized (this) {
+      if (closed) {
+        throw new IllegalStateException("Outbox " + name + " is closed.");
+      }
+      number = sequence + 1;
+      for (int i = 0; i < 8; i++) {
+        payload[i] = (byte) (number >>> (56 - 8 * i));
+      }
+      int offset = current.append(payload);
+      if (offset < 0) {
+        if (segments.size() >= maxSegments) {
+          rejected.increment();
+          throw new OutboxFullException("Outbox " + name + " is full: " + depth + " messages pending.");
+        }
+        rolled = roll();
+        offset = current.append(payload);
+      }
+      sequence = number;
+      add(new Entry(current, offset, message.getKey()));
+      wake = started && inFlight < batchSize && !drainPending;
+      drainPending |= wake;
+    }
+    enqueued.increment();
+    if (wake) {
+      EXECUTOR.execute(this::drain);
+    }
+    if (rolled != null) {
+      /**
+       * Force the full segment in the background, not on the caller.
+       */
+      EXECUTOR.execute(rolled::sync);
+    }
+    return number;
+  }
+
+  /**
+   * Start a new segment. Must hold the lock.
+   *
+   * @return the previous segment if it must be forced to disk, which the
+   *         caller schedules after releasing the lock; else null
+   */
+  private Segment roll() {
+    Segment previous = current;
+    try {
+      current = Segment.create(directory, previous.getId() + 1, segmentSize);
+    } catch (IOException e) {
+      throw new OutboxFullException("Outbox " + name + " cannot create a segment: " + e.getMessage());
+    }
+    segments.add(current);
+    boolean changed = previous.markClean();
+    release(previous);
+    return changed ? previous : null;
+  }
+
+  /**
+   * Collect the segments with changes to force to disk and mark them clean.
+   * Must hold the lock. The caller forces them with {@link #sync(List)} after
+   * releasing the lock, so that enqueue never waits for disk I/O.
+   */
+  private List<Segment> changed() {
+    List<Segment> changed = new ArrayList<>();
+    for (Segment segment : segments) {
+      if (segment.markClean()) {
+        changed.add(segment);
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Force segments to disk. Called without the lock.
+   */
+  private void sync(List<Segment> changed) {
+    for (Segment segment : changed) {
+      segment.sync();
+    }
+  }
+
+  /**
+   * Add a pending message to its lane. Must hold the lock.
+   */
+  private void add(Entry entry) {
+    depth++;
+    if (entry.key == null) {
+      Lane lane = new Lane(null);
+      lane.entries.add(entry);
+      ready.add(lane);
+      return;
+    }
+    Lane lane = lanes.get(entry.key);
+    if (lane == null) {
+      lane = new Lane(entry.key);
+      lanes.put(entry.key, lane);
+      ready.add(lane);
+    }
+    lane.entries.add(entry);
+  }
+
+  /**
+   * Send ready messages up to the batch size.
+   */
+  private void drain() {
+    List<Lane> batch = new ArrayList<>();
+    List<Entry> entries = new ArrayList<>();
+    synchronized (this) {
+      drainPending = false;
+      if (closed) {
+        return;
+      }
+      long now = System.nanoTime();
+      while (!delayed.isEmpty() && delayed.peek().notBefore - now <= 0) {
+        ready.add(delayed.poll());
+      }
+      while (inFlight < batchSize && !ready.isEmpty()) {
+        Lane lane = ready.poll();
+        batch.add(lane);
+        entries.add(lane.entries.peek());
+        inFlight++;
+      }
+    }
+    for (int i = 0; i < batch.size(); i++) {
+      send(batch.get(i), entries.get(i));
+    }
+  }
+
+  /**
+   * Read a message from its segment and send it.
+   */
+  private void send(Lane lane, Entry entry) {
+    long start = System.nanoTime();
+    CompletionStage<?> stage;
+    try {
+      stage = sender.send(OutboxMessage.decode(entry.segment.payload(entry.offset)));
+    } catch (RuntimeException e) {
+      CompletableFuture<?> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      stage = failed;
+    }
+    stage.whenCompleteAsync((result, failure) -> completed(lane, entry, start, failure), EXECUTOR);
+  }
+
+  /**
+   * Record the outcome of a send and continue draining.
+   */
+  private void completed(Lane lane, Entry entry, long start, Throwable failure) {
+    duration.recordSince(start);
+    synchronized (this) {
+      inFlight--;
+      if (closed) {
+        /**
+         * The message remains pending on disk and is sent after a restart.
+         */
+        return;
+      }
+      if (failure == null) {
+        sent.increment();
+        finish(lane, entry, Segment.SENT);
+      } else {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        entry.attempts++;
+        if (isPermanent(cause) || entry.attempts >= maxAttempts) {
+          dead.increment();
+          LOG.log(Level.WARNING, "Outbox {0} dropped message {1} after {2} attempts: {3}",
+                  new Object[]{name, entry, entry.attempts, String.valueOf(cause)});
+          finish(lane, entry, Segment.DEAD);
+        } else {
+          retried.increment();
+          long delay = retryDelay(entry.attempts);
+          LOG.log(Level.FINE, "Outbox {0} retrying message {1} in {2} ms: {3}", new Object[]{name, entry, delay, String.valueOf(cause)});
+          lane.notBefore = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+          delayed.add(lane);
+          EXECUTOR.schedule(this::drain, delay, TimeUnit.MILLISECONDS);
+        }
+      }
+    }
+    drain();
+  }
+
+  /**
+   * Complete the head message of a lane. Must hold the lock.
+   */
+  private void finish(Lane lane, Entry entry, byte state) {
+    lane.entries.poll();
+    depth--;
+    entry.segment.complete(entry.offset, state);
+    release(entry.segment);
+    if (!lane.entries.isEmpty()) {
+      ready.add(lane);
+    } else if (lane.key != null) {
+      lanes.remove(lane.key);
+    }
+  }
+
+  /**
+   * Delete a segment without pending messages, unless it is appended to. Must
+   * hold the lock.
+   */
+  private void release(Segment segment) {
+    if (segment == current || segment.getPending() > 0) {
+      return;
+    }
+    segments.remove(segment);
+    try {
+      segment.delete();
+    } catch (IOException e) {
+      LOG.log(Level.WARNING, "Outbox {0} failed to delete segment {1}: {2}", new Object[]{name, segment, e.getMessage()});
+    }
+  }
+
+  /**
+   * Determine whether a failure will not succeed on retry: a client error
+   * other than 408 Request Timeout and 429 Too Many Requests.
+   */
+  private static boolean isPermanent(Throwable failure) {
+    if (failure instanceof WebApplicationException) {
+      int status = ((WebApplicationException) failure).getResponse().getStatus();
+      return status >= 400 && status < 500 && status != 408 && status != 429;
+    }
+    return false;
+  }
+
+  /**
+   * Get the retry delay after a number of attempts: exponential backoff with
+   * full jitter over the upper half of the delay.
+   */
+  private long retryDelay(int attempts) {
+    long delay = Math.min(maxRetryDelay, minRetryDelay << Math.min(attempts - 1, 30));
+    return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+  }
+
+  /**
+   * Read the segment files in the directory and queue their pending messages.
+   * Must hold the lock.
+   */
+  private void recover() throws IOException {
+    TreeMap<Long, Path> files = new TreeMap<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, Segment.PREFIX + "*" + Segment.SUFFIX)) {
+      for (Path file : stream) {
+        String fileName = file.getFileName().toString();
+        try {
+          files.put(Long.parseLong(fileName.substring(Segment.PREFIX.length(), fileName.length() - Segment.SUFFIX.length())), file);
+        } catch (NumberFormatException e) {
+          LOG.log(Level.WARNING, "Outbox {0} ignoring file {1}", new Object[]{name, file});
+        }
+      }
+    }
+    for (Map.Entry<Long, Path> file : files.entrySet()) {
+      Segment segment = Segment.open(file.getValue(), file.getKey());
+      if (segment == null) {
+        Path corrupt = file.getValue().resolveSibling(file.getValue().getFileName() + ".corrupt");
+        LOG.log(Level.SEVERE, "Outbox {0} segment {1} is not valid. Moved to {2}", new Object[]{name, file.getValue(), corrupt});
+        Files.move(file.getValue(), corrupt, StandardCopyOption.REPLACE_EXISTING);
+        continue;
+      }
+      segments.add(segment);
+      for (int offset = segment.next(0); offset > 0; offset = segment.next(offset)) {
+        sequence = Math.max(sequence, segment.payload(offset).getLong(0));
+        if (segment.getState(offset) == Segment.PENDING) {
+          segment.recovered();
+          add(new Entry(segment, offset, OutboxMessage.decodeKey(segment.payload(offset))));
+        }
+      }
+    }
+    if (segments.isEmpty()) {
+      current = Segment.create(directory, 1, segmentSize);
+      segments.add(current);
+    } else {
+      current = segments.get(segments.size() - 1);
+      for (Segment segment : new ArrayList<>(segments)) {
+        release(segment);
+      }
+    }
+    if (depth > 0) {
+      LOG.log(Level.INFO, "Outbox {0} recovered {1} pending messages from {2} segments", new Object[]{name, depth, segments.size()});
+    }
+  }
+
+  /**
+   * Lock the directory. Must hold the lock.
+   *
+   * @throws IOException if the directory is used by another outbox
+   */
+  private void lock() throws IOException {
+    FileChannel channel = FileChannel.open(directory.resolve(LOCK), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    boolean locked = false;
+    try {
+      locked = channel.tryLock() != null;
+    } catch (OverlappingFileLockException e) {
+      /**
+       * Locked by another outbox of this process.
+       */
+    } finally {
+      if (!locked) {
+        channel.close();
+      }
+    }
+    if (!locked) {
+      throw new IOException("Outbox directory " + directory + " is used by another outbox.");
+    }
+    lock = channel;
+  }
+
+  /**
+   * Release the directory lock, if held. Must hold the lock.
+   */
+  private void unlock() {
+    if (lock == null) {
+      return;
+    }
+    try {
+      lock.close();
+    } catch (IOException e) {
+      LOG.log(Level.WARNING, "Outbox {0} failed to release the directory lock: {1}", new Object[]{name, e.getMessage()});
+    }
+    lock = null;
+  }
+
+  /**
+   * Force the segments to disk and update the drain rate.
+   */
+  private void flush() {
+    List<Segment> changed;
+    synchronized (this) {
+      changed = closed ? Collections.<Segment>emptyList() : changed();
+    }
+    sync(changed);
+    long now = System.nanoTime();
+    long drained = sent.sum() + dead.sum();
+    double elapsed = (now - lastUpdate) / 1e6;
+    if (elapsed > 0) {
+      double alpha = 1 - Math.exp(-elapsed / RATE_WINDOW);
+      drainRate += alpha * ((drained - lastDrained) * 1000 / elapsed - drainRate);
+    }
+    lastDrained = drained;
+    lastUpdate = now;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Stop sending and force the segments to disk. Messages in flight remain
+   * pending and are sent again after a restart.
+   */
+  @Override
+  public void close() {
+    flush.cancel(false);
+    List<Segment> changed;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      changed = changed();
+    }
+    sync(changed);
+    synchronized (this) {
+      unlock();
+    }
+  }
+
+  /**
+   * Determine whether the outbox is closed.
+   *
+   * @return true if closed
+   */
+  public synchronized boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Force the segments to disk and release the directory lock, whose file
+   * cannot be held open across a checkpoint.
+   */
+  @Override
+  public void beforeCheckpoint() {
+    List<Segment> changed;
+    synchronized (this) {
+      changed = closed ? Collections.<Segment>emptyList() : changed();
+    }
+    sync(changed);
+    synchronized (this) {
+      unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The file mappings are restored with the process. Lock the directory again;
+   * if another outbox took it meanwhile, close this outbox.
+   */
+  @Override
+  public void afterRestore() {
+    synchronized (this) {
+      if (closed || lock != null) {
+        return;
+      }
+      try {
+        lock();
+        return;
+      } catch (IOException e) {
+        LOG.log(Level.SEVERE, "Outbox {0} closed after restore: {1}", new Object[]{name, e.getMessage()});
+      }
+    }
+    close();
+  }
+
+  @Override
+  public String getDirectory() {
+    return directory.toString();
+  }
+
+  @Override
+  public synchronized int getDepth() {
+    return depth;
+  }
+
+  @Override
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  @Override
+  public synchronized long getDiskUsage() {
+    long usage = 0;
+    for (Segment segment : segments) {
+      usage += segment.getSize();
+    }
+    return usage;
+  }
+
+  @Override
+  public long getDiskLimit() {
+    return (long) maxSegments * segmentSize;
+  }
+
+  @Override
+  public long getEnqueuedCount() {
+    return enqueued.sum();
+  }
+
+  @Override
+  public long getSentCount() {
+    return sent.sum();
+  }
+
+  @Override
+  public long getRetryCount() {
+    return retried.sum();
+  }
+
+  @Override
+  public long getDeadCount() {
+    return dead.sum();
+  }
+
+  @Override
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+
+  @Override
+  public double getDrainRate() {
+    return drainRate;
+  }
+
+  @Override
+  public double getSendMedian() {
+    return duration.snapshot().getValueAtQuantile(0.5) / 1e6;
+  }
+
+  @Override
+  public double getSend99thPercentile() {
+    return duration.snapshot().getValueAtQuantile(0.99) / 1e6;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes {@code rs_outbox_messages_total} by outcome, the
+   * {@code rs_outbox_depth}, {@code rs_outbox_in_flight},
+   * {@code rs_outbox_disk_bytes} and {@code rs_outbox_drain_rate} gauges and
+   * the {@code rs_outbox_send_duration_seconds} summary.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    String help = "Outbox messages by outcome.";
+    writer.counter("rs_outbox_messages_total", help, enqueued.sum(), "outbox", name, "outcome", "enqueued")
+      .counter("rs_outbox_messages_total", help, sent.sum(), "outbox", name, "outcome", "sent")
+      .counter("rs_outbox_messages_total", help, retried.sum(), "outbox", name, "outcome", "retried")
+      .counter("rs_outbox_messages_total", help, dead.sum(), "outbox", name, "outcome", "dead")
+      .counter("rs_outbox_messages_total", help, rejected.sum(), "outbox", name, "outcome", "rejected")
+      .gauge("rs_outbox_depth", "Outbox messages waiting to be sent.", getDepth(), "outbox", name)
+      .gauge("rs_outbox_in_flight", "Outbox messages in flight.", getInFlight(), "outbox", name)
+      .gauge("rs_outbox_disk_bytes", "Outbox segment file size.", getDiskUsage(), "outbox", name)
+      .gauge("rs_outbox_drain_rate", "Outbox messages sent or dropped per second, one minute average.", drainRate, "outbox", name)
+      .summary("rs_outbox_send_duration_seconds", "Outbox send time.", duration.snapshot(), "outbox", name);
+  }
+
+  /**
+   * A pending message: its segment and record offset.
+   */
+  private static class Entry {
+
+    private final Segment segment;
+    private final int offset;
+    private final String key;
+    /**
+     * The failed send attempts. Guarded by the outbox.
+     */
+    private int attempts;
+
+    Entry(Segment segment, int offset, String key) {
+      this.segment = segment;
+      this.offset = offset;
+      this.key = key;
+    }
+
+    @Override
+    public String toString() {
+      return segment + "@" + offset + (key == null ? "" : " key " + key);
+    }
+  }
+
+  /**
+   * The pending messages of an ordering key, or a single message without a
+   * key. A lane is in at most one of the ready queue, the delay queue or in
+   * flight. Guarded by the outbox.
+   */
+  private static class Lane {
+
+    private final String key;
+    private final ArrayDeque<Entry> entries;
+    private long notBefore;
+
+    Lane(String key) {
+      this.key = key;
+      this.entries = new ArrayDeque<>();
+    }
+  }
+
+}
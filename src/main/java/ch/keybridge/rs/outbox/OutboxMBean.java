@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.outbox;
+
+/**
+ * JMX management interface for a client outbox. Latency values are in
+ * milliseconds.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface OutboxMBean {
+
+  /**
+   * @return the outbox name: the client base URI
+   */
+  String getName();
+
+  /**
+   * @return the outbox directory
+   */
+  String getDirectory();
+
+  /**
+   * @return the number of messages waiting to be sent, including messages in
+   *         flight and waiting for a retry
+   */
+  int getDepth();
+
+  /**
+   * @return the number of messages in flight
+   */
+  int getInFlight();
+
+  /**
+   * @return the size of the segment files in bytes
+   */
+  long getDiskUsage();
+
+  /**
+   * @return the maximum size of the segment files in bytes
+   */
+  long getDiskLimit();
+
+  /**
+   * @return the number of messages enqueued
+   */
+  long getEnqueuedCount();
+
+  /**
+   * @return the number of messages sent
+   */
+  long getSentCount();
+
+  /**
+   * @return the number of failed sends that were retried
+   */
+  long getRetryCount();
+
+  /**
+   * @return the number of messages dropped after a permanent failure or the
+   *         last attempt
+   */
+  long getDeadCount();
+
+  /**
+   * @return the number of messages rejected because the disk limit was reached
+   */
+  long getRejectedCount();
+
+  /**
+   * @return the one minute exponentially weighted rate of messages sent or
+   *         dropped, per second
+   */
+  double getDrainRate();
+
+  /**
+   * @return the median send time
+   */
+  double getSendMedian();
+
+  /**
+   * @return the 99th percentile send time
+   */
+  double getSend99thPercentile();
+
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.outbox;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import javax.ws.rs.HttpMethod;
+
+/**
+ * A request held in an {@link Outbox}: the method, the request path relative
+ * to the client base URI, the serialized entity and an optional ordering key.
+ * Messages with the same key are sent one at a time, in the order they were
+ * enqueued; messages without a key are sent in any order.
+ * <p>
+ * The request path template is kept for the client metrics. The request path
+ * is already expanded and encoded, e.g. by a {@code PathTemplate}.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public final class OutboxMessage {
+
+  /**
+   * The maximum encoded length of each text field, in bytes.
+   */
+  private static final int MAX_TEXT = Short.MAX_VALUE;
+
+  private final long sequence;
+  private final long created;
+  private final String key;
+  private final String method;
+  private final String pathTemplate;
+  private final String path;
+  private final String mediaType;
+  private final byte[] body;
+
+  /**
+   * Construct a new message.
+   *
+   * @param key          the ordering key; may be null
+   * @param method       the request method, e.g. {@code POST}
+   * @param pathTemplate the request path template, for metrics
+   * @param path         the encoded request path
+   * @param mediaType    the entity media type; may be null if there is no
+   *                     entity
+   * @param body         the serialized entity; may be null
+   */
+  public OutboxMessage(String key, String method, String pathTemplate, String path, String mediaType, byte[] body) {
+    this(0, System.currentTimeMillis(), key, method, pathTemplate, path, mediaType, body);
+  }
+
+  private OutboxMessage(long sequence, long created, String key, String method, String pathTemplate, String path, String mediaType, byte[] body) {
+    if (method == null || path == null) {
+      throw new IllegalArgumentException("Require a method and a path.");
+    }
+    this.sequence = sequence;
+    this.created = created;
+    this.key = key;
+    this.method = method;
+    this.pathTemplate = pathTemplate;
+    this.path = path;
+    this.mediaType = mediaType;
+    this.body = body;
+  }
+
+  /**
+   * Create a POST message.
+   *
+   * @param key          the ordering key; may be null
+   * @param pathTemplate the request path template, for metrics
+   * @param path         the encoded request path
+   * @param mediaType    the entity media type
+   * @param body         the serialized entity
+   * @return a new message
+   */
+  public static OutboxMessage post(String key, String pathTemplate, String path, String mediaType, byte[] body) {
+    return new OutboxMessage(key, HttpMethod.POST, pathTemplate, path, mediaType, body);
+  }
+
+  /**
+   * Get the outbox sequence number.
+   *
+   * @return the sequence number, or zero if the message was not read from an
+   *         outbox
+   */
+  public long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * Get the time the message was created.
+   *
+   * @return the creation time in epoch milliseconds
+   */
+  public long getCreated() {
+    return created;
+  }
+
+  /**
+   * Get the ordering key.
+   *
+   * @return the key, or null if the message is unordered
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Get the request method.
+   *
+   * @return the method, e.g. {@code POST}
+   */
+  public String getMethod() {
+    return method;
+  }
+
+  /**
+   * Get the request path template.
+   *
+   * @return the path template, e.g. {@code customers/{id}/events}
+   */
+  public String getPathTemplate() {
+    return pathTemplate;
+  }
+
+  /**
+   * Get the encoded request path, relative to the client base URI.
+   *
+   * @return the path
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Get the entity media type.
+   *
+   * @return the media type, or null if there is no entity
+   */
+  public String getMediaType() {
+    return mediaType;
+  }
+
+  /**
+   * Get the serialized entity. The array is not copied and MUST NOT be
+   * modified.
+   *
+   * @return the entity, or null if none
+   */
+  public byte[] getBody() {
+    return body;
+  }
+
+  @Override
+  public String toString() {
+    return "OutboxMessage{sequence=" + sequence + ", key=" + key + ", " + method + " " + path + "}";
+  }
+
+  /**
+   * Encode the message with a placeholder sequence number in the first eight
+   * bytes.
+   *
+   * @return the encoded message
+   */
+  byte[] encode() {
+    byte[][] texts = {bytes(key), bytes(method), bytes(pathTemplate), bytes(path), bytes(mediaType)};
+    int length = 16 + 4 + (body == null ? 0 : body.length);
+    for (byte[] text : texts) {
+      length += 2 + (text == null ? 0 : text.length);
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    buffer.putLong(sequence).putLong(created);
+    for (byte[] text : texts) {
+      if (text == null) {
+        buffer.putShort((short) -1);
+      } else {
+        buffer.putShort((short) text.length).put(text);
+      }
+    }
+    if (body == null) {
+      buffer.putInt(-1);
+    } else {
+      buffer.putInt(body.length).put(body);
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Decode a message.
+   *
+   * @param buffer the encoded message
+   * @return the message
+   */
+  static OutboxMessage decode(ByteBuffer buffer) {
+    long sequence = buffer.getLong();
+    long created = buffer.getLong();
+    String key = text(buffer);
+    String method = text(buffer);
+    String pathTemplate = text(buffer);
+    String path = text(buffer);
+    String mediaType = text(buffer);
+    int length = buffer.getInt();
+    byte[] body = null;
+    if (length >= 0) {
+      body = new byte[length];
+      buffer.get(body);
+    }
+    return new OutboxMessage(sequence, created, key, method, pathTemplate, path, mediaType, body);
+  }
+
+  /**
+   * Decode the ordering key of an encoded message.
+   *
+   * @param buffer the encoded message
+   * @return the key; may be null
+   */
+  static String decodeKey(ByteBuffer buffer) {
+    buffer.position(buffer.position() + 16);
+    return text(buffer);
+  }
+
+  private static byte[] bytes(String text) {
+    if (text == null) {
+      return null;
+    }
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > MAX_TEXT) {
+      throw new IllegalArgumentException("Outbox message field too long: " + text.substring(0, 64) + "...");
+    }
+    return bytes;
+  }
+
+  private static String text(ByteBuffer buffer) {
+    int length = buffer.getShort();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.outbox;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Sends an outbox message, typically through
+ * {@code AbstractRestClient.invokeAsync}.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@FunctionalInterface
+public interface OutboxSender {
+
+  /**
+   * Send a message asynchronously.
+   *
+   * @param message the message
+   * @return a stage that completes when the message is accepted, or
+   *         completes exceptionally if sending failed. A
+   *         {@code WebApplicationException} with a 4xx status other than 408
+   *         or 429 is not retried.
+   */
+  CompletionStage<?> send(OutboxMessage message);
+
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.outbox;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only, memory-mapped outbox segment file. Records are appended to
+ * the end of the mapping and are never moved; only the record state changes
+ * once the record is sent. A segment is deleted when it has no pending record
+ * left.
+ * <p>
+ * Record layout: payload length (4), payload CRC-32 (4), state (1), reserved
+ * (3), payload. The length is written last, so a record that was torn by a
+ * crash reads as the end of the segment, as does a CRC mismatch. Records after
+ * an invalid record cannot be located and are lost; the truncation is logged.
+ * <p>
+ * Not thread-safe; guarded by the outbox, except {@link #sync()}, which the
+ * outbox calls outside its lock.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+final class Segment {
+
+  private static final Logger LOG = Logger.getLogger(Segment.class.getName());
+
+  /**
+   * The file header: magic, version, segment size.
+   */
+  private static final int MAGIC = 0x4f555458, VERSION = 1, HEADER = 16;
+  /**
+   * The record header size and field offsets.
+   */
+  static final int RECORD_HEADER = 12;
+  private static final int CRC = 4, STATE = 8;
+  /**
+   * The record states.
+   */
+  static final byte PENDING = 1, SENT = 2, DEAD = 3;
+  /**
+   * The segment file name prefix and suffix.
+   */
+  static final String PREFIX = "outbox-", SUFFIX = ".seg";
+
+  private final long id;
+  private final Path file;
+  private final int size;
+  private final MappedByteBuffer buffer;
+  /**
+   * The append position.
+   */
+  private int position;
+  /**
+   * The number of pending records.
+   */
+  private int pending;
+  /**
+   * Whether the mapping has changes that are not forced to disk.
+   */
+  private boolean dirty;
+
+  private Segment(long id, Path file, int size, MappedByteBuffer buffer) {
+    this.id = id;
+    this.file = file;
+    this.size = size;
+    this.buffer = buffer;
+    this.position = HEADER;
+  }
+
+  /**
+   * Create a new segment file.
+   *
+   * @param directory the outbox directory
+   * @param id        the segment id
+   * @param size      the segment size in bytes
+   * @return the segment
+   * @throws IOException if the file cannot be created or mapped
+   */
+  static Segment create(Path directory, long id, int size) throws IOException {
+    Path file = directory.resolve(fileName(id));
+    Segment segment = new Segment(id, file, size, map(file, size, true));
+    segment.buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, size);
+    segment.dirty = true;
+    return segment;
+  }
+
+  /**
+   * Open an existing segment file and find the append position.
+   *
+   * @param file the segment file
+   * @param id   the segment id
+   * @return the segment, or null if the file is not a valid segment
+   * @throws IOException if the file cannot be read or mapped
+   */
+  static Segment open(Path file, long id) throws IOException {
+    long length = Files.size(file);
+    if (length < HEADER || length > Integer.MAX_VALUE) {
+      return null;
+    }
+    MappedByteBuffer buffer = map(file, (int) length, false);
+    if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != length) {
+      return null;
+    }
+    Segment segment = new Segment(id, file, (int) length, buffer);
+    while (segment.valid(segment.position)) {
+      segment.position += RECORD_HEADER + buffer.getInt(segment.position);
+    }
+    /**
+     * An unwritten remainder reads as zero length. Anything else is a torn or
+     * corrupt record, and the records after it are lost.
+     */
+    if (segment.position + 4 <= length && buffer.getInt(segment.position) != 0) {
+      LOG.log(Level.WARNING, "Outbox segment {0} truncated at offset {1}: invalid record; up to {2} bytes after it are ignored",
+              new Object[]{file, segment.position, length - segment.position});
+    }
+    return segment;
+  }
+
+  /**
+   * Map a file; the mapping remains valid after the channel is closed.
+   */
+  private static MappedByteBuffer map(Path file, int size, boolean create) throws IOException {
+    try (FileChannel channel = create
+                               ? FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                               : FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+  }
+
+  /**
+   * Get the segment file name.
+   *
+   * @param id the segment id
+   * @return the file name
+   */
+  static String fileName(long id) {
+    return String.format("%s%019d%s", PREFIX, id, SUFFIX);
+  }
+
+  /**
+   * Get the largest payload a segment of a size can hold.
+   *
+   * @param size the segment size
+   * @return the maximum payload length
+   */
+  static int maxPayload(int size) {
+    return size - HEADER - RECORD_HEADER;
+  }
+
+  /**
+   * Determine whether a complete, intact record starts at an offset.
+   */
+  private boolean valid(int offset) {
+    if (offset + RECORD_HEADER > size) {
+      return false;
+    }
+    int length = buffer.getInt(offset);
+    if (length <= 0 || length > size - offset - RECORD_HEADER) {
+      return false;
+    }
+    return buffer.getInt(offset + CRC) == (int) crc(payload(offset));
+  }
+
+  /**
+   * Append a record.
+   *
+   * @param payload the record payload
+   * @return the record offset, or -1 if the segment is full
+   */
+  int append(byte[] payload) {
+    if (position + RECORD_HEADER + payload.length > size) {
+      return -1;
+    }
+    int offset = position;
+    ByteBuffer record = buffer.duplicate();
+    record.position(offset + RECORD_HEADER);
+    record.put(payload);
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    buffer.putInt(offset + CRC, (int) crc.getValue()).put(offset + STATE, PENDING);
+    buffer.putInt(offset, payload.length);
+    position = offset + RECORD_HEADER + payload.length;
+    pending++;
+    dirty = true;
+    return offset;
+  }
+
+  /**
+   * Read the state of a record.
+   *
+   * @param offset the record offset
+   * @return the state
+   */
+  byte getState(int offset) {
+    return buffer.get(offset + STATE);
+  }
+
+  /**
+   * Mark a pending record as sent or dead.
+   *
+   * @param offset the record offset
+   * @param state  the new state
+   */
+  void complete(int offset, byte state) {
+    buffer.put(offset + STATE, state);
+    pending--;
+    dirty = true;
+  }
+
+  /**
+   * Count a pending record found when the segment was opened.
+   */
+  void recovered() {
+    pending++;
+  }
+
+  /**
+   * Get a record payload. The returned buffer is independent of concurrent
+   * appends.
+   *
+   * @param offset the record offset
+   * @return the payload
+   */
+  ByteBuffer payload(int offset) {
+    ByteBuffer payload = buffer.duplicate();
+    payload.limit(offset + RECORD_HEADER + buffer.getInt(offset)).position(offset + RECORD_HEADER);
+    return payload.slice();
+  }
+
+  /**
+   * Get the offset of the record following a record.
+   *
+   * @param offset the record offset, or zero for the first record
+   * @return the next record offset, or -1 at the end of the segment
+   */
+  int next(int offset) {
+    int next = offset == 0 ? HEADER : offset + RECORD_HEADER + buffer.getInt(offset);
+    return next < position ? next : -1;
+  }
+
+  long getId() {
+    return id;
+  }
+
+  int getSize() {
+    return size;
+  }
+
+  int getPending() {
+    return pending;
+  }
+
+  /**
+   * Clear the changed flag before forcing the segment to disk with
+   * {@link #sync()}. Changes made after this call set the flag again.
+   *
+   * @return true if the segment had changes to force
+   */
+  boolean markClean() {
+    boolean changed = dirty;
+    dirty = false;
+    return changed;
+  }
+
+  /**
+   * Force the mapping to disk. Blocks on disk I/O; may be called without the
+   * outbox lock, concurrently with appends.
+   */
+  void sync() {
+    buffer.force();
+  }
+
+  /**
+   * Delete the segment file. The segment must not be used afterwards.
+   * <p>
+   * The file is unlinked but remains mapped, and its disk space allocated,
+   * until the segment is garbage collected: the JDK provides no supported way
+   * to unmap a buffer, and unmapping it while another thread still reads it,
+   * e.g. a sync in progress, would crash the JVM. At most the deleted segments
+   * not yet collected are held, each of the segment size.
+   *
+   * @throws IOException if the file cannot be deleted
+   */
+  void delete() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Override
+  public String toString() {
+    return file.getFileName().toString();
+  }
+
+  private static long crc(ByteBuffer payload) {
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    return crc.getValue();
+  }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.stream;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy iterator over the records of a streamed response. Each record is read
+ * from the connection only when requested, so a slow consumer applies
+ * backpressure through the connection rather than buffering the entity.
+ * <p>
+ * The iterator closes the response when the last record is read. A caller
+ * that stops early MUST close the iterator (or the stream from
+ * {@link #stream()}) to release the connection.
+ *
+ * @param <T> the record type
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class RecordIterator<T> implements Iterator<T>, Closeable {
+
+  /**
+   * The response entity stream.
+   */
+  private final ResponseInputStream in;
+  /**
+   * The entity reader.
+   */
+  private final BufferedReader reader;
+  /**
+   * The record reader.
+   */
+  private final RecordReader<T> recordReader;
+  /**
+   * The next record, if read ahead by {@link #hasNext()}.
+   */
+  private T next;
+  /**
+   * Set at the end of the entity or on close.
+   */
+  private boolean done;
+
+  /**
+   * Construct a new record iterator.
+   *
+   * @param in           the response entity stream
+   * @param bufferSize   the character buffer size
+   * @param recordReader the record reader
+   */
+  public RecordIterator(ResponseInputStream in, int bufferSize, RecordReader<T> recordReader) {
+    this.in = in;
+    this.reader = new BufferedReader(new InputStreamReader(in, in.getCharset()), bufferSize);
+    this.recordReader = recordReader;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws UncheckedIOException if the entity cannot be read
+   */
+  @Override
+  public boolean hasNext() {
+    if (next == null && !done) {
+      try {
+        next = recordReader.read(reader);
+      } catch (IOException e) {
+        close();
+        throw new UncheckedIOException(e);
+      }
+      if (next == null) {
+        close();
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T record = next;
+    next = null;
+    return record;
+  }
+
+  /**
+   * Get a sequential stream of the remaining records. Closing the stream
+   * closes this iterator.
+   *
+   * @return a record stream
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+      .onClose(this::close);
+  }
+
+  /**
+   * Close the response and release the connection.
+   */
+  @Override
+  public void close() {
+    done = true;
+    next = null;
+    try {
+      in.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.stream;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Reads one record at a time from a streamed response, for example one line of
+ * a CSV file or of newline delimited JSON.
+ *
+ * @param <T> the record type
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+@FunctionalInterface
+public interface RecordReader<T> {
+
+  /**
+   * Read the next record.
+   *
+   * @param reader the response entity reader
+   * @return the next record, or null at the end of the entity
+   * @throws IOException if the entity cannot be read
+   */
+  T read(BufferedReader reader) throws IOException;
+
+  /**
+   * A record reader returning each line.
+   *
+   * @return a line reader
+   */
+  static RecordReader<String> lines() {
+    return BufferedReader::readLine;
+  }
+
+  /**
+   * A record reader parsing each non-empty line, e.g. a CSV row or a JSON
+   * document.
+   *
+   * @param <T>    the record type
+   * @param parser the line parser
+   * @return a line parsing reader
+   */
+  static <T> RecordReader<T> lines(Function<String, T> parser) {
+    return reader -> {
+      String line;
+      do {
+        line = reader.readLine();
+      } while (line != null && line.isEmpty());
+      return line == null ? null : parser.apply(line);
+    };
+  }
+
+}
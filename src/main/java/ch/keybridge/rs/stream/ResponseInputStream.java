@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.stream;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+/**
+ * A buffered input stream over a response entity. The entity is read from the
+ * connection as the stream is read and is never held in memory as a whole.
+ * <p>
+ * Closing the stream closes the response, which releases the connection, and
+ * then runs the close action (e.g. releasing a bulkhead permit). Closing is
+ * idempotent, and closing before the end of the entity is allowed. The caller
+ * MUST close the stream.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class ResponseInputStream extends FilterInputStream {
+
+  private static final Logger LOG = Logger.getLogger(ResponseInputStream.class.getName());
+
+  /**
+   * The response.
+   */
+  private final Response response;
+  /**
+   * Run once after the response is closed. May be null.
+   */
+  private final Runnable onClose;
+  /**
+   * Set when the stream is closed.
+   */
+  private final AtomicBoolean closed;
+
+  /**
+   * Construct a new response input stream.
+   *
+   * @param response   the response, with an unread entity
+   * @param bufferSize the read buffer size in bytes
+   * @param onClose    an action to run once the response is closed; may be
+   *                   null
+   */
+  public ResponseInputStream(Response response, int bufferSize, Runnable onClose) {
+    super(new BufferedInputStream(response.readEntity(InputStream.class), bufferSize));
+    this.response = response;
+    this.onClose = onClose;
+    this.closed = new AtomicBoolean();
+  }
+
+  /**
+   * Get the response, e.g. to read the response headers.
+   *
+   * @return the response
+   */
+  public Response getResponse() {
+    return response;
+  }
+
+  /**
+   * Get the entity character set from the response media type.
+   *
+   * @return the character set, or UTF-8 if not specified, illegal or not
+   *         supported
+   */
+  public Charset getCharset() {
+    MediaType mediaType = response.getMediaType();
+    String charset = mediaType == null ? null : mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+    if (charset == null) {
+      return StandardCharsets.UTF_8;
+    }
+    try {
+      return Charset.forName(charset);
+    } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+      LOG.log(Level.FINE, "Unsupported response charset {0}, using UTF-8", charset);
+      return StandardCharsets.UTF_8;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Close the response and release the connection.
+   */
+  @Override
+  public void close() throws IOException {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      response.close();
+    } catch (RuntimeException e) {
+      LOG.log(Level.FINE, "Error closing response: {0}", e.getMessage());
+    } finally {
+      if (onClose != null) {
+        onClose.run();
+      }
+    }
+  }
+
+}
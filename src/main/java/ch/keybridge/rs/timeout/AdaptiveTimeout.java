@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.timeout;
+
+import ch.keybridge.rs.metrics.AbstractMetrics;
+import ch.keybridge.rs.metrics.LatencyHistogram;
+import ch.keybridge.rs.metrics.PrometheusWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An adaptive read timeout for requests to a single endpoint and request path
+ * template. The read timeout is a multiple of the 99.9th percentile latency
+ * observed over the recent window, bounded by a minimum and maximum.
+ * <p>
+ * Latency is recorded into a pair of {@link LatencyHistogram}s: the current
+ * and the previous one minute window, so the percentile follows changes of the
+ * endpoint within about two minutes. The read timeout is recomputed every
+ * {@value #RECOMPUTE} samples, when the window rotates and after each timed
+ * out request; reading it is a volatile read. Until {@value #MIN_SAMPLES}
+ * samples are in the window the initial (configured) read timeout applies.
+ * <p>
+ * Requests that time out never record their latency, which would bias the
+ * percentile down. A timed out request is therefore recorded with its elapsed
+ * time, so that when more than 0.1% of requests time out the read timeout
+ * grows by the multiplier at each recomputation, up to the maximum.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class AdaptiveTimeout extends AbstractMetrics implements AdaptiveTimeoutMBean {
+
+  /**
+   * The latency quantile the timeout is derived from.
+   */
+  private static final double QUANTILE = 0.999;
+  /**
+   * The histogram window length, in nanoseconds.
+   */
+  private static final long WINDOW = TimeUnit.MINUTES.toNanos(1);
+  /**
+   * The minimum number of samples in the window to adapt the timeout.
+   */
+  private static final int MIN_SAMPLES = 100;
+  /**
+   * The number of samples between recomputations of the timeout.
+   */
+  private static final int RECOMPUTE = 64;
+
+  /**
+   * The endpoint base URI.
+   */
+  private final String endpoint;
+  /**
+   * The request path template.
+   */
+  private final String path;
+  /**
+   * The multiple of the latency quantile.
+   */
+  private final double multiplier;
+  /**
+   * The timeout bounds and the initial timeout, in milliseconds.
+   */
+  private final int minimum, maximum, initial;
+  /**
+   * The current and previous window histograms.
+   */
+  private volatile LatencyHistogram current, previous;
+  /**
+   * The start of the current window, as returned by {@link System#nanoTime()}.
+   */
+  private volatile long windowStart;
+  /**
+   * The samples recorded since the last recomputation.
+   */
+  private final AtomicInteger pending;
+  /**
+   * The number of requests that timed out.
+   */
+  private final LongAdder timeouts;
+  /**
+   * The last computed latency quantile, in nanoseconds, and the number of
+   * samples it was computed from.
+   */
+  private volatile long latency, samples;
+  /**
+   * The current read timeout, in milliseconds.
+   */
+  private volatile int readTimeout;
+
+  /**
+   * Create an adaptive read timeout.
+   *
+   * @param endpoint   the endpoint base URI
+   * @param path       the request path template
+   * @param multiplier the multiple of the 99.9th percentile latency
+   * @param minimum    the minimum read timeout in milliseconds
+   * @param maximum    the maximum read timeout in milliseconds
+   * @param initial    the read timeout in milliseconds until enough latency
+   *                   samples are recorded
+   */
+  public AdaptiveTimeout(String endpoint, String path, double multiplier, int minimum, int maximum, int initial) {
+    super(endpoint + " " + path);
+    if (multiplier <= 0 || minimum <= 0 || maximum < minimum) {
+      throw new IllegalArgumentException("Require multiplier > 0 and 0 < minimum <= maximum.");
+    }
+    this.endpoint = endpoint;
+    this.path = path;
+    this.multiplier = multiplier;
+    this.minimum = minimum;
+    this.maximum = maximum;
+    this.initial = initial;
+    this.current = new LatencyHistogram();
+    this.previous = new LatencyHistogram();
+    this.windowStart = System.nanoTime();
+    this.pending = new AtomicInteger();
+    this.timeouts = new LongAdder();
+    this.readTimeout = bound(initial);
+  }
+
+  /**
+   * Get the current read timeout.
+   *
+   * @return the read timeout in milliseconds
+   */
+  @Override
+  public int getReadTimeout() {
+    return readTimeout;
+  }
+
+  /**
+   * Record the latency of a request.
+   *
+   * @param nanos the time to response, in nanoseconds
+   */
+  public void record(long nanos) {
+    long now = System.nanoTime();
+    if (now - windowStart > WINDOW) {
+      rotate(now);
+    }
+    current.record(nanos);
+    if (pending.incrementAndGet() >= RECOMPUTE) {
+      pending.set(0);
+      recompute();
+    }
+  }
+
+  /**
+   * Record a request that timed out. The timeout is recomputed immediately.
+   *
+   * @param nanos the time until the timeout, in nanoseconds
+   */
+  public void timedOut(long nanos) {
+    timeouts.increment();
+    record(nanos);
+    recompute();
+  }
+
+  /**
+   * Start a new window. Both windows are cleared if the endpoint was idle for
+   * longer than a window.
+   */
+  private synchronized void rotate(long now) {
+    if (now - windowStart <= WINDOW) {
+      return;
+    }
+    previous = now - windowStart > 2 * WINDOW ? new LatencyHistogram() : current;
+    current = new LatencyHistogram();
+    windowStart = now;
+    recompute();
+  }
+
+  /**
+   * Recompute the latency quantile and read timeout from both windows.
+   */
+  private void recompute() {
+    LatencyHistogram.Snapshot snapshot = current.snapshot().merge(previous.snapshot());
+    samples = snapshot.getCount();
+    latency = snapshot.getValueAtQuantile(QUANTILE);
+    readTimeout = samples < MIN_SAMPLES
+                  ? bound(initial)
+                  : bound((long) Math.ceil(latency * multiplier / 1e6));
+  }
+
+  /**
+   * Bound a timeout to the minimum and maximum.
+   */
+  private int bound(long millis) {
+    return (int) Math.max(minimum, Math.min(maximum, millis));
+  }
+
+  @Override
+  public String getEndpoint() {
+    return endpoint;
+  }
+
+  @Override
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public double getLatency999thPercentile() {
+    return latency / 1e6;
+  }
+
+  @Override
+  public long getSampleCount() {
+    return samples;
+  }
+
+  @Override
+  public long getTimeoutCount() {
+    return timeouts.sum();
+  }
+
+  @Override
+  public double getMultiplier() {
+    return multiplier;
+  }
+
+  @Override
+  public int getMinimum() {
+    return minimum;
+  }
+
+  @Override
+  public int getMaximum() {
+    return maximum;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes {@code rs_client_adaptive_read_timeout_seconds},
+   * {@code rs_client_adaptive_latency_p999_seconds} and
+   * {@code rs_client_adaptive_timeouts_total}.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    writer.gauge("rs_client_adaptive_read_timeout_seconds", "Adaptive read timeout by endpoint and path.", readTimeout / 1e3, "endpoint", endpoint, "path", path)
+      .gauge("rs_client_adaptive_latency_p999_seconds", "Recent 99.9th percentile latency by endpoint and path.", latency / 1e9, "endpoint", endpoint, "path", path)
+      .counter("rs_client_adaptive_timeouts_total", "Requests that timed out by endpoint and path.", timeouts.sum(), "endpoint", endpoint, "path", path);
+  }
+
+}
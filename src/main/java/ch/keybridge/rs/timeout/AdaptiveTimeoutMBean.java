@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.timeout;
+
+/**
+ * JMX management interface for an adaptive read timeout. Times are in
+ * milliseconds.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface AdaptiveTimeoutMBean {
+
+  /**
+   * @return the endpoint base URI
+   */
+  String getEndpoint();
+
+  /**
+   * @return the request path template
+   */
+  String getPath();
+
+  /**
+   * @return the current read timeout
+   */
+  int getReadTimeout();
+
+  /**
+   * @return the 99.9th percentile latency observed in the recent window
+   */
+  double getLatency999thPercentile();
+
+  /**
+   * @return the number of latency samples in the recent window
+   */
+  long getSampleCount();
+
+  /**
+   * @return the number of requests that timed out
+   */
+  long getTimeoutCount();
+
+  /**
+   * @return the multiple of the 99.9th percentile latency
+   */
+  double getMultiplier();
+
+  /**
+   * @return the minimum read timeout
+   */
+  int getMinimum();
+
+  /**
+   * @return the maximum read timeout
+   */
+  int getMaximum();
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.tls;
+
+import java.security.cert.X509Certificate;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * Manage which X509 certificates may be used to authenticate the remote side
+ * of a secure socket. This class allow any X509 certificates to be used to
+ * authenticate the remote side of a secure socket, including self-signed
+ * certificates.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+class InsecureTrustManager implements X509TrustManager {
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Always trust for client SSL chain peer certificate chain with any authType
+   * authentication types.
+   */
+  @Override
+  public void checkClientTrusted(final X509Certificate[] chain, final String authType) {
+    // Everyone is trusted!
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Always trust for server SSL chain peer certificate chain with any authType
+   * exchange algorithm types.
+   */
+  @Override
+  public void checkServerTrusted(final X509Certificate[] chain, final String authType) {
+    // Everyone is trusted!
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns an empty array of certificate authority certificates which are
+   * trusted for authenticating peers.
+   *
+   * @return a empty array of issuer certificates.
+   */
+  @Override
+  public X509Certificate[] getAcceptedIssuers() {
+    return new X509Certificate[]{};
+  }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.tls;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.security.KeyManagementException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.net.ssl.*;
+
+/**
+ * An SSLContext wrapper that applies the configured protocols to each socket
+ * and engine, and records handshakes and session resumptions on client
+ * sockets.
+ * <p>
+ * The socket factory is created once: HttpsURLConnection only reuses pooled
+ * connections created by the same socket factory instance.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+class MeteredSSLContext extends SSLContext {
+
+  /**
+   * The metrics handshakes are recorded to.
+   */
+  private final TlsMetrics metrics;
+
+  /**
+   * Wrap an initialized SSLContext.
+   *
+   * @param delegate  the initialized context
+   * @param protocols the protocols to enable; those not supported are ignored
+   * @param metrics   the metrics to record handshakes to
+   */
+  MeteredSSLContext(SSLContext delegate, String[] protocols, TlsMetrics metrics) {
+    super(new Spi(delegate, supported(delegate, protocols), metrics), delegate.getProvider(), delegate.getProtocol());
+    this.metrics = metrics;
+  }
+
+  /**
+   * Get the metrics handshakes are recorded to.
+   *
+   * @return the TLS metrics
+   */
+  TlsMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Filter protocols to those supported by the context.
+   */
+  private static String[] supported(SSLContext context, String[] protocols) {
+    List<String> available = Arrays.asList(context.getSupportedSSLParameters().getProtocols());
+    List<String> enabled = new ArrayList<>();
+    for (String protocol : protocols) {
+      if (available.contains(protocol)) {
+        enabled.add(protocol);
+      }
+    }
+    if (enabled.isEmpty()) {
+      throw new IllegalArgumentException("None of the protocols " + Arrays.toString(protocols) + " is supported.");
+    }
+    return enabled.toArray(new String[enabled.size()]);
+  }
+
+  /**
+   * The delegating service provider implementation.
+   */
+  private static class Spi extends SSLContextSpi {
+
+    private final SSLContext delegate;
+    private final String[] protocols;
+    private final SSLSocketFactory socketFactory;
+
+    Spi(SSLContext delegate, String[] protocols, TlsMetrics metrics) {
+      this.delegate = delegate;
+      this.protocols = protocols;
+      this.socketFactory = new MeteredSocketFactory(delegate.getSocketFactory(), protocols, metrics);
+    }
+
+    @Override
+    protected void engineInit(KeyManager[] km, TrustManager[] tm, SecureRandom sr) throws KeyManagementException {
+      throw new KeyManagementException("The context is already initialized.");
+    }
+
+    @Override
+    protected SSLSocketFactory engineGetSocketFactory() {
+      return socketFactory;
+    }
+
+    @Override
+    protected SSLServerSocketFactory engineGetServerSocketFactory() {
+      return delegate.getServerSocketFactory();
+    }
+
+    @Override
+    protected SSLEngine engineCreateSSLEngine() {
+      SSLEngine engine = delegate.createSSLEngine();
+      engine.setEnabledProtocols(protocols);
+      return engine;
+    }
+
+    @Override
+    protected SSLEngine engineCreateSSLEngine(String host, int port) {
+      SSLEngine engine = delegate.createSSLEngine(host, port);
+      engine.setEnabledProtocols(protocols);
+      return engine;
+    }
+
+    @Override
+    protected SSLSessionContext engineGetServerSessionContext() {
+      return delegate.getServerSessionContext();
+    }
+
+    @Override
+    protected SSLSessionContext engineGetClientSessionContext() {
+      return delegate.getClientSessionContext();
+    }
+  }
+
+  /**
+   * A socket factory that enables the configured protocols and records
+   * handshakes.
+   */
+  private static class MeteredSocketFactory extends SSLSocketFactory {
+
+    private final SSLSocketFactory delegate;
+    private final String[] protocols;
+    private final TlsMetrics metrics;
+
+    MeteredSocketFactory(SSLSocketFactory delegate, String[] protocols, TlsMetrics metrics) {
+      this.delegate = delegate;
+      this.protocols = protocols;
+      this.metrics = metrics;
+    }
+
+    /**
+     * Enable the protocols and listen for the handshake. A session created
+     * before the socket was resumed from the session cache.
+     */
+    private Socket configure(Socket socket) {
+      if (socket instanceof SSLSocket) {
+        SSLSocket sslSocket = (SSLSocket) socket;
+        sslSocket.setEnabledProtocols(protocols);
+        long created = System.currentTimeMillis();
+        sslSocket.addHandshakeCompletedListener(event -> metrics.handshake(event.getSession().getCreationTime() < created));
+      }
+      return socket;
+    }
+
+    @Override
+    public String[] getDefaultCipherSuites() {
+      return delegate.getDefaultCipherSuites();
+    }
+
+    @Override
+    public String[] getSupportedCipherSuites() {
+      return delegate.getSupportedCipherSuites();
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+      return configure(delegate.createSocket());
+    }
+
+    @Override
+    public Socket createSocket(Socket s, String host, int port, boolean autoClose) throws IOException {
+      return configure(delegate.createSocket(s, host, port, autoClose));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+      return configure(delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+      return configure(delegate.createSocket(host, port, localHost, localPort));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+      return configure(delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+      return configure(delegate.createSocket(address, port, localAddress, localPort));
+    }
+  }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.tls;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable TLS client configuration: the enabled protocols, the trust
+ * configuration and the session cache settings. TLS contexts are built once
+ * per distinct configuration and cached by {@link TlsContexts}, so that all
+ * clients with the same configuration share one TLS session cache and resume
+ * sessions rather than performing a full handshake on each new connection.
+ * <p>
+ * Example: <br>
+ * {@code TlsConfig.defaults().withTrustStore("/etc/pki/services.p12", "PKCS12", password)}
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public final class TlsConfig {
+
+  /**
+   * The default enabled protocols. Protocols not supported by the JVM are
+   * ignored.
+   */
+  private static final String[] DEFAULT_PROTOCOLS = {"TLSv1.3", "TLSv1.2"};
+
+  private final String[] protocols;
+  private final boolean insecure;
+  private final String trustStore;
+  private final String trustStoreType;
+  private final char[] trustStorePassword;
+  private final int sessionCacheSize;
+  private final int sessionTimeout;
+  private final String name;
+
+  private TlsConfig(String[] protocols, boolean insecure, String trustStore, String trustStoreType, char[] trustStorePassword, int sessionCacheSize, int sessionTimeout, String name) {
+    this.protocols = protocols;
+    this.insecure = insecure;
+    this.trustStore = trustStore;
+    this.trustStoreType = trustStoreType;
+    this.trustStorePassword = trustStorePassword;
+    this.sessionCacheSize = sessionCacheSize;
+    this.sessionTimeout = sessionTimeout;
+    this.name = name;
+  }
+
+  /**
+   * The default configuration: TLS 1.3 and 1.2, the JVM default trust store and
+   * the JVM default session cache settings.
+   *
+   * @return the default configuration
+   */
+  public static TlsConfig defaults() {
+    return new TlsConfig(DEFAULT_PROTOCOLS, false, null, null, null, -1, -1, null);
+  }
+
+  /**
+   * An insecure configuration that trusts all certificates, including
+   * self-signed certificates, and all host names. For development and testing
+   * only.
+   *
+   * @return the insecure configuration
+   */
+  public static TlsConfig insecure() {
+    return new TlsConfig(DEFAULT_PROTOCOLS, true, null, null, null, -1, -1, null);
+  }
+
+  /**
+   * Set the enabled protocols.
+   *
+   * @param protocols the protocols, e.g. {@code TLSv1.3}
+   * @return a copy of this configuration with the protocols set
+   */
+  public TlsConfig withProtocols(String... protocols) {
+    return new TlsConfig(protocols.clone(), insecure, trustStore, trustStoreType, trustStorePassword, sessionCacheSize, sessionTimeout, name);
+  }
+
+  /**
+   * Set the trust store used to verify server certificates, in place of the
+   * JVM default trust store.
+   *
+   * @param path     the trust store file path
+   * @param type     the key store type, e.g. {@code PKCS12} or {@code JKS}
+   * @param password the trust store password; may be null
+   * @return a copy of this configuration with the trust store set
+   */
+  public TlsConfig withTrustStore(String path, String type, char[] password) {
+    return new TlsConfig(protocols, insecure, path, type, password == null ? null : password.clone(), sessionCacheSize, sessionTimeout, name);
+  }
+
+  /**
+   * Set the client session cache settings.
+   *
+   * @param size    the maximum number of cached sessions; zero for no limit
+   * @param timeout the session lifetime in seconds; zero for no limit
+   * @return a copy of this configuration with the session cache set
+   */
+  public TlsConfig withSessionCache(int size, int timeout) {
+    return new TlsConfig(protocols, insecure, trustStore, trustStoreType, trustStorePassword, size, timeout, name);
+  }
+
+  /**
+   * Set the configuration name, used to name its metrics in place of the name
+   * derived from the settings. Configurations with different names have
+   * separate contexts and session caches.
+   *
+   * @param name the unique configuration name; null to derive it
+   * @return a copy of this configuration with the name set
+   */
+  public TlsConfig withName(String name) {
+    return new TlsConfig(protocols, insecure, trustStore, trustStoreType, trustStorePassword, sessionCacheSize, sessionTimeout, name);
+  }
+
+  /**
+   * @return the enabled protocols
+   */
+  public String[] getProtocols() {
+    return protocols.clone();
+  }
+
+  /**
+   * @return true if all certificates and host names are trusted
+   */
+  public boolean isInsecure() {
+    return insecure;
+  }
+
+  /**
+   * @return the trust store path; null for the JVM default
+   */
+  public String getTrustStore() {
+    return trustStore;
+  }
+
+  /**
+   * @return the trust store type
+   */
+  public String getTrustStoreType() {
+    return trustStoreType;
+  }
+
+  /**
+   * @return the trust store password; may be null
+   */
+  char[] getTrustStorePassword() {
+    return trustStorePassword;
+  }
+
+  /**
+   * @return the maximum number of cached sessions; negative for the JVM default
+   */
+  public int getSessionCacheSize() {
+    return sessionCacheSize;
+  }
+
+  /**
+   * @return the session lifetime in seconds; negative for the JVM default
+   */
+  public int getSessionTimeout() {
+    return sessionTimeout;
+  }
+
+  /**
+   * Get a short name describing this configuration, used to name its metrics:
+   * the name set with {@link #withName(String)}, else one derived from every
+   * setting except the trust store password, e.g.
+   * {@code /etc/pki/services.p12 (PKCS12) TLSv1.3,TLSv1.2 cache=1000/3600}.
+   *
+   * @return the name
+   */
+  public String getName() {
+    if (name != null) {
+      return name;
+    }
+    StringBuilder sb = new StringBuilder(insecure ? "insecure" : trustStore != null ? trustStore : "default");
+    if (trustStoreType != null) {
+      sb.append(" (").append(trustStoreType).append(')');
+    }
+    sb.append(' ').append(String.join(",", protocols));
+    if (sessionCacheSize >= 0 || sessionTimeout >= 0) {
+      sb.append(" cache=").append(sessionCacheSize).append('/').append(sessionTimeout);
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 7;
+    hash = 53 * hash + Arrays.hashCode(this.protocols);
+    hash = 53 * hash + (this.insecure ? 1 : 0);
+    hash = 53 * hash + Objects.hashCode(this.trustStore);
+    hash = 53 * hash + Objects.hashCode(this.trustStoreType);
+    hash = 53 * hash + this.sessionCacheSize;
+    hash = 53 * hash + this.sessionTimeout;
+    hash = 53 * hash + Objects.hashCode(this.name);
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    final TlsConfig other = (TlsConfig) obj;
+    return this.insecure == other.insecure
+      && this.sessionCacheSize == other.sessionCacheSize
+      && this.sessionTimeout == other.sessionTimeout
+      && Arrays.equals(this.protocols, other.protocols)
+      && Objects.equals(this.trustStore, other.trustStore)
+      && Objects.equals(this.trustStoreType, other.trustStoreType)
+      && Objects.equals(this.name, other.name)
+      && Arrays.equals(this.trustStorePassword, other.trustStorePassword);
+  }
+
+  @Override
+  public String toString() {
+    return "TlsConfig{" + getName() + '}';
+  }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.tls;
+
+import ch.keybridge.rs.lifecycle.CheckpointResource;
+import ch.keybridge.rs.lifecycle.Checkpoints;
+import ch.keybridge.rs.metrics.MetricsRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.net.ssl.*;
+
+/**
+ * The TLS client context cache. Each distinct {@link TlsConfig} is built into
+ * an SSLContext once, and that context (with its session cache) is shared by
+ * every client using the configuration. Each context publishes
+ * {@link TlsMetrics}.
+ * <p>
+ * Contexts are built with the {@code TLS} protocol family and restricted to the
+ * configured protocols on each socket, without changing JVM-wide system
+ * properties.
+ * <p>
+ * The cache is cleared before a CRaC checkpoint, so that restored instances
+ * do not share TLS sessions or random number generator state. Contexts are
+ * rebuilt, with a fresh seed, on first use after the restore; clients built
+ * before the checkpoint should be rebuilt.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public final class TlsContexts {
+
+  /**
+   * A host name verifier that accepts any host name. Used in insecure mode.
+   */
+  private static final HostnameVerifier ALL_HOSTS_VALID = (String hostname, SSLSession session) -> true;
+
+  /**
+   * The cached contexts.
+   */
+  private static final ConcurrentMap<TlsConfig, SSLContext> CONTEXTS = new ConcurrentHashMap<>();
+  /**
+   * Clears the cache before a checkpoint.
+   */
+  private static final CheckpointResource CHECKPOINT = new CheckpointResource() {
+    @Override
+    public void beforeCheckpoint() {
+      clear();
+    }
+
+    @Override
+    public void afterRestore() {
+    }
+  };
+
+  static {
+    Checkpoints.getInstance().register(CHECKPOINT);
+  }
+
+  private TlsContexts() {
+  }
+
+  /**
+   * Get the SSLContext for a configuration, building it on first use.
+   *
+   * @param config the TLS configuration
+   * @return the shared SSLContext
+   * @throws GeneralSecurityException if the context cannot be initialized
+   * @throws IOException              if the trust store cannot be read
+   */
+  public static SSLContext get(TlsConfig config) throws GeneralSecurityException, IOException {
+    SSLContext context = CONTEXTS.get(config);
+    if (context == null) {
+      SSLContext candidate = build(config);
+      context = CONTEXTS.putIfAbsent(config, candidate);
+      if (context == null) {
+        context = candidate;
+      } else {
+        MetricsRegistry.getInstance().unregister(((MeteredSSLContext) candidate).getMetrics());
+      }
+    }
+    return context;
+  }
+
+  /**
+   * Discard the cached contexts: invalidate their TLS sessions and unregister
+   * their metrics. New contexts are built on demand.
+   */
+  public static void clear() {
+    for (TlsConfig config : CONTEXTS.keySet()) {
+      SSLContext context = CONTEXTS.remove(config);
+      if (context == null) {
+        continue;
+      }
+      SSLSessionContext sessions = context.getClientSessionContext();
+      for (byte[] id : Collections.list(sessions.getIds())) {
+        SSLSession session = sessions.getSession(id);
+        if (session != null) {
+          session.invalidate();
+        }
+      }
+      if (context instanceof MeteredSSLContext) {
+        MetricsRegistry.getInstance().unregister(((MeteredSSLContext) context).getMetrics());
+      }
+    }
+  }
+
+  /**
+   * Get the host name verifier for a configuration.
+   *
+   * @param config the TLS configuration
+   * @return a verifier accepting all host names in insecure mode, otherwise
+   *         null (use the default verifier)
+   */
+  public static HostnameVerifier getHostnameVerifier(TlsConfig config) {
+    return config.isInsecure() ? ALL_HOSTS_VALID : null;
+  }
+
+  /**
+   * Build and initialize a new context.
+   */
+  private static SSLContext build(TlsConfig config) throws GeneralSecurityException, IOException {
+    SSLContext context = SSLContext.getInstance("TLS");
+    context.init(null, buildTrustManagers(config), null);
+    SSLSessionContext sessions = context.getClientSessionContext();
+    if (config.getSessionCacheSize() >= 0) {
+      sessions.setSessionCacheSize(config.getSessionCacheSize());
+    }
+    if (config.getSessionTimeout() >= 0) {
+      sessions.setSessionTimeout(config.getSessionTimeout());
+    }
+    /**
+     * Configurations that differ only in the trust store password share a
+     * derived name. Number the later ones rather than share the metrics of
+     * another context.
+     */
+    TlsMetrics metrics = new TlsMetrics(config.getName(), sessions);
+    for (int n = 2; MetricsRegistry.getInstance().register(metrics) != metrics; n++) {
+      metrics = new TlsMetrics(config.getName() + " #" + n, sessions);
+    }
+    return new MeteredSSLContext(context, config.getProtocols(), metrics);
+  }
+
+  /**
+   * Build the trust managers: trust all in insecure mode, the configured trust
+   * store if set, otherwise null for the JVM default.
+   */
+  private static TrustManager[] buildTrustManagers(TlsConfig config) throws GeneralSecurityException, IOException {
+    if (config.isInsecure()) {
+      return new TrustManager[]{new InsecureTrustManager()};
+    }
+    if (config.getTrustStore() == null) {
+      return null;
+    }
+    KeyStore keyStore = KeyStore.getInstance(config.getTrustStoreType() != null ? config.getTrustStoreType() : KeyStore.getDefaultType());
+    try (InputStream in = Files.newInputStream(Paths.get(config.getTrustStore()))) {
+      keyStore.load(in, config.getTrustStorePassword());
+    }
+    TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    factory.init(keyStore);
+    return factory.getTrustManagers();
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.tls;
+
+import ch.keybridge.rs.metrics.AbstractMetrics;
+import ch.keybridge.rs.metrics.PrometheusWriter;
+import java.util.Collections;
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.SSLSessionContext;
+
+/**
+ * Metrics for a cached TLS client context: handshake and session resumption
+ * counts and the session cache occupancy.
+ * <p>
+ * A handshake is counted as resumed when the negotiated session was created
+ * before the socket, i.e. it was taken from the session cache.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public class TlsMetrics extends AbstractMetrics implements TlsMetricsMBean {
+
+  /**
+   * The client session cache.
+   */
+  private final SSLSessionContext sessionContext;
+  /**
+   * Handshake counters.
+   */
+  private final LongAdder handshakes, resumed;
+
+  /**
+   * Construct a new TLS metric set.
+   *
+   * @param name           the TLS configuration name
+   * @param sessionContext the client session cache
+   */
+  public TlsMetrics(String name, SSLSessionContext sessionContext) {
+    super(name);
+    this.sessionContext = sessionContext;
+    this.handshakes = new LongAdder();
+    this.resumed = new LongAdder();
+  }
+
+  /**
+   * Record a completed handshake.
+   *
+   * @param resumption true if a cached session was resumed
+   */
+  public void handshake(boolean resumption) {
+    handshakes.increment();
+    if (resumption) {
+      resumed.increment();
+    }
+  }
+
+  @Override
+  public long getHandshakeCount() {
+    return handshakes.sum();
+  }
+
+  @Override
+  public long getResumedCount() {
+    return resumed.sum();
+  }
+
+  @Override
+  public double getResumptionRate() {
+    long count = handshakes.sum();
+    return count == 0 ? 0 : (double) resumed.sum() / count;
+  }
+
+  @Override
+  public int getCachedSessions() {
+    return Collections.list(sessionContext.getIds()).size();
+  }
+
+  @Override
+  public int getSessionCacheSize() {
+    return sessionContext.getSessionCacheSize();
+  }
+
+  @Override
+  public int getSessionTimeout() {
+    return sessionContext.getSessionTimeout();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes {@code rs_tls_handshakes_total} by type and
+   * {@code rs_tls_cached_sessions}.
+   */
+  @Override
+  public void writeTo(PrometheusWriter writer) {
+    String help = "Completed TLS client handshakes by type.";
+    writer.counter("rs_tls_handshakes_total", help, handshakes.sum() - resumed.sum(), "config", name, "type", "full")
+      .counter("rs_tls_handshakes_total", help, resumed.sum(), "config", name, "type", "resumed")
+      .gauge("rs_tls_cached_sessions", "Sessions in the TLS client session cache.", getCachedSessions(), "config", name);
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.tls;
+
+/**
+ * JMX management interface for TLS client metrics.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public interface TlsMetricsMBean {
+
+  /**
+   * @return the TLS configuration name
+   */
+  String getName();
+
+  /**
+   * @return the number of completed handshakes
+   */
+  long getHandshakeCount();
+
+  /**
+   * @return the number of handshakes that resumed a cached session
+   */
+  long getResumedCount();
+
+  /**
+   * @return the fraction of handshakes that resumed a cached session
+   */
+  double getResumptionRate();
+
+  /**
+   * @return the number of sessions in the client session cache
+   */
+  int getCachedSessions();
+
+  /**
+   * @return the configured session cache size; zero for no limit
+   */
+  int getSessionCacheSize();
+
+  /**
+   * @return the configured session timeout in seconds; zero for no limit
+   */
+  int getSessionTimeout();
+
+}
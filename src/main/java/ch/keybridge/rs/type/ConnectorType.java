@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.type;
+
+/**
+ * Enumerated Jersey client connectors. The connector performs the HTTP
+ * exchange for a JAX-RS client. Except for the default, each connector is a
+ * separate Jersey module (and its HTTP client library) that must be on the
+ * class path.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public enum ConnectorType {
+  /**
+   * The Jersey default, based on {@code HttpURLConnection}. HTTP/1.1 with one
+   * request in flight per connection and synchronous I/O (asynchronous calls
+   * use a thread per request). No additional module required.
+   */
+  HTTP_URL_CONNECTION(null, false),
+  /**
+   * Apache HttpClient 4. HTTP/1.1 with a configurable connection pool. Module
+   * {@code org.glassfish.jersey.connectors:jersey-apache-connector}.
+   */
+  APACHE("org.glassfish.jersey.apache.connector.ApacheConnectorProvider", false),
+  /**
+   * Apache HttpClient 5. HTTP/1.1 with a configurable connection pool. Module
+   * {@code org.glassfish.jersey.connectors:jersey-apache5-connector}.
+   */
+  APACHE5("org.glassfish.jersey.apache5.connector.Apache5ConnectorProvider", false),
+  /**
+   * Jetty HttpClient. HTTP/1.1 with asynchronous I/O. Module
+   * {@code org.glassfish.jersey.connectors:jersey-jetty-connector}.
+   */
+  JETTY("org.glassfish.jersey.jetty.connector.JettyConnectorProvider", false),
+  /**
+   * Jetty HttpClient over HTTP/2. Requests are multiplexed over a single
+   * connection per destination with asynchronous I/O. Uses TLS with ALPN for
+   * {@code https} and prior-knowledge cleartext HTTP/2 (h2c) for {@code http}
+   * URIs, so the server must support HTTP/2. Module
+   * {@code org.glassfish.jersey.connectors:jersey-jetty-http2-connector}.
+   */
+  JETTY_HTTP2("org.glassfish.jersey.jetty.http2.connector.JettyHttp2ConnectorProvider", true),
+  /**
+   * Netty. HTTP/1.1 with asynchronous I/O. Module
+   * {@code org.glassfish.jersey.connectors:jersey-netty-connector}.
+   */
+  NETTY("org.glassfish.jersey.netty.connector.NettyConnectorProvider", false),
+  /**
+   * Grizzly asynchronous HTTP client. HTTP/1.1 with asynchronous I/O. Module
+   * {@code org.glassfish.jersey.connectors:jersey-grizzly-connector}.
+   */
+  GRIZZLY("org.glassfish.jersey.grizzly.connector.GrizzlyConnectorProvider", false);
+
+  /**
+   * The ConnectorProvider class name; null for the Jersey default.
+   */
+  private final String providerClassName;
+  /**
+   * Whether requests are multiplexed over shared connections.
+   */
+  private final boolean multiplexed;
+
+  private ConnectorType(String providerClassName, boolean multiplexed) {
+    this.providerClassName = providerClassName;
+    this.multiplexed = multiplexed;
+  }
+
+  /**
+   * Get the Jersey ConnectorProvider class name.
+   *
+   * @return the class name, or null for the Jersey default
+   */
+  public String getProviderClassName() {
+    return providerClassName;
+  }
+
+  /**
+   * Determine whether the connector multiplexes concurrent requests over
+   * shared (HTTP/2) connections.
+   *
+   * @return true if multiplexed
+   */
+  public boolean isMultiplexed() {
+    return multiplexed;
+  }
+
+  /**
+   * Determine whether the connector module is on the class path.
+   *
+   * @return true if the connector is available
+   */
+  public boolean isAvailable() {
+    if (providerClassName == null) {
+      return true;
+    }
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    try {
+      Class.forName(providerClassName, false, loader != null ? loader : ConnectorType.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+}
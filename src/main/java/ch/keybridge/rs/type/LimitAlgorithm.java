@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.type;
+
+/**
+ * Enumerated adaptive concurrency limit algorithms.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public enum LimitAlgorithm {
+  /**
+   * Gradient: compares the short-term average latency with a long-term
+   * baseline. The limit shrinks in proportion when latency rises above the
+   * baseline (queueing) and grows by a small queue allowance while it is
+   * stable. Modelled on the Netflix Gradient2 limit.
+   *
+   * @see <a href="https://github.com/Netflix/concurrency-limits">Netflix
+   * concurrency-limits</a>
+   */
+  GRADIENT,
+  /**
+   * Additive increase, multiplicative decrease: the limit grows by one while
+   * requests succeed within the timeout and is cut by 10% when a request fails
+   * with a server error or exceeds the timeout.
+   */
+  AIMD;
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.type;
+
+/**
+ * Enumerated rate limit keys. The key identifies the client whose requests
+ * share a token bucket.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public enum RateLimitKey {
+  /**
+   * The authenticated user principal name. Unauthenticated requests are keyed
+   * by remote address.
+   */
+  PRINCIPAL,
+  /**
+   * The remote (socket) address of the client.
+   */
+  ADDRESS,
+  /**
+   * The client address in the X-Forwarded-For request header, falling back to
+   * the remote address. The header is read from the right: each trusted proxy
+   * appends the address it received the request from, so the client address
+   * is the entry added by the outermost trusted proxy, i.e. the entry the
+   * {@code trustedProxies} count from the right. Entries to its left are set
+   * by the client and ignored. Only use this behind trusted proxies that append
+   * to the header.
+   */
+  FORWARDED,
+  /**
+   * The value of an API key request header. Requests without the header are
+   * keyed by remote address.
+   */
+  API_KEY,
+  /**
+   * A single bucket shared by all clients.
+   */
+  GLOBAL;
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.type;
+
+/**
+ * Enumerated load shedding priorities. Each priority may use a share of the
+ * concurrency limit, so that as the in-flight count approaches the limit low
+ * priority requests are shed first and high priority requests last.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public enum SheddingPriority {
+  /**
+   * Shed first: admitted while below 80% of the limit.
+   */
+  LOW(0.8),
+  /**
+   * Admitted while below 90% of the limit.
+   */
+  NORMAL(0.9),
+  /**
+   * Shed last: admitted while below the limit.
+   */
+  HIGH(1.0);
+
+  /**
+   * The share of the concurrency limit available to this priority.
+   */
+  private final double share;
+
+  private SheddingPriority(double share) {
+    this.share = share;
+  }
+
+  /**
+   * Get the share of the concurrency limit available to this priority.
+   *
+   * @return the share, between zero and one
+   */
+  public double getShare() {
+    return share;
+  }
+
+}
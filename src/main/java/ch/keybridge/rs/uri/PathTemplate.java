@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.uri;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A precompiled request path template, e.g. {@code customers/{id}/orders}.
+ * The template is parsed once into literal and variable parts; expanding it
+ * appends the literals and the percent-encoded variable values to a string
+ * builder, with no regular expression or URI parsing.
+ * <p>
+ * Variable values are encoded as a single path segment: characters other than
+ * the RFC 3986 unreserved characters, sub-delimiters, {@code ':'} and
+ * {@code '@'} are percent-encoded as UTF-8, including {@code '/'} and the
+ * matrix parameter delimiter {@code ';'}. A
+ * {@code {name: regex}} variable is accepted and its expression ignored. A
+ * variable that occurs more than once takes the same value.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public final class PathTemplate {
+
+  /**
+   * The characters allowed unencoded in a path segment value.
+   */
+  private static final boolean[] SEGMENT = new boolean[128];
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+  static {
+    for (char c = 'a'; c <= 'z'; c++) {
+      SEGMENT[c] = true;
+      SEGMENT[c - 'a' + 'A'] = true;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      SEGMENT[c] = true;
+    }
+    for (char c : "-._~!$&'()*+,=:@".toCharArray()) {
+      SEGMENT[c] = true;
+    }
+  }
+
+  /**
+   * The template text.
+   */
+  private final String template;
+  /**
+   * The encoded literal parts. There is one more literal than variable
+   * references; literals may be empty.
+   */
+  private final String[] literals;
+  /**
+   * The variable index of each variable reference.
+   */
+  private final int[] references;
+  /**
+   * The distinct variable names, in order of first occurrence.
+   */
+  private final List<String> variables;
+  /**
+   * The total length of the literals.
+   */
+  private final int literalLength;
+
+  private PathTemplate(String template, String[] literals, int[] references, List<String> variables) {
+    this.template = template;
+    this.literals = literals;
+    this.references = references;
+    this.variables = Collections.unmodifiableList(variables);
+    int length = 0;
+    for (String literal : literals) {
+      length += literal.length();
+    }
+    this.literalLength = length;
+  }
+
+  /**
+   * Compile a path template. A leading {@code '/'} is removed.
+   *
+   * @param template the path template, e.g. {@code customers/{id}}
+   * @return the compiled template
+   * @throws IllegalArgumentException if a variable is not closed or has no
+   *                                  name
+   */
+  public static PathTemplate compile(String template) {
+    String path = template.startsWith("/") ? template.substring(1) : template;
+    List<String> literals = new ArrayList<>();
+    List<Integer> references = new ArrayList<>();
+    List<String> variables = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    int i = 0;
+    while (i < path.length()) {
+      char c = path.charAt(i);
+      if (c != '{') {
+        /**
+         * Literals are encoded as a path, keeping '/', matrix parameters and
+         * existing escapes.
+         */
+        int next = i + Character.charCount(path.codePointAt(i));
+        if (c == '/' || c == ';' || c == '%' && isEscape(path, i)) {
+          literal.append(c);
+        } else {
+          encode(literal, path.substring(i, next));
+        }
+        i = next;
+        continue;
+      }
+      int end = closing(path, i);
+      if (end < 0) {
+        throw new IllegalArgumentException("Unclosed variable in path template " + template);
+      }
+      String name = path.substring(i + 1, end);
+      int colon = name.indexOf(':');
+      name = (colon < 0 ? name : name.substring(0, colon)).trim();
+      if (name.isEmpty()) {
+        throw new IllegalArgumentException("Unnamed variable in path template " + template);
+      }
+      int index = variables.indexOf(name);
+      if (index < 0) {
+        index = variables.size();
+        variables.add(name);
+      }
+      literals.add(literal.toString());
+      literal.setLength(0);
+      references.add(index);
+      i = end + 1;
+    }
+    literals.add(literal.toString());
+    int[] refs = new int[references.size()];
+    for (int r = 0; r < refs.length; r++) {
+      refs[r] = references.get(r);
+    }
+    return new PathTemplate(template, literals.toArray(new String[literals.size()]), refs, variables);
+  }
+
+  /**
+   * Get the template text, e.g. for client metrics.
+   *
+   * @return the template as compiled
+   */
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Get the variable names.
+   *
+   * @return the distinct variable names, in order of first occurrence
+   */
+  public List<String> getVariables() {
+    return variables;
+  }
+
+  /**
+   * Expand the template.
+   *
+   * @param values the variable values, in the order of
+   *               {@link #getVariables()}
+   * @return the encoded path
+   * @throws IllegalArgumentException if the number of values does not match
+   *                                  or a value is null
+   */
+  public String expand(Object... values) {
+    return expandTo(new StringBuilder(estimateLength()), values).toString();
+  }
+
+  /**
+   * Expand the template and append it to a string builder.
+   *
+   * @param builder the string builder
+   * @param values  the variable values, in the order of
+   *                {@link #getVariables()}
+   * @return the string builder
+   * @throws IllegalArgumentException if the number of values does not match
+   *                                  or a value is null
+   */
+  public StringBuilder expandTo(StringBuilder builder, Object... values) {
+    if (values.length != variables.size()) {
+      throw new IllegalArgumentException("Path template " + template + " requires " + variables.size() + " values: " + Arrays.toString(values));
+    }
+    for (int i = 0; i < references.length; i++) {
+      builder.append(literals[i]);
+      Object value = values[references[i]];
+      if (value == null) {
+        throw new IllegalArgumentException("Path template " + template + " value " + variables.get(references[i]) + " is null.");
+      }
+      encode(builder, value.toString());
+    }
+    return builder.append(literals[references.length]);
+  }
+
+  /**
+   * Get the estimated length of an expanded path.
+   *
+   * @return the literal length plus 16 characters per variable
+   */
+  int estimateLength() {
+    return literalLength + 16 * references.length;
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+
+  /**
+   * Percent-encode a value as a path segment. Values that need no encoding,
+   * the common case, are appended as is.
+   */
+  private static void encode(StringBuilder builder, String value) {
+    int length = value.length();
+    int i = 0;
+    while (i < length) {
+      char c = value.charAt(i);
+      if (c >= 128 || !SEGMENT[c]) {
+        break;
+      }
+      i++;
+    }
+    if (i == length) {
+      builder.append(value);
+      return;
+    }
+    builder.append(value, 0, i);
+    for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+      if (b >= 0 && SEGMENT[b]) {
+        builder.append((char) b);
+      } else {
+        builder.append('%').append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+      }
+    }
+  }
+
+  /**
+   * Determine whether a '%' starts a percent escape.
+   */
+  private static boolean isEscape(String path, int i) {
+    return i + 2 < path.length() && Character.digit(path.charAt(i + 1), 16) >= 0 && Character.digit(path.charAt(i + 2), 16) >= 0;
+  }
+
+  /**
+   * Find the brace closing a variable, allowing braces nested in a regular
+   * expression.
+   */
+  private static int closing(String path, int open) {
+    int depth = 0;
+    for (int i = open; i < path.length(); i++) {
+      char c = path.charAt(i);
+      if (c == '{') {
+        depth++;
+      } else if (c == '}' && --depth == 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+}
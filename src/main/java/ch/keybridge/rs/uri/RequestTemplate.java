@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Key Bridge. All rights reserved. Use is subject to license
+ * terms.
+ *
+ * This software code is protected by Copyrights and remains the property of
+ * Key Bridge and its suppliers, if any. Key Bridge reserves all rights in and to
+ * Copyrights and no license is granted under Copyrights in this Software
+ * License Agreement.
+ *
+ * Key Bridge generally licenses Copyrights for commercialization pursuant to
+ * the terms of either a Standard Software Source Code License Agreement or a
+ * Standard Product License Agreement. A copy of either Agreement can be
+ * obtained upon request by sending an email to info@keybridgewireless.com.
+ *
+ * All information contained herein is the property of Key Bridge and its
+ * suppliers, if any. The intellectual and technical concepts contained herein
+ * are proprietary.
+ */
+package ch.keybridge.rs.uri;
+
+import java.net.URI;
+import java.util.Arrays;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.WebTarget;
+
+/**
+ * A reusable request builder for a request path template of a service. The
+ * root target, path template, accepted media types and fixed headers are
+ * resolved once, when the template is created. Building a request then
+ * expands the path into a single encoded string and appends it to the root
+ * target with one {@code path} call: the base URI is not parsed, the client
+ * configuration is not copied, and no path segment is parsed for template
+ * variables per request.
+ * <p>
+ * Instances are immutable and thread-safe; keep them in fields. Create them
+ * once the client is configured: the root target holds a snapshot of the
+ * client configuration.
+ * <p>
+ * Example: <br>
+ * {@code RequestTemplate customer = template(client, "customers/{id}", MediaType.APPLICATION_JSON);}
+ * <br>
+ * {@code invoke(customer.getPath(), customer.request(id).buildGet(), Customer.class);}
+ *
+ * @author Key Bridge
+ * @since v1.1.0 created 2026-10-19
+ */
+public final class RequestTemplate {
+
+  private static final String[] NONE = new String[0];
+
+  /**
+   * The root target of the service base URI.
+   */
+  private final WebTarget root;
+  /**
+   * The base URI, with a trailing '/'.
+   */
+  private final String prefix;
+  /**
+   * The request path template.
+   */
+  private final PathTemplate path;
+  /**
+   * The accepted media types.
+   */
+  private final String[] accept;
+  /**
+   * The fixed header names and values.
+   */
+  private final String[] headerNames;
+  private final Object[] headerValues;
+
+  /**
+   * Construct a new request template.
+   *
+   * @param root   the root target of the service base URI
+   * @param path   the request path template
+   * @param accept the accepted media types, if any
+   */
+  public RequestTemplate(WebTarget root, PathTemplate path, String... accept) {
+    this(root, prefix(root.getUri().toString()), path, accept, NONE, new Object[0]);
+  }
+
+  private RequestTemplate(WebTarget root, String prefix, PathTemplate path, String[] accept, String[] headerNames, Object[] headerValues) {
+    this.root = root;
+    this.prefix = prefix;
+    this.path = path;
+    this.accept = accept;
+    this.headerNames = headerNames;
+    this.headerValues = headerValues;
+  }
+
+  /**
+   * Get a copy of this template with a fixed request header.
+   *
+   * @param name  the header name
+   * @param value the header value
+   * @return a new request template
+   */
+  public RequestTemplate header(String name, Object value) {
+    String[] names = Arrays.copyOf(headerNames, headerNames.length + 1);
+    Object[] values = Arrays.copyOf(headerValues, headerValues.length + 1);
+    names[headerNames.length] = name;
+    values[headerValues.length] = value;
+    return new RequestTemplate(root, prefix, path, accept, names, values);
+  }
+
+  /**
+   * Get the request path template text, for client metrics.
+   *
+   * @return the path template, e.g. {@code customers/{id}}
+   */
+  public String getPath() {
+    return path.getTemplate();
+  }
+
+  /**
+   * Get the compiled request path template.
+   *
+   * @return the path template
+   */
+  public PathTemplate getPathTemplate() {
+    return path;
+  }
+
+  /**
+   * Build a request URI, e.g. for a link. Requests do not need it.
+   *
+   * @param values the path variable values
+   * @return the request URI
+   * @throws IllegalArgumentException if the values do not match the template
+   */
+  public URI uri(Object... values) {
+    StringBuilder builder = new StringBuilder(prefix.length() + path.estimateLength()).append(prefix);
+    return URI.create(path.expandTo(builder, values).toString());
+  }
+
+  /**
+   * Build a request target, e.g. to add query parameters.
+   *
+   * @param values the path variable values
+   * @return the request target
+   * @throws IllegalArgumentException if the values do not match the template
+   */
+  public WebTarget target(Object... values) {
+    return root.path(path.expand(values));
+  }
+
+  /**
+   * Build a request with the accepted media types and fixed headers.
+   *
+   * @param values the path variable values
+   * @return the request builder
+   * @throws IllegalArgumentException if the values do not match the template
+   */
+  public Invocation.Builder request(Object... values) {
+    Invocation.Builder builder = target(values).request(accept);
+    for (int i = 0; i < headerNames.length; i++) {
+      builder.header(headerNames[i], headerValues[i]);
+    }
+    return builder;
+  }
+
+  @Override
+  public String toString() {
+    return prefix + path.getTemplate();
+  }
+
+  /**
+   * Append a trailing '/' to a base URI.
+   */
+  private static String prefix(String baseURI) {
+    return baseURI.endsWith("/") ? baseURI : baseURI + "/";
+  }
+
+}